@@ -0,0 +1,81 @@
+package com.securities.kuku.benchmarks.common;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * {@link BigDecimal}과 {@link Money}/{@link Quantity}의 금액 연산 비교.
+ *
+ * <p>같은 계산을 두 타입으로 나란히 측정합니다. 값은 DB에서 읽은 것처럼 소수 4자리({@code DECIMAL(19,4)})로 맞춥니다. 지연 시간과 함께
+ * {@code gc.alloc.rate.norm}(연산당 할당 바이트)을 비교합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MoneyArithmeticBenchmark {
+
+  private BigDecimal decimalPrice;
+  private BigDecimal decimalQuantity;
+  private BigDecimal decimalBalance;
+  private BigDecimal decimalHold;
+  private BigDecimal decimalAmount;
+
+  private Money price;
+  private Quantity quantity;
+  private Money balance;
+  private Money hold;
+  private Money amount;
+
+  @Setup
+  public void setUp() {
+    decimalPrice = new BigDecimal("70100.0000");
+    decimalQuantity = new BigDecimal("10.0000");
+    decimalBalance = new BigDecimal("1000000000.0000");
+    decimalHold = new BigDecimal("250000.0000");
+    decimalAmount = new BigDecimal("100.0000");
+
+    price = Money.of(decimalPrice);
+    quantity = Quantity.of(decimalQuantity);
+    balance = Money.of(decimalBalance);
+    hold = Money.of(decimalHold);
+    amount = Money.of(decimalAmount);
+  }
+
+  /** 매수 주문 검증: 단가 × 수량이 가용 잔액 이하인지. */
+  @Benchmark
+  public boolean bigDecimalRequiredAmount() {
+    return decimalPrice.multiply(decimalQuantity).compareTo(decimalBalance.subtract(decimalHold))
+        <= 0;
+  }
+
+  @Benchmark
+  public boolean moneyRequiredAmount() {
+    return !balance.minus(hold).isLessThan(price.times(quantity));
+  }
+
+  /** 출금: 가용 잔액을 확인하고 차감한 잔액을 만듭니다. */
+  @Benchmark
+  public BigDecimal bigDecimalWithdraw() {
+    if (decimalAmount.compareTo(decimalBalance.subtract(decimalHold)) > 0) {
+      throw new IllegalStateException();
+    }
+    return decimalBalance.subtract(decimalAmount);
+  }
+
+  @Benchmark
+  public Money moneyWithdraw() {
+    if (amount.isGreaterThan(balance.minus(hold))) {
+      throw new IllegalStateException();
+    }
+    return balance.minus(amount);
+  }
+}
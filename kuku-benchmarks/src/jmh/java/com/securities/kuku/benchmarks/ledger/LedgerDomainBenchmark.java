@@ -0,0 +1,104 @@
+package com.securities.kuku.benchmarks.ledger;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.domain.TransactionType;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 원장 도메인 객체의 핫 패스 벤치마크.
+ *
+ * <p>모두 불변 객체를 새로 만드는 연산이므로 지연 시간과 함께 {@code -prof gc}의 {@code gc.alloc.rate.norm}(연산당 할당 바이트)을 보고
+ * 회귀를 판단합니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LedgerDomainBenchmark {
+
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Long TRANSACTION_ID = 100L;
+  private static final Long REVERSAL_TRANSACTION_ID = 200L;
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+  private static final Money AMOUNT = Money.of(100);
+
+  private Balance balance;
+  private JournalEntry creditEntry;
+  private Transaction postedTransaction;
+  private Transaction pendingTransaction;
+
+  @Setup
+  public void setUp() {
+    balance = new Balance(ACCOUNT_ID, Money.of(1_000_000), Money.ZERO, 0L, null, NOW);
+    creditEntry = JournalEntry.createCredit(TRANSACTION_ID, ACCOUNT_ID, AMOUNT, NOW);
+    postedTransaction =
+        new Transaction(
+            TRANSACTION_ID,
+            TransactionType.DEPOSIT,
+            "Benchmark deposit",
+            "bench-1",
+            TransactionStatus.POSTED,
+            null,
+            NOW);
+    pendingTransaction =
+        new Transaction(
+            TRANSACTION_ID,
+            TransactionType.DEPOSIT,
+            "Benchmark deposit",
+            "bench-1",
+            TransactionStatus.PENDING,
+            null,
+            NOW);
+  }
+
+  @Benchmark
+  public Balance balanceDeposit() {
+    return balance.deposit(AMOUNT, TRANSACTION_ID, NOW);
+  }
+
+  @Benchmark
+  public Balance balanceWithdraw() {
+    return balance.withdraw(AMOUNT, TRANSACTION_ID, NOW);
+  }
+
+  @Benchmark
+  public Balance transactionTypeApplyTo() {
+    return TransactionType.WITHDRAWAL.applyTo(balance, AMOUNT, TRANSACTION_ID, NOW);
+  }
+
+  @Benchmark
+  public JournalEntry journalEntryCreateOpposite() {
+    return creditEntry.createOpposite(REVERSAL_TRANSACTION_ID, NOW);
+  }
+
+  @Benchmark
+  public Balance journalEntryApplyReverseTo() {
+    return creditEntry.applyReverseTo(balance, REVERSAL_TRANSACTION_ID, NOW);
+  }
+
+  @Benchmark
+  public Transaction transactionConfirm() {
+    return pendingTransaction.confirm();
+  }
+
+  @Benchmark
+  public Transaction transactionToReversed() {
+    return postedTransaction.toReversed();
+  }
+
+  @Benchmark
+  public Transaction transactionResolveUnknown() {
+    return pendingTransaction.markAsUnknown().resolveUnknown(TransactionStatus.POSTED);
+  }
+}
@@ -0,0 +1,143 @@
+package com.securities.kuku.benchmarks.ledger;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.LedgerApplication;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.AccountJpaEntity;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceJpaEntity;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.DepositService;
+import com.securities.kuku.ledger.application.service.ReversalService;
+import com.securities.kuku.ledger.application.service.WithdrawService;
+import com.securities.kuku.ledger.domain.AccountType;
+import jakarta.persistence.EntityManager;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 입금·출금·역분개 서비스의 전체 경로(재시도 AOP, 트랜잭션, JPA, Outbox 기록 포함)를 내장 H2에서 측정합니다.
+ *
+ * <p>절대값은 MySQL과 다르므로 같은 환경에서 실행한 이전 결과와의 비교에만 사용합니다. {@code updateMode}로 잔액 갱신 방식별 비용을 나란히
+ * 비교할 수 있습니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class LedgerServiceBenchmark {
+
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Instant CREATED_AT = Instant.parse("2025-01-01T00:00:00Z");
+  private static final BigDecimal INITIAL_BALANCE = new BigDecimal("1000000000000");
+  private static final Money AMOUNT = Money.of(100);
+
+  @Param({"optimistic", "conditional"})
+  public String updateMode;
+
+  private final AtomicLong sequence = new AtomicLong();
+
+  private ConfigurableApplicationContext context;
+  private DepositService depositService;
+  private WithdrawService withdrawService;
+  private ReversalService reversalService;
+  private TransactionPort transactionPort;
+
+  @Setup(Level.Trial)
+  public void startLedger() {
+    context =
+        new SpringApplicationBuilder(LedgerApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:bench;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.sql.init.mode=never",
+                "--logging.level.root=WARN",
+                "--ledger.balance.update-mode=" + updateMode);
+    depositService = context.getBean(DepositService.class);
+    withdrawService = context.getBean(WithdrawService.class);
+    reversalService = context.getBean(ReversalService.class);
+    transactionPort = context.getBean(TransactionPort.class);
+    createAccount();
+  }
+
+  @TearDown(Level.Trial)
+  public void stopLedger() {
+    context.close();
+  }
+
+  @Benchmark
+  public void deposit() {
+    depositService.deposit(DepositCommand.of(ACCOUNT_ID, AMOUNT, nextBusinessRefId()));
+  }
+
+  @Benchmark
+  public void withdraw() {
+    withdrawService.withdraw(WithdrawCommand.of(ACCOUNT_ID, AMOUNT, nextBusinessRefId()));
+  }
+
+  @Benchmark
+  public void reverse(PostedTransaction postedTransaction) {
+    reversalService.reverse(ReversalCommand.of(postedTransaction.transactionId, "Benchmark"));
+  }
+
+  /**
+   * 역분개 대상 거래. 거래는 한 번만 역분개할 수 있으므로 호출마다 입금 1건을 새로 만듭니다.
+   *
+   * <p>준비 비용은 측정에서 빠지지만, DB 왕복이 수백 µs 단위라 {@link Level#Invocation}의 타이밍 오차는 무시할 수 있습니다.
+   */
+  @State(Scope.Thread)
+  public static class PostedTransaction {
+
+    Long transactionId;
+
+    @Setup(Level.Invocation)
+    public void post(LedgerServiceBenchmark ledger) {
+      String businessRefId = ledger.nextBusinessRefId();
+      ledger.depositService.deposit(DepositCommand.of(ACCOUNT_ID, AMOUNT, businessRefId));
+      transactionId =
+          ledger.transactionPort.findByBusinessRefId(businessRefId).orElseThrow().getId();
+    }
+  }
+
+  private String nextBusinessRefId() {
+    return "bench-" + sequence.incrementAndGet();
+  }
+
+  private void createAccount() {
+    EntityManager entityManager = context.getBean(EntityManager.class);
+    context
+        .getBean(TransactionTemplate.class)
+        .executeWithoutResult(
+            status -> {
+              entityManager.persist(
+                  new AccountJpaEntity(
+                      ACCOUNT_ID, 1L, "BENCH-1", "KRW", AccountType.USER_CASH, CREATED_AT));
+              entityManager.persist(
+                  new BalanceJpaEntity(
+                      ACCOUNT_ID, INITIAL_BALANCE, BigDecimal.ZERO, null, null, CREATED_AT));
+            });
+  }
+}
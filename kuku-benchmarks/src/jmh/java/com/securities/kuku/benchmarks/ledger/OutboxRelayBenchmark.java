@@ -0,0 +1,106 @@
+package com.securities.kuku.benchmarks.ledger;
+
+import com.securities.kuku.ledger.LedgerApplication;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.application.service.outbox.OutboxRelayBatchProcessor;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Outbox relay 한 묶음(파티션 잠금 → PENDING 조회 → 발행 → PROCESSED 표시)의 이벤트당 비용을 내장 H2에서 측정합니다.
+ *
+ * <p>호출마다 {@code codec}으로 직렬화한 이벤트 {@value #BATCH_SIZE}건을 기록해 두고, 전체 파티션을 한 번 relay합니다. 결과는
+ * 이벤트 1건 기준입니다. 절대값은 MySQL과 다르므로 codec끼리의 비교에만 사용합니다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OutboxRelayBenchmark {
+
+  private static final int BATCH_SIZE = 100;
+  private static final Instant OCCURRED_AT = Instant.parse("2025-01-01T00:00:00Z");
+  private static final BigDecimal AMOUNT = new BigDecimal("100.5000");
+  private static final List<Integer> ALL_PARTITIONS =
+      IntStream.range(0, OutboxEvent.PARTITION_COUNT).boxed().toList();
+
+  @Param({"json", "binary"})
+  public String codec;
+
+  private ConfigurableApplicationContext context;
+  private OutboxEventRecorder recorder;
+  private OutboxRelayBatchProcessor relayBatchProcessor;
+  private TransactionTemplate transactionTemplate;
+  private long nextTransactionId;
+
+  @Setup(Level.Trial)
+  public void startLedger() {
+    context =
+        new SpringApplicationBuilder(LedgerApplication.class)
+            .web(WebApplicationType.NONE)
+            .run(
+                "--spring.datasource.url=jdbc:h2:mem:outbox;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+                "--spring.sql.init.mode=never",
+                "--logging.level.root=WARN",
+                "--ledger.outbox.relay.batch-size=" + BATCH_SIZE,
+                "--ledger.outbox.payload.codec=" + codec);
+    recorder = context.getBean(OutboxEventRecorder.class);
+    relayBatchProcessor = context.getBean(OutboxRelayBatchProcessor.class);
+    transactionTemplate = context.getBean(TransactionTemplate.class);
+  }
+
+  @TearDown(Level.Trial)
+  public void stopLedger() {
+    context.close();
+  }
+
+  /** 측정 전에 relay할 이벤트를 기록합니다. 기록 비용은 측정에서 빠집니다. */
+  @Setup(Level.Invocation)
+  public void recordPendingEvents() {
+    List<LedgerPostedEvent> events = new ArrayList<>(BATCH_SIZE);
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      events.add(
+          LedgerPostedEvent.of(
+              ++nextTransactionId, 1L, AMOUNT, TransactionType.DEPOSIT, OCCURRED_AT));
+    }
+    transactionTemplate.executeWithoutResult(status -> recorder.recordAll(events));
+  }
+
+  @Benchmark
+  @OperationsPerInvocation(BATCH_SIZE)
+  public int relay() {
+    int relayed = relayBatchProcessor.relay(ALL_PARTITIONS);
+    if (relayed != BATCH_SIZE) {
+      throw new IllegalStateException("Relayed " + relayed + " of " + BATCH_SIZE + " events");
+    }
+    return relayed;
+  }
+}
@@ -0,0 +1,133 @@
+package com.securities.kuku.benchmarks.ledger;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.securities.kuku.ledger.application.port.out.OutboxEventPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.application.service.outbox.BinaryOutboxPayloadCodec;
+import com.securities.kuku.ledger.application.service.outbox.JsonOutboxPayloadCodec;
+import com.securities.kuku.ledger.application.service.outbox.OutboxPayloadCodecs;
+import com.securities.kuku.ledger.config.OutboxPayloadProperties;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * {@link OutboxEventRecorder#record}의 직렬화 비용 벤치마크.
+ *
+ * <p>저장소 I/O를 빼고 이벤트 → payload → {@link OutboxEvent} 변환만 측정하기 위해, 저장 포트는 결과를 {@link
+ * Blackhole}로 넘기기만 합니다. {@code codec}으로 JSON과 바이너리를 나란히 비교하며, 결과의 {@code payloadBytes}를 {@code
+ * events}로 나누면 이벤트당 payload 크기입니다.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OutboxSerializationBenchmark {
+
+  private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+  @Param({"json", "binary"})
+  public String codec;
+
+  private OutboxEventRecorder recorder;
+  private PayloadSize payloadSize;
+  private LedgerPostedEvent postedEvent;
+  private LedgerReversedEvent reversedEvent;
+
+  @Setup
+  public void setUp(Blackhole blackhole) {
+    // Spring Boot 기본 ObjectMapper처럼 classpath의 모듈(JavaTimeModule 등)을 등록합니다.
+    ObjectMapper objectMapper = JsonMapper.builder().findAndAddModules().build();
+    OutboxPayloadCodecs payloadCodecs =
+        new OutboxPayloadCodecs(
+            List.of(new JsonOutboxPayloadCodec(objectMapper), new BinaryOutboxPayloadCodec()),
+            new OutboxPayloadProperties(codec));
+    // 트랜잭션 밖에서 호출하므로 커밋 직후 발행(fast path)은 일어나지 않습니다.
+    recorder =
+        new OutboxEventRecorder(
+            new BlackholeOutboxEventPort(blackhole, this), payloadCodecs, committed -> {});
+    postedEvent =
+        LedgerPostedEvent.of(100L, 1L, new BigDecimal("100"), TransactionType.DEPOSIT, NOW);
+    reversedEvent = LedgerReversedEvent.of(200L, 100L, "Benchmark reversal", NOW);
+  }
+
+  @Benchmark
+  public void recordPostedEvent(PayloadSize payloadSize) {
+    this.payloadSize = payloadSize;
+    recorder.record(postedEvent);
+  }
+
+  @Benchmark
+  public void recordReversedEvent(PayloadSize payloadSize) {
+    this.payloadSize = payloadSize;
+    recorder.record(reversedEvent);
+  }
+
+  /** 반복(iteration)마다 기록한 이벤트 수와 payload 바이트 합계. */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class PayloadSize {
+
+    public long events;
+    public long payloadBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      events = 0;
+      payloadBytes = 0;
+    }
+
+    void add(OutboxEvent event) {
+      events++;
+      payloadBytes += event.getPayload().length;
+    }
+  }
+
+  private record BlackholeOutboxEventPort(
+      Blackhole blackhole, OutboxSerializationBenchmark benchmark) implements OutboxEventPort {
+
+    @Override
+    public OutboxEvent save(OutboxEvent event) {
+      benchmark.payloadSize.add(event);
+      blackhole.consume(event);
+      return event;
+    }
+
+    @Override
+    public List<OutboxEvent> saveAll(List<OutboxEvent> events) {
+      events.forEach(this::save);
+      return events;
+    }
+
+    @Override
+    public List<OutboxEvent> claimPendingEvents(Collection<Integer> partitionNos, int limit) {
+      return List.of();
+    }
+
+    @Override
+    public void markAsProcessed(Collection<Long> eventIds, Instant processedAt) {}
+
+    @Override
+    public void markForRetry(Long eventId, int retryCount) {}
+
+    @Override
+    public void markAsFailed(Long eventId, int retryCount) {}
+  }
+}
@@ -0,0 +1,59 @@
+package com.securities.kuku.common.id;
+
+import com.github.f4b6a3.tsid.TsidFactory;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Node ID별 TSID 생성기.
+ *
+ * <p>같은 Node ID에 대해서는 하나의 {@link TsidFactory}를 공유하여, 여러 엔티티가 동시에 ID를 생성해도 같은 밀리초 안에서 카운터가
+ * 충돌하지 않도록 합니다. Node ID는 인스턴스마다 달라야 하며 배포 설정으로 주입합니다. (ADR 002)
+ *
+ * <p>TSID의 상위 42비트는 {@link #TSID_EPOCH} 기준 밀리초이므로, 시각으로 ID 구간을 계산할 수 있습니다({@link
+ * #minIdAt}, {@link #instantOf}). ID 범위 파티셔닝의 월 경계가 이 값을 사용합니다.
+ */
+public final class TsidGenerator {
+
+  public static final int NODE_BITS = 10;
+  public static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+  /** tsid-creator 기본 epoch (2020-01-01T00:00:00Z). */
+  public static final Instant TSID_EPOCH = Instant.ofEpochMilli(1577836800000L);
+
+  private static final int RANDOM_BITS = 22;
+
+  private static final Map<Integer, TsidGenerator> GENERATORS = new ConcurrentHashMap<>();
+
+  private final TsidFactory factory;
+
+  private TsidGenerator(int nodeId) {
+    this.factory = TsidFactory.builder().withNodeBits(NODE_BITS).withNode(nodeId).build();
+  }
+
+  public static TsidGenerator forNode(int nodeId) {
+    if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+      throw new IllegalArgumentException(
+          "TSID node id must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+    }
+    return GENERATORS.computeIfAbsent(nodeId, TsidGenerator::new);
+  }
+
+  public long nextId() {
+    return factory.create().toLong();
+  }
+
+  /** {@code instant} 이후에 생성된 모든 TSID보다 작거나 같은 가장 작은 ID. */
+  public static long minIdAt(Instant instant) {
+    if (instant.isBefore(TSID_EPOCH)) {
+      throw new IllegalArgumentException("Instant must not be before TSID epoch: " + instant);
+    }
+    return (instant.toEpochMilli() - TSID_EPOCH.toEpochMilli()) << RANDOM_BITS;
+  }
+
+  /** ID에 담긴 생성 시각 (밀리초 단위). */
+  public static Instant instantOf(long id) {
+    return Instant.ofEpochMilli((id >>> RANDOM_BITS) + TSID_EPOCH.toEpochMilli());
+  }
+}
@@ -0,0 +1,20 @@
+package com.securities.kuku.common.id;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * 엔티티 ID를 애플리케이션에서 TSID로 생성합니다.
+ *
+ * <p>{@code GenerationType.IDENTITY}와 달리 INSERT 전에 ID가 정해지므로 Hibernate JDBC 배치 INSERT가 가능합니다.
+ * Node ID는 Hibernate 설정 {@value TsidIdentifierGenerator#NODE_ID_SETTING}으로 지정합니다.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RUNTIME)
+@Target({FIELD, METHOD})
+public @interface TsidId {}
@@ -0,0 +1,60 @@
+package com.securities.kuku.common.id;
+
+import java.lang.reflect.Member;
+import java.util.EnumSet;
+import org.hibernate.engine.config.spi.ConfigurationService;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+
+/**
+ * {@link TsidId}가 붙은 ID 필드에 TSID를 채우는 Hibernate Generator.
+ *
+ * <p>Node ID({@value #NODE_ID_SETTING})는 기본값 없이 반드시 설정해야 합니다. 빠뜨린 인스턴스들이 모두 같은 Node ID로 ID를 만들면 같은
+ * 밀리초에 충돌할 수 있으므로, 설정이 없으면 SessionFactory를 만들 때 실패시켜 기동을 막습니다.
+ */
+public class TsidIdentifierGenerator implements BeforeExecutionGenerator {
+
+  public static final String NODE_ID_SETTING = "kuku.tsid.node-id";
+
+  private final TsidGenerator tsidGenerator;
+
+  public TsidIdentifierGenerator(
+      TsidId config, Member idMember, CustomIdGeneratorCreationContext creationContext) {
+    this.tsidGenerator = TsidGenerator.forNode(resolveNodeId(creationContext));
+  }
+
+  @Override
+  public Object generate(
+      SharedSessionContractImplementor session,
+      Object owner,
+      Object currentValue,
+      EventType eventType) {
+    return tsidGenerator.nextId();
+  }
+
+  @Override
+  public EnumSet<EventType> getEventTypes() {
+    return EventTypeSets.INSERT_ONLY;
+  }
+
+  private static int resolveNodeId(CustomIdGeneratorCreationContext creationContext) {
+    Object nodeId =
+        creationContext
+            .getServiceRegistry()
+            .requireService(ConfigurationService.class)
+            .getSettings()
+            .get(NODE_ID_SETTING);
+    if (nodeId == null || nodeId.toString().isBlank()) {
+      throw new IllegalStateException(
+          NODE_ID_SETTING + " must be set (0 ~ " + TsidGenerator.MAX_NODE_ID + ")");
+    }
+    try {
+      return Integer.parseInt(nodeId.toString().trim());
+    } catch (NumberFormatException e) {
+      throw new IllegalStateException(NODE_ID_SETTING + " must be an integer: " + nodeId, e);
+    }
+  }
+}
@@ -0,0 +1,141 @@
+package com.securities.kuku.common.money;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * 소수 4자리 고정 소수점 금액.
+ *
+ * <p>값을 10<sup>4</sup>배 한 {@code long} 하나({@link #units()})로 저장합니다. {@code DECIMAL(19,4)}와 소수 자릿수가
+ * 같고, 정수부는 약 9.2×10<sup>14</sup>까지 표현합니다. 덧셈·뺄셈·비교는 {@link BigDecimal}처럼 내부 배열을 만들지 않으며, 범위를
+ * 넘으면 값이 넘쳐 돌아가는 대신 {@link ArithmeticException}을 던집니다.
+ *
+ * <p>{@link BigDecimal}과의 변환({@link #of(BigDecimal)}, {@link #toBigDecimal()})은 JSON·JDBC 경계에서만
+ * 사용합니다.
+ */
+public final class Money implements Comparable<Money> {
+
+  public static final int SCALE = 4;
+  public static final Money ZERO = new Money(0L);
+
+  static final long UNIT = 10_000L;
+
+  private final long units;
+
+  private Money(long units) {
+    this.units = units;
+  }
+
+  /** 10<sup>4</sup>배 한 값으로 만듭니다. {@code ofUnits(12_345)}는 1.2345입니다. */
+  public static Money ofUnits(long units) {
+    return units == 0L ? ZERO : new Money(units);
+  }
+
+  /** 소수점 없는 금액으로 만듭니다. */
+  public static Money of(long amount) {
+    return ofUnits(Math.multiplyExact(amount, UNIT));
+  }
+
+  /**
+   * @throws ArithmeticException 소수 4자리를 넘는 자릿수가 있거나 범위를 넘을 때. 반올림하지 않습니다.
+   */
+  public static Money of(BigDecimal amount) {
+    return ofUnits(toUnits(amount));
+  }
+
+  public long units() {
+    return units;
+  }
+
+  public Money plus(Money other) {
+    return ofUnits(Math.addExact(units, other.units));
+  }
+
+  public Money minus(Money other) {
+    return ofUnits(Math.subtractExact(units, other.units));
+  }
+
+  public Money negate() {
+    return ofUnits(Math.negateExact(units));
+  }
+
+  /** 단가 × 수량. 소수 4자리 아래는 반올림(HALF_UP)합니다. */
+  public Money times(Quantity quantity) {
+    return ofUnits(multiplyScaled(units, quantity.units()));
+  }
+
+  public int signum() {
+    return Long.signum(units);
+  }
+
+  public boolean isPositive() {
+    return units > 0L;
+  }
+
+  public boolean isNegative() {
+    return units < 0L;
+  }
+
+  public boolean isZero() {
+    return units == 0L;
+  }
+
+  public boolean isLessThan(Money other) {
+    return units < other.units;
+  }
+
+  public boolean isGreaterThan(Money other) {
+    return units > other.units;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(units, SCALE);
+  }
+
+  @Override
+  public int compareTo(Money other) {
+    return Long.compare(units, other.units);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof Money other && units == other.units;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(units);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+
+  static long toUnits(BigDecimal value) {
+    return value.setScale(SCALE, RoundingMode.UNNECESSARY).unscaledValue().longValueExact();
+  }
+
+  /**
+   * 두 고정 소수점 값의 곱을 같은 자릿수로 돌려줍니다.
+   *
+   * <p>{@code a × b}를 그대로 곱하면 결과가 범위 안이어도 중간값이 {@code long}을 넘을 수 있으므로, {@code b}를 정수부와 소수부로
+   * 나누어 곱합니다: {@code a×b/U = a×(b/U) + (a/U)×(b%U) + (a%U)×(b%U)/U}. 나머지 항만 나눗셈이 남고 그 크기는
+   * U<sup>2</sup> 미만이라 넘치지 않습니다.
+   */
+  static long multiplyScaled(long a, long b) {
+    long whole = Math.multiplyExact(a, b / UNIT);
+    long fraction = Math.multiplyExact(a / UNIT, b % UNIT);
+    long remainder = (a % UNIT) * (b % UNIT);
+    return Math.addExact(Math.addExact(whole, fraction), roundHalfUp(remainder));
+  }
+
+  private static long roundHalfUp(long value) {
+    long quotient = value / UNIT;
+    long rest = value % UNIT;
+    if (Math.abs(rest) * 2 >= UNIT) {
+      quotient += Long.signum(rest);
+    }
+    return quotient;
+  }
+}
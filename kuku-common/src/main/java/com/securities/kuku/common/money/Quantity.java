@@ -0,0 +1,81 @@
+package com.securities.kuku.common.money;
+
+import java.math.BigDecimal;
+
+/**
+ * 소수 4자리 고정 소수점 수량(주식 수 등).
+ *
+ * <p>{@link Money}와 같은 방식으로 10<sup>4</sup>배 한 {@code long}에 저장하며, 범위를 넘는 연산은 {@link
+ * ArithmeticException}을 던집니다. 금액은 {@link Money#times(Quantity)}로 구합니다.
+ */
+public final class Quantity implements Comparable<Quantity> {
+
+  public static final int SCALE = Money.SCALE;
+  public static final Quantity ZERO = new Quantity(0L);
+
+  private final long units;
+
+  private Quantity(long units) {
+    this.units = units;
+  }
+
+  /** 10<sup>4</sup>배 한 값으로 만듭니다. {@code ofUnits(5_000)}은 0.5입니다. */
+  public static Quantity ofUnits(long units) {
+    return units == 0L ? ZERO : new Quantity(units);
+  }
+
+  public static Quantity of(long quantity) {
+    return ofUnits(Math.multiplyExact(quantity, Money.UNIT));
+  }
+
+  /**
+   * @throws ArithmeticException 소수 4자리를 넘는 자릿수가 있거나 범위를 넘을 때. 반올림하지 않습니다.
+   */
+  public static Quantity of(BigDecimal quantity) {
+    return ofUnits(Money.toUnits(quantity));
+  }
+
+  public long units() {
+    return units;
+  }
+
+  public Quantity plus(Quantity other) {
+    return ofUnits(Math.addExact(units, other.units));
+  }
+
+  public Quantity minus(Quantity other) {
+    return ofUnits(Math.subtractExact(units, other.units));
+  }
+
+  public boolean isPositive() {
+    return units > 0L;
+  }
+
+  public boolean isLessThan(Quantity other) {
+    return units < other.units;
+  }
+
+  public BigDecimal toBigDecimal() {
+    return BigDecimal.valueOf(units, SCALE);
+  }
+
+  @Override
+  public int compareTo(Quantity other) {
+    return Long.compare(units, other.units);
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    return o instanceof Quantity other && units == other.units;
+  }
+
+  @Override
+  public int hashCode() {
+    return Long.hashCode(units);
+  }
+
+  @Override
+  public String toString() {
+    return toBigDecimal().toPlainString();
+  }
+}
@@ -0,0 +1,105 @@
+package com.securities.kuku.common.id;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class TsidGeneratorTest {
+
+  // 하위 22비트 = Node ID 10비트 + 카운터 12비트
+  private static final int COUNTER_BITS = 12;
+
+  @Nested
+  @DisplayName("ID 생성")
+  class Generation {
+
+    @Test
+    @DisplayName("같은 Node에서 연속으로 만든 ID는 항상 증가한다")
+    void idsAreStrictlyIncreasing() {
+      TsidGenerator generator = TsidGenerator.forNode(1);
+
+      List<Long> ids = new ArrayList<>();
+      for (int i = 0; i < 10_000; i++) {
+        ids.add(generator.nextId());
+      }
+
+      assertThat(ids).isSorted().doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("ID에는 생성기의 Node ID가 담긴다")
+    void idContainsNodeId() {
+      long id = TsidGenerator.forNode(TsidGenerator.MAX_NODE_ID).nextId();
+
+      assertThat((id >>> COUNTER_BITS) & TsidGenerator.MAX_NODE_ID)
+          .isEqualTo(TsidGenerator.MAX_NODE_ID);
+    }
+
+    @Test
+    @DisplayName("같은 Node ID에는 같은 생성기를 돌려준다")
+    void sharesGeneratorPerNode() {
+      assertThat(TsidGenerator.forNode(2)).isSameAs(TsidGenerator.forNode(2));
+    }
+  }
+
+  @Nested
+  @DisplayName("Node ID 범위")
+  class NodeRange {
+
+    @Test
+    @DisplayName("0부터 MAX_NODE_ID까지는 생성기를 만든다")
+    void acceptsBoundaries() {
+      assertThat(TsidGenerator.forNode(0)).isNotNull();
+      assertThat(TsidGenerator.forNode(TsidGenerator.MAX_NODE_ID)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("범위를 벗어난 Node ID는 예외가 발생한다")
+    void throwsException_whenOutOfRange() {
+      assertThatThrownBy(() -> TsidGenerator.forNode(-1))
+          .isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> TsidGenerator.forNode(TsidGenerator.MAX_NODE_ID + 1))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("시각 변환")
+  class InstantConversion {
+
+    @Test
+    @DisplayName("minIdAt으로 만든 경계값을 instantOf로 되돌리면 같은 시각이다")
+    void minIdAt_roundTripsThroughInstantOf() {
+      Instant instant = Instant.parse("2025-01-01T00:00:00.123Z");
+
+      assertThat(TsidGenerator.instantOf(TsidGenerator.minIdAt(instant))).isEqualTo(instant);
+      assertThat(TsidGenerator.minIdAt(TsidGenerator.TSID_EPOCH)).isZero();
+    }
+
+    @Test
+    @DisplayName("생성한 ID는 생성 시각의 경계값 사이에 있고, 담긴 시각도 그 사이다")
+    void generatedId_fallsWithinItsMillisecond() {
+      Instant before = Instant.ofEpochMilli(System.currentTimeMillis());
+      long id = TsidGenerator.forNode(3).nextId();
+      Instant after = Instant.ofEpochMilli(System.currentTimeMillis());
+
+      assertThat(id)
+          .isGreaterThanOrEqualTo(TsidGenerator.minIdAt(before))
+          .isLessThan(TsidGenerator.minIdAt(after.plusMillis(1)));
+      assertThat(TsidGenerator.instantOf(id)).isBetween(before, after);
+    }
+
+    @Test
+    @DisplayName("TSID epoch 이전 시각은 예외가 발생한다")
+    void throwsException_whenBeforeEpoch() {
+      assertThatThrownBy(() -> TsidGenerator.minIdAt(TsidGenerator.TSID_EPOCH.minusMillis(1)))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+package com.securities.kuku.common.money;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class MoneyTest {
+
+  @Nested
+  @DisplayName("BigDecimal 변환")
+  class Conversion {
+
+    @Test
+    @DisplayName("소수 4자리까지는 그대로 변환되고 되돌려도 값이 같다")
+    void roundTrip_upToFourDecimals() {
+      Money money = Money.of(new BigDecimal("1234.5678"));
+
+      assertThat(money.units()).isEqualTo(12_345_678L);
+      assertThat(money.toBigDecimal()).isEqualByComparingTo("1234.5678");
+      assertThat(money).isEqualTo(Money.of(new BigDecimal("1234.56780")));
+    }
+
+    @Test
+    @DisplayName("소수 4자리를 넘으면 반올림하지 않고 예외가 발생한다")
+    void throwsException_whenMoreThanFourDecimals() {
+      assertThatThrownBy(() -> Money.of(new BigDecimal("0.00001")))
+          .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("long 범위를 넘는 금액은 예외가 발생한다")
+    void throwsException_whenOutOfRange() {
+      assertThatThrownBy(() -> Money.of(new BigDecimal("1000000000000000")))
+          .isInstanceOf(ArithmeticException.class);
+      assertThatThrownBy(() -> Money.of(Long.MAX_VALUE / 1_000))
+          .isInstanceOf(ArithmeticException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("덧셈·뺄셈")
+  class Arithmetic {
+
+    @Test
+    @DisplayName("BigDecimal 연산과 같은 결과를 낸다")
+    void matchesBigDecimal() {
+      BigDecimal a = new BigDecimal("1000.1234");
+      BigDecimal b = new BigDecimal("0.9876");
+
+      assertThat(Money.of(a).plus(Money.of(b)).toBigDecimal()).isEqualByComparingTo(a.add(b));
+      assertThat(Money.of(b).minus(Money.of(a)).toBigDecimal())
+          .isEqualByComparingTo(b.subtract(a));
+    }
+
+    @Test
+    @DisplayName("범위를 넘으면 넘쳐 돌아가지 않고 예외가 발생한다")
+    void throwsException_onOverflow() {
+      Money max = Money.ofUnits(Long.MAX_VALUE);
+
+      assertThatThrownBy(() -> max.plus(Money.ofUnits(1))).isInstanceOf(ArithmeticException.class);
+      assertThatThrownBy(() -> Money.ofUnits(Long.MIN_VALUE).negate())
+          .isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    @DisplayName("비교는 자릿수 표기와 관계없이 값으로 한다")
+    void comparesByValue() {
+      Money small = Money.of(new BigDecimal("9.9999"));
+      Money large = Money.of(10);
+
+      assertThat(small.isLessThan(large)).isTrue();
+      assertThat(large.isGreaterThan(small)).isTrue();
+      assertThat(large).isEqualByComparingTo(Money.of(new BigDecimal("10.00")));
+      assertThat(small.minus(large).isNegative()).isTrue();
+    }
+  }
+
+  @Nested
+  @DisplayName("단가 × 수량")
+  class Times {
+
+    @Test
+    @DisplayName("정수 수량은 정확히 곱한다")
+    void multipliesWholeQuantity() {
+      assertThat(Money.of(5000).times(Quantity.of(10))).isEqualTo(Money.of(50_000));
+    }
+
+    @Test
+    @DisplayName("소수 4자리 아래는 반올림(HALF_UP)한다")
+    void roundsHalfUp() {
+      Money price = Money.of(new BigDecimal("0.0001"));
+
+      assertThat(price.times(Quantity.of(new BigDecimal("0.5")))).isEqualTo(Money.ofUnits(1));
+      assertThat(price.times(Quantity.of(new BigDecimal("0.4999")))).isEqualTo(Money.ZERO);
+      assertThat(price.negate().times(Quantity.of(new BigDecimal("0.5"))))
+          .isEqualTo(Money.ofUnits(-1));
+    }
+
+    @Test
+    @DisplayName("중간값이 long을 넘어도 결과가 범위 안이면 계산한다")
+    void multipliesWithoutIntermediateOverflow() {
+      BigDecimal price = new BigDecimal("123456789.1234");
+      BigDecimal quantity = new BigDecimal("1234.5678");
+
+      // 단위 값끼리 곱하면 약 1.5×10^19로 long을 넘지만, 결과는 약 1.5×10^11입니다.
+      Money amount = Money.of(price).times(Quantity.of(quantity));
+
+      assertThat(amount.toBigDecimal())
+          .isEqualByComparingTo(
+              price.multiply(quantity).setScale(Money.SCALE, RoundingMode.HALF_UP));
+    }
+
+    @Test
+    @DisplayName("결과가 범위를 넘으면 예외가 발생한다")
+    void throwsException_whenResultOverflows() {
+      Money price = Money.of(1_000_000_000L);
+
+      assertThatThrownBy(() -> price.times(Quantity.of(1_000_000_000L)))
+          .isInstanceOf(ArithmeticException.class);
+    }
+  }
+}
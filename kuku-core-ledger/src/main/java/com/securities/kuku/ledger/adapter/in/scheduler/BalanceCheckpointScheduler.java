@@ -0,0 +1,33 @@
+package com.securities.kuku.ledger.adapter.in.scheduler;
+
+import com.securities.kuku.ledger.application.port.in.BalanceCheckpointUseCase;
+import com.securities.kuku.ledger.config.BalanceCheckpointProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** {@code ledger.balance-checkpoint.cron}을 지정한 경우에만 {@code zone} 기준 당일 0시(전일 마감) 체크포인트를 기록합니다. */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.balance-checkpoint", name = "cron")
+public class BalanceCheckpointScheduler {
+
+  private final Clock clock;
+  private final BalanceCheckpointUseCase balanceCheckpointUseCase;
+  private final BalanceCheckpointProperties properties;
+
+  @Scheduled(
+      cron = "${ledger.balance-checkpoint.cron}",
+      zone = "${ledger.balance-checkpoint.zone:Asia/Seoul}")
+  public void checkpointEndOfDay() {
+    Instant startOfToday =
+        LocalDate.now(clock.withZone(properties.zone()))
+            .atStartOfDay(properties.zone())
+            .toInstant();
+    balanceCheckpointUseCase.createCheckpoints(startOfToday);
+  }
+}
@@ -0,0 +1,21 @@
+package com.securities.kuku.ledger.adapter.in.scheduler;
+
+import com.securities.kuku.ledger.application.port.in.JournalArchiveUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** {@code ledger.journal-archive.cron}을 지정한 경우에만 주기적으로 분개 파티션을 관리합니다. */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.journal-archive", name = "cron")
+public class JournalArchiveScheduler {
+
+  private final JournalArchiveUseCase journalArchiveUseCase;
+
+  @Scheduled(cron = "${ledger.journal-archive.cron}")
+  public void archive() {
+    journalArchiveUseCase.archive();
+  }
+}
@@ -0,0 +1,21 @@
+package com.securities.kuku.ledger.adapter.in.scheduler;
+
+import com.securities.kuku.ledger.application.port.in.OutboxRetentionUseCase;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** {@code ledger.outbox.retention.cron}을 지정한 경우에만 주기적으로 Outbox 파티션을 관리합니다. */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.outbox.retention", name = "cron")
+public class OutboxRetentionScheduler {
+
+  private final OutboxRetentionUseCase outboxRetentionUseCase;
+
+  @Scheduled(cron = "${ledger.outbox.retention.cron}")
+  public void rotate() {
+    outboxRetentionUseCase.rotate();
+  }
+}
@@ -0,0 +1,28 @@
+package com.securities.kuku.ledger.adapter.in.scheduler;
+
+import com.securities.kuku.ledger.application.port.in.ReconciliationUseCase;
+import java.time.Clock;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code ledger.reconciliation.cron}을 지정한 경우에만 주기적으로 원장을 대사합니다.
+ *
+ * <p>실행 ID가 날짜(UTC)라서 같은 날 다시 실행되면 중단된 위치부터 이어서 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.reconciliation", name = "cron")
+public class ReconciliationScheduler {
+
+  private final Clock clock;
+  private final ReconciliationUseCase reconciliationUseCase;
+
+  @Scheduled(cron = "${ledger.reconciliation.cron}")
+  public void reconcile() {
+    reconciliationUseCase.reconcile("scheduled-" + LocalDate.now(clock));
+  }
+}
@@ -0,0 +1,35 @@
+package com.securities.kuku.ledger.adapter.in.web;
+
+import com.securities.kuku.ledger.adapter.in.web.dto.BalanceAsOfResponse;
+import com.securities.kuku.ledger.application.port.in.BalanceAsOfUseCase;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/accounts/{accountId}/balance")
+@RequiredArgsConstructor
+public class BalanceController {
+
+  private final BalanceAsOfUseCase balanceAsOfUseCase;
+
+  /** {@code asOf} 시각까지의 분개를 모두 반영한 잔액. 오프셋을 포함한 ISO-8601 (예: 2025-03-31T15:30:00+09:00) */
+  @GetMapping
+  public ResponseEntity<BalanceAsOfResponse> getBalanceAsOf(
+      @PathVariable Long accountId,
+      @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime asOf) {
+    Instant instant = asOf.toInstant();
+    return ResponseEntity.ok(
+        new BalanceAsOfResponse(
+            accountId,
+            instant,
+            balanceAsOfUseCase.getBalanceAsOf(accountId, instant).toBigDecimal()));
+  }
+}
@@ -0,0 +1,78 @@
+package com.securities.kuku.ledger.adapter.in.web;
+
+import com.securities.kuku.ledger.adapter.in.web.dto.StatementResponse;
+import com.securities.kuku.ledger.application.port.in.StatementUseCase;
+import com.securities.kuku.ledger.application.port.in.result.StatementLine;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/v1/accounts/{accountId}/statement")
+@RequiredArgsConstructor
+public class StatementController {
+
+  private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+  private static final String CSV_HEADER =
+      "journalEntryId,transactionId,entryType,amount,balanceAfter,createdAt\n";
+
+  private final StatementUseCase statementUseCase;
+
+  @GetMapping
+  public ResponseEntity<StatementResponse> getStatement(
+      @PathVariable Long accountId,
+      @RequestParam(required = false) String cursor,
+      @RequestParam(defaultValue = "50") int size) {
+    return ResponseEntity.ok(
+        StatementResponse.from(statementUseCase.getStatement(accountId, cursor, size)));
+  }
+
+  /** 전체 거래내역을 CSV로 내려받습니다. 응답을 버퍼링하지 않고 DB 커서에서 읽는 대로 씁니다. */
+  @GetMapping("/export")
+  public ResponseEntity<StreamingResponseBody> exportStatement(@PathVariable Long accountId) {
+    StreamingResponseBody body =
+        outputStream -> {
+          Writer writer =
+              new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+          writer.write(CSV_HEADER);
+          statementUseCase.exportStatement(accountId, line -> writeCsvLine(writer, line));
+          writer.flush();
+        };
+    return ResponseEntity.ok()
+        .contentType(TEXT_CSV)
+        .header(
+            HttpHeaders.CONTENT_DISPOSITION,
+            "attachment; filename=\"statement-" + accountId + ".csv\"")
+        .body(body);
+  }
+
+  private void writeCsvLine(Writer writer, StatementLine line) {
+    try {
+      writer.write(
+          String.join(
+              ",",
+              String.valueOf(line.journalEntryId()),
+              String.valueOf(line.transactionId()),
+              line.entryType().name(),
+              line.amount().toString(),
+              line.balanceAfter().toString(),
+              line.createdAt().toString()));
+      writer.write('\n');
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,6 @@
+package com.securities.kuku.ledger.adapter.in.web.dto;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+
+public record BalanceAsOfResponse(Long accountId, Instant asOf, BigDecimal amount) {}
@@ -0,0 +1,34 @@
+package com.securities.kuku.ledger.adapter.in.web.dto;
+
+import com.securities.kuku.ledger.application.port.in.result.StatementLine;
+import com.securities.kuku.ledger.application.port.in.result.StatementPage;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+
+public record StatementResponse(List<Line> lines, String nextCursor, boolean hasNext) {
+
+  public static StatementResponse from(StatementPage page) {
+    return new StatementResponse(
+        page.lines().stream().map(Line::from).toList(), page.nextCursor(), page.hasNext());
+  }
+
+  public record Line(
+      Long journalEntryId,
+      Long transactionId,
+      String entryType,
+      BigDecimal amount,
+      BigDecimal balanceAfter,
+      Instant createdAt) {
+
+    public static Line from(StatementLine line) {
+      return new Line(
+          line.journalEntryId(),
+          line.transactionId(),
+          line.entryType().name(),
+          line.amount().toBigDecimal(),
+          line.balanceAfter().toBigDecimal(),
+          line.createdAt());
+    }
+  }
+}
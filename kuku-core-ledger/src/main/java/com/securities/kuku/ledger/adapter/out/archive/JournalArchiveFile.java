@@ -0,0 +1,173 @@
+package com.securities.kuku.ledger.adapter.out.archive;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.io.BufferedOutputStream;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 분개 보관 파일 형식.
+ *
+ * <p>한 줄에 분개 하나({@code id,transactionId,accountId,amount,entryType,createdAt})를 {@code (accountId,
+ * createdAt, id)} 오름차순으로 씁니다. 파일은 gzip 블록(member)을 이어 붙인 것이고, 블록은 계좌가 바뀌는 지점에서만 나눕니다. 그래서 계좌의
+ * 첫 분개가 든 블록 위치부터 압축을 풀면 파일 앞부분을 건너뛰고 그 계좌만 읽을 수 있습니다.
+ */
+final class JournalArchiveFile {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private JournalArchiveFile() {}
+
+  /** {@code blockOffset}부터 읽어 계좌의 분개를 {@code (createdAt, id)} 오름차순으로 반환합니다. */
+  static List<JournalEntry> read(Path path, long blockOffset, Long accountId) throws IOException {
+    List<JournalEntry> entries = new ArrayList<>();
+    try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+      channel.position(blockOffset);
+      BufferedReader reader =
+          new BufferedReader(
+              new InputStreamReader(
+                  new GZIPInputStream(Channels.newInputStream(channel), BUFFER_SIZE),
+                  StandardCharsets.UTF_8));
+      String line;
+      while ((line = reader.readLine()) != null) {
+        JournalEntry entry = parse(line);
+        int order = entry.getAccountId().compareTo(accountId);
+        if (order > 0) {
+          break;
+        }
+        if (order == 0) {
+          entries.add(entry);
+        }
+      }
+    }
+    return entries;
+  }
+
+  static BlockWriter create(Path path, int blockRows) throws IOException {
+    return new BlockWriter(path, blockRows);
+  }
+
+  /** 분개를 블록 단위로 압축해 씁니다. 계좌가 바뀔 때마다 {@link #startAccount()}를 먼저 호출해야 합니다. */
+  static final class BlockWriter implements Closeable {
+
+    private final CountingOutputStream file;
+    private final int blockRows;
+    private GZIPOutputStream block;
+    private Writer writer;
+    private long blockOffset;
+    private int rowsInBlock;
+
+    private BlockWriter(Path path, int blockRows) throws IOException {
+      this.file =
+          new CountingOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+      this.blockRows = blockRows;
+      openBlock();
+    }
+
+    /**
+     * 새 계좌를 시작합니다. 현재 블록이 {@code blockRows}행 이상이면 블록을 닫고 새로 엽니다.
+     *
+     * @return 계좌의 첫 분개가 들어갈 블록의 시작 위치
+     */
+    long startAccount() throws IOException {
+      if (rowsInBlock >= blockRows) {
+        closeBlock();
+        openBlock();
+      }
+      return blockOffset;
+    }
+
+    void write(JournalEntry entry) throws IOException {
+      writer.write(format(entry));
+      writer.write('\n');
+      rowsInBlock++;
+    }
+
+    @Override
+    public void close() throws IOException {
+      try (OutputStream ignored = file) {
+        closeBlock();
+      }
+    }
+
+    private void openBlock() throws IOException {
+      blockOffset = file.count;
+      block = new GZIPOutputStream(file, BUFFER_SIZE);
+      writer = new BufferedWriter(new OutputStreamWriter(block, StandardCharsets.UTF_8));
+      rowsInBlock = 0;
+    }
+
+    private void closeBlock() throws IOException {
+      writer.flush();
+      block.finish();
+    }
+  }
+
+  private static String format(JournalEntry entry) {
+    return entry.getId()
+        + ","
+        + entry.getTransactionId()
+        + ","
+        + entry.getAccountId()
+        + ","
+        + entry.getAmount()
+        + ","
+        + entry.getEntryType()
+        + ","
+        + entry.getCreatedAt();
+  }
+
+  private static JournalEntry parse(String line) {
+    String[] fields = line.split(",", -1);
+    return new JournalEntry(
+        Long.parseLong(fields[0]),
+        Long.parseLong(fields[1]),
+        Long.parseLong(fields[2]),
+        Money.of(new BigDecimal(fields[3])),
+        JournalEntry.EntryType.valueOf(fields[4]),
+        Instant.parse(fields[5]));
+  }
+
+  /** 블록 시작 위치를 알기 위해 파일에 쓴 바이트 수를 셉니다. */
+  private static final class CountingOutputStream extends FilterOutputStream {
+
+    private long count;
+
+    private CountingOutputStream(OutputStream out) {
+      super(out);
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+      out.write(b);
+      count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+      out.write(b, off, len);
+      count += len;
+    }
+  }
+}
@@ -0,0 +1,228 @@
+package com.securities.kuku.ledger.adapter.out.archive;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.adapter.out.persistence.JournalArchiveJpaRepository;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalArchiveJpaEntity;
+import com.securities.kuku.ledger.application.port.out.JournalArchivePort;
+import com.securities.kuku.ledger.config.JournalArchiveProperties;
+import com.securities.kuku.ledger.domain.JournalArchive;
+import com.securities.kuku.ledger.domain.JournalArchiveAccount;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 분개 보관 파일을 {@link JournalArchiveProperties#directory()} 아래에 두고, 목록은 {@code
+ * journal_archives}, 계좌 요약은 {@code journal_archive_accounts}에 기록합니다.
+ *
+ * <p>계좌 요약은 파티션 하나에 수백만 행이 될 수 있어 JPA를 거치지 않고 JDBC 배치로 씁니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JournalArchiveFileAdapter implements JournalArchivePort {
+
+  private static final int ACCOUNT_BATCH_SIZE = 1000;
+
+  private static final String INSERT_ACCOUNT =
+      """
+      INSERT INTO journal_archive_accounts
+        (account_id, partition_name, amount, first_created_at, last_created_at, block_offset)
+      VALUES (:accountId, :partitionName, :amount, :firstCreatedAt, :lastCreatedAt, :blockOffset)
+      """;
+
+  private final JournalArchiveProperties properties;
+  private final JournalArchiveJpaRepository journalArchiveJpaRepository;
+  private final NamedParameterJdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<JournalArchive> findArchives() {
+    return journalArchiveJpaRepository.findAll().stream()
+        .map(JournalArchiveJpaEntity::toDomain)
+        .toList();
+  }
+
+  @Override
+  public Writer openWriter(String partitionName) {
+    try {
+      return new ArchiveWriter(partitionName);
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to open journal archive: " + partitionName, e);
+    }
+  }
+
+  @Override
+  public void save(JournalArchive archive) {
+    journalArchiveJpaRepository.save(JournalArchiveJpaEntity.fromDomain(archive));
+  }
+
+  @Override
+  public List<JournalArchiveAccount> findAccounts(Collection<Long> accountIds) {
+    if (accountIds.isEmpty()) {
+      return List.of();
+    }
+    return jdbcTemplate.query(
+        """
+        SELECT partition_name, account_id, amount, first_created_at, last_created_at, block_offset
+          FROM journal_archive_accounts
+         WHERE account_id IN (:accountIds)
+        """,
+        Map.of("accountIds", accountIds),
+        (rs, rowNum) ->
+            new JournalArchiveAccount(
+                rs.getString("partition_name"),
+                rs.getLong("account_id"),
+                Money.of(rs.getBigDecimal("amount")),
+                rs.getTimestamp("first_created_at").toInstant(),
+                rs.getTimestamp("last_created_at").toInstant(),
+                rs.getLong("block_offset")));
+  }
+
+  @Override
+  public List<JournalEntry> readEntries(JournalArchive archive, JournalArchiveAccount account) {
+    try {
+      return JournalArchiveFile.read(
+          Path.of(archive.location()), account.blockOffset(), account.accountId());
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to read journal archive: " + archive.location(), e);
+    }
+  }
+
+  /** 임시 파일에 쓴 뒤 {@link #finish}에서 원래 이름으로 옮기므로, 중간에 실패해도 이전 보관 파일이 남습니다. */
+  private final class ArchiveWriter implements Writer {
+
+    private final String partitionName;
+    private final Path path;
+    private final Path tempPath;
+    private final JournalArchiveFile.BlockWriter file;
+    private final List<Map<String, Object>> pendingAccounts = new ArrayList<>();
+
+    private Long accountId;
+    private Money accountAmount;
+    private Instant accountFirstCreatedAt;
+    private Instant accountLastCreatedAt;
+    private long accountBlockOffset;
+
+    private Instant minCreatedAt;
+    private Instant maxCreatedAt;
+    private long rowCount;
+    private boolean finished;
+
+    private ArchiveWriter(String partitionName) throws IOException {
+      this.partitionName = partitionName;
+      this.path = properties.directory().resolve(partitionName + ".csv.gz");
+      this.tempPath = properties.directory().resolve(partitionName + ".csv.gz.tmp");
+      jdbcTemplate.update(
+          "DELETE FROM journal_archive_accounts WHERE partition_name = :partitionName",
+          Map.of("partitionName", partitionName));
+      Files.createDirectories(properties.directory());
+      this.file = JournalArchiveFile.create(tempPath, properties.blockRows());
+    }
+
+    @Override
+    public void append(JournalEntry entry) {
+      try {
+        if (!entry.getAccountId().equals(accountId)) {
+          flushAccount();
+          accountId = entry.getAccountId();
+          accountAmount = Money.ZERO;
+          accountFirstCreatedAt = entry.getCreatedAt();
+          accountBlockOffset = file.startAccount();
+        }
+        file.write(entry);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to write journal archive: " + tempPath, e);
+      }
+      accountAmount = accountAmount.plus(entry.signedAmount());
+      accountLastCreatedAt = entry.getCreatedAt();
+      if (minCreatedAt == null || entry.getCreatedAt().isBefore(minCreatedAt)) {
+        minCreatedAt = entry.getCreatedAt();
+      }
+      if (maxCreatedAt == null || entry.getCreatedAt().isAfter(maxCreatedAt)) {
+        maxCreatedAt = entry.getCreatedAt();
+      }
+      rowCount++;
+    }
+
+    @Override
+    public JournalArchive finish(Instant now) {
+      if (rowCount == 0) {
+        throw new IllegalStateException("Cannot archive empty partition: " + partitionName);
+      }
+      flushAccount();
+      insertPendingAccounts();
+      try {
+        file.close();
+        Files.move(tempPath, path, StandardCopyOption.REPLACE_EXISTING);
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to complete journal archive: " + path, e);
+      }
+      finished = true;
+
+      JournalArchive archive =
+          new JournalArchive(
+              partitionName,
+              minCreatedAt,
+              maxCreatedAt,
+              rowCount,
+              path.toString(),
+              JournalArchive.Status.WRITTEN,
+              now);
+      save(archive);
+      return archive;
+    }
+
+    @Override
+    public void close() {
+      if (finished) {
+        return;
+      }
+      try {
+        file.close();
+        Files.deleteIfExists(tempPath);
+      } catch (IOException e) {
+        log.warn("Failed to clean up journal archive: {}", tempPath, e);
+      }
+    }
+
+    private void flushAccount() {
+      if (accountId == null) {
+        return;
+      }
+      pendingAccounts.add(
+          Map.of(
+              "accountId", accountId,
+              "partitionName", partitionName,
+              "amount", accountAmount.toBigDecimal(),
+              "firstCreatedAt", Timestamp.from(accountFirstCreatedAt),
+              "lastCreatedAt", Timestamp.from(accountLastCreatedAt),
+              "blockOffset", accountBlockOffset));
+      if (pendingAccounts.size() >= ACCOUNT_BATCH_SIZE) {
+        insertPendingAccounts();
+      }
+    }
+
+    private void insertPendingAccounts() {
+      if (pendingAccounts.isEmpty()) {
+        return;
+      }
+      @SuppressWarnings("unchecked")
+      Map<String, Object>[] batch = pendingAccounts.toArray(Map[]::new);
+      jdbcTemplate.batchUpdate(INSERT_ACCOUNT, batch);
+      pendingAccounts.clear();
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.securities.kuku.ledger.adapter.out.event;
+
+import com.securities.kuku.ledger.application.port.out.OutboxPublishPort;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 이벤트를 같은 프로세스의 Spring 이벤트 리스너로 발행합니다.
+ *
+ * <p>메시지 브로커 어댑터가 붙기 전까지의 기본 구현입니다. 리스너는 동기로 호출되며, 리스너가 예외를 던지면 발행 실패로 처리됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ApplicationEventOutboxPublisher implements OutboxPublishPort {
+
+  private final ApplicationEventPublisher applicationEventPublisher;
+
+  @Override
+  public void publish(OutboxEvent event) {
+    applicationEventPublisher.publishEvent(event);
+  }
+}
@@ -1,6 +1,25 @@
 package com.securities.kuku.ledger.adapter.out.persistence;
 
 import com.securities.kuku.ledger.adapter.out.persistence.entity.AccountJpaEntity;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, Long> {}
+public interface AccountJpaRepository extends JpaRepository<AccountJpaEntity, Long> {
+
+  @Query("SELECT a.id FROM AccountJpaEntity a WHERE a.id > :afterId ORDER BY a.id")
+  List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+  @Query(
+      "SELECT a.id FROM AccountJpaEntity a WHERE a.id > :afterId AND a.id <= :toId ORDER BY a.id")
+  List<Long> findIdsBetween(
+      @Param("afterId") Long afterId, @Param("toId") Long toId, Pageable pageable);
+
+  @Query("SELECT MIN(a.id) FROM AccountJpaEntity a")
+  Long findMinId();
+
+  @Query("SELECT MAX(a.id) FROM AccountJpaEntity a")
+  Long findMaxId();
+}
@@ -3,8 +3,11 @@ package com.securities.kuku.ledger.adapter.out.persistence;
 import com.securities.kuku.ledger.adapter.out.persistence.entity.AccountJpaEntity;
 import com.securities.kuku.ledger.application.port.out.AccountPort;
 import com.securities.kuku.ledger.domain.Account;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,4 +20,28 @@ public class AccountPersistenceAdapter implements AccountPort {
   public Optional<Account> findById(Long accountId) {
     return accountJpaRepository.findById(accountId).map(AccountJpaEntity::toDomain);
   }
+
+  @Override
+  public List<Long> findIdsAfter(Long afterId, int limit) {
+    return accountJpaRepository.findIdsAfter(afterId, PageRequest.ofSize(limit));
+  }
+
+  @Override
+  public List<Long> findIdsBetween(Long afterId, Long toId, int limit) {
+    return accountJpaRepository.findIdsBetween(afterId, toId, PageRequest.ofSize(limit));
+  }
+
+  @Override
+  public OptionalLong findMinId() {
+    return toOptional(accountJpaRepository.findMinId());
+  }
+
+  @Override
+  public OptionalLong findMaxId() {
+    return toOptional(accountJpaRepository.findMaxId());
+  }
+
+  private static OptionalLong toOptional(Long id) {
+    return id == null ? OptionalLong.empty() : OptionalLong.of(id);
+  }
 }
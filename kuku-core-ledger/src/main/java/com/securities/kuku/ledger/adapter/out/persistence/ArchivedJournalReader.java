@@ -0,0 +1,169 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.JournalArchivePort;
+import com.securities.kuku.ledger.domain.JournalArchive;
+import com.securities.kuku.ledger.domain.JournalArchiveAccount;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 보관 파일로 옮긴 분개를 라이브 테이블 조회 결과에 합칩니다.
+ *
+ * <p>보관된 적이 없으면 {@code journal_archives}만 조회하고 끝납니다. 합계는 계좌 요약으로 구하고, 구간 경계가 계좌의 보관 분개 사이에 걸칠
+ * 때에만 보관 파일을 읽습니다. 목록은 라이브 분개와 보관 분개를 최신순으로 합치되, 결과가 보관 구간에 닿을 때에만 보관 파일을 엽니다.
+ */
+@Component
+@RequiredArgsConstructor
+class ArchivedJournalReader {
+
+  static final Comparator<JournalEntry> NEWEST_FIRST =
+      Comparator.comparing(JournalEntry::getCreatedAt)
+          .thenComparing(JournalEntry::getId)
+          .reversed();
+
+  private final JournalArchivePort journalArchivePort;
+
+  /** 보관 분개 중 {@code after < createdAt <= upTo}인 분개의 계좌별 부호 있는 합계. */
+  Map<Long, Money> sumSignedAmount(Collection<Long> accountIds, Instant after, Instant upTo) {
+    Map<String, JournalArchive> archives = findArchived(after, upTo);
+    if (archives.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, Money> sums = new HashMap<>();
+    for (JournalArchiveAccount account : journalArchivePort.findAccounts(accountIds)) {
+      JournalArchive archive = archives.get(account.partitionName());
+      if (archive == null || account.isOutside(after, upTo)) {
+        continue;
+      }
+      Money amount =
+          account.isWithin(after, upTo)
+              ? account.amount()
+              : journalArchivePort.readEntries(archive, account).stream()
+                  .filter(
+                      entry ->
+                          entry.getCreatedAt().isAfter(after)
+                              && !entry.getCreatedAt().isAfter(upTo))
+                  .map(JournalEntry::signedAmount)
+                  .reduce(Money.ZERO, Money::plus);
+      sums.merge(account.accountId(), amount, Money::plus);
+    }
+    return sums;
+  }
+
+  /**
+   * 라이브 분개와 보관 분개를 {@code (createdAt, id)} 내림차순으로 합칩니다.
+   *
+   * @param live 라이브 테이블의 분개 (같은 순서)
+   * @param beforeCreatedAt 이 위치보다 앞선 보관 분개만 포함. {@code null}이면 전부
+   * @param beforeId {@code beforeCreatedAt}과 함께 쓰는 위치의 분개 ID
+   */
+  Iterator<JournalEntry> mergeNewestFirst(
+      Long accountId, Iterator<JournalEntry> live, Instant beforeCreatedAt, Long beforeId) {
+    Instant upTo = beforeCreatedAt == null ? Instant.MAX : beforeCreatedAt;
+    Map<String, JournalArchive> archives = findArchived(Instant.MIN, upTo);
+    if (archives.isEmpty()) {
+      return live;
+    }
+    List<JournalArchiveAccount> accounts =
+        journalArchivePort.findAccounts(List.of(accountId)).stream()
+            .filter(account -> archives.containsKey(account.partitionName()))
+            .filter(account -> !account.firstCreatedAt().isAfter(upTo))
+            .sorted(Comparator.comparing(JournalArchiveAccount::lastCreatedAt).reversed())
+            .toList();
+    return new NewestFirstMerge(
+        live,
+        accounts,
+        account ->
+            journalArchivePort.readEntries(archives.get(account.partitionName()), account).stream()
+                .filter(entry -> isBefore(entry, beforeCreatedAt, beforeId))
+                .sorted(NEWEST_FIRST)
+                .iterator());
+  }
+
+  private static boolean isBefore(JournalEntry entry, Instant createdAt, Long id) {
+    if (createdAt == null) {
+      return true;
+    }
+    int order = entry.getCreatedAt().compareTo(createdAt);
+    return order < 0 || (order == 0 && entry.getId() < id);
+  }
+
+  private Map<String, JournalArchive> findArchived(Instant after, Instant upTo) {
+    return journalArchivePort.findArchives().stream()
+        .filter(JournalArchive::isArchived)
+        .filter(archive -> archive.overlaps(after, upTo))
+        .collect(Collectors.toMap(JournalArchive::partitionName, Function.identity()));
+  }
+
+  /**
+   * 여러 최신순 목록을 하나로 합칩니다. 보관분은 가장 늦은 분개가 지금까지의 다음 후보보다 늦거나 같을 때 비로소 읽습니다.
+   *
+   * <p>파티션이 TSID 범위로 나뉘어 월 경계 근처에서는 보관분끼리, 또 라이브 분개와 시각이 겹칠 수 있으므로 이어 붙이지 않고 병합합니다.
+   */
+  private static final class NewestFirstMerge implements Iterator<JournalEntry> {
+
+    private final PriorityQueue<Source> sources =
+        new PriorityQueue<>(Comparator.comparing(Source::head, NEWEST_FIRST));
+    private final Deque<JournalArchiveAccount> unopened;
+    private final Function<JournalArchiveAccount, Iterator<JournalEntry>> opener;
+
+    private NewestFirstMerge(
+        Iterator<JournalEntry> live,
+        List<JournalArchiveAccount> archived,
+        Function<JournalArchiveAccount, Iterator<JournalEntry>> opener) {
+      this.unopened = new ArrayDeque<>(archived);
+      this.opener = opener;
+      add(live);
+    }
+
+    @Override
+    public boolean hasNext() {
+      openReachable();
+      return !sources.isEmpty();
+    }
+
+    @Override
+    public JournalEntry next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+      Source source = sources.poll();
+      JournalEntry entry = source.head;
+      add(source.rest);
+      return entry;
+    }
+
+    private void openReachable() {
+      while (!unopened.isEmpty() && (sources.isEmpty() || reaches(unopened.peekFirst()))) {
+        add(opener.apply(unopened.pollFirst()));
+      }
+    }
+
+    private boolean reaches(JournalArchiveAccount archived) {
+      return !archived.lastCreatedAt().isBefore(sources.peek().head.getCreatedAt());
+    }
+
+    private void add(Iterator<JournalEntry> iterator) {
+      if (iterator.hasNext()) {
+        sources.add(new Source(iterator.next(), iterator));
+      }
+    }
+
+    private record Source(JournalEntry head, Iterator<JournalEntry> rest) {}
+  }
+}
@@ -0,0 +1,214 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.config.BalanceCacheProperties;
+import com.securities.kuku.ledger.domain.Balance;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Clock;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionExecution;
+import org.springframework.transaction.TransactionExecutionListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 계좌 ID별 잔액을 {@code version}과 함께 기억하는 크기 제한 LRU 캐시.
+ *
+ * <p>쓰기 트랜잭션이 끝나면 항목을 무효화 표시로 바꾸고 새 번호를 매깁니다. 조회는 DB를 읽기 전에 {@link #beginLoad()}로 번호를 받아
+ * 두었다가, 읽는 사이에 그 계좌가 무효화되었으면 결과를 넣지 않습니다. 그래서 쓰기보다 먼저 시작한 조회가 옛 잔액을 다시 넣을 수 없습니다. 무효화
+ * 표시가 크기 제한으로 밀려나면, 그 번호보다 먼저 시작한 조회는 어느 계좌든 넣지 않습니다.
+ *
+ * <p>트랜잭션 안의 조회는 트랜잭션 시작 시점의 스냅샷을 읽을 수 있으므로(REPEATABLE READ), 조회 직전이 아니라 트랜잭션이 시작될 때의 번호를
+ * 씁니다. 격리 수준을 직접 지정한 트랜잭션(대사 등)은 한 스냅샷 안에서 잔액과 분개를 맞춰 읽어야 하므로 캐시를 거치지 않습니다.
+ *
+ * <p>무효화는 이 인스턴스의 쓰기에만 적용됩니다. 다른 인스턴스의 쓰기 뒤에는 {@code timeToLive} 동안 옛 잔액이 조회될 수 있으므로 단일
+ * 인스턴스에서만 켭니다. 캐시에서 읽은 잔액으로 갱신하면 어댑터가 {@code version}을 비교해 Optimistic Lock 충돌로 돌려보냅니다.
+ *
+ * <ul>
+ *   <li>{@code ledger.balance.cache.requests}: 조회 수 ({@code result}=hit|miss)
+ *   <li>{@code ledger.balance.cache.evictions}: 밀려나거나 만료된 항목 수 ({@code cause}=size|expired)
+ *   <li>{@code ledger.balance.cache.stale}: 옛 잔액으로 판명된 수 ({@code source}=load: 조회 중 무효화되어 넣지 않음,
+ *       write: 갱신 시 version 불일치)
+ *   <li>{@code ledger.balance.cache.size}: 무효화 표시를 포함한 항목 수
+ * </ul>
+ */
+@Component
+public class BalanceCache implements TransactionExecutionListener {
+
+  static final String REQUESTS = "ledger.balance.cache.requests";
+  static final String EVICTIONS = "ledger.balance.cache.evictions";
+  static final String STALE = "ledger.balance.cache.stale";
+  static final String SIZE = "ledger.balance.cache.size";
+
+  private final boolean enabled;
+  private final long timeToLiveMillis;
+  private final Clock clock;
+  private final AtomicLong stamps = new AtomicLong();
+  private final Map<Long, Entry> entries;
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter sizeEvictions;
+  private final Counter expiredEvictions;
+  private final Counter staleLoads;
+  private final Counter staleWrites;
+
+  // 밀려난 무효화 표시 중 가장 큰 번호. entries와 함께 this로 보호합니다.
+  private long evictedStamp;
+
+  public BalanceCache(
+      BalanceCacheProperties properties, Clock clock, MeterRegistry meterRegistry) {
+    this.enabled = properties.enabled();
+    this.timeToLiveMillis = properties.timeToLive().toMillis();
+    this.clock = clock;
+    int maximumSize = properties.maximumSize();
+    this.entries =
+        new LinkedHashMap<>(16, 0.75f, true) {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+            if (size() <= maximumSize) {
+              return false;
+            }
+            evictedStamp = Math.max(evictedStamp, eldest.getValue().stamp());
+            sizeEvictions.increment();
+            return true;
+          }
+        };
+
+    this.hits = Counter.builder(REQUESTS).tag("result", "hit").register(meterRegistry);
+    this.misses = Counter.builder(REQUESTS).tag("result", "miss").register(meterRegistry);
+    this.sizeEvictions = Counter.builder(EVICTIONS).tag("cause", "size").register(meterRegistry);
+    this.expiredEvictions =
+        Counter.builder(EVICTIONS).tag("cause", "expired").register(meterRegistry);
+    this.staleLoads = Counter.builder(STALE).tag("source", "load").register(meterRegistry);
+    this.staleWrites = Counter.builder(STALE).tag("source", "write").register(meterRegistry);
+    Gauge.builder(SIZE, this, BalanceCache::size).register(meterRegistry);
+  }
+
+  public synchronized Optional<Balance> get(Long accountId) {
+    if (isBypassed()) {
+      return Optional.empty();
+    }
+    Entry entry = entries.get(accountId);
+    if (entry != null && entry.balance() != null && entry.isExpired(clock.millis())) {
+      // 조회로 넣은 항목의 번호는 그 조회가 시작된 번호이므로, 지워도 더 최근의 무효화를 잃지 않습니다.
+      entries.remove(accountId);
+      expiredEvictions.increment();
+      entry = null;
+    }
+    if (entry == null || entry.balance() == null) {
+      misses.increment();
+      return Optional.empty();
+    }
+    hits.increment();
+    return Optional.of(entry.balance());
+  }
+
+  /** DB 조회 직전에 호출하여, 조회 결과를 {@link #put}할 때 넘길 번호를 받습니다. */
+  public long beginLoad() {
+    Object transactionStamp = TransactionSynchronizationManager.getResource(this);
+    return transactionStamp != null ? (Long) transactionStamp : stamps.get();
+  }
+
+  @Override
+  public void afterBegin(TransactionExecution transaction, Throwable beginFailure) {
+    if (!enabled
+        || beginFailure != null
+        || !TransactionSynchronizationManager.isSynchronizationActive()
+        || TransactionSynchronizationManager.hasResource(this)) {
+      return;
+    }
+    TransactionSynchronizationManager.bindResource(this, stamps.get());
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(BalanceCache.this);
+          }
+        });
+  }
+
+  /** DB에서 읽은 잔액을 넣습니다. 읽기 시작한 뒤 무효화되었거나 더 새 version이 있으면 넣지 않습니다. */
+  public synchronized void put(Balance balance, long loadStamp) {
+    if (isBypassed()) {
+      return;
+    }
+    Entry current = entries.get(balance.getAccountId());
+    long invalidatedAt = current == null ? evictedStamp : current.stamp();
+    if (loadStamp < invalidatedAt) {
+      staleLoads.increment();
+      return;
+    }
+    if (current != null
+        && current.balance() != null
+        && versionOf(current.balance()) > versionOf(balance)) {
+      return;
+    }
+    entries.put(
+        balance.getAccountId(),
+        new Entry(balance, loadStamp, clock.millis() + timeToLiveMillis));
+  }
+
+  /**
+   * 잔액을 쓴 계좌의 항목을 무효화합니다.
+   *
+   * <p>바로 한 번 무효화하여 같은 트랜잭션의 이후 조회가 영속성 컨텍스트의 변경분을 읽게 하고, 트랜잭션이 끝난 뒤 다시 무효화하여 그 사이 다른
+   * 조회가 넣은 커밋 전 잔액을 지웁니다. 롤백이어도 무효화합니다.
+   */
+  public void invalidate(Collection<Long> accountIds) {
+    if (!enabled || accountIds.isEmpty()) {
+      return;
+    }
+    tombstone(accountIds);
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCompletion(int status) {
+            tombstone(accountIds);
+          }
+        });
+  }
+
+  /** 캐시에서 읽은 잔액이 DB와 달랐음을 기록하고 바로 무효화합니다. */
+  public void markStale(Long accountId) {
+    staleWrites.increment();
+    tombstone(List.of(accountId));
+  }
+
+  public synchronized int size() {
+    return entries.size();
+  }
+
+  private synchronized void tombstone(Collection<Long> accountIds) {
+    for (Long accountId : accountIds) {
+      entries.put(accountId, new Entry(null, stamps.incrementAndGet(), Long.MAX_VALUE));
+    }
+  }
+
+  private boolean isBypassed() {
+    return !enabled
+        || TransactionSynchronizationManager.getCurrentTransactionIsolationLevel() != null;
+  }
+
+  private static long versionOf(Balance balance) {
+    return balance.getVersion() == null ? -1L : balance.getVersion();
+  }
+
+  /** {@code balance}가 null이면 무효화 표시입니다. */
+  private record Entry(Balance balance, long stamp, long expiresAtMillis) {
+
+    boolean isExpired(long nowMillis) {
+      return nowMillis >= expiresAtMillis;
+    }
+  }
+}
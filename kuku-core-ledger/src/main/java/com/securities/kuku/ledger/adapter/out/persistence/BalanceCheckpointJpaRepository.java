@@ -0,0 +1,30 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceCheckpointId;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceCheckpointJpaEntity;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BalanceCheckpointJpaRepository
+    extends JpaRepository<BalanceCheckpointJpaEntity, BalanceCheckpointId> {
+
+  // PK (account_id, checkpoint_at)를 역순으로 읽어 첫 행에서 멈춥니다.
+  Optional<BalanceCheckpointJpaEntity>
+      findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(
+          Long accountId, Instant at);
+
+  @Query(
+      """
+      SELECT c FROM BalanceCheckpointJpaEntity c
+       WHERE c.accountId IN :accountIds
+         AND c.checkpointAt = (SELECT MAX(l.checkpointAt) FROM BalanceCheckpointJpaEntity l
+                                WHERE l.accountId = c.accountId AND l.checkpointAt <= :at)
+      """)
+  List<BalanceCheckpointJpaEntity> findLatestByAccountIdIn(
+      @Param("accountIds") Collection<Long> accountIds, @Param("at") Instant at);
+}
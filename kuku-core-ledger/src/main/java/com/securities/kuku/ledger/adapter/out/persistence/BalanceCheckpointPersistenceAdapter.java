@@ -0,0 +1,46 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceCheckpointJpaEntity;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BalanceCheckpointPersistenceAdapter implements BalanceCheckpointPort {
+
+  private final BalanceCheckpointJpaRepository balanceCheckpointJpaRepository;
+
+  @Override
+  public Optional<BalanceCheckpoint> findLatest(Long accountId, Instant at) {
+    return balanceCheckpointJpaRepository
+        .findFirstByAccountIdAndCheckpointAtLessThanEqualOrderByCheckpointAtDesc(accountId, at)
+        .map(BalanceCheckpointJpaEntity::toDomain);
+  }
+
+  @Override
+  public Map<Long, BalanceCheckpoint> findLatestByAccountIds(
+      Collection<Long> accountIds, Instant at) {
+    if (accountIds.isEmpty()) {
+      return Map.of();
+    }
+    return balanceCheckpointJpaRepository.findLatestByAccountIdIn(accountIds, at).stream()
+        .map(BalanceCheckpointJpaEntity::toDomain)
+        .collect(Collectors.toMap(BalanceCheckpoint::getAccountId, Function.identity()));
+  }
+
+  @Override
+  public void saveAll(Collection<BalanceCheckpoint> checkpoints) {
+    List<BalanceCheckpointJpaEntity> entities =
+        checkpoints.stream().map(BalanceCheckpointJpaEntity::fromDomain).toList();
+    balanceCheckpointJpaRepository.saveAll(entities);
+  }
+}
@@ -0,0 +1,51 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalanceDeltaPort;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BalanceDeltaPersistenceAdapter implements BalanceDeltaPort {
+
+  private final BalanceJpaRepository balanceJpaRepository;
+  private final BalanceSlotJpaRepository balanceSlotJpaRepository;
+  private final BalanceStripes balanceStripes;
+  private final BalanceCache balanceCache;
+
+  @Override
+  public boolean increase(Long accountId, Money amount, Long transactionId, Instant now) {
+    if (balanceStripes.isStriped(accountId)) {
+      int slotNo = balanceStripes.selectSlot(accountId, transactionId);
+      return balanceSlotJpaRepository.addAmount(
+              accountId, slotNo, amount.toBigDecimal(), transactionId, now)
+          == 1;
+    }
+    balanceCache.invalidate(List.of(accountId));
+    return balanceJpaRepository.increaseAmount(
+            accountId, amount.toBigDecimal(), transactionId, now)
+        == 1;
+  }
+
+  @Override
+  public boolean decreaseIfAvailable(
+      Long accountId, Money amount, Long transactionId, Instant now) {
+    if (balanceStripes.isStriped(accountId)) {
+      // 합치기와 같은 순서(slot_no)로 슬롯 행을 먼저 잠가, 차감 조건이 보는 슬롯 합계가 커밋까지 바뀌지 않게 합니다.
+      BigDecimal slotTotal =
+          balanceSlotJpaRepository.lockAmountsByAccountId(accountId).stream()
+              .reduce(BigDecimal.ZERO, BigDecimal::add);
+      return balanceJpaRepository.decreaseStripedAmountIfAvailable(
+              accountId, amount.toBigDecimal(), slotTotal, transactionId, now)
+          == 1;
+    }
+    balanceCache.invalidate(List.of(accountId));
+    return balanceJpaRepository.decreaseAmountIfAvailable(
+            accountId, amount.toBigDecimal(), transactionId, now)
+        == 1;
+  }
+}
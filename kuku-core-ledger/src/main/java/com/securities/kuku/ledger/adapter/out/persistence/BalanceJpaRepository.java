@@ -1,11 +1,91 @@
 package com.securities.kuku.ledger.adapter.out.persistence;
 
 import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceJpaEntity;
+import java.math.BigDecimal;
+import java.time.Instant;
 import java.util.List;
 import java.util.Set;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface BalanceJpaRepository extends JpaRepository<BalanceJpaEntity, Long> {
 
   List<BalanceJpaEntity> findByAccountIdIn(Set<Long> accountIds);
+
+  // 호출자가 읽은 version일 때만 덮어씁니다. 0건이면 행이 없거나 그 사이 다른 쓰기가 있었다는 뜻입니다.
+  @Modifying
+  @Query(
+      """
+      UPDATE BalanceJpaEntity b
+         SET b.amount = :amount,
+             b.holdAmount = :holdAmount,
+             b.version = b.version + 1,
+             b.lastTransactionId = :transactionId,
+             b.updatedAt = :updatedAt
+       WHERE b.accountId = :accountId
+         AND b.version = :version
+      """)
+  int updateIfVersion(
+      @Param("accountId") Long accountId,
+      @Param("amount") BigDecimal amount,
+      @Param("holdAmount") BigDecimal holdAmount,
+      @Param("transactionId") Long transactionId,
+      @Param("updatedAt") Instant updatedAt,
+      @Param("version") Long version);
+
+  // version도 함께 올려야 같은 행을 @Version으로 갱신하는 다른 경로(역분개 등)가 충돌을 감지합니다.
+  @Modifying
+  @Query(
+      """
+      UPDATE BalanceJpaEntity b
+         SET b.amount = b.amount + :amount,
+             b.version = b.version + 1,
+             b.lastTransactionId = :transactionId,
+             b.updatedAt = :now
+       WHERE b.accountId = :accountId
+      """)
+  int increaseAmount(
+      @Param("accountId") Long accountId,
+      @Param("amount") BigDecimal amount,
+      @Param("transactionId") Long transactionId,
+      @Param("now") Instant now);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE BalanceJpaEntity b
+         SET b.amount = b.amount - :amount,
+             b.version = b.version + 1,
+             b.lastTransactionId = :transactionId,
+             b.updatedAt = :now
+       WHERE b.accountId = :accountId
+         AND b.amount - b.holdAmount >= :amount
+      """)
+  int decreaseAmountIfAvailable(
+      @Param("accountId") Long accountId,
+      @Param("amount") BigDecimal amount,
+      @Param("transactionId") Long transactionId,
+      @Param("now") Instant now);
+
+  // 분산 계좌는 슬롯 합계까지 더해 가용 잔액을 판단합니다. 슬롯은 합치기(BalanceSlotConsolidator)가 0으로 되돌리므로, 호출자는 슬롯
+  // 행을 잠근 뒤 읽은 합계를 넘겨야 합니다. 잠그지 않고 읽은 합계에는 이미 balances 행으로 옮겨진 금액이 함께 들어 있을 수 있습니다.
+  @Modifying
+  @Query(
+      """
+      UPDATE BalanceJpaEntity b
+         SET b.amount = b.amount - :amount,
+             b.version = b.version + 1,
+             b.lastTransactionId = :transactionId,
+             b.updatedAt = :now
+       WHERE b.accountId = :accountId
+         AND b.amount - b.holdAmount + :slotTotal >= :amount
+      """)
+  int decreaseStripedAmountIfAvailable(
+      @Param("accountId") Long accountId,
+      @Param("amount") BigDecimal amount,
+      @Param("slotTotal") BigDecimal slotTotal,
+      @Param("transactionId") Long transactionId,
+      @Param("now") Instant now);
 }
@@ -1,44 +1,137 @@
 package com.securities.kuku.ledger.adapter.out.persistence;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceJpaEntity;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceSlotJpaEntity;
+import com.securities.kuku.ledger.application.port.out.BalanceConflictException;
 import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.domain.Balance;
+import jakarta.persistence.EntityManager;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.ZoneOffset;
+import java.util.Calendar;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.TimeZone;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
 
+/**
+ * 잔액 영속성 어댑터.
+ *
+ * <p>분산 계좌({@link BalanceStripes})는 {@code balances} 행과 슬롯 합계를 더한 논리 잔액으로 조회되며, 호출자는 분산 여부를 알
+ * 필요가 없습니다. 갱신 시에는 조회 시점 대비 증가분만 슬롯 하나에 원자적으로 더하고, 차감은 {@code balances} 행의 {@code @Version}으로
+ * 직렬화합니다. 입금끼리는 서로 다른 슬롯 행을 잠그므로 처리량이 슬롯 수만큼 늘어납니다.
+ *
+ * <p>분산되지 않은 계좌의 조회는 {@link BalanceCache}를 거칩니다. 갱신은 행을 다시 읽지 않고 호출자가 본 {@code version}을 조건으로
+ * 직접 UPDATE하며, 여러 건은 JDBC 배치 하나로 보냅니다. 갱신된 행이 없으면 그 사이 다른 쓰기가 있었던 것이므로 Optimistic Lock 충돌로
+ * 돌려보내 {@code @Retryable}이 다시 시도하게 합니다.
+ *
+ * <p>충돌은 어느 경로든 계좌 ID를 담은 {@link BalanceConflictException}으로 알립니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class BalancePersistenceAdapter implements BalancePort {
 
+  private static final String UPDATE_IF_VERSION_SQL =
+      """
+      UPDATE balances
+         SET amount = ?,
+             hold_amount = ?,
+             version = version + 1,
+             last_transaction_id = ?,
+             updated_at = ?
+       WHERE account_id = ?
+         AND version = ?
+      """;
+
   private final BalanceJpaRepository balanceJpaRepository;
+  private final BalanceSlotJpaRepository balanceSlotJpaRepository;
+  private final BalanceStripes balanceStripes;
+  private final BalanceCache balanceCache;
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
 
   @Override
   public Optional<Balance> findByAccountId(Long accountId) {
-    return balanceJpaRepository.findById(accountId).map(BalanceJpaEntity::toDomain);
+    if (balanceStripes.isStriped(accountId)) {
+      return balanceJpaRepository
+          .findById(accountId)
+          .map(entity -> toLogicalBalance(entity, slotTotal(accountId)));
+    }
+
+    Optional<Balance> cached = balanceCache.get(accountId);
+    if (cached.isPresent()) {
+      return cached;
+    }
+    long loadStamp = balanceCache.beginLoad();
+    Optional<Balance> loaded =
+        balanceJpaRepository.findById(accountId).map(BalanceJpaEntity::toDomain);
+    loaded.ifPresent(balance -> balanceCache.put(balance, loadStamp));
+    return loaded;
   }
 
   @Override
   public Map<Long, Balance> findByAccountIds(Set<Long> accountIds) {
-    return balanceJpaRepository.findByAccountIdIn(accountIds).stream()
-        .map(BalanceJpaEntity::toDomain)
-        .collect(Collectors.toMap(Balance::getAccountId, Function.identity()));
+    Map<Long, Balance> balances = new HashMap<>();
+    Set<Long> missedIds = new HashSet<>();
+    for (Long accountId : accountIds) {
+      Optional<Balance> cached =
+          balanceStripes.isStriped(accountId) ? Optional.empty() : balanceCache.get(accountId);
+      cached.ifPresentOrElse(
+          balance -> balances.put(accountId, balance), () -> missedIds.add(accountId));
+    }
+    if (missedIds.isEmpty()) {
+      return balances;
+    }
+
+    long loadStamp = balanceCache.beginLoad();
+    Map<Long, Money> slotTotals = slotTotals(missedIds);
+    for (BalanceJpaEntity entity : balanceJpaRepository.findByAccountIdIn(missedIds)) {
+      Long accountId = entity.getAccountId();
+      if (!balanceStripes.isStriped(accountId)) {
+        Balance balance = entity.toDomain();
+        balanceCache.put(balance, loadStamp);
+        balances.put(accountId, balance);
+        continue;
+      }
+      balances.put(
+          accountId,
+          toLogicalBalance(entity, slotTotals.getOrDefault(accountId, Money.ZERO)));
+    }
+    return balances;
   }
 
   @Override
   public void update(Balance balance) {
-    BalanceJpaEntity entity =
-        balanceJpaRepository
-            .findById(balance.getAccountId())
-            .orElseThrow(
-                () -> new IllegalArgumentException("Balance not found: " + balance.getAccountId()));
-    entity.updateFrom(balance);
-    balanceJpaRepository.save(entity);
+    if (requiresEntityUpdate(balance)) {
+      updateEntity(balance);
+      return;
+    }
+    int updated =
+        balanceJpaRepository.updateIfVersion(
+            balance.getAccountId(),
+            balance.getAmount().toBigDecimal(),
+            balance.getHoldAmount().toBigDecimal(),
+            balance.getLastTransactionId(),
+            balance.getUpdatedAt(),
+            balance.getVersion());
+    if (updated == 0) {
+      throw updateFailure(balance);
+    }
+    detach(balance.getAccountId());
+    balanceCache.invalidate(List.of(balance.getAccountId()));
   }
 
   @Override
@@ -47,6 +140,79 @@ public class BalancePersistenceAdapter implements BalancePort {
       return;
     }
 
+    Map<Boolean, List<Balance>> byPath =
+        balances.stream().collect(Collectors.partitioningBy(this::requiresEntityUpdate));
+    if (!byPath.get(true).isEmpty()) {
+      updateEntities(byPath.get(true));
+    }
+    if (!byPath.get(false).isEmpty()) {
+      batchUpdateIfVersion(byPath.get(false));
+    }
+  }
+
+  // 분산 계좌는 조회 시점의 행·슬롯 금액으로 증감분을 구해야 하므로 엔티티를 읽어 갱신합니다. version이 없는 잔액은 비교할 기준이 없습니다.
+  private boolean requiresEntityUpdate(Balance balance) {
+    return balanceStripes.isStriped(balance.getAccountId()) || balance.getVersion() == null;
+  }
+
+  private void batchUpdateIfVersion(List<Balance> balances) {
+    // 영속성 컨텍스트에 쌓인 변경을 먼저 내보내 JDBC 갱신과 순서가 뒤바뀌지 않게 합니다.
+    balanceJpaRepository.flush();
+    // Hibernate가 Instant를 DATETIME에 쓰는 방식(UTC)과 같게 바인딩합니다.
+    Calendar utc = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+    int[] updateCounts =
+        jdbcTemplate.batchUpdate(
+            UPDATE_IF_VERSION_SQL,
+            balances,
+            balances.size(),
+            (ps, balance) -> {
+              ps.setBigDecimal(1, balance.getAmount().toBigDecimal());
+              ps.setBigDecimal(2, balance.getHoldAmount().toBigDecimal());
+              ps.setObject(3, balance.getLastTransactionId(), Types.BIGINT);
+              ps.setTimestamp(4, Timestamp.from(balance.getUpdatedAt()), utc);
+              ps.setLong(5, balance.getAccountId());
+              ps.setLong(6, balance.getVersion());
+            })[0];
+
+    // 드라이버가 건별 결과를 모르면 SUCCESS_NO_INFO(-2)를 돌려주므로, 0건일 때만 실패로 봅니다.
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == 0) {
+        throw updateFailure(balances.get(i));
+      }
+    }
+    List<Long> accountIds = balances.stream().map(Balance::getAccountId).toList();
+    accountIds.forEach(this::detach);
+    balanceCache.invalidate(accountIds);
+  }
+
+  private RuntimeException updateFailure(Balance balance) {
+    Long accountId = balance.getAccountId();
+    if (!balanceJpaRepository.existsById(accountId)) {
+      return new IllegalArgumentException("Balance not found: " + accountId);
+    }
+    balanceCache.markStale(accountId);
+    return new BalanceConflictException(accountId);
+  }
+
+  // 직접 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션의 이후 조회가 갱신 전 엔티티를 받지 않도록 떼어 냅니다.
+  private void detach(Long accountId) {
+    entityManager.detach(entityManager.getReference(BalanceJpaEntity.class, accountId));
+  }
+
+  private void updateEntity(Balance balance) {
+    BalanceJpaEntity entity =
+        balanceJpaRepository
+            .findById(balance.getAccountId())
+            .orElseThrow(
+                () -> new IllegalArgumentException("Balance not found: " + balance.getAccountId()));
+    requireReadVersion(entity, balance);
+    apply(entity, balance);
+    balanceJpaRepository.save(entity);
+    flushEntities();
+    balanceCache.invalidate(List.of(balance.getAccountId()));
+  }
+
+  private void updateEntities(Collection<Balance> balances) {
     Set<Long> accountIds = balances.stream().map(Balance::getAccountId).collect(Collectors.toSet());
 
     Map<Long, BalanceJpaEntity> entityMap =
@@ -59,9 +225,104 @@ public class BalancePersistenceAdapter implements BalancePort {
           if (entity == null) {
             throw new IllegalArgumentException("Balance not found: " + balance.getAccountId());
           }
-          entity.updateFrom(balance);
+          requireReadVersion(entity, balance);
+          apply(entity, balance);
         });
 
     balanceJpaRepository.saveAll(entityMap.values());
+    flushEntities();
+    balanceCache.invalidate(accountIds);
+  }
+
+  // @Version 충돌은 커밋 때 어댑터 밖에서 드러나므로, 여기서 내보내 충돌한 계좌를 담은 예외로 바꿉니다.
+  private void flushEntities() {
+    try {
+      balanceJpaRepository.flush();
+    } catch (ObjectOptimisticLockingFailureException e) {
+      if (e.getIdentifier() instanceof Long accountId) {
+        throw new BalanceConflictException(accountId, e);
+      }
+      throw e;
+    }
+  }
+
+  // 캐시에서 읽은 잔액이 그 사이 다른 쓰기로 바뀌었다면, 행을 갱신하기 전에 충돌로 돌려보내 재시도하게 합니다.
+  private void requireReadVersion(BalanceJpaEntity entity, Balance balance) {
+    if (balance.getVersion() == null || Objects.equals(entity.getVersion(), balance.getVersion())) {
+      return;
+    }
+    balanceCache.markStale(balance.getAccountId());
+    throw new BalanceConflictException(balance.getAccountId());
+  }
+
+  private void apply(BalanceJpaEntity entity, Balance balance) {
+    if (!balanceStripes.isStriped(balance.getAccountId())) {
+      entity.updateFrom(balance);
+      return;
+    }
+
+    // 같은 트랜잭션에서 이미 읽은 슬롯은 영속성 컨텍스트의 값(조회 시점)으로 반환되므로, 호출자가 본 논리 잔액 대비 증감분을 구할 수 있습니다.
+    Money rowAmount = Money.of(entity.getAmount());
+    Money delta = balance.getAmount().minus(rowAmount.plus(slotTotal(balance.getAccountId())));
+    boolean holdUnchanged = Money.of(entity.getHoldAmount()).equals(balance.getHoldAmount());
+
+    if (delta.isPositive() && holdUnchanged) {
+      int slotNo =
+          balanceStripes.selectSlot(balance.getAccountId(), balance.getLastTransactionId());
+      balanceSlotJpaRepository.addAmount(
+          balance.getAccountId(),
+          slotNo,
+          delta.toBigDecimal(),
+          balance.getLastTransactionId(),
+          balance.getUpdatedAt());
+      return;
+    }
+
+    // 차감과 보류 변경은 balances 행에 반영하여 @Version으로 직렬화합니다. 동시 입금은 잔액을 늘리기만 하므로 검증 결과를 깨지 않습니다.
+    entity.updateFrom(
+        new Balance(
+            balance.getAccountId(),
+            rowAmount.plus(delta),
+            balance.getHoldAmount(),
+            balance.getVersion(),
+            balance.getLastTransactionId(),
+            balance.getUpdatedAt()));
+  }
+
+  private Money slotTotal(Long accountId) {
+    if (!balanceStripes.isStriped(accountId)) {
+      return Money.ZERO;
+    }
+    return balanceSlotJpaRepository.findByAccountId(accountId).stream()
+        .map(slot -> Money.of(slot.getAmount()))
+        .reduce(Money.ZERO, Money::plus);
+  }
+
+  private Map<Long, Money> slotTotals(Set<Long> accountIds) {
+    Set<Long> stripedIds =
+        accountIds.stream().filter(balanceStripes::isStriped).collect(Collectors.toSet());
+    if (stripedIds.isEmpty()) {
+      return Map.of();
+    }
+    return balanceSlotJpaRepository.findByAccountIdIn(stripedIds).stream()
+        .collect(
+            Collectors.groupingBy(
+                BalanceSlotJpaEntity::getAccountId,
+                Collectors.reducing(
+                    Money.ZERO, slot -> Money.of(slot.getAmount()), Money::plus)));
+  }
+
+  private Balance toLogicalBalance(BalanceJpaEntity entity, Money slotTotal) {
+    Balance balance = entity.toDomain();
+    if (slotTotal.isZero()) {
+      return balance;
+    }
+    return new Balance(
+        balance.getAccountId(),
+        balance.getAmount().plus(slotTotal),
+        balance.getHoldAmount(),
+        balance.getVersion(),
+        balance.getLastTransactionId(),
+        balance.getUpdatedAt());
   }
 }
@@ -0,0 +1,33 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.common.money.Money;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/** {@code ledger.balance.striping.consolidation-interval}을 지정한 경우에만 주기적으로 슬롯을 합칩니다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.balance.striping", name = "consolidation-interval")
+public class BalanceSlotConsolidationScheduler {
+
+  private final BalanceStripes balanceStripes;
+  private final BalanceSlotConsolidator balanceSlotConsolidator;
+
+  @Scheduled(fixedDelayString = "${ledger.balance.striping.consolidation-interval}")
+  public void consolidateAll() {
+    for (Long accountId : balanceStripes.stripedAccountIds()) {
+      try {
+        Money moved = balanceSlotConsolidator.consolidate(accountId);
+        log.debug("Balance slots consolidated. accountId={}, amount={}", accountId, moved);
+      } catch (ObjectOptimisticLockingFailureException e) {
+        // 같은 순간 차감이 balances 행을 갱신했습니다. 다음 주기에 다시 합칩니다.
+        log.info("Balance slot consolidation deferred. accountId={}", accountId);
+      }
+    }
+  }
+}
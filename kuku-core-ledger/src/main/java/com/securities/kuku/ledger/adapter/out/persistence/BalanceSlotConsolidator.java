@@ -0,0 +1,57 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceJpaEntity;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceSlotJpaEntity;
+import com.securities.kuku.ledger.domain.Balance;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 분산 계좌의 슬롯 금액을 {@code balances} 행으로 합칩니다.
+ *
+ * <p>슬롯 행을 slot_no 순서로 잠근 뒤 옮기므로 그동안 들어온 입금은 잠금이 풀린 뒤 0이 된 슬롯에 더해집니다. 조건부 출금도 같은 순서로
+ * 슬롯 행을 먼저 잠그므로, 옮기기 전 슬롯 합계와 옮긴 뒤의 {@code balances} 행을 함께 더해 보는 일이 없습니다. 논리 잔액은 옮기기 전후로
+ * 같습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceSlotConsolidator {
+
+  private final Clock clock;
+  private final BalanceJpaRepository balanceJpaRepository;
+  private final BalanceSlotJpaRepository balanceSlotJpaRepository;
+
+  /** 슬롯 금액을 합치고 옮긴 금액을 반환합니다. */
+  @Transactional
+  public Money consolidate(Long accountId) {
+    List<BalanceSlotJpaEntity> slots =
+        balanceSlotJpaRepository.findAllForUpdateByAccountId(accountId);
+    Money total =
+        slots.stream().map(slot -> Money.of(slot.getAmount())).reduce(Money.ZERO, Money::plus);
+    if (total.isZero()) {
+      return Money.ZERO;
+    }
+
+    BalanceJpaEntity entity =
+        balanceJpaRepository
+            .findById(accountId)
+            .orElseThrow(() -> new IllegalArgumentException("Balance not found: " + accountId));
+    Instant now = clock.instant();
+    Balance balance = entity.toDomain();
+    entity.updateFrom(
+        new Balance(
+            accountId,
+            balance.getAmount().plus(total),
+            balance.getHoldAmount(),
+            balance.getVersion(),
+            balance.getLastTransactionId(),
+            now));
+    slots.forEach(slot -> slot.reset(now));
+    return total;
+  }
+}
@@ -0,0 +1,52 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceSlotId;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceSlotJpaEntity;
+import jakarta.persistence.LockModeType;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface BalanceSlotJpaRepository
+    extends JpaRepository<BalanceSlotJpaEntity, BalanceSlotId> {
+
+  List<BalanceSlotJpaEntity> findByAccountId(Long accountId);
+
+  List<BalanceSlotJpaEntity> findByAccountIdIn(Collection<Long> accountIds);
+
+  // 슬롯 행을 잠그는 쿼리는 모두 slot_no 순서로 잠가, 합치기와 출금이 서로 교착 상태에 빠지지 않게 합니다.
+  @Lock(LockModeType.PESSIMISTIC_WRITE)
+  @Query("SELECT s FROM BalanceSlotJpaEntity s WHERE s.accountId = :accountId ORDER BY s.slotNo")
+  List<BalanceSlotJpaEntity> findAllForUpdateByAccountId(@Param("accountId") Long accountId);
+
+  // 영속성 컨텍스트에 이미 올라온 슬롯이 있어도 잠근 시점의 값을 받도록 엔티티가 아닌 금액만 읽습니다.
+  @Query(
+      value =
+          "SELECT amount FROM balance_slots WHERE account_id = :accountId"
+              + " ORDER BY slot_no FOR UPDATE",
+      nativeQuery = true)
+  List<BigDecimal> lockAmountsByAccountId(@Param("accountId") Long accountId);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE BalanceSlotJpaEntity s
+         SET s.amount = s.amount + :amount,
+             s.lastTransactionId = :transactionId,
+             s.updatedAt = :now
+       WHERE s.accountId = :accountId
+         AND s.slotNo = :slotNo
+      """)
+  int addAmount(
+      @Param("accountId") Long accountId,
+      @Param("slotNo") int slotNo,
+      @Param("amount") BigDecimal amount,
+      @Param("transactionId") Long transactionId,
+      @Param("now") Instant now);
+}
@@ -0,0 +1,47 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceSlotJpaEntity;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/** 설정된 분산 계좌의 슬롯 행이 없으면 기동 시 만들어 둡니다. 슬롯 증가는 UPDATE만 사용하기 때문입니다. */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BalanceSlotProvisioner implements ApplicationRunner {
+
+  private final Clock clock;
+  private final BalanceStripes balanceStripes;
+  private final BalanceSlotJpaRepository balanceSlotJpaRepository;
+
+  @Override
+  @Transactional
+  public void run(ApplicationArguments args) {
+    Instant now = clock.instant();
+    for (Long accountId : balanceStripes.stripedAccountIds()) {
+      Set<Integer> existingSlots =
+          balanceSlotJpaRepository.findByAccountId(accountId).stream()
+              .map(BalanceSlotJpaEntity::getSlotNo)
+              .collect(Collectors.toSet());
+
+      IntStream.range(0, balanceStripes.slotCount(accountId))
+          .filter(slotNo -> !existingSlots.contains(slotNo))
+          .mapToObj(slotNo -> new BalanceSlotJpaEntity(accountId, slotNo, now))
+          .forEach(balanceSlotJpaRepository::save);
+
+      log.info(
+          "Balance slots ready. accountId={}, slotCount={}",
+          accountId,
+          balanceStripes.slotCount(accountId));
+    }
+  }
+}
@@ -0,0 +1,45 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.config.BalanceStripingProperties;
+import com.securities.kuku.ledger.config.BalanceStripingProperties.SlotSelection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.springframework.stereotype.Component;
+
+/** 분산 계좌 여부와 쓰기 대상 슬롯을 결정합니다. */
+@Component
+public class BalanceStripes {
+
+  private final Map<Long, Integer> slotCounts;
+  private final SlotSelection slotSelection;
+  private final Map<Long, AtomicInteger> roundRobinCounters = new ConcurrentHashMap<>();
+
+  public BalanceStripes(BalanceStripingProperties properties) {
+    this.slotCounts = properties.accounts();
+    this.slotSelection = properties.slotSelection();
+  }
+
+  public boolean isStriped(Long accountId) {
+    return slotCounts.containsKey(accountId);
+  }
+
+  public Set<Long> stripedAccountIds() {
+    return slotCounts.keySet();
+  }
+
+  public int slotCount(Long accountId) {
+    return slotCounts.getOrDefault(accountId, 0);
+  }
+
+  public int selectSlot(Long accountId, Long transactionId) {
+    int slotCount = slotCount(accountId);
+    if (slotSelection == SlotSelection.HASH && transactionId != null) {
+      return Math.floorMod(Long.hashCode(transactionId * 0x9e3779b97f4a7c15L), slotCount);
+    }
+    AtomicInteger counter =
+        roundRobinCounters.computeIfAbsent(accountId, id -> new AtomicInteger());
+    return Math.floorMod(counter.getAndIncrement(), slotCount);
+  }
+}
@@ -0,0 +1,7 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BulkDepositCheckpointJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface BulkDepositCheckpointJpaRepository
+    extends JpaRepository<BulkDepositCheckpointJpaEntity, String> {}
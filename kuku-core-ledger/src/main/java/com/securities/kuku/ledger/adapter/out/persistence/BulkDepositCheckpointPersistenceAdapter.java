@@ -0,0 +1,34 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BulkDepositCheckpointJpaEntity;
+import com.securities.kuku.ledger.application.port.out.BulkDepositCheckpointPort;
+import java.time.Instant;
+import java.util.OptionalInt;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class BulkDepositCheckpointPersistenceAdapter implements BulkDepositCheckpointPort {
+
+  private final BulkDepositCheckpointJpaRepository bulkDepositCheckpointJpaRepository;
+
+  @Override
+  public OptionalInt findNextIndex(String batchId) {
+    return bulkDepositCheckpointJpaRepository
+        .findById(batchId)
+        .map(entity -> OptionalInt.of(entity.getNextIndex()))
+        .orElseGet(OptionalInt::empty);
+  }
+
+  @Override
+  public void save(String batchId, int nextIndex, Instant now) {
+    bulkDepositCheckpointJpaRepository
+        .findById(batchId)
+        .ifPresentOrElse(
+            entity -> entity.advanceTo(nextIndex, now),
+            () ->
+                bulkDepositCheckpointJpaRepository.save(
+                    new BulkDepositCheckpointJpaEntity(batchId, nextIndex, now)));
+  }
+}
@@ -0,0 +1,7 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalArchiveJpaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JournalArchiveJpaRepository
+    extends JpaRepository<JournalArchiveJpaEntity, String> {}
@@ -1,10 +1,99 @@
 package com.securities.kuku.ledger.adapter.out.persistence;
 
 import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalEntryJpaEntity;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import jakarta.persistence.QueryHint;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 public interface JournalEntryJpaRepository extends JpaRepository<JournalEntryJpaEntity, Long> {
 
+  /** 내보내기용 fetch size. MySQL에서는 DB_URL에 {@code useCursorFetch=true}가 있어야 서버 커서로 나누어 읽습니다. */
+  String EXPORT_FETCH_SIZE = "1000";
+
   List<JournalEntryJpaEntity> findByTransactionId(Long transactionId);
+
+  List<JournalEntryJpaEntity> findByTransactionIdIn(Collection<Long> transactionIds);
+
+  // 아래 조회는 모두 idx_account_created_at_id (account_id, created_at, id) 인덱스를 역순으로 읽고 limit에서 멈춥니다.
+  @Query(
+      """
+      SELECT e FROM JournalEntryJpaEntity e
+       WHERE e.accountId = :accountId
+       ORDER BY e.createdAt DESC, e.id DESC
+      """)
+  List<JournalEntryJpaEntity> findLatestByAccountId(
+      @Param("accountId") Long accountId, Pageable pageable);
+
+  @Query(
+      """
+      SELECT e FROM JournalEntryJpaEntity e
+       WHERE e.accountId = :accountId
+         AND (e.createdAt < :createdAt OR (e.createdAt = :createdAt AND e.id < :id))
+       ORDER BY e.createdAt DESC, e.id DESC
+      """)
+  List<JournalEntryJpaEntity> findByAccountIdBefore(
+      @Param("accountId") Long accountId,
+      @Param("createdAt") Instant createdAt,
+      @Param("id") Long id,
+      Pageable pageable);
+
+  @QueryHints({
+    @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = EXPORT_FETCH_SIZE),
+    @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+  })
+  @Query(
+      """
+      SELECT e FROM JournalEntryJpaEntity e
+       WHERE e.accountId = :accountId
+       ORDER BY e.createdAt DESC, e.id DESC
+      """)
+  Stream<JournalEntryJpaEntity> streamByAccountId(@Param("accountId") Long accountId);
+
+  // 잔액 체크포인트용 구간 합계. (account_id, created_at) 범위로 같은 인덱스를 탑니다.
+  @Query(
+      """
+      SELECT COALESCE(SUM(CASE WHEN e.entryType = :credit THEN e.amount ELSE -e.amount END), 0)
+        FROM JournalEntryJpaEntity e
+       WHERE e.accountId = :accountId
+         AND e.createdAt > :after
+         AND e.createdAt <= :upTo
+      """)
+  BigDecimal sumSignedAmount(
+      @Param("accountId") Long accountId,
+      @Param("after") Instant after,
+      @Param("upTo") Instant upTo,
+      @Param("credit") JournalEntry.EntryType credit);
+
+  @Query(
+      """
+      SELECT e.accountId AS accountId,
+             SUM(CASE WHEN e.entryType = :credit THEN e.amount ELSE -e.amount END) AS amount
+        FROM JournalEntryJpaEntity e
+       WHERE e.accountId IN :accountIds
+         AND e.createdAt > :after
+         AND e.createdAt <= :upTo
+       GROUP BY e.accountId
+      """)
+  List<AccountAmount> sumSignedAmountByAccountIdIn(
+      @Param("accountIds") Collection<Long> accountIds,
+      @Param("after") Instant after,
+      @Param("upTo") Instant upTo,
+      @Param("credit") JournalEntry.EntryType credit);
+
+  interface AccountAmount {
+
+    Long getAccountId();
+
+    BigDecimal getAmount();
+  }
 }
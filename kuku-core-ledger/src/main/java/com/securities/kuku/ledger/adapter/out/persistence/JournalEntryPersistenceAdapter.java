@@ -1,18 +1,38 @@
 package com.securities.kuku.ledger.adapter.out.persistence;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalEntryJpaEntity;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.domain.JournalEntry;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Component;
 
+/**
+ * 분개 저장과 조회. 계좌 단위 조회(목록, 합계)는 {@link ArchivedJournalReader}로 보관 파일의 분개까지 합칩니다.
+ *
+ * <p>트랜잭션 ID로 찾는 조회는 보관분을 보지 않습니다. 보관 기간은 역분개를 허용하는 기간보다 길어야 합니다.
+ */
 @Component
 @RequiredArgsConstructor
 public class JournalEntryPersistenceAdapter implements JournalEntryPort {
 
   private final JournalEntryJpaRepository journalEntryJpaRepository;
+  private final ArchivedJournalReader archivedJournalReader;
+  private final EntityManager entityManager;
 
   @Override
   public void save(JournalEntry journalEntry) {
@@ -33,4 +53,102 @@ public class JournalEntryPersistenceAdapter implements JournalEntryPort {
         .map(JournalEntryJpaEntity::toDomain)
         .toList();
   }
+
+  @Override
+  public List<JournalEntry> findByTransactionIds(Collection<Long> transactionIds) {
+    if (transactionIds.isEmpty()) {
+      return List.of();
+    }
+    return journalEntryJpaRepository.findByTransactionIdIn(transactionIds).stream()
+        .map(JournalEntryJpaEntity::toDomain)
+        .toList();
+  }
+
+  @Override
+  public List<JournalEntry> findLatestByAccountId(Long accountId, int limit) {
+    List<JournalEntry> live =
+        journalEntryJpaRepository
+            .findLatestByAccountId(accountId, PageRequest.ofSize(limit))
+            .stream()
+            .map(JournalEntryJpaEntity::toDomain)
+            .toList();
+    return take(
+        archivedJournalReader.mergeNewestFirst(accountId, live.iterator(), null, null), limit);
+  }
+
+  @Override
+  public List<JournalEntry> findByAccountIdBefore(
+      Long accountId, Instant createdAt, Long id, int limit) {
+    List<JournalEntry> live =
+        journalEntryJpaRepository
+            .findByAccountIdBefore(accountId, createdAt, id, PageRequest.ofSize(limit))
+            .stream()
+            .map(JournalEntryJpaEntity::toDomain)
+            .toList();
+    return take(
+        archivedJournalReader.mergeNewestFirst(accountId, live.iterator(), createdAt, id), limit);
+  }
+
+  /** 읽은 엔티티는 바로 영속성 컨텍스트에서 분리하여, 천만 건을 내보내도 1차 캐시가 커지지 않게 합니다. */
+  @Override
+  public Stream<JournalEntry> streamByAccountId(Long accountId) {
+    Stream<JournalEntry> live =
+        journalEntryJpaRepository
+            .streamByAccountId(accountId)
+            .map(
+                entity -> {
+                  entityManager.detach(entity);
+                  return entity.toDomain();
+                });
+    Iterator<JournalEntry> merged =
+        archivedJournalReader.mergeNewestFirst(accountId, live.iterator(), null, null);
+    return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                merged, Spliterator.ORDERED | Spliterator.NONNULL),
+            false)
+        .onClose(live::close);
+  }
+
+  @Override
+  public Money sumSignedAmount(Long accountId, Instant after, Instant upTo) {
+    Money live =
+        Money.of(
+            journalEntryJpaRepository.sumSignedAmount(
+                accountId, after, upTo, JournalEntry.EntryType.CREDIT));
+    Money archived =
+        archivedJournalReader
+            .sumSignedAmount(List.of(accountId), after, upTo)
+            .getOrDefault(accountId, Money.ZERO);
+    return live.plus(archived);
+  }
+
+  @Override
+  public Map<Long, Money> sumSignedAmountByAccountIds(
+      Collection<Long> accountIds, Instant after, Instant upTo) {
+    if (accountIds.isEmpty()) {
+      return Map.of();
+    }
+    Map<Long, Money> sums =
+        journalEntryJpaRepository
+            .sumSignedAmountByAccountIdIn(accountIds, after, upTo, JournalEntry.EntryType.CREDIT)
+            .stream()
+            .collect(
+                Collectors.toMap(
+                    JournalEntryJpaRepository.AccountAmount::getAccountId,
+                    sum -> Money.of(sum.getAmount()),
+                    Money::plus,
+                    HashMap::new));
+    archivedJournalReader
+        .sumSignedAmount(accountIds, after, upTo)
+        .forEach((accountId, amount) -> sums.merge(accountId, amount, Money::plus));
+    return sums;
+  }
+
+  private static List<JournalEntry> take(Iterator<JournalEntry> entries, int limit) {
+    List<JournalEntry> page = new ArrayList<>(limit);
+    while (page.size() < limit && entries.hasNext()) {
+      page.add(entries.next());
+    }
+    return page;
+  }
 }
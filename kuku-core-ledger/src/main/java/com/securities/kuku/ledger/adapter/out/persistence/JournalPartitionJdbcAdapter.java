@@ -0,0 +1,119 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.common.id.TsidGenerator;
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.JournalPartitionPort;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL {@code journal_entries} RANGE 파티션 관리.
+ *
+ * <p>파티션 DDL은 JPA로 표현할 수 없어 JDBC로 실행합니다. 파티션 이름은 SQL에 그대로 들어가므로 {@code pYYYYMM} 형식만 허용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JournalPartitionJdbcAdapter implements JournalPartitionPort {
+
+  private static final String MAX_PARTITION = "p_max";
+  private static final Pattern PARTITION_NAME = Pattern.compile("p\\d{6}");
+
+  /** 내보내기용 fetch size. MySQL에서는 DB_URL에 {@code useCursorFetch=true}가 있어야 서버 커서로 나누어 읽습니다. */
+  private static final int EXPORT_FETCH_SIZE = 1000;
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<Partition> findPartitions() {
+    return jdbcTemplate.query(
+        """
+        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+          FROM information_schema.PARTITIONS
+         WHERE TABLE_SCHEMA = DATABASE()
+           AND TABLE_NAME = 'journal_entries'
+           AND PARTITION_NAME IS NOT NULL
+         ORDER BY PARTITION_ORDINAL_POSITION
+        """,
+        (rs, rowNum) -> toPartition(rs));
+  }
+
+  @Override
+  public void addPartition(String name, Instant upperBound) {
+    jdbcTemplate.execute(
+        "ALTER TABLE journal_entries REORGANIZE PARTITION "
+            + MAX_PARTITION
+            + " INTO (PARTITION "
+            + validName(name)
+            + " VALUES LESS THAN ("
+            + TsidGenerator.minIdAt(upperBound)
+            + "), PARTITION "
+            + MAX_PARTITION
+            + " VALUES LESS THAN MAXVALUE)");
+  }
+
+  @Override
+  public long countRows(String name) {
+    Long count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM journal_entries PARTITION (" + validName(name) + ")",
+            Long.class);
+    return count == null ? 0 : count;
+  }
+
+  @Override
+  public void forEachRow(String name, Consumer<JournalEntry> action) {
+    String sql =
+        "SELECT id, transaction_id, account_id, amount, entry_type, created_at"
+            + " FROM journal_entries PARTITION ("
+            + validName(name)
+            + ") ORDER BY account_id, created_at, id";
+    jdbcTemplate.query(
+        connection -> {
+          PreparedStatement statement = connection.prepareStatement(sql);
+          statement.setFetchSize(EXPORT_FETCH_SIZE);
+          return statement;
+        },
+        (RowCallbackHandler) rs -> action.accept(toJournalEntry(rs)));
+  }
+
+  @Override
+  public void dropPartition(String name) {
+    jdbcTemplate.execute("ALTER TABLE journal_entries DROP PARTITION " + validName(name));
+  }
+
+  private static String validName(String name) {
+    if (!PARTITION_NAME.matcher(name).matches()) {
+      throw new IllegalArgumentException("Invalid journal partition name: " + name);
+    }
+    return name;
+  }
+
+  private static Partition toPartition(ResultSet rs) throws SQLException {
+    String description = rs.getString("PARTITION_DESCRIPTION");
+    Instant upperBound =
+        "MAXVALUE".equals(description)
+            ? null
+            : TsidGenerator.instantOf(Long.parseLong(description));
+    return new Partition(rs.getString("PARTITION_NAME"), upperBound);
+  }
+
+  private static JournalEntry toJournalEntry(ResultSet rs) throws SQLException {
+    return new JournalEntry(
+        rs.getLong("id"),
+        rs.getLong("transaction_id"),
+        rs.getLong("account_id"),
+        Money.of(rs.getBigDecimal("amount")),
+        JournalEntry.EntryType.valueOf(rs.getString("entry_type")),
+        rs.getTimestamp("created_at").toInstant());
+  }
+}
@@ -2,21 +2,62 @@ package com.securities.kuku.ledger.adapter.out.persistence;
 
 import com.securities.kuku.ledger.adapter.out.persistence.entity.OutboxEventJpaEntity;
 import com.securities.kuku.ledger.domain.OutboxEventStatus;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface OutboxEventJpaRepository extends JpaRepository<OutboxEventJpaEntity, Long> {
 
   /**
-   * 특정 상태의 이벤트를 생성 시간 순으로 조회합니다. (PR 8에서 사용)
+   * 주어진 파티션의 PENDING 이벤트를 생성 순서대로 가져옵니다. 파티션 잠금을 쥔 트랜잭션에서만 호출합니다.
    *
-   * @param status 조회할 상태
-   * @param pageable 페이징 정보
+   * @param partitionNos 파티션 번호
+   * @param limit 최대 조회 개수
    * @return 이벤트 목록
    */
-  List<OutboxEventJpaEntity> findByStatusOrderByCreatedAtAsc(
-      OutboxEventStatus status, Pageable pageable);
+  @Query(
+      value =
+          """
+          SELECT *
+            FROM outbox_event
+           WHERE status = 'PENDING'
+             AND partition_no IN (:partitionNos)
+           ORDER BY created_at, id
+           LIMIT :limit
+          """,
+      nativeQuery = true)
+  List<OutboxEventJpaEntity> findPending(
+      @Param("partitionNos") Collection<Integer> partitionNos, @Param("limit") int limit);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE OutboxEventJpaEntity e
+         SET e.status = :status,
+             e.processedAt = :processedAt
+       WHERE e.id IN :ids
+      """)
+  int updateProcessed(
+      @Param("ids") Collection<Long> ids,
+      @Param("status") OutboxEventStatus status,
+      @Param("processedAt") Instant processedAt);
+
+  @Modifying
+  @Query(
+      """
+      UPDATE OutboxEventJpaEntity e
+         SET e.status = :status,
+             e.retryCount = :retryCount
+       WHERE e.id = :id
+      """)
+  int updateRetry(
+      @Param("id") Long id,
+      @Param("status") OutboxEventStatus status,
+      @Param("retryCount") int retryCount);
 }
@@ -3,7 +3,9 @@ package com.securities.kuku.ledger.adapter.out.persistence;
 import com.securities.kuku.ledger.adapter.out.persistence.entity.OutboxEventJpaEntity;
 import com.securities.kuku.ledger.application.port.out.OutboxEventPort;
 import com.securities.kuku.ledger.domain.OutboxEvent;
+import com.securities.kuku.ledger.domain.OutboxEventStatus;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
@@ -13,6 +15,7 @@ import org.springframework.stereotype.Component;
 public class OutboxEventPersistenceAdapter implements OutboxEventPort {
 
   private final OutboxEventJpaRepository repository;
+  private final OutboxPartitionJpaRepository partitionRepository;
 
   @Override
   public OutboxEvent save(OutboxEvent event) {
@@ -22,20 +25,41 @@ public class OutboxEventPersistenceAdapter implements OutboxEventPort {
   }
 
   @Override
-  public List<OutboxEvent> findPendingEvents(int limit) {
-    // PR 8에서 구현 예정
-    throw new UnsupportedOperationException("Will be implemented in PR 8");
+  public List<OutboxEvent> saveAll(List<OutboxEvent> events) {
+    List<OutboxEventJpaEntity> entities =
+        events.stream().map(OutboxEventJpaEntity::fromDomain).toList();
+    return repository.saveAll(entities).stream().map(OutboxEventJpaEntity::toDomain).toList();
   }
 
   @Override
-  public void markAsProcessed(Long eventId, Instant processedAt) {
-    // PR 8에서 구현 예정
-    throw new UnsupportedOperationException("Will be implemented in PR 8");
+  public List<OutboxEvent> claimPendingEvents(Collection<Integer> partitionNos, int limit) {
+    if (partitionNos.isEmpty()) {
+      return List.of();
+    }
+    List<Integer> locked = partitionRepository.lockAvailable(partitionNos);
+    if (locked.isEmpty()) {
+      return List.of();
+    }
+    return repository.findPending(locked, limit).stream()
+        .map(OutboxEventJpaEntity::toDomain)
+        .toList();
+  }
+
+  @Override
+  public void markAsProcessed(Collection<Long> eventIds, Instant processedAt) {
+    if (eventIds.isEmpty()) {
+      return;
+    }
+    repository.updateProcessed(eventIds, OutboxEventStatus.PROCESSED, processedAt);
+  }
+
+  @Override
+  public void markForRetry(Long eventId, int retryCount) {
+    repository.updateRetry(eventId, OutboxEventStatus.PENDING, retryCount);
   }
 
   @Override
   public void markAsFailed(Long eventId, int retryCount) {
-    // PR 8에서 구현 예정
-    throw new UnsupportedOperationException("Will be implemented in PR 8");
+    repository.updateRetry(eventId, OutboxEventStatus.FAILED, retryCount);
   }
 }
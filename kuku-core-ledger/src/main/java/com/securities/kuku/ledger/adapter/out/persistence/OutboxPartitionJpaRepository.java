@@ -0,0 +1,29 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.OutboxPartitionJpaEntity;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface OutboxPartitionJpaRepository
+    extends JpaRepository<OutboxPartitionJpaEntity, Integer> {
+
+  /**
+   * 주어진 파티션 중 다른 트랜잭션이 잠그지 않은 것만 잠급니다.
+   *
+   * @return 잠근 파티션 번호
+   */
+  @Query(
+      value =
+          """
+          SELECT partition_no
+            FROM outbox_partitions
+           WHERE partition_no IN (:partitionNos)
+           ORDER BY partition_no
+             FOR UPDATE SKIP LOCKED
+          """,
+      nativeQuery = true)
+  List<Integer> lockAvailable(@Param("partitionNos") Collection<Integer> partitionNos);
+}
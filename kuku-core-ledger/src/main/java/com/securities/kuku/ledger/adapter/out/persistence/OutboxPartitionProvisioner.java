@@ -0,0 +1,48 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.OutboxPartitionJpaEntity;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+/**
+ * Outbox 파티션 잠금 행이 없으면 기동 시 만들어 둡니다. 행이 없는 파티션의 이벤트는 relay가 가져가지 않습니다.
+ *
+ * <p>여러 인스턴스가 동시에 기동해 먼저 만든 쪽이 있으면 그대로 둡니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxPartitionProvisioner implements ApplicationRunner {
+
+  private final OutboxPartitionJpaRepository outboxPartitionJpaRepository;
+
+  @Override
+  public void run(ApplicationArguments args) {
+    Set<Integer> existing =
+        outboxPartitionJpaRepository.findAll().stream()
+            .map(OutboxPartitionJpaEntity::getPartitionNo)
+            .collect(Collectors.toSet());
+    if (existing.size() >= OutboxEvent.PARTITION_COUNT) {
+      return;
+    }
+    try {
+      outboxPartitionJpaRepository.saveAll(
+          IntStream.range(0, OutboxEvent.PARTITION_COUNT)
+              .filter(partitionNo -> !existing.contains(partitionNo))
+              .mapToObj(OutboxPartitionJpaEntity::new)
+              .toList());
+    } catch (DataIntegrityViolationException e) {
+      log.info("Outbox partitions were created concurrently by another instance");
+      return;
+    }
+    log.info("Outbox partitions ready. partitionCount={}", OutboxEvent.PARTITION_COUNT);
+  }
+}
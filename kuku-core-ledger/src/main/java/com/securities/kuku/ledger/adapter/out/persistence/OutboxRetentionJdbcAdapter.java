@@ -0,0 +1,111 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.common.id.TsidGenerator;
+import com.securities.kuku.ledger.application.port.out.OutboxRetentionPort;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Calendar;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.regex.Pattern;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL {@code outbox_event} RANGE 파티션 관리.
+ *
+ * <p>파티션 DDL은 JPA로 표현할 수 없어 JDBC로 실행합니다. 파티션 이름은 SQL에 그대로 들어가므로 {@code pYYYYMMDD} 형식만 허용합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxRetentionJdbcAdapter implements OutboxRetentionPort {
+
+  private static final String MAX_PARTITION = "p_max";
+  private static final Pattern PARTITION_NAME = Pattern.compile("p\\d{8}");
+
+  private final JdbcTemplate jdbcTemplate;
+
+  @Override
+  public List<Partition> findPartitions() {
+    return jdbcTemplate.query(
+        """
+        SELECT PARTITION_NAME, PARTITION_DESCRIPTION
+          FROM information_schema.PARTITIONS
+         WHERE TABLE_SCHEMA = DATABASE()
+           AND TABLE_NAME = 'outbox_event'
+           AND PARTITION_NAME IS NOT NULL
+         ORDER BY PARTITION_ORDINAL_POSITION
+        """,
+        (rs, rowNum) -> toPartition(rs));
+  }
+
+  // p_max에 남은 행은 REORGANIZE 중 모두 복사됩니다. p_max가 비어 있도록 오늘 이후의 파티션을 미리 만들어 두면 복사할 행이 없습니다.
+  @Override
+  public void addPartition(String name, Instant upperBound) {
+    jdbcTemplate.execute(
+        "ALTER TABLE outbox_event REORGANIZE PARTITION "
+            + MAX_PARTITION
+            + " INTO (PARTITION "
+            + validName(name)
+            + " VALUES LESS THAN ("
+            + TsidGenerator.minIdAt(upperBound)
+            + "), PARTITION "
+            + MAX_PARTITION
+            + " VALUES LESS THAN MAXVALUE)");
+  }
+
+  @Override
+  public long countPending(String name) {
+    Long count =
+        jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM outbox_event PARTITION ("
+                + validName(name)
+                + ") WHERE status = 'PENDING'",
+            Long.class);
+    return count == null ? 0 : count;
+  }
+
+  @Override
+  public long copyFailedToDeadLetter(String name, Instant deadLetteredAt) {
+    // Hibernate가 Instant를 DATETIME에 쓰는 방식(UTC)과 같게 바인딩합니다.
+    Calendar utc = Calendar.getInstance(TimeZone.getTimeZone(ZoneOffset.UTC));
+    return jdbcTemplate.update(
+        """
+        INSERT INTO outbox_event_dead_letter
+               (id, aggregate_type, aggregate_id, partition_no, event_type, payload_codec,
+                payload, retry_count, created_at, dead_lettered_at)
+        SELECT e.id, e.aggregate_type, e.aggregate_id, e.partition_no, e.event_type,
+               e.payload_codec, e.payload, e.retry_count, e.created_at, ?
+          FROM outbox_event PARTITION (%s) e
+         WHERE e.status = 'FAILED'
+           AND NOT EXISTS (SELECT 1 FROM outbox_event_dead_letter d WHERE d.id = e.id)
+        """
+            .formatted(validName(name)),
+        ps -> ps.setTimestamp(1, Timestamp.from(deadLetteredAt), utc));
+  }
+
+  @Override
+  public void dropPartition(String name) {
+    jdbcTemplate.execute("ALTER TABLE outbox_event DROP PARTITION " + validName(name));
+  }
+
+  private static String validName(String name) {
+    if (!PARTITION_NAME.matcher(name).matches()) {
+      throw new IllegalArgumentException("Invalid outbox partition name: " + name);
+    }
+    return name;
+  }
+
+  private static Partition toPartition(ResultSet rs) throws SQLException {
+    String description = rs.getString("PARTITION_DESCRIPTION");
+    Instant upperBound =
+        "MAXVALUE".equals(description)
+            ? null
+            : TsidGenerator.instantOf(Long.parseLong(description));
+    return new Partition(rs.getString("PARTITION_NAME"), upperBound);
+  }
+}
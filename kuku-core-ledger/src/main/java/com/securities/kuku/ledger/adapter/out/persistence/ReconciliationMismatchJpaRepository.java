@@ -0,0 +1,11 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.ReconciliationMismatchJpaEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationMismatchJpaRepository
+    extends JpaRepository<ReconciliationMismatchJpaEntity, Long> {
+
+  List<ReconciliationMismatchJpaEntity> findByRunId(String runId);
+}
@@ -0,0 +1,12 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.ReconciliationPartitionId;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.ReconciliationPartitionJpaEntity;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface ReconciliationPartitionJpaRepository
+    extends JpaRepository<ReconciliationPartitionJpaEntity, ReconciliationPartitionId> {
+
+  List<ReconciliationPartitionJpaEntity> findByRunIdOrderByPartitionNo(String runId);
+}
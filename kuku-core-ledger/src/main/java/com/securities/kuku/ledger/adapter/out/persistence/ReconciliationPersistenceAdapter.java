@@ -0,0 +1,67 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.ReconciliationMismatchJpaEntity;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.ReconciliationPartitionId;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.ReconciliationPartitionJpaEntity;
+import com.securities.kuku.ledger.application.port.out.ReconciliationPort;
+import com.securities.kuku.ledger.domain.ReconciliationMismatch;
+import com.securities.kuku.ledger.domain.ReconciliationPartition;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ReconciliationPersistenceAdapter implements ReconciliationPort {
+
+  private final ReconciliationPartitionJpaRepository reconciliationPartitionJpaRepository;
+  private final ReconciliationMismatchJpaRepository reconciliationMismatchJpaRepository;
+
+  @Override
+  public List<ReconciliationPartition> findPartitions(String runId) {
+    return reconciliationPartitionJpaRepository.findByRunIdOrderByPartitionNo(runId).stream()
+        .map(ReconciliationPartitionJpaEntity::toDomain)
+        .toList();
+  }
+
+  @Override
+  public void createPartitions(Collection<ReconciliationPartition> partitions, Instant now) {
+    reconciliationPartitionJpaRepository.saveAll(
+        partitions.stream()
+            .map(partition -> new ReconciliationPartitionJpaEntity(partition, now))
+            .toList());
+  }
+
+  @Override
+  public void savePartition(ReconciliationPartition partition, Instant now) {
+    ReconciliationPartitionJpaEntity entity =
+        reconciliationPartitionJpaRepository
+            .findById(new ReconciliationPartitionId(partition.runId(), partition.partitionNo()))
+            .orElseThrow(
+                () ->
+                    new IllegalArgumentException(
+                        "Reconciliation partition not found: "
+                            + partition.runId()
+                            + "/"
+                            + partition.partitionNo()));
+    entity.updateFrom(partition, now);
+  }
+
+  @Override
+  public void saveMismatches(Collection<ReconciliationMismatch> mismatches) {
+    if (mismatches.isEmpty()) {
+      return;
+    }
+    reconciliationMismatchJpaRepository.saveAll(
+        mismatches.stream().map(ReconciliationMismatchJpaEntity::fromDomain).toList());
+  }
+
+  @Override
+  public List<ReconciliationMismatch> findMismatches(String runId) {
+    return reconciliationMismatchJpaRepository.findByRunId(runId).stream()
+        .map(ReconciliationMismatchJpaEntity::toDomain)
+        .toList();
+  }
+}
@@ -1,10 +1,29 @@
 package com.securities.kuku.ledger.adapter.out.persistence;
 
 import com.securities.kuku.ledger.adapter.out.persistence.entity.TransactionJpaEntity;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface TransactionJpaRepository extends JpaRepository<TransactionJpaEntity, Long> {
 
   Optional<TransactionJpaEntity> findByBusinessRefId(String businessRefId);
+
+  @Query(
+      "SELECT t.businessRefId FROM TransactionJpaEntity t WHERE t.businessRefId IN :businessRefIds")
+  List<String> findBusinessRefIdsIn(@Param("businessRefIds") Collection<String> businessRefIds);
+
+  @Modifying
+  @Query(
+      "UPDATE TransactionJpaEntity t SET t.status = :status"
+          + " WHERE t.id = :id AND t.status = :expectedStatus")
+  int updateStatus(
+      @Param("id") Long id,
+      @Param("status") TransactionStatus status,
+      @Param("expectedStatus") TransactionStatus expectedStatus);
 }
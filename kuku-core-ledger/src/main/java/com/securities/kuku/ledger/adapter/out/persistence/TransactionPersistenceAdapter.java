@@ -3,21 +3,51 @@ package com.securities.kuku.ledger.adapter.out.persistence;
 import com.securities.kuku.ledger.adapter.out.persistence.entity.TransactionJpaEntity;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
 import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.domain.exception.DuplicateTransactionException;
+import jakarta.persistence.EntityManager;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 
 @Component
 @RequiredArgsConstructor
 public class TransactionPersistenceAdapter implements TransactionPort {
 
+  private static final String BUSINESS_REF_ID_UNIQUE_KEY = "uk_business_ref_id";
+
   private final TransactionJpaRepository transactionJpaRepository;
+  private final JdbcTemplate jdbcTemplate;
+  private final EntityManager entityManager;
 
   @Override
   public Optional<Transaction> findById(Long transactionId) {
     return transactionJpaRepository.findById(transactionId).map(TransactionJpaEntity::toDomain);
   }
 
+  @Override
+  public Map<Long, Transaction> findByIds(Set<Long> transactionIds) {
+    if (transactionIds.isEmpty()) {
+      return Map.of();
+    }
+    return transactionJpaRepository.findAllById(transactionIds).stream()
+        .map(TransactionJpaEntity::toDomain)
+        .collect(Collectors.toMap(Transaction::getId, Function.identity()));
+  }
+
   @Override
   public Optional<Transaction> findByBusinessRefId(String businessRefId) {
     return transactionJpaRepository
@@ -25,22 +55,108 @@ public class TransactionPersistenceAdapter implements TransactionPort {
         .map(TransactionJpaEntity::toDomain);
   }
 
+  @Override
+  public Set<String> findExistingBusinessRefIds(Collection<String> businessRefIds) {
+    if (businessRefIds.isEmpty()) {
+      return Set.of();
+    }
+    return new HashSet<>(transactionJpaRepository.findBusinessRefIdsIn(businessRefIds));
+  }
+
+  /**
+   * 새 트랜잭션은 즉시 flush하여 businessRefId 중복을 INSERT 시점에 드러냅니다.
+   *
+   * @throws DuplicateTransactionException businessRefId 유니크 키 위반 시. 현재 트랜잭션은 롤백되도록 표시됩니다.
+   */
   @Override
   public Transaction save(Transaction transaction) {
     TransactionJpaEntity entity = TransactionJpaEntity.fromDomain(transaction);
-    TransactionJpaEntity saved = transactionJpaRepository.save(entity);
-    return saved.toDomain();
+    if (transaction.getId() != null) {
+      return transactionJpaRepository.save(entity).toDomain();
+    }
+    try {
+      return transactionJpaRepository.saveAndFlush(entity).toDomain();
+    } catch (DataIntegrityViolationException e) {
+      if (!isBusinessRefIdViolation(e)) {
+        throw e;
+      }
+      // 예외가 난 세션으로는 커밋할 수 없으므로, 호출자가 중복을 정상 응답으로 처리해도 조용히 롤백되게 합니다.
+      TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+      throw new DuplicateTransactionException(transaction.getBusinessRefId(), e);
+    }
   }
 
   @Override
-  public void update(Transaction transaction) {
-    TransactionJpaEntity entity =
-        transactionJpaRepository
-            .findById(transaction.getId())
-            .orElseThrow(
-                () ->
-                    new IllegalArgumentException("Transaction not found: " + transaction.getId()));
-    entity.updateStatus(transaction.getStatus());
-    transactionJpaRepository.save(entity);
+  public List<Transaction> saveAll(List<Transaction> transactions) {
+    List<TransactionJpaEntity> entities =
+        transactions.stream().map(TransactionJpaEntity::fromDomain).toList();
+    return transactionJpaRepository.saveAll(entities).stream()
+        .map(TransactionJpaEntity::toDomain)
+        .toList();
+  }
+
+  /**
+   * 상태만 바뀌므로 엔티티를 읽지 않고 직접 UPDATE합니다. {@code transactions}에는 version 컬럼이 없으므로 이전 상태를 조건으로 걸어,
+   * 같은 PENDING 거래를 두 요청이 함께 확정하는 식의 중복 전이를 막습니다.
+   */
+  @Override
+  public void update(Transaction transaction, TransactionStatus expectedStatus) {
+    int updated =
+        transactionJpaRepository.updateStatus(
+            transaction.getId(), transaction.getStatus(), expectedStatus);
+    if (updated == 0) {
+      throw updateFailure(transaction.getId());
+    }
+    detach(transaction.getId());
+  }
+
+  @Override
+  public void updateAll(Collection<Transaction> transactions, TransactionStatus expectedStatus) {
+    if (transactions.isEmpty()) {
+      return;
+    }
+
+    // 동시에 실행된 배치끼리 같은 순서로 거래 행을 잠그도록 ID 오름차순으로 보냅니다.
+    List<Transaction> updates =
+        transactions.stream().sorted(Comparator.comparing(Transaction::getId)).toList();
+    // 영속성 컨텍스트에 쌓인 INSERT(같은 트랜잭션에서 만든 거래 등)를 먼저 내보내야 JDBC 갱신이 그 행을 봅니다.
+    transactionJpaRepository.flush();
+    int[] updateCounts =
+        jdbcTemplate.batchUpdate(
+            "UPDATE transactions SET status = ? WHERE id = ? AND status = ?",
+            updates,
+            updates.size(),
+            (ps, transaction) -> {
+              ps.setString(1, transaction.getStatus().name());
+              ps.setLong(2, transaction.getId());
+              ps.setString(3, expectedStatus.name());
+            })[0];
+
+    // 드라이버가 건별 결과를 모르면 SUCCESS_NO_INFO(-2)를 돌려주므로, 0건일 때만 실패로 봅니다.
+    for (int i = 0; i < updateCounts.length; i++) {
+      if (updateCounts[i] == 0) {
+        throw updateFailure(updates.get(i).getId());
+      }
+    }
+    updates.forEach(transaction -> detach(transaction.getId()));
+  }
+
+  // 호출자는 같은 트랜잭션에서 읽은 거래만 갱신하므로, 행이 있는데 0건이면 그 사이 다른 요청이 상태를 바꾼 것입니다.
+  private RuntimeException updateFailure(Long transactionId) {
+    if (!transactionJpaRepository.existsById(transactionId)) {
+      return new IllegalArgumentException("Transaction not found: " + transactionId);
+    }
+    return new ObjectOptimisticLockingFailureException(TransactionJpaEntity.class, transactionId);
+  }
+
+  // 직접 UPDATE는 영속성 컨텍스트를 거치지 않으므로, 같은 트랜잭션의 이후 조회가 갱신 전 엔티티를 받지 않도록 떼어 냅니다.
+  private void detach(Long transactionId) {
+    entityManager.detach(entityManager.getReference(TransactionJpaEntity.class, transactionId));
+  }
+
+  private boolean isBusinessRefIdViolation(DataIntegrityViolationException e) {
+    return e.getCause() instanceof ConstraintViolationException violation
+        && violation.getConstraintName() != null
+        && violation.getConstraintName().toLowerCase().contains(BUSINESS_REF_ID_UNIQUE_KEY);
   }
 }
@@ -0,0 +1,17 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import java.io.Serializable;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BalanceCheckpointId implements Serializable {
+
+  private Long accountId;
+  private Instant checkpointAt;
+}
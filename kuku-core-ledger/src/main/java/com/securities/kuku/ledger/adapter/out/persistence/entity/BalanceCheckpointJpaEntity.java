@@ -0,0 +1,84 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+/**
+ * 계좌 잔액 체크포인트. 한 번 기록하면 바뀌지 않습니다.
+ *
+ * <p>ID를 직접 지정하므로 {@link Persistable}로 새 행임을 알려, {@code saveAll}이 행마다 SELECT 후 merge하지 않고 바로 배치
+ * INSERT하게 합니다.
+ */
+@Entity
+@Table(name = "balance_checkpoints")
+@IdClass(BalanceCheckpointId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceCheckpointJpaEntity implements Persistable<BalanceCheckpointId> {
+
+  @Id
+  @Column(name = "account_id")
+  private Long accountId;
+
+  @Id
+  @Column(name = "checkpoint_at")
+  private Instant checkpointAt;
+
+  @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+  private BigDecimal amount;
+
+  @Column(name = "created_at", nullable = false)
+  private Instant createdAt;
+
+  @Transient private boolean isNew = true;
+
+  private BalanceCheckpointJpaEntity(
+      Long accountId, Instant checkpointAt, BigDecimal amount, Instant createdAt) {
+    this.accountId = accountId;
+    this.checkpointAt = checkpointAt;
+    this.amount = amount;
+    this.createdAt = createdAt;
+  }
+
+  public static BalanceCheckpointJpaEntity fromDomain(BalanceCheckpoint checkpoint) {
+    return new BalanceCheckpointJpaEntity(
+        checkpoint.getAccountId(),
+        checkpoint.getCheckpointAt(),
+        checkpoint.getAmount().toBigDecimal(),
+        checkpoint.getCreatedAt());
+  }
+
+  @Override
+  public BalanceCheckpointId getId() {
+    return new BalanceCheckpointId(accountId, checkpointAt);
+  }
+
+  @Override
+  public boolean isNew() {
+    return isNew;
+  }
+
+  @PostLoad
+  @PostPersist
+  void markNotNew() {
+    this.isNew = false;
+  }
+
+  public BalanceCheckpoint toDomain() {
+    return new BalanceCheckpoint(accountId, checkpointAt, Money.of(amount), createdAt);
+  }
+}
@@ -1,5 +1,6 @@
 package com.securities.kuku.ledger.adapter.out.persistence.entity;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.domain.Balance;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -54,22 +55,28 @@ public class BalanceJpaEntity {
   }
 
   public Balance toDomain() {
-    return new Balance(accountId, amount, holdAmount, version, lastTransactionId, updatedAt);
+    return new Balance(
+        accountId,
+        Money.of(amount),
+        Money.of(holdAmount),
+        version,
+        lastTransactionId,
+        updatedAt);
   }
 
   public static BalanceJpaEntity fromDomain(Balance balance) {
     return new BalanceJpaEntity(
         balance.getAccountId(),
-        balance.getAmount(),
-        balance.getHoldAmount(),
+        balance.getAmount().toBigDecimal(),
+        balance.getHoldAmount().toBigDecimal(),
         balance.getVersion(),
         balance.getLastTransactionId(),
         balance.getUpdatedAt());
   }
 
   public void updateFrom(Balance balance) {
-    this.amount = balance.getAmount();
-    this.holdAmount = balance.getHoldAmount();
+    this.amount = balance.getAmount().toBigDecimal();
+    this.holdAmount = balance.getHoldAmount().toBigDecimal();
     this.lastTransactionId = balance.getLastTransactionId();
     this.updatedAt = balance.getUpdatedAt();
   }
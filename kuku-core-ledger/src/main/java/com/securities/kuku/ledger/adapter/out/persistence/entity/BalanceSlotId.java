@@ -0,0 +1,16 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import java.io.Serializable;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+@EqualsAndHashCode
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+public class BalanceSlotId implements Serializable {
+
+  private Long accountId;
+  private Integer slotNo;
+}
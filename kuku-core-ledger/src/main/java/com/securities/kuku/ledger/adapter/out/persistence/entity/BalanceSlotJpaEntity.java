@@ -0,0 +1,54 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분산 계좌의 잔액 슬롯. 계좌의 논리 잔액은 {@code balances.amount}와 모든 슬롯 금액의 합입니다.
+ *
+ * <p>슬롯은 원자적 UPDATE로만 증가시키므로 {@code @Version}을 두지 않습니다.
+ */
+@Entity
+@Table(name = "balance_slots")
+@IdClass(BalanceSlotId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BalanceSlotJpaEntity {
+
+  @Id
+  @Column(name = "account_id")
+  private Long accountId;
+
+  @Id
+  @Column(name = "slot_no")
+  private Integer slotNo;
+
+  @Column(name = "amount", nullable = false, precision = 19, scale = 4)
+  private BigDecimal amount;
+
+  @Column(name = "last_transaction_id")
+  private Long lastTransactionId;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  public BalanceSlotJpaEntity(Long accountId, Integer slotNo, Instant updatedAt) {
+    this.accountId = accountId;
+    this.slotNo = slotNo;
+    this.amount = BigDecimal.ZERO;
+    this.updatedAt = updatedAt;
+  }
+
+  public void reset(Instant now) {
+    this.amount = BigDecimal.ZERO;
+    this.updatedAt = now;
+  }
+}
@@ -0,0 +1,39 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 대량 입금 배치의 커밋 위치. 청크를 반영한 트랜잭션 안에서 함께 갱신됩니다. */
+@Entity
+@Table(name = "bulk_deposit_checkpoints")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BulkDepositCheckpointJpaEntity {
+
+  @Id
+  @Column(name = "batch_id", length = 100)
+  private String batchId;
+
+  @Column(name = "next_index", nullable = false)
+  private int nextIndex;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  public BulkDepositCheckpointJpaEntity(String batchId, int nextIndex, Instant updatedAt) {
+    this.batchId = batchId;
+    this.nextIndex = nextIndex;
+    this.updatedAt = updatedAt;
+  }
+
+  public void advanceTo(int nextIndex, Instant now) {
+    this.nextIndex = nextIndex;
+    this.updatedAt = now;
+  }
+}
@@ -0,0 +1,60 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import com.securities.kuku.ledger.domain.JournalArchive;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "journal_archives")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JournalArchiveJpaEntity {
+
+  @Id
+  @Column(name = "partition_name", length = 20)
+  private String partitionName;
+
+  @Column(name = "min_created_at", nullable = false)
+  private Instant minCreatedAt;
+
+  @Column(name = "max_created_at", nullable = false)
+  private Instant maxCreatedAt;
+
+  @Column(name = "row_count", nullable = false)
+  private long rowCount;
+
+  @Column(name = "location", nullable = false, length = 500)
+  private String location;
+
+  @Enumerated(EnumType.STRING)
+  @Column(name = "status", nullable = false, length = 20)
+  private JournalArchive.Status status;
+
+  @Column(name = "archived_at", nullable = false)
+  private Instant archivedAt;
+
+  public static JournalArchiveJpaEntity fromDomain(JournalArchive archive) {
+    JournalArchiveJpaEntity entity = new JournalArchiveJpaEntity();
+    entity.partitionName = archive.partitionName();
+    entity.minCreatedAt = archive.minCreatedAt();
+    entity.maxCreatedAt = archive.maxCreatedAt();
+    entity.rowCount = archive.rowCount();
+    entity.location = archive.location();
+    entity.status = archive.status();
+    entity.archivedAt = archive.archivedAt();
+    return entity;
+  }
+
+  public JournalArchive toDomain() {
+    return new JournalArchive(
+        partitionName, minCreatedAt, maxCreatedAt, rowCount, location, status, archivedAt);
+  }
+}
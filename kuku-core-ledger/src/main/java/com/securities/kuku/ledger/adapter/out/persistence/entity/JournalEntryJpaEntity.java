@@ -1,5 +1,7 @@
 package com.securities.kuku.ledger.adapter.out.persistence.entity;
 
+import com.securities.kuku.common.id.TsidId;
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.domain.JournalEntry;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
@@ -9,14 +11,17 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "journal_entries")
+@Table(
+    name = "journal_entries",
+    indexes = {
+      @Index(name = "idx_transaction_id", columnList = "transaction_id"),
+      @Index(name = "idx_account_created_at_id", columnList = "account_id, created_at, id")
+    })
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class JournalEntryJpaEntity {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
+  @Id @TsidId private Long id;
 
   @Column(name = "transaction_id", nullable = false)
   private Long transactionId;
@@ -50,7 +55,8 @@ public class JournalEntryJpaEntity {
   }
 
   public JournalEntry toDomain() {
-    return new JournalEntry(id, transactionId, accountId, amount, entryType, createdAt);
+    return new JournalEntry(
+        id, transactionId, accountId, Money.of(amount), entryType, createdAt);
   }
 
   public static JournalEntryJpaEntity fromDomain(JournalEntry journalEntry) {
@@ -58,7 +64,7 @@ public class JournalEntryJpaEntity {
         journalEntry.getId(),
         journalEntry.getTransactionId(),
         journalEntry.getAccountId(),
-        journalEntry.getAmount(),
+        journalEntry.getAmount().toBigDecimal(),
         journalEntry.getEntryType(),
         journalEntry.getCreatedAt());
   }
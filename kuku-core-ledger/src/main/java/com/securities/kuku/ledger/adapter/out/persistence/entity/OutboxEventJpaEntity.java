@@ -1,5 +1,6 @@
 package com.securities.kuku.ledger.adapter.out.persistence.entity;
 
+import com.securities.kuku.common.id.TsidId;
 import com.securities.kuku.ledger.domain.OutboxEvent;
 import com.securities.kuku.ledger.domain.OutboxEventStatus;
 import jakarta.persistence.*;
@@ -14,9 +15,7 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class OutboxEventJpaEntity {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
+  @Id @TsidId private Long id;
 
   @Column(name = "aggregate_type", nullable = false)
   private String aggregateType;
@@ -24,11 +23,17 @@ public class OutboxEventJpaEntity {
   @Column(name = "aggregate_id", nullable = false)
   private Long aggregateId;
 
+  @Column(name = "partition_no", nullable = false)
+  private int partitionNo;
+
   @Column(name = "event_type", nullable = false)
   private String eventType;
 
-  @Column(name = "payload", columnDefinition = "JSON", nullable = false)
-  private String payload;
+  @Column(name = "payload_codec", nullable = false)
+  private String payloadCodec;
+
+  @Column(name = "payload", columnDefinition = "BLOB", nullable = false)
+  private byte[] payload;
 
   @Enumerated(EnumType.STRING)
   @Column(name = "status", nullable = false)
@@ -47,8 +52,10 @@ public class OutboxEventJpaEntity {
       Long id,
       String aggregateType,
       Long aggregateId,
+      int partitionNo,
       String eventType,
-      String payload,
+      String payloadCodec,
+      byte[] payload,
       OutboxEventStatus status,
       int retryCount,
       Instant createdAt,
@@ -56,7 +63,9 @@ public class OutboxEventJpaEntity {
     this.id = id;
     this.aggregateType = aggregateType;
     this.aggregateId = aggregateId;
+    this.partitionNo = partitionNo;
     this.eventType = eventType;
+    this.payloadCodec = payloadCodec;
     this.payload = payload;
     this.status = status;
     this.retryCount = retryCount;
@@ -69,7 +78,9 @@ public class OutboxEventJpaEntity {
         id,
         aggregateType,
         aggregateId,
+        partitionNo,
         eventType,
+        payloadCodec,
         payload,
         status,
         retryCount,
@@ -82,7 +93,9 @@ public class OutboxEventJpaEntity {
         event.getId(),
         event.getAggregateType(),
         event.getAggregateId(),
+        event.getPartitionNo(),
         event.getEventType(),
+        event.getPayloadCodec(),
         event.getPayload(),
         event.getStatus(),
         event.getRetryCount(),
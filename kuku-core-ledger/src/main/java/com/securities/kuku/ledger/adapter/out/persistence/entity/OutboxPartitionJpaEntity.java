@@ -0,0 +1,25 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** Outbox 파티션의 발행 잠금 행. 이 행을 잠근 relay만 그 파티션의 이벤트를 발행합니다. */
+@Entity
+@Table(name = "outbox_partitions")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxPartitionJpaEntity {
+
+  @Id
+  @Column(name = "partition_no")
+  private Integer partitionNo;
+
+  public OutboxPartitionJpaEntity(Integer partitionNo) {
+    this.partitionNo = partitionNo;
+  }
+}
@@ -0,0 +1,65 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import com.securities.kuku.common.id.TsidId;
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.ReconciliationMismatch;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.math.BigDecimal;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(
+    name = "reconciliation_mismatches",
+    indexes = @Index(name = "idx_run_id_account_id", columnList = "run_id, account_id"))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconciliationMismatchJpaEntity {
+
+  @Id @TsidId private Long id;
+
+  @Column(name = "run_id", nullable = false, length = 100)
+  private String runId;
+
+  @Column(name = "account_id", nullable = false)
+  private Long accountId;
+
+  @Column(name = "balance_amount", nullable = false, precision = 19, scale = 4)
+  private BigDecimal balanceAmount;
+
+  @Column(name = "journal_amount", nullable = false, precision = 19, scale = 4)
+  private BigDecimal journalAmount;
+
+  @Column(name = "last_transaction_id")
+  private Long lastTransactionId;
+
+  @Column(name = "detected_at", nullable = false)
+  private Instant detectedAt;
+
+  public static ReconciliationMismatchJpaEntity fromDomain(ReconciliationMismatch mismatch) {
+    ReconciliationMismatchJpaEntity entity = new ReconciliationMismatchJpaEntity();
+    entity.runId = mismatch.runId();
+    entity.accountId = mismatch.accountId();
+    entity.balanceAmount = mismatch.balanceAmount().toBigDecimal();
+    entity.journalAmount = mismatch.journalAmount().toBigDecimal();
+    entity.lastTransactionId = mismatch.lastTransactionId();
+    entity.detectedAt = mismatch.detectedAt();
+    return entity;
+  }
+
+  public ReconciliationMismatch toDomain() {
+    return new ReconciliationMismatch(
+        runId,
+        accountId,
+        Money.of(balanceAmount),
+        Money.of(journalAmount),
+        lastTransactionId,
+        detectedAt);
+  }
+}
@@ -0,0 +1,58 @@
+package com.securities.kuku.ledger.adapter.out.persistence.entity;
+
+import com.securities.kuku.ledger.domain.ReconciliationPartition;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import java.time.Instant;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/** 원장 대사 구간의 진행 위치. 청크를 대사한 트랜잭션 안에서 불일치 내역과 함께 갱신됩니다. */
+@Entity
+@Table(name = "reconciliation_partitions")
+@IdClass(ReconciliationPartitionId.class)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReconciliationPartitionJpaEntity {
+
+  @Id
+  @Column(name = "run_id", length = 100)
+  private String runId;
+
+  @Id
+  @Column(name = "partition_no")
+  private Integer partitionNo;
+
+  @Column(name = "last_account_id", nullable = false)
+  private long lastAccountId;
+
+  @Column(name = "to_account_id", nullable = false)
+  private long toAccountId;
+
+  @Column(name = "completed", nullable = false)
+  private boolean completed;
+
+  @Column(name = "updated_at", nullable = false)
+  private Instant updatedAt;
+
+  public ReconciliationPartitionJpaEntity(ReconciliationPartition partition, Instant now) {
+    this.runId = partition.runId();
+    this.partitionNo = partition.partitionNo();
+    this.toAccountId = partition.toAccountId();
+    updateFrom(partition, now);
+  }
+
+  public void updateFrom(ReconciliationPartition partition, Instant now) {
+    this.lastAccountId = partition.lastAccountId();
+    this.completed = partition.completed();
+    this.updatedAt = now;
+  }
+
+  public ReconciliationPartition toDomain() {
+    return new ReconciliationPartition(runId, partitionNo, lastAccountId, toAccountId, completed);
+  }
+}
@@ -1,5 +1,6 @@
 package com.securities.kuku.ledger.adapter.out.persistence.entity;
 
+import com.securities.kuku.common.id.TsidId;
 import com.securities.kuku.ledger.domain.Transaction;
 import com.securities.kuku.ledger.domain.TransactionStatus;
 import com.securities.kuku.ledger.domain.TransactionType;
@@ -10,14 +11,15 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "transactions")
+@Table(
+    name = "transactions",
+    uniqueConstraints =
+        @UniqueConstraint(name = "uk_business_ref_id", columnNames = "business_ref_id"))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class TransactionJpaEntity {
 
-  @Id
-  @GeneratedValue(strategy = GenerationType.IDENTITY)
-  private Long id;
+  @Id @TsidId private Long id;
 
   @Enumerated(EnumType.STRING)
   @Column(name = "type", nullable = false)
@@ -26,7 +28,7 @@ public class TransactionJpaEntity {
   @Column(name = "description")
   private String description;
 
-  @Column(name = "business_ref_id", unique = true)
+  @Column(name = "business_ref_id")
   private String businessRefId;
 
   @Enumerated(EnumType.STRING)
@@ -0,0 +1,57 @@
+package com.securities.kuku.ledger.adapter.out.wal;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import com.securities.kuku.ledger.domain.TransactionType;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/** 원장 로그 기록 한 건의 바이너리 형식. 프레임 길이와 체크섬은 {@link MappedLedgerLog}가 붙입니다. */
+final class LedgerLogCodec {
+
+  private static final int INITIAL_CAPACITY = 128;
+
+  private LedgerLogCodec() {}
+
+  static byte[] encode(LedgerLogRecord record) {
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(INITIAL_CAPACITY);
+    try (DataOutputStream out = new DataOutputStream(bytes)) {
+      out.writeLong(record.sequence());
+      out.writeLong(record.accountId());
+      out.writeUTF(record.type().name());
+      out.writeUTF(record.amount().toString());
+      out.writeUTF(record.businessRefId());
+      out.writeBoolean(record.description() != null);
+      if (record.description() != null) {
+        out.writeUTF(record.description());
+      }
+      out.writeLong(record.createdAt().getEpochSecond());
+      out.writeInt(record.createdAt().getNano());
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+    return bytes.toByteArray();
+  }
+
+  static LedgerLogRecord decode(byte[] payload) {
+    try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(payload))) {
+      long sequence = in.readLong();
+      long accountId = in.readLong();
+      TransactionType type = TransactionType.valueOf(in.readUTF());
+      Money amount = Money.of(new BigDecimal(in.readUTF()));
+      String businessRefId = in.readUTF();
+      String description = in.readBoolean() ? in.readUTF() : null;
+      Instant createdAt = Instant.ofEpochSecond(in.readLong(), in.readInt());
+      return new LedgerLogRecord(
+          sequence, accountId, type, amount, description, businessRefId, createdAt);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,405 @@
+package com.securities.kuku.ledger.adapter.out.wal;
+
+import com.securities.kuku.ledger.application.port.out.LedgerLogPort;
+import com.securities.kuku.ledger.config.LedgerLogProperties;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 메모리 매핑한 세그먼트 파일에 원장 로그를 덧붙이는 어댑터.
+ *
+ * <p>기록은 {@code [길이(int)][CRC32C(int)][본문]} 프레임으로 쓰고, 세그먼트가 차면 fsync한 뒤 다음 순번을 이름으로 하는 새 세그먼트를
+ * 엽니다. fsync는 전용 스레드 하나가 맡아, 직전 fsync 동안 쌓인 기록을 다음 {@link MappedByteBuffer#force()} 한 번으로
+ * 함께 내립니다.
+ *
+ * <p>반영 대기열의 자리는 {@code lock}을 잡기 전에 확보합니다. 반영이 밀려 대기열이 차도 새 기록만 기다리고, 이미 쓴 기록의 fsync와
+ * {@link #awaitDurable(long)}은 막히지 않습니다. 대기열에 넣는 것은 {@code lock} 안에서 하므로 순번 순서가 유지됩니다.
+ *
+ * <p>DB 반영 위치는 {@code applied.checkpoint} 파일에 순번으로 남기며, 그 이전 기록만 담은 세그먼트는 지웁니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "ledger.wal", name = "enabled", havingValue = "true")
+public class MappedLedgerLog implements LedgerLogPort, AutoCloseable {
+
+  private static final String SEGMENT_SUFFIX = ".wal";
+  private static final String CHECKPOINT_FILE = "applied.checkpoint";
+  private static final int FRAME_HEADER_BYTES = Integer.BYTES * 2;
+  private static final int ZERO_FILL_BYTES = 4096;
+
+  private final Path directory;
+  private final int segmentBytes;
+  private final BlockingQueue<LedgerLogRecord> appended = new LinkedBlockingQueue<>();
+  private final Semaphore appendCapacity;
+  private final List<Segment> segments = new ArrayList<>();
+
+  private final ReentrantLock lock = new ReentrantLock();
+  private final Condition flushNeeded = lock.newCondition();
+  private final Condition flushed = lock.newCondition();
+
+  // 아래 필드는 lock으로 보호합니다.
+  private Segment current;
+  private long lastSequence;
+  private long durableSequence;
+  private boolean running;
+  private Thread flusher;
+
+  public MappedLedgerLog(LedgerLogProperties properties) {
+    this.directory = Path.of(properties.directory());
+    this.segmentBytes = (int) properties.segmentSize().toBytes();
+    this.appendCapacity = new Semaphore(properties.maxPendingRecords());
+  }
+
+  @Override
+  public List<LedgerLogRecord> recover() {
+    lock.lock();
+    try {
+      if (running) {
+        throw new IllegalStateException("Ledger log already recovered");
+      }
+      Files.createDirectories(directory);
+      long applied = readCheckpoint();
+      List<LedgerLogRecord> unapplied = new ArrayList<>();
+      lastSequence = applied;
+
+      List<Path> paths = listSegments();
+      for (int i = 0; i < paths.size(); i++) {
+        Segment segment = Segment.open(paths.get(i), segmentBytes);
+        segments.add(segment);
+        boolean last = i == paths.size() - 1;
+        ScanResult scan =
+            scan(
+                segment,
+                record -> {
+                  lastSequence = Math.max(lastSequence, record.sequence());
+                  if (record.sequence() > applied) {
+                    unapplied.add(record);
+                  }
+                });
+        if (!scan.clean() && !last) {
+          throw new IllegalStateException("Corrupted ledger log segment: " + segment.path());
+        }
+        if (!scan.clean()) {
+          log.warn(
+              "Discarded torn ledger log tail. segment={}, position={}",
+              segment.path(),
+              scan.end());
+        }
+        if (last) {
+          segment.truncateAt(scan.end());
+          current = segment;
+        }
+      }
+      if (current == null) {
+        current = Segment.create(directory, lastSequence + 1, segmentBytes);
+        segments.add(current);
+      }
+      durableSequence = lastSequence;
+      deleteAppliedSegments(applied);
+
+      running = true;
+      flusher = Thread.ofPlatform().name("ledger-wal-flusher").daemon().start(this::flushLoop);
+      log.info(
+          "Ledger log recovered. applied={}, last={}, unapplied={}",
+          applied,
+          lastSequence,
+          unapplied.size());
+      return unapplied;
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public LedgerLogRecord append(LedgerLogRecord record) {
+    // 반영 대기열이 차면 여기서 기다립니다. lock 밖이므로 fsync와 다른 요청의 awaitDurable을 막지 않습니다.
+    appendCapacity.acquireUninterruptibly();
+    boolean enqueued = false;
+    lock.lock();
+    try {
+      requireRunning();
+      LedgerLogRecord sequenced = record.withSequence(lastSequence + 1);
+      byte[] payload = LedgerLogCodec.encode(sequenced);
+      int frameBytes = FRAME_HEADER_BYTES + payload.length;
+      if (frameBytes > segmentBytes) {
+        throw new IllegalArgumentException("Ledger log record too large: " + frameBytes);
+      }
+      if (current.buffer().remaining() < frameBytes) {
+        rotate(sequenced.sequence());
+      }
+
+      CRC32C checksum = new CRC32C();
+      checksum.update(payload);
+      current.buffer().putInt(payload.length).putInt((int) checksum.getValue()).put(payload);
+      lastSequence = sequenced.sequence();
+      flushNeeded.signal();
+
+      // 자리를 미리 확보했으므로 기다리지 않습니다.
+      appended.add(sequenced);
+      enqueued = true;
+      return sequenced;
+    } finally {
+      lock.unlock();
+      if (!enqueued) {
+        appendCapacity.release();
+      }
+    }
+  }
+
+  @Override
+  public void awaitDurable(long sequence) {
+    lock.lock();
+    try {
+      while (durableSequence < sequence) {
+        requireRunning();
+        flushed.awaitUninterruptibly();
+      }
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public List<LedgerLogRecord> takeAppended(int maxRecords, Duration timeout)
+      throws InterruptedException {
+    LedgerLogRecord first = appended.poll(timeout.toNanos(), TimeUnit.NANOSECONDS);
+    if (first == null) {
+      return List.of();
+    }
+    List<LedgerLogRecord> records = new ArrayList<>(Math.min(maxRecords, appended.size() + 1));
+    records.add(first);
+    appended.drainTo(records, maxRecords - 1);
+    appendCapacity.release(records.size());
+    return records;
+  }
+
+  @Override
+  public void markApplied(long sequence) {
+    writeCheckpoint(sequence);
+    lock.lock();
+    try {
+      deleteAppliedSegments(sequence);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  @Override
+  public void close() throws InterruptedException {
+    Thread stopping;
+    lock.lock();
+    try {
+      running = false;
+      flushNeeded.signalAll();
+      stopping = flusher;
+    } finally {
+      lock.unlock();
+    }
+    if (stopping != null) {
+      stopping.join();
+    }
+    lock.lock();
+    try {
+      flushed.signalAll();
+      segments.forEach(Segment::close);
+      segments.clear();
+      current = null;
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void flushLoop() {
+    while (true) {
+      long target;
+      Segment segment;
+      lock.lock();
+      try {
+        while (running && durableSequence == lastSequence) {
+          flushNeeded.awaitUninterruptibly();
+        }
+        if (durableSequence == lastSequence) {
+          return;
+        }
+        target = lastSequence;
+        segment = current;
+      } finally {
+        lock.unlock();
+      }
+
+      // 이전 세그먼트는 교체할 때 fsync했으므로 현재 세그먼트만 내리면 target까지 모두 디스크에 있습니다.
+      segment.buffer().force();
+
+      lock.lock();
+      try {
+        durableSequence = target;
+        flushed.signalAll();
+      } finally {
+        lock.unlock();
+      }
+    }
+  }
+
+  private void rotate(long firstSequence) {
+    current.buffer().force();
+    current = Segment.create(directory, firstSequence, segmentBytes);
+    segments.add(current);
+  }
+
+  private void deleteAppliedSegments(long applied) {
+    while (segments.size() > 1 && segments.get(1).firstSequence() - 1 <= applied) {
+      Segment segment = segments.removeFirst();
+      segment.close();
+      try {
+        Files.deleteIfExists(segment.path());
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+
+  private void requireRunning() {
+    if (!running) {
+      throw new IllegalStateException("Ledger log is not open");
+    }
+  }
+
+  private List<Path> listSegments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files
+          .filter(path -> path.getFileName().toString().endsWith(SEGMENT_SUFFIX))
+          .sorted(Comparator.comparingLong(Segment::firstSequenceOf))
+          .toList();
+    }
+  }
+
+  private long readCheckpoint() throws IOException {
+    Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+    if (!Files.exists(checkpoint)) {
+      return 0L;
+    }
+    return Long.parseLong(Files.readString(checkpoint, StandardCharsets.US_ASCII).trim());
+  }
+
+  private void writeCheckpoint(long sequence) {
+    Path checkpoint = directory.resolve(CHECKPOINT_FILE);
+    Path temp = directory.resolve(CHECKPOINT_FILE + ".tmp");
+    try {
+      Files.write(
+          temp,
+          Long.toString(sequence).getBytes(StandardCharsets.US_ASCII),
+          StandardOpenOption.CREATE,
+          StandardOpenOption.TRUNCATE_EXISTING,
+          StandardOpenOption.WRITE,
+          StandardOpenOption.SYNC);
+      Files.move(
+          temp, checkpoint, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** 세그먼트를 처음부터 읽어 유효한 기록을 넘기고, 마지막 유효 기록의 끝 위치를 반환합니다. */
+  private static ScanResult scan(Segment segment, Consumer<LedgerLogRecord> consumer) {
+    ByteBuffer view = segment.buffer().duplicate().position(0);
+    while (view.remaining() >= FRAME_HEADER_BYTES) {
+      int start = view.position();
+      int length = view.getInt();
+      if (length == 0) {
+        return new ScanResult(start, true);
+      }
+      if (length < 0 || length > view.remaining() - Integer.BYTES) {
+        return new ScanResult(start, false);
+      }
+      int expected = view.getInt();
+      byte[] payload = new byte[length];
+      view.get(payload);
+      CRC32C checksum = new CRC32C();
+      checksum.update(payload);
+      if ((int) checksum.getValue() != expected) {
+        return new ScanResult(start, false);
+      }
+      consumer.accept(LedgerLogCodec.decode(payload));
+    }
+    return new ScanResult(view.position(), true);
+  }
+
+  private record ScanResult(int end, boolean clean) {}
+
+  private record Segment(
+      long firstSequence, Path path, FileChannel channel, MappedByteBuffer buffer) {
+
+    static Segment create(Path directory, long firstSequence, int segmentBytes) {
+      Path path = directory.resolve("%020d%s".formatted(firstSequence, SEGMENT_SUFFIX));
+      return open(path, segmentBytes);
+    }
+
+    static Segment open(Path path, int segmentBytes) {
+      try {
+        FileChannel channel =
+            FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        // 설정이 바뀌어도 기존 세그먼트는 만들어진 크기 그대로 읽습니다.
+        long size = channel.size() > 0 ? channel.size() : segmentBytes;
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        return new Segment(firstSequenceOf(path), path, channel, buffer);
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+
+    static long firstSequenceOf(Path path) {
+      String name = path.getFileName().toString();
+      return Long.parseLong(name.substring(0, name.length() - SEGMENT_SUFFIX.length()));
+    }
+
+    /** 끊긴 쓰기의 잔해를 0으로 지워, 이후에 덧붙인 기록 뒤에서 다시 읽히지 않게 합니다. */
+    void truncateAt(int end) {
+      byte[] zeros = new byte[ZERO_FILL_BYTES];
+      buffer.position(end);
+      while (buffer.hasRemaining()) {
+        buffer.put(zeros, 0, Math.min(zeros.length, buffer.remaining()));
+      }
+      buffer.force();
+      buffer.position(end);
+    }
+
+    void close() {
+      try {
+        channel.close();
+      } catch (IOException e) {
+        throw new UncheckedIOException(e);
+      }
+    }
+  }
+}
@@ -0,0 +1,11 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.common.money.Money;
+import java.time.Instant;
+
+/** 과거 시점 잔액 조회 UseCase. */
+public interface BalanceAsOfUseCase {
+
+  /** {@code createdAt <= asOf}인 분개를 모두 반영한 잔액을 반환합니다. */
+  Money getBalanceAsOf(Long accountId, Instant asOf);
+}
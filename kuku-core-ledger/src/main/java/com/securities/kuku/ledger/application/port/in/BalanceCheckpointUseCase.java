@@ -0,0 +1,18 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.result.BalanceCheckpointResult;
+import java.time.Instant;
+
+/**
+ * 계좌 잔액 체크포인트 생성 UseCase.
+ *
+ * <p>직전 체크포인트 이후 분개가 있는 계좌만 새 체크포인트를 기록합니다. 같은 시각으로 다시 실행해도 이미 기록한 계좌는 건너뛰므로, 중간에 실패하면 그대로
+ * 다시 호출하면 됩니다.
+ */
+public interface BalanceCheckpointUseCase {
+
+  /**
+   * @param cutoff 체크포인트 시각. {@code createdAt <= cutoff}인 분개까지 반영합니다.
+   */
+  BalanceCheckpointResult createCheckpoints(Instant cutoff);
+}
@@ -0,0 +1,15 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.command.ConfirmTransactionCommand;
+import com.securities.kuku.ledger.application.port.in.result.BatchConfirmResult;
+import java.util.List;
+
+/**
+ * 거래소 정산 파일처럼 많은 PENDING 트랜잭션을 한 번에 확정하는 UseCase.
+ *
+ * <p>확정할 수 없는 트랜잭션은 건별로 거절되고, 나머지는 하나의 DB 트랜잭션으로 함께 반영됩니다.
+ */
+public interface BatchConfirmTransactionUseCase {
+
+  BatchConfirmResult confirmAll(List<ConfirmTransactionCommand> commands);
+}
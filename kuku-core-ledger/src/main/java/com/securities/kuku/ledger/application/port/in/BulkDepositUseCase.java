@@ -0,0 +1,21 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 배당·이자·환불처럼 많은 계좌에 한꺼번에 입금하는 UseCase.
+ *
+ * <p>요청은 청크 단위로 나뉘어 청크마다 하나의 DB 트랜잭션으로 반영되고, 커밋된 위치는 {@code batchId}별로 기록됩니다. 같은 {@code batchId}와
+ * 같은 순서의 요청으로 다시 호출하면 마지막으로 커밋된 청크 다음부터 이어서 처리합니다.
+ */
+public interface BulkDepositUseCase {
+
+  BulkDepositResult depositAll(String batchId, Stream<DepositCommand> deposits);
+
+  default BulkDepositResult depositAll(String batchId, List<DepositCommand> deposits) {
+    return depositAll(batchId, deposits.stream());
+  }
+}
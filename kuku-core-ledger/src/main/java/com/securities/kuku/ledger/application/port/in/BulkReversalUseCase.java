@@ -0,0 +1,15 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult;
+import java.util.List;
+
+/**
+ * 잘못 실행된 배치(중복 배당 등)의 트랜잭션을 한꺼번에 역분개하는 UseCase.
+ *
+ * <p>요청은 청크 단위의 DB 트랜잭션으로 반영됩니다. 이미 역분개된 트랜잭션은 건별로 거절되므로, 중간에 실패하면 같은 요청으로 다시 호출하면 됩니다.
+ */
+public interface BulkReversalUseCase {
+
+  BulkReversalResult reverseAll(List<ReversalCommand> commands);
+}
@@ -0,0 +1,14 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.result.JournalArchiveResult;
+
+/**
+ * 분개 월 파티션 관리 UseCase.
+ *
+ * <p>앞으로 쓸 월 파티션을 미리 만들고, 보관 기간이 지난 파티션을 압축 파일로 옮긴 뒤 테이블에서 지웁니다. 옮긴 분개는 계좌 거래내역·시점 잔액·대사
+ * 조회에서 계속 보입니다. 중간에 실패하면 다시 호출하여 이어서 처리합니다.
+ */
+public interface JournalArchiveUseCase {
+
+  JournalArchiveResult archive();
+}
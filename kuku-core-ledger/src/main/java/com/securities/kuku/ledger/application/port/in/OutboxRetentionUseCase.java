@@ -0,0 +1,14 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.result.OutboxRetentionResult;
+
+/**
+ * Outbox 일 파티션 관리 UseCase.
+ *
+ * <p>앞으로 쓸 일 파티션을 미리 만들고, 보관 기간이 지났고 모든 이벤트가 발행된 파티션을 통째로 지웁니다. 중간에 실패하면 다시 호출하여 이어서
+ * 처리합니다.
+ */
+public interface OutboxRetentionUseCase {
+
+  OutboxRetentionResult rotate();
+}
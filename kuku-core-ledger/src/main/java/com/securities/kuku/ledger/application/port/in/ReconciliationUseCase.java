@@ -0,0 +1,14 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.result.ReconciliationResult;
+
+/**
+ * 원장 대사 UseCase.
+ *
+ * <p>모든 계좌의 {@code balances} 잔액이 분개의 부호 있는 합계와 같은지 확인하고 다른 계좌를 불일치 내역으로 남깁니다. 진행 위치는 청크마다
+ * 저장되므로, 중간에 실패하면 같은 {@code runId}로 다시 호출하여 이어서 대사합니다.
+ */
+public interface ReconciliationUseCase {
+
+  ReconciliationResult reconcile(String runId);
+}
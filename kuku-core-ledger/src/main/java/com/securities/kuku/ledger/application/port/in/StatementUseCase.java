@@ -0,0 +1,23 @@
+package com.securities.kuku.ledger.application.port.in;
+
+import com.securities.kuku.ledger.application.port.in.result.StatementLine;
+import com.securities.kuku.ledger.application.port.in.result.StatementPage;
+import java.util.function.Consumer;
+
+/**
+ * 계좌 거래내역 조회 UseCase.
+ *
+ * <p>최신 분개부터 보여주며, 각 줄에는 그 분개가 반영된 직후의 잔액이 함께 담깁니다.
+ */
+public interface StatementUseCase {
+
+  /**
+   * @param accountId 계좌 ID
+   * @param cursor 이전 페이지의 {@link StatementPage#nextCursor()}. 첫 페이지는 {@code null}
+   * @param size 페이지 크기
+   */
+  StatementPage getStatement(Long accountId, String cursor, int size);
+
+  /** 계좌의 전체 거래내역을 최신순으로 {@code sink}에 흘려 보냅니다. */
+  void exportStatement(Long accountId, Consumer<StatementLine> sink);
+}
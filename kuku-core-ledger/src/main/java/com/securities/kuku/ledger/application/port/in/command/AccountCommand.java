@@ -0,0 +1,7 @@
+package com.securities.kuku.ledger.application.port.in.command;
+
+/** 단일 계좌의 잔액을 변경하는 커맨드. 재시도 정책이 계좌별 경합을 추적하는 키로 사용합니다. */
+public interface AccountCommand {
+
+  Long accountId();
+}
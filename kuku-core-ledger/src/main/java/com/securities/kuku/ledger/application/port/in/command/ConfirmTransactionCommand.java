@@ -1,8 +1,9 @@
 package com.securities.kuku.ledger.application.port.in.command;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 
-public record ConfirmTransactionCommand(Long transactionId, Long accountId, BigDecimal amount) {
+public record ConfirmTransactionCommand(Long transactionId, Long accountId, Money amount)
+    implements AccountCommand {
 
   public ConfirmTransactionCommand {
     if (transactionId == null) {
@@ -11,7 +12,7 @@ public record ConfirmTransactionCommand(Long transactionId, Long accountId, BigD
     if (accountId == null) {
       throw new IllegalArgumentException("Account ID cannot be null");
     }
-    if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    if (amount == null || !amount.isPositive()) {
       throw new IllegalArgumentException("Amount must be greater than zero");
     }
   }
@@ -1,15 +1,16 @@
 package com.securities.kuku.ledger.application.port.in.command;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 
 public record WithdrawCommand(
-    Long accountId, BigDecimal amount, String description, String businessRefId) {
+    Long accountId, Money amount, String description, String businessRefId)
+    implements AccountCommand {
 
   public WithdrawCommand {
     if (accountId == null) {
       throw new IllegalArgumentException("Account ID cannot be null");
     }
-    if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    if (amount == null || !amount.isPositive()) {
       throw new IllegalArgumentException("Amount must be greater than zero");
     }
     if (businessRefId == null || businessRefId.isBlank()) {
@@ -18,11 +19,11 @@ public record WithdrawCommand(
   }
 
   public static WithdrawCommand of(
-      Long accountId, BigDecimal amount, String description, String businessRefId) {
+      Long accountId, Money amount, String description, String businessRefId) {
     return new WithdrawCommand(accountId, amount, description, businessRefId);
   }
 
-  public static WithdrawCommand of(Long accountId, BigDecimal amount, String businessRefId) {
+  public static WithdrawCommand of(Long accountId, Money amount, String businessRefId) {
     return new WithdrawCommand(accountId, amount, null, businessRefId);
   }
 }
@@ -0,0 +1,14 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import java.time.Instant;
+
+/**
+ * 잔액 체크포인트 생성 결과.
+ *
+ * @param cutoff 체크포인트 시각
+ * @param scannedAccounts 확인한 계좌 수
+ * @param checkpointedAccounts 새 체크포인트를 기록한 계좌 수
+ * @param failedChunks 실패한 청크 수. 해당 계좌는 다음 실행에서 다시 처리됩니다.
+ */
+public record BalanceCheckpointResult(
+    Instant cutoff, long scannedAccounts, long checkpointedAccounts, int failedChunks) {}
@@ -0,0 +1,36 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * 일괄 확정 결과.
+ *
+ * @param items 요청 순서대로의 트랜잭션별 결과
+ */
+public record BatchConfirmResult(List<ItemResult> items) {
+
+  public long countOf(Status status) {
+    return items.stream().filter(item -> item.status() == status).count();
+  }
+
+  public enum Status {
+    CONFIRMED,
+    REJECTED
+  }
+
+  /**
+   * @param transactionId 확정 요청한 트랜잭션 ID
+   * @param status 처리 결과
+   * @param reason 거절 사유 (REJECTED일 때만)
+   */
+  public record ItemResult(Long transactionId, Status status, String reason) {
+
+    public static ItemResult confirmed(Long transactionId) {
+      return new ItemResult(transactionId, Status.CONFIRMED, null);
+    }
+
+    public static ItemResult rejected(Long transactionId, String reason) {
+      return new ItemResult(transactionId, Status.REJECTED, reason);
+    }
+  }
+}
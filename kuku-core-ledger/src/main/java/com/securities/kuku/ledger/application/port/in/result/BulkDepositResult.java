@@ -0,0 +1,46 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * 대량 입금 결과.
+ *
+ * @param batchId 배치 ID
+ * @param resumedFrom 이번 호출이 시작한 요청 위치. 이전 실행에서 커밋된 요청은 건너뛰며 결과에 포함되지 않습니다.
+ * @param nextIndex 다음 실행이 시작할 위치 (= 커밋된 요청 수)
+ * @param items 이번 호출에서 처리한 요청별 결과
+ */
+public record BulkDepositResult(
+    String batchId, int resumedFrom, int nextIndex, List<ItemResult> items) {
+
+  public long countOf(Status status) {
+    return items.stream().filter(item -> item.status() == status).count();
+  }
+
+  public enum Status {
+    POSTED,
+    DUPLICATE,
+    REJECTED
+  }
+
+  /**
+   * @param index 입력 스트림에서의 위치 (0부터)
+   * @param businessRefId 요청의 businessRefId
+   * @param status 처리 결과
+   * @param reason 거절 사유 (REJECTED일 때만)
+   */
+  public record ItemResult(int index, String businessRefId, Status status, String reason) {
+
+    public static ItemResult posted(int index, String businessRefId) {
+      return new ItemResult(index, businessRefId, Status.POSTED, null);
+    }
+
+    public static ItemResult duplicate(int index, String businessRefId) {
+      return new ItemResult(index, businessRefId, Status.DUPLICATE, null);
+    }
+
+    public static ItemResult rejected(int index, String businessRefId, String reason) {
+      return new ItemResult(index, businessRefId, Status.REJECTED, reason);
+    }
+  }
+}
@@ -0,0 +1,38 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * 대량 역분개 결과.
+ *
+ * @param items 요청 순서대로의 트랜잭션별 결과
+ */
+public record BulkReversalResult(List<ItemResult> items) {
+
+  public long countOf(Status status) {
+    return items.stream().filter(item -> item.status() == status).count();
+  }
+
+  public enum Status {
+    REVERSED,
+    REJECTED
+  }
+
+  /**
+   * @param originalTransactionId 역분개 요청한 원 트랜잭션 ID
+   * @param status 처리 결과
+   * @param reversalTransactionId 생성된 역분개 트랜잭션 ID (REVERSED일 때만)
+   * @param reason 거절 사유 (REJECTED일 때만)
+   */
+  public record ItemResult(
+      Long originalTransactionId, Status status, Long reversalTransactionId, String reason) {
+
+    public static ItemResult reversed(Long originalTransactionId, Long reversalTransactionId) {
+      return new ItemResult(originalTransactionId, Status.REVERSED, reversalTransactionId, null);
+    }
+
+    public static ItemResult rejected(Long originalTransactionId, String reason) {
+      return new ItemResult(originalTransactionId, Status.REJECTED, null, reason);
+    }
+  }
+}
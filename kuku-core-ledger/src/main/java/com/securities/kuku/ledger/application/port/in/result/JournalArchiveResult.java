@@ -0,0 +1,18 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * 분개 파티션 관리 결과.
+ *
+ * @param horizon 이 시각 전에 끝나는 파티션을 보관함
+ * @param createdPartitions 새로 만든 파티션
+ * @param archivedPartitions 보관 후 지운 파티션
+ * @param archivedRows 보관한 분개 수
+ */
+public record JournalArchiveResult(
+    Instant horizon,
+    List<String> createdPartitions,
+    List<String> archivedPartitions,
+    long archivedRows) {}
@@ -0,0 +1,20 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outbox 파티션 관리 결과.
+ *
+ * @param horizon 이 시각 전에 끝나는 파티션을 지움
+ * @param createdPartitions 새로 만든 파티션
+ * @param droppedPartitions 지운 파티션
+ * @param retainedPartitions 보관 기간이 지났지만 PENDING 이벤트가 남아 지우지 않은 파티션
+ * @param deadLetteredEvents 지운 파티션에서 dead letter 테이블로 복사한 FAILED 이벤트 수
+ */
+public record OutboxRetentionResult(
+    Instant horizon,
+    List<String> createdPartitions,
+    List<String> droppedPartitions,
+    List<String> retainedPartitions,
+    long deadLetteredEvents) {}
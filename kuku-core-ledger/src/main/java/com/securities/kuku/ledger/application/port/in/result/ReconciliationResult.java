@@ -0,0 +1,18 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+/**
+ * 원장 대사 결과. 이어서 실행한 경우 이번 호출에서 처리한 분량만 셉니다.
+ *
+ * @param runId 대사 실행 ID
+ * @param partitions 전체 구간 수
+ * @param checkedAccounts 대사한 계좌 수
+ * @param mismatches 발견한 불일치 수
+ * @param failedPartitions 실패한 구간 수. 같은 {@code runId}로 다시 실행하면 이어서 처리됩니다.
+ */
+public record ReconciliationResult(
+    String runId, int partitions, long checkedAccounts, long mismatches, int failedPartitions) {
+
+  public boolean isClean() {
+    return mismatches == 0 && failedPartitions == 0;
+  }
+}
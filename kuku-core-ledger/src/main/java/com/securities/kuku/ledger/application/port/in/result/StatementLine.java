@@ -0,0 +1,34 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.time.Instant;
+
+/**
+ * 거래내역 한 줄.
+ *
+ * @param journalEntryId 분개 ID
+ * @param transactionId 트랜잭션 ID
+ * @param entryType CREDIT(입금) / DEBIT(출금)
+ * @param amount 금액 (항상 양수)
+ * @param balanceAfter 이 분개가 반영된 직후의 잔액
+ * @param createdAt 분개 일시
+ */
+public record StatementLine(
+    Long journalEntryId,
+    Long transactionId,
+    JournalEntry.EntryType entryType,
+    Money amount,
+    Money balanceAfter,
+    Instant createdAt) {
+
+  public static StatementLine of(JournalEntry entry, Money balanceAfter) {
+    return new StatementLine(
+        entry.getId(),
+        entry.getTransactionId(),
+        entry.getEntryType(),
+        entry.getAmount(),
+        balanceAfter,
+        entry.getCreatedAt());
+  }
+}
@@ -0,0 +1,16 @@
+package com.securities.kuku.ledger.application.port.in.result;
+
+import java.util.List;
+
+/**
+ * 거래내역 한 페이지.
+ *
+ * @param lines 최신순 거래내역
+ * @param nextCursor 다음 페이지 커서. 마지막 페이지면 {@code null}
+ */
+public record StatementPage(List<StatementLine> lines, String nextCursor) {
+
+  public boolean hasNext() {
+    return nextCursor != null;
+  }
+}
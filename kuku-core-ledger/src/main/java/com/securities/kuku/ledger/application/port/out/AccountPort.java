@@ -1,9 +1,21 @@
 package com.securities.kuku.ledger.application.port.out;
 
 import com.securities.kuku.ledger.domain.Account;
+import java.util.List;
 import java.util.Optional;
+import java.util.OptionalLong;
 
 public interface AccountPort {
 
   Optional<Account> findById(Long accountId);
+
+  /** {@code afterId}보다 큰 계좌 ID를 오름차순으로 {@code limit}개 조회합니다. (keyset 순회) */
+  List<Long> findIdsAfter(Long afterId, int limit);
+
+  /** {@code afterId < id <= toId}인 계좌 ID를 오름차순으로 {@code limit}개 조회합니다. */
+  List<Long> findIdsBetween(Long afterId, Long toId, int limit);
+
+  OptionalLong findMinId();
+
+  OptionalLong findMaxId();
 }
@@ -0,0 +1,23 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+
+/** 계좌 잔액 체크포인트를 저장하는 Outbound Port. */
+public interface BalanceCheckpointPort {
+
+  /** {@code checkpointAt <= at}인 체크포인트 중 가장 최근 것을 조회합니다. */
+  Optional<BalanceCheckpoint> findLatest(Long accountId, Instant at);
+
+  /**
+   * 계좌별로 {@code checkpointAt <= at}인 가장 최근 체크포인트를 조회합니다.
+   *
+   * @return 계좌 ID → 체크포인트. 체크포인트가 없는 계좌는 포함되지 않음
+   */
+  Map<Long, BalanceCheckpoint> findLatestByAccountIds(Collection<Long> accountIds, Instant at);
+
+  void saveAll(Collection<BalanceCheckpoint> checkpoints);
+}
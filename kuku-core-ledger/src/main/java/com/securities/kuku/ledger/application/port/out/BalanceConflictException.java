@@ -0,0 +1,26 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.ledger.domain.Balance;
+import lombok.Getter;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * {@link BalancePort}가 잔액을 갱신하는 사이 같은 계좌에 다른 쓰기가 있었을 때 발생하는 예외.
+ *
+ * <p>Optimistic Lock 충돌의 한 종류이므로 {@code @Retryable}의 재시도 대상에 그대로 포함되며, 충돌한 계좌 ID를 담아 호출자가 영속성
+ * 엔티티를 몰라도 어느 계좌에서 충돌했는지 알 수 있게 합니다.
+ */
+@Getter
+public class BalanceConflictException extends ObjectOptimisticLockingFailureException {
+
+  private final Long accountId;
+
+  public BalanceConflictException(Long accountId) {
+    this(accountId, null);
+  }
+
+  public BalanceConflictException(Long accountId, Throwable cause) {
+    super(Balance.class, accountId, cause);
+    this.accountId = accountId;
+  }
+}
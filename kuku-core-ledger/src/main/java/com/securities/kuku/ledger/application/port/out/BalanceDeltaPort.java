@@ -0,0 +1,27 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.common.money.Money;
+import java.time.Instant;
+
+/**
+ * 잔액을 읽지 않고 증감분만 반영하는 포트.
+ *
+ * <p>각 메서드는 조건부 UPDATE 한 번으로 끝나며, 반영 여부는 영향받은 행 수로 판단합니다. 행 잠금 안에서 조건을 평가하므로 Optimistic Lock
+ * 충돌과 재시도가 발생하지 않습니다.
+ */
+public interface BalanceDeltaPort {
+
+  /**
+   * 잔액을 증가시킵니다.
+   *
+   * @return 잔액 행이 없으면 false
+   */
+  boolean increase(Long accountId, Money amount, Long transactionId, Instant now);
+
+  /**
+   * 가용 잔액(amount - holdAmount)이 충분할 때만 잔액을 차감합니다.
+   *
+   * @return 잔액 행이 없거나 가용 잔액이 부족하면 false
+   */
+  boolean decreaseIfAvailable(Long accountId, Money amount, Long transactionId, Instant now);
+}
@@ -0,0 +1,25 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import java.time.Instant;
+import java.util.OptionalInt;
+
+/** 대량 입금의 청크 커밋 위치를 저장하는 Outbound Port. */
+public interface BulkDepositCheckpointPort {
+
+  /**
+   * 배치의 다음 시작 위치를 조회합니다.
+   *
+   * @param batchId 배치 ID
+   * @return 커밋된 요청 수. 처음 실행하는 배치면 빈 값
+   */
+  OptionalInt findNextIndex(String batchId);
+
+  /**
+   * 청크를 반영한 트랜잭션 안에서 다음 시작 위치를 기록합니다.
+   *
+   * @param batchId 배치 ID
+   * @param nextIndex 커밋된 요청 수
+   * @param now 기록 시각
+   */
+  void save(String batchId, int nextIndex, Instant now);
+}
@@ -0,0 +1,41 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.ledger.domain.JournalArchive;
+import com.securities.kuku.ledger.domain.JournalArchiveAccount;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/** 분개 보관 파일과 그 목록·계좌 요약. */
+public interface JournalArchivePort {
+
+  List<JournalArchive> findArchives();
+
+  /**
+   * 파티션 하나를 보관 파일로 쓰기 시작합니다. 같은 파티션을 다시 쓰면 이전 파일과 계좌 요약을 대체합니다.
+   *
+   * <p>분개는 {@code (accountId, createdAt, id)} 오름차순으로 넘겨야 합니다.
+   */
+  Writer openWriter(String partitionName);
+
+  void save(JournalArchive archive);
+
+  /** 계좌들의 보관 요약. 여러 보관분에 걸친 계좌는 보관분마다 하나씩 있습니다. */
+  List<JournalArchiveAccount> findAccounts(Collection<Long> accountIds);
+
+  /** 보관 파일에서 계좌의 분개를 {@code (createdAt, id)} 오름차순으로 읽습니다. */
+  List<JournalEntry> readEntries(JournalArchive archive, JournalArchiveAccount account);
+
+  interface Writer extends AutoCloseable {
+
+    void append(JournalEntry entry);
+
+    /** 파일과 계좌 요약을 마무리하고 {@link JournalArchive.Status#WRITTEN} 상태로 기록합니다. */
+    JournalArchive finish(Instant now);
+
+    /** {@link #finish} 전에 닫으면 쓰던 파일을 지웁니다. */
+    @Override
+    void close();
+  }
+}
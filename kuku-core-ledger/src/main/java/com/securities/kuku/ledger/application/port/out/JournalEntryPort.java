@@ -1,9 +1,18 @@
 package com.securities.kuku.ledger.application.port.out;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.domain.JournalEntry;
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
 
+/**
+ * 분개 저장과 조회.
+ *
+ * <p>계좌 단위 조회(목록, 내보내기, 합계)는 보관 파일로 옮긴 분개까지 포함합니다. 트랜잭션 ID로 찾는 조회는 테이블에 남은 분개만 봅니다.
+ */
 public interface JournalEntryPort {
 
   void save(JournalEntry journalEntry);
@@ -11,4 +20,30 @@ public interface JournalEntryPort {
   void saveAll(Collection<JournalEntry> journalEntries);
 
   List<JournalEntry> findByTransactionId(Long transactionId);
+
+  List<JournalEntry> findByTransactionIds(Collection<Long> transactionIds);
+
+  /** 계좌의 최신 분개부터 {@code limit}건을 {@code (createdAt, id)} 내림차순으로 조회합니다. */
+  List<JournalEntry> findLatestByAccountId(Long accountId, int limit);
+
+  /** {@code (createdAt, id)}가 주어진 위치보다 앞선 분개를 내림차순으로 {@code limit}건 조회합니다. (keyset 페이지네이션) */
+  List<JournalEntry> findByAccountIdBefore(Long accountId, Instant createdAt, Long id, int limit);
+
+  /**
+   * 계좌의 모든 분개를 최신순으로 흘려 보냅니다. 트랜잭션 안에서 사용하고 반드시 닫아야 합니다.
+   *
+   * <p>결과를 메모리에 모으지 않으므로 분개 수와 무관하게 일정한 메모리로 내보내기를 할 수 있습니다.
+   */
+  Stream<JournalEntry> streamByAccountId(Long accountId);
+
+  /** {@code after < createdAt <= upTo}인 분개의 부호 있는 합계(CREDIT +, DEBIT -)를 구합니다. 분개가 없으면 0입니다. */
+  Money sumSignedAmount(Long accountId, Instant after, Instant upTo);
+
+  /**
+   * 계좌별로 {@code after < createdAt <= upTo}인 분개의 부호 있는 합계를 구합니다.
+   *
+   * @return 계좌 ID → 합계. 구간에 분개가 없는 계좌는 포함되지 않음
+   */
+  Map<Long, Money> sumSignedAmountByAccountIds(
+      Collection<Long> accountIds, Instant after, Instant upTo);
 }
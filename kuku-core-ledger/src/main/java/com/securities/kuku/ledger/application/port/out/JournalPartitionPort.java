@@ -0,0 +1,39 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 분개 테이블의 월 파티션 관리.
+ *
+ * <p>파티션은 ID(TSID) 범위로 나뉘고, 이름이 {@code pYYYYMM}인 파티션은 그 달(UTC) 말까지 생성된 ID를 담습니다. 마지막 파티션은 상한이
+ * 없습니다.
+ */
+public interface JournalPartitionPort {
+
+  /** 상한 오름차순. 마지막 파티션의 {@link Partition#upperBound()}는 {@code null}입니다. */
+  List<Partition> findPartitions();
+
+  /** 상한 없는 마지막 파티션을 나누어 {@code upperBound} 직전까지를 담는 파티션을 추가합니다. */
+  void addPartition(String name, Instant upperBound);
+
+  long countRows(String name);
+
+  /** 파티션의 분개를 {@code (accountId, createdAt, id)} 오름차순으로 흘려 보냅니다. */
+  void forEachRow(String name, Consumer<JournalEntry> action);
+
+  void dropPartition(String name);
+
+  /**
+   * @param name 파티션 이름
+   * @param upperBound 이 시각 이후에 생성된 ID는 담지 않음. 상한 없는 파티션은 {@code null}
+   */
+  record Partition(String name, Instant upperBound) {
+
+    public boolean isBounded() {
+      return upperBound != null;
+    }
+  }
+}
@@ -0,0 +1,32 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 원장 로그(WAL) 포트.
+ *
+ * <p>기록은 덧붙인 순서대로 DB에 반영되어야 하며, {@link #markApplied}로 알린 순번까지는 재기동 시 다시 돌려주지 않습니다.
+ */
+public interface LedgerLogPort {
+
+  /**
+   * 로그를 열고, DB에 반영되지 않은 기록을 순번 순서대로 반환합니다. 다른 메서드보다 먼저 한 번 호출해야 합니다.
+   *
+   * <p>마지막 세그먼트 끝에서 체크섬이 맞지 않는 기록은 fsync 전에 중단된 쓰기이므로 버립니다.
+   */
+  List<LedgerLogRecord> recover();
+
+  /** 기록에 순번을 매겨 로그 끝에 덧붙입니다. 디스크 반영은 {@link #awaitDurable}로 기다립니다. */
+  LedgerLogRecord append(LedgerLogRecord record);
+
+  /** 해당 순번까지 fsync될 때까지 기다립니다. 여러 호출자의 기다림은 fsync 한 번으로 함께 풀립니다. */
+  void awaitDurable(long sequence);
+
+  /** DB에 반영할 기록을 덧붙인 순서대로 최대 {@code maxRecords}건 꺼냅니다. 없으면 {@code timeout}까지 기다립니다. */
+  List<LedgerLogRecord> takeAppended(int maxRecords, Duration timeout) throws InterruptedException;
+
+  /** 해당 순번까지 DB에 반영되었음을 기록하고, 더 이상 필요 없는 세그먼트를 지웁니다. */
+  void markApplied(long sequence);
+}
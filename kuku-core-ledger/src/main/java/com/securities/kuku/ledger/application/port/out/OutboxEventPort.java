@@ -2,6 +2,7 @@ package com.securities.kuku.ledger.application.port.out;
 
 import com.securities.kuku.ledger.domain.OutboxEvent;
 import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 
 /** Outbox 이벤트 저장 및 조회를 위한 Outbound Port. */
@@ -16,23 +17,44 @@ public interface OutboxEventPort {
   OutboxEvent save(OutboxEvent event);
 
   /**
-   * PENDING 상태의 이벤트 목록을 조회합니다. (PR 8에서 구현)
+   * Outbox 이벤트 목록을 한 번에 저장합니다. Group Commit 처럼 여러 트랜잭션을 묶어 기록할 때 사용합니다.
    *
+   * @param events 저장할 이벤트 목록
+   * @return 저장된 이벤트 목록 (ID 포함, 입력 순서)
+   */
+  List<OutboxEvent> saveAll(List<OutboxEvent> events);
+
+  /**
+   * 주어진 파티션 중 다른 relay가 잡고 있지 않은 파티션을 잠그고, 그 파티션들의 PENDING 이벤트를 생성 순서대로 최대 {@code limit}건
+   * 가져옵니다.
+   *
+   * <p>파티션 잠금은 현재 트랜잭션이 끝날 때까지 유지됩니다. 다른 relay가 잠근 파티션은 기다리지 않고 건너뛰므로, 한 파티션의 이벤트는
+   * 어느 시점에든 relay 하나만 발행하며 생성 순서가 유지됩니다.
+   *
+   * @param partitionNos 맡은 파티션 번호
    * @param limit 최대 조회 개수
-   * @return PENDING 상태의 이벤트 목록
+   * @return 잠근 파티션의 이벤트 목록
    */
-  List<OutboxEvent> findPendingEvents(int limit);
+  List<OutboxEvent> claimPendingEvents(Collection<Integer> partitionNos, int limit);
 
   /**
-   * 이벤트를 PROCESSED 상태로 변경합니다. (PR 8에서 구현)
+   * 이벤트들을 UPDATE 한 번으로 PROCESSED 상태로 변경합니다.
    *
-   * @param eventId 이벤트 ID
+   * @param eventIds 이벤트 ID 목록
    * @param processedAt 처리 시각
    */
-  void markAsProcessed(Long eventId, Instant processedAt);
+  void markAsProcessed(Collection<Long> eventIds, Instant processedAt);
+
+  /**
+   * 발행에 실패한 이벤트를 PENDING 상태로 두고 재시도 횟수만 기록합니다.
+   *
+   * @param eventId 이벤트 ID
+   * @param retryCount 재시도 횟수
+   */
+  void markForRetry(Long eventId, int retryCount);
 
   /**
-   * 이벤트를 FAILED 상태로 변경합니다. (PR 8에서 구현)
+   * 이벤트를 FAILED 상태로 변경합니다. 다시 시도해도 발행할 수 없는 이벤트로, 수동 조치 대상입니다.
    *
    * @param eventId 이벤트 ID
    * @param retryCount 재시도 횟수
@@ -0,0 +1,18 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.ledger.domain.OutboxEvent;
+
+/** Outbox 이벤트를 외부(메시지 브로커 등)로 발행하기 위한 Outbound Port. */
+public interface OutboxPublishPort {
+
+  /**
+   * 이벤트 하나를 발행합니다. 정상적으로 반환되면 발행된 것으로 보고 PROCESSED로 표시합니다.
+   *
+   * <p>같은 이벤트가 두 번 이상 발행될 수 있으므로(At-Least-Once, ADR 008) 컨슈머는 멱등해야 합니다.
+   *
+   * @param event 발행할 이벤트
+   * @throws IllegalArgumentException payload를 읽을 수 없는 등 다시 시도해도 발행할 수 없는 경우. 이벤트는 FAILED가 됩니다.
+   * @throws RuntimeException 그 밖에 발행에 실패한 경우. 이벤트는 재시도 대상이 되며 같은 파티션의 뒤 이벤트는 기다립니다.
+   */
+  void publish(OutboxEvent event);
+}
@@ -0,0 +1,43 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import java.time.Instant;
+import java.util.List;
+
+/**
+ * Outbox 테이블의 일 파티션 관리.
+ *
+ * <p>파티션은 ID(TSID) 범위로 나뉘고, 이름이 {@code pYYYYMMDD}인 파티션은 그 날(UTC) 생성된 ID를 담습니다. 마지막 파티션은 상한이
+ * 없습니다. 발행 순서를 나누는 {@code partition_no}와는 관계없습니다.
+ */
+public interface OutboxRetentionPort {
+
+  /** 상한 오름차순. 마지막 파티션의 {@link Partition#upperBound()}는 {@code null}입니다. */
+  List<Partition> findPartitions();
+
+  /** 상한 없는 마지막 파티션을 나누어 {@code upperBound} 직전까지를 담는 파티션을 추가합니다. */
+  void addPartition(String name, Instant upperBound);
+
+  /** 아직 발행을 기다리는 PENDING 이벤트 수. */
+  long countPending(String name);
+
+  /**
+   * 파티션의 FAILED 이벤트를 dead letter 테이블로 복사하고 복사한 수를 돌려줍니다. 이미 복사된 이벤트는 건너뛰므로, 복사한 뒤 파티션을 지우기
+   * 전에 멈췄다가 다시 실행해도 됩니다.
+   *
+   * @param deadLetteredAt 복사 시각
+   */
+  long copyFailedToDeadLetter(String name, Instant deadLetteredAt);
+
+  void dropPartition(String name);
+
+  /**
+   * @param name 파티션 이름
+   * @param upperBound 이 시각 이후에 생성된 ID는 담지 않음. 상한 없는 파티션은 {@code null}
+   */
+  record Partition(String name, Instant upperBound) {
+
+    public boolean isBounded() {
+      return upperBound != null;
+    }
+  }
+}
@@ -0,0 +1,24 @@
+package com.securities.kuku.ledger.application.port.out;
+
+import com.securities.kuku.ledger.domain.ReconciliationMismatch;
+import com.securities.kuku.ledger.domain.ReconciliationPartition;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+/** 원장 대사의 구간별 진행 위치와 불일치 내역을 저장하는 Outbound Port. */
+public interface ReconciliationPort {
+
+  /** 실행의 모든 구간을 구간 번호 순으로 조회합니다. 처음 실행하는 ID면 빈 목록입니다. */
+  List<ReconciliationPartition> findPartitions(String runId);
+
+  /** 새 실행의 구간을 한 번에 만듭니다. 일부만 저장된 채로 이어서 실행되지 않도록 하나의 트랜잭션으로 저장합니다. */
+  void createPartitions(Collection<ReconciliationPartition> partitions, Instant now);
+
+  /** 구간의 진행 위치를 갱신합니다. */
+  void savePartition(ReconciliationPartition partition, Instant now);
+
+  void saveMismatches(Collection<ReconciliationMismatch> mismatches);
+
+  List<ReconciliationMismatch> findMismatches(String runId);
+}
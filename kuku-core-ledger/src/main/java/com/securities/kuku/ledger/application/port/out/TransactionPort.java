@@ -1,15 +1,36 @@
 package com.securities.kuku.ledger.application.port.out;
 
 import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 public interface TransactionPort {
 
   Optional<Transaction> findById(Long transactionId);
 
+  Map<Long, Transaction> findByIds(Set<Long> transactionIds);
+
   Optional<Transaction> findByBusinessRefId(String businessRefId);
 
+  Set<String> findExistingBusinessRefIds(Collection<String> businessRefIds);
+
   Transaction save(Transaction transaction);
 
-  void update(Transaction transaction);
+  List<Transaction> saveAll(List<Transaction> transactions);
+
+  /**
+   * 저장된 상태가 {@code expectedStatus}일 때만 상태를 바꿉니다. 같은 트랜잭션을 동시에 전이시키면 먼저 커밋한 쪽만 성공하고, 나머지는
+   * Optimistic Lock 충돌로 실패하여 재시도 시 바뀐 상태를 읽습니다.
+   */
+  void update(Transaction transaction, TransactionStatus expectedStatus);
+
+  /**
+   * 각 트랜잭션에 {@link #update(Transaction, TransactionStatus)}와 같은 조건을 걸어 한 번에 바꿉니다. 행은 전달한 순서와 관계없이
+   * 트랜잭션 ID 오름차순으로 갱신합니다.
+   */
+  void updateAll(Collection<Transaction> transactions, TransactionStatus expectedStatus);
 }
@@ -0,0 +1,137 @@
+package com.securities.kuku.ledger.application.service;
+
+import com.securities.kuku.ledger.application.port.in.BatchConfirmTransactionUseCase;
+import com.securities.kuku.ledger.application.port.in.command.ConfirmTransactionCommand;
+import com.securities.kuku.ledger.application.port.in.result.BatchConfirmResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BatchConfirmResult;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.domain.exception.InvalidTransactionStateException;
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * PENDING 트랜잭션 묶음을 하나의 DB 트랜잭션으로 확정합니다.
+ *
+ * <p>트랜잭션 조회 1회, 잔액 조회 1회, 상태 UPDATE·분개 INSERT·잔액 UPDATE·Outbox INSERT 배치 각 1회로 요청 수와 무관하게 왕복 횟수가
+ * 고정됩니다. 같은 계좌의 여러 확정은 메모리에서 누적하여 계좌당 한 번만 갱신합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BatchConfirmTransactionService implements BatchConfirmTransactionUseCase {
+
+  private final Clock clock;
+  private final TransactionPort transactionPort;
+  private final BalancePort balancePort;
+  private final JournalEntryPort journalEntryPort;
+  private final OutboxEventRecorder outboxEventRecorder;
+  private final LedgerLogModeGuard ledgerLogModeGuard;
+
+  @Override
+  @Retryable(label = "batch-confirm", interceptor = LedgerRetryInterceptor.BEAN_NAME)
+  @Transactional
+  public BatchConfirmResult confirmAll(List<ConfirmTransactionCommand> commands) {
+    ledgerLogModeGuard.requireDirectBalanceWrite("confirm transactions");
+    if (commands.isEmpty()) {
+      return new BatchConfirmResult(List.of());
+    }
+
+    // 1. 트랜잭션과 잔액을 한 번씩 조회
+    Map<Long, Transaction> transactions =
+        transactionPort.findByIds(
+            commands.stream()
+                .map(ConfirmTransactionCommand::transactionId)
+                .collect(Collectors.toSet()));
+    Map<Long, Balance> balances =
+        balancePort.findByAccountIds(
+            commands.stream()
+                .map(ConfirmTransactionCommand::accountId)
+                .collect(Collectors.toSet()));
+
+    Instant now = clock.instant();
+
+    // 2. 상태 전이와 잔액 검증을 메모리에서 수행 (실패는 건별로 거절)
+    List<ItemResult> results = new ArrayList<>(commands.size());
+    List<Transaction> confirmedTransactions = new ArrayList<>();
+    List<JournalEntry> journalEntries = new ArrayList<>();
+    List<LedgerPostedEvent> events = new ArrayList<>();
+    Map<Long, Balance> updatedBalances = new HashMap<>();
+    Set<Long> seenTransactionIds = new HashSet<>();
+    for (ConfirmTransactionCommand command : commands) {
+      Long transactionId = command.transactionId();
+      Transaction transaction = transactions.get(transactionId);
+      Balance balance =
+          updatedBalances.getOrDefault(command.accountId(), balances.get(command.accountId()));
+      if (!seenTransactionIds.add(transactionId)) {
+        results.add(reject(transactionId, "Duplicate transaction in batch: " + transactionId));
+        continue;
+      }
+      if (transaction == null) {
+        results.add(reject(transactionId, "Transaction not found: " + transactionId));
+        continue;
+      }
+      if (balance == null) {
+        results.add(reject(transactionId, "Balance not found: " + command.accountId()));
+        continue;
+      }
+
+      try {
+        Transaction confirmed = transaction.confirm();
+        JournalEntry journalEntry =
+            confirmed.createJournalEntry(command.accountId(), command.amount(), now);
+        Balance newBalance =
+            confirmed.getType().applyTo(balance, command.amount(), confirmed.getId(), now);
+
+        confirmedTransactions.add(confirmed);
+        journalEntries.add(journalEntry);
+        updatedBalances.put(command.accountId(), newBalance);
+        events.add(
+            confirmed.toPostedEvent(command.accountId(), command.amount(), confirmed.getType()));
+        results.add(ItemResult.confirmed(transactionId));
+      } catch (InvalidTransactionStateException
+          | InsufficientBalanceException
+          | IllegalArgumentException e) {
+        results.add(reject(transactionId, e.getMessage()));
+      }
+    }
+
+    if (confirmedTransactions.isEmpty()) {
+      return new BatchConfirmResult(results);
+    }
+
+    // 3. 배치 반영
+    transactionPort.updateAll(confirmedTransactions, TransactionStatus.PENDING);
+    journalEntryPort.saveAll(journalEntries);
+    balancePort.updateAll(updatedBalances.values());
+    outboxEventRecorder.recordAll(events);
+
+    return new BatchConfirmResult(results);
+  }
+
+  private ItemResult reject(Long transactionId, String reason) {
+    log.warn("Confirmation rejected. transactionId={}, reason={}", transactionId, reason);
+    return ItemResult.rejected(transactionId, reason);
+  }
+}
@@ -5,14 +5,15 @@ import com.securities.kuku.ledger.application.port.in.command.ConfirmTransaction
 import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
 import com.securities.kuku.ledger.domain.Balance;
 import com.securities.kuku.ledger.domain.JournalEntry;
 import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
 import java.time.Clock;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -25,14 +26,13 @@ public class ConfirmTransactionService implements ConfirmTransactionUseCase {
   private final TransactionPort transactionPort;
   private final BalancePort balancePort;
   private final JournalEntryPort journalEntryPort;
+  private final LedgerLogModeGuard ledgerLogModeGuard;
 
   @Override
-  @Retryable(
-      retryFor = ObjectOptimisticLockingFailureException.class,
-      maxAttempts = 3,
-      backoff = @Backoff(delay = 100, multiplier = 2.0, maxDelay = 1000))
+  @Retryable(label = "confirm", interceptor = LedgerRetryInterceptor.BEAN_NAME)
   @Transactional
   public void confirm(ConfirmTransactionCommand command) {
+    ledgerLogModeGuard.requireDirectBalanceWrite("confirm transaction");
     Transaction transaction =
         transactionPort
             .findById(command.transactionId())
@@ -44,7 +44,7 @@ public class ConfirmTransactionService implements ConfirmTransactionUseCase {
     Instant now = clock.instant();
 
     Transaction confirmedTx = transaction.confirm();
-    transactionPort.update(confirmedTx);
+    transactionPort.update(confirmedTx, TransactionStatus.PENDING);
 
     JournalEntry journalEntry =
         confirmedTx.createJournalEntry(command.accountId(), command.amount(), now);
@@ -3,20 +3,20 @@ package com.securities.kuku.ledger.application.service;
 import com.securities.kuku.ledger.application.port.in.DepositUseCase;
 import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
 import com.securities.kuku.ledger.application.port.out.AccountPort;
-import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.balance.BalanceUpdater;
+import com.securities.kuku.ledger.application.service.idempotency.IdempotencyGuard;
 import com.securities.kuku.ledger.domain.Account;
-import com.securities.kuku.ledger.domain.Balance;
 import com.securities.kuku.ledger.domain.JournalEntry;
 import com.securities.kuku.ledger.domain.Transaction;
 import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.exception.DuplicateTransactionException;
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
 import java.time.Clock;
 import java.time.Instant;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,20 +28,18 @@ public class DepositService implements DepositUseCase {
 
   private final Clock clock;
   private final AccountPort accountPort;
-  private final BalancePort balancePort;
+  private final BalanceUpdater balanceUpdater;
   private final TransactionPort transactionPort;
   private final JournalEntryPort journalEntryPort;
   private final OutboxEventRecorder outboxEventRecorder;
+  private final IdempotencyGuard idempotencyGuard;
 
   @Override
-  @Retryable(
-      retryFor = ObjectOptimisticLockingFailureException.class,
-      maxAttempts = 3,
-      backoff = @Backoff(delay = 100, multiplier = 2.0, maxDelay = 1000))
+  @Retryable(label = "deposit", interceptor = LedgerRetryInterceptor.BEAN_NAME)
   @Transactional
   public void deposit(DepositCommand command) {
     // 1. Idempotency Check
-    if (isDuplicateTransaction(command.businessRefId())) {
+    if (idempotencyGuard.isDuplicate(command.businessRefId())) {
       log.warn("Duplicate transaction detected. businessRefId={}", command.businessRefId());
       return;
     }
@@ -53,19 +51,22 @@ public class DepositService implements DepositUseCase {
             .orElseThrow(
                 () -> new IllegalArgumentException("Account not found: " + command.accountId()));
 
-    Balance balance =
-        balancePort
-            .findByAccountId(command.accountId())
-            .orElseThrow(
-                () -> new IllegalArgumentException("Balance not found: " + command.accountId()));
-
     // Capture semantic time for this operation
     Instant now = clock.instant();
 
     // 3. Create & Save Transaction
     Transaction transaction =
         Transaction.createDeposit(command.description(), command.businessRefId(), now);
-    Transaction savedTransaction = transactionPort.save(transaction);
+    Transaction savedTransaction;
+    try {
+      savedTransaction = transactionPort.save(transaction);
+    } catch (DuplicateTransactionException e) {
+      // 사전 조회를 생략한 요청의 중복은 INSERT 시점의 유니크 키 위반으로 감지됩니다.
+      idempotencyGuard.markDuplicate(command.businessRefId());
+      log.warn("Duplicate transaction detected. businessRefId={}", command.businessRefId());
+      return;
+    }
+    idempotencyGuard.markPosted(command.businessRefId());
 
     // 4. Create & Save Journal Entry
     JournalEntry journalEntry =
@@ -73,16 +74,11 @@ public class DepositService implements DepositUseCase {
     journalEntryPort.save(journalEntry);
 
     // 5. Update Balance
-    Balance newBalance = balance.deposit(command.amount(), savedTransaction.getId(), now);
-    balancePort.update(newBalance);
+    balanceUpdater.deposit(command.accountId(), command.amount(), savedTransaction.getId(), now);
 
     // 6. Publish Domain Event
     outboxEventRecorder.record(
         savedTransaction.toPostedEvent(
             command.accountId(), command.amount(), TransactionType.DEPOSIT));
   }
-
-  private boolean isDuplicateTransaction(String businessRefId) {
-    return transactionPort.findByBusinessRefId(businessRefId).isPresent();
-  }
 }
@@ -1,12 +1,16 @@
 package com.securities.kuku.ledger.application.service;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.securities.kuku.ledger.application.port.out.OutboxEventPort;
+import com.securities.kuku.ledger.application.service.outbox.OutboxFastPath;
+import com.securities.kuku.ledger.application.service.outbox.OutboxPayloadCodec;
+import com.securities.kuku.ledger.application.service.outbox.OutboxPayloadCodecs;
 import com.securities.kuku.ledger.domain.OutboxEvent;
 import com.securities.kuku.ledger.domain.event.LedgerEvent;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Component
 @RequiredArgsConstructor
@@ -15,21 +19,44 @@ public class OutboxEventRecorder {
   private static final String AGGREGATE_TYPE = "TRANSACTION";
 
   private final OutboxEventPort outboxEventPort;
-  private final ObjectMapper objectMapper;
+  private final OutboxPayloadCodecs payloadCodecs;
+  private final OutboxFastPath outboxFastPath;
 
   public void record(LedgerEvent event) {
-    String payload = serializeEvent(event);
-    OutboxEvent outboxEvent =
-        OutboxEvent.create(
-            AGGREGATE_TYPE, event.aggregateId(), event.eventType(), payload, event.occurredAt());
-    outboxEventPort.save(outboxEvent);
+    OutboxEvent saved = outboxEventPort.save(toOutboxEvent(event));
+    submitAfterCommit(List.of(saved));
   }
 
-  private String serializeEvent(LedgerEvent event) {
-    try {
-      return objectMapper.writeValueAsString(event);
-    } catch (JsonProcessingException e) {
-      throw new IllegalStateException("Failed to serialize LedgerEvent: " + event.eventType(), e);
+  public void recordAll(List<? extends LedgerEvent> events) {
+    if (events.isEmpty()) {
+      return;
     }
+    submitAfterCommit(outboxEventPort.saveAll(events.stream().map(this::toOutboxEvent).toList()));
+  }
+
+  // 커밋되면 폴링을 기다리지 않고 바로 발행하도록 넘깁니다. 롤백되면 아무것도 하지 않습니다.
+  private void submitAfterCommit(List<OutboxEvent> saved) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            outboxFastPath.submit(saved);
+          }
+        });
+  }
+
+  private OutboxEvent toOutboxEvent(LedgerEvent event) {
+    OutboxPayloadCodec codec = payloadCodecs.writeCodec();
+    return OutboxEvent.create(
+        AGGREGATE_TYPE,
+        event.aggregateId(),
+        event.orderingKey(),
+        event.eventType(),
+        codec.id(),
+        codec.encode(event),
+        event.occurredAt());
   }
 }
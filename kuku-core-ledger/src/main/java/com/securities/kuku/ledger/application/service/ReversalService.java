@@ -5,9 +5,12 @@ import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
 import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
 import com.securities.kuku.ledger.domain.Balance;
 import com.securities.kuku.ledger.domain.JournalEntry;
 import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.ArrayList;
@@ -17,8 +20,6 @@ import java.util.Set;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
-import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -33,14 +34,13 @@ public class ReversalService implements ReversalUseCase {
   private final JournalEntryPort journalEntryPort;
   private final BalancePort balancePort;
   private final OutboxEventRecorder outboxEventRecorder;
+  private final LedgerLogModeGuard ledgerLogModeGuard;
 
   @Override
-  @Retryable(
-      retryFor = ObjectOptimisticLockingFailureException.class,
-      maxAttempts = 3,
-      backoff = @Backoff(delay = 100, multiplier = 2.0, maxDelay = 1000))
+  @Retryable(label = "reversal", interceptor = LedgerRetryInterceptor.BEAN_NAME)
   @Transactional
   public void reverse(ReversalCommand command) {
+    ledgerLogModeGuard.requireDirectBalanceWrite("reverse transaction");
     // 1. Load original transaction
     Transaction originalTransaction =
         transactionPort
@@ -70,7 +70,7 @@ public class ReversalService implements ReversalUseCase {
 
     // 6. Mark original transaction as REVERSED
     Transaction reversedOriginal = originalTransaction.toReversed();
-    transactionPort.update(reversedOriginal);
+    transactionPort.update(reversedOriginal, TransactionStatus.POSTED);
 
     // 7. Create & Save reversal transaction
     Transaction reversalTransaction =
@@ -0,0 +1,142 @@
+package com.securities.kuku.ledger.application.service.archive;
+
+import com.securities.kuku.ledger.application.port.in.JournalArchiveUseCase;
+import com.securities.kuku.ledger.application.port.in.result.JournalArchiveResult;
+import com.securities.kuku.ledger.application.port.out.JournalArchivePort;
+import com.securities.kuku.ledger.application.port.out.JournalPartitionPort;
+import com.securities.kuku.ledger.application.port.out.JournalPartitionPort.Partition;
+import com.securities.kuku.ledger.config.JournalArchiveProperties;
+import com.securities.kuku.ledger.domain.JournalArchive;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.YearMonth;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 분개 테이블의 월 파티션을 앞으로는 미리 만들고, 뒤로는 보관 파일로 옮깁니다.
+ *
+ * <p>파티션 하나는 파일 쓰기 → 행 수 확인 → {@code ARCHIVED} 표시 → 파티션 삭제 순으로 옮깁니다. 표시와 삭제 사이의 짧은 동안에는
+ * 같은 분개가 테이블과 보관 파일에서 함께 보이지만, 파티션 삭제는 메타데이터만 바꾸는 DDL이라 곧바로 끝납니다. 삭제 전에 중단되면 다음 실행이
+ * {@code ARCHIVED} 표시를 보고 삭제만 다시 합니다.
+ *
+ * <p>보관 대상 파티션에는 더 이상 분개가 쓰이지 않으므로(ID가 생성 시각 순) 옮기는 동안 쓰기를 막지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class JournalArchiveService implements JournalArchiveUseCase {
+
+  private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+  private final Clock clock;
+  private final JournalPartitionPort journalPartitionPort;
+  private final JournalArchivePort journalArchivePort;
+  private final JournalArchiveProperties properties;
+
+  @Override
+  public JournalArchiveResult archive() {
+    List<Partition> partitions = journalPartitionPort.findPartitions();
+    if (partitions.isEmpty()) {
+      throw new IllegalStateException("journal_entries is not partitioned");
+    }
+    YearMonth currentMonth = YearMonth.now(clock.withZone(ZoneOffset.UTC));
+    List<String> createdPartitions = addUpcomingPartitions(partitions, currentMonth);
+
+    Instant horizon = startOf(currentMonth.minusMonths(properties.retentionMonths()));
+    Map<String, JournalArchive> archives =
+        journalArchivePort.findArchives().stream()
+            .collect(Collectors.toMap(JournalArchive::partitionName, Function.identity()));
+    List<String> archivedPartitions = new ArrayList<>();
+    long archivedRows = 0;
+    for (Partition partition : partitions) {
+      if (!partition.isBounded() || partition.upperBound().isAfter(horizon)) {
+        break;
+      }
+      archivedRows += archivePartition(partition.name(), archives.get(partition.name()));
+      archivedPartitions.add(partition.name());
+    }
+
+    JournalArchiveResult result =
+        new JournalArchiveResult(horizon, createdPartitions, archivedPartitions, archivedRows);
+    log.info(
+        "Journal partitions maintained. horizon={}, created={}, archived={}, archivedRows={}",
+        horizon,
+        createdPartitions,
+        archivedPartitions,
+        archivedRows);
+    return result;
+  }
+
+  private List<String> addUpcomingPartitions(List<Partition> partitions, YearMonth currentMonth) {
+    YearMonth next =
+        partitions.stream()
+            .filter(Partition::isBounded)
+            .map(partition -> YearMonth.from(partition.upperBound().atZone(ZoneOffset.UTC)))
+            .reduce((first, second) -> second)
+            .orElse(currentMonth);
+    YearMonth until = currentMonth.plusMonths(properties.futureMonths());
+
+    List<String> created = new ArrayList<>();
+    while (!next.isAfter(until)) {
+      String name = partitionName(next);
+      journalPartitionPort.addPartition(name, startOf(next.plusMonths(1)));
+      created.add(name);
+      next = next.plusMonths(1);
+    }
+    return created;
+  }
+
+  private long archivePartition(String name, JournalArchive existing) {
+    if (existing != null && existing.isArchived()) {
+      journalPartitionPort.dropPartition(name);
+      log.info("Dropped already archived journal partition. partition={}", name);
+      return existing.rowCount();
+    }
+
+    long rowCount = journalPartitionPort.countRows(name);
+    if (rowCount == 0) {
+      journalPartitionPort.dropPartition(name);
+      return 0;
+    }
+
+    JournalArchive written;
+    try (JournalArchivePort.Writer writer = journalArchivePort.openWriter(name)) {
+      journalPartitionPort.forEachRow(name, writer::append);
+      written = writer.finish(Instant.now(clock));
+    }
+    if (written.rowCount() != rowCount) {
+      throw new IllegalStateException(
+          "Archived row count mismatch for "
+              + name
+              + ": expected "
+              + rowCount
+              + ", written "
+              + written.rowCount());
+    }
+    journalArchivePort.save(written.markArchived(Instant.now(clock)));
+    journalPartitionPort.dropPartition(name);
+    log.info(
+        "Archived journal partition. partition={}, rows={}, location={}",
+        name,
+        rowCount,
+        written.location());
+    return rowCount;
+  }
+
+  private static String partitionName(YearMonth month) {
+    return "p" + month.format(PARTITION_MONTH);
+  }
+
+  private static Instant startOf(YearMonth month) {
+    return month.atDay(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+  }
+}
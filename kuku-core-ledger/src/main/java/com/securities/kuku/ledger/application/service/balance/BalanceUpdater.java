@@ -0,0 +1,32 @@
+package com.securities.kuku.ledger.application.service.balance;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.time.Instant;
+
+/**
+ * 입출금 시 잔액을 갱신하는 전략.
+ *
+ * <p>{@code ledger.balance.update-mode}로 구현을 선택합니다.
+ *
+ * <ul>
+ *   <li>{@code optimistic} (기본값): 잔액을 읽어 도메인에서 계산한 뒤 {@code @Version}으로 저장합니다.
+ *   <li>{@code conditional}: 가용 잔액 조건을 건 UPDATE 한 번으로 증감분만 반영합니다.
+ * </ul>
+ */
+public interface BalanceUpdater {
+
+  /**
+   * 거래를 저장하기 전에 출금 가능 여부를 미리 확인합니다.
+   *
+   * @throws InsufficientBalanceException 가용 잔액이 부족한 경우
+   */
+  void verifyWithdrawable(Long accountId, Money amount);
+
+  void deposit(Long accountId, Money amount, Long transactionId, Instant now);
+
+  /**
+   * @throws InsufficientBalanceException 가용 잔액이 부족한 경우
+   */
+  void withdraw(Long accountId, Money amount, Long transactionId, Instant now);
+}
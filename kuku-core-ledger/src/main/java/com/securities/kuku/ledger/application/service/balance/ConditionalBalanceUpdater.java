@@ -0,0 +1,50 @@
+package com.securities.kuku.ledger.application.service.balance;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalanceDeltaPort;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 조건부 UPDATE 한 번으로 증감분만 반영하는 잔액 갱신.
+ *
+ * <p>잔액을 미리 읽지 않으므로 읽기와 쓰기 사이에 끼어들 틈이 없고, 같은 계좌에 대한 요청은 DB 행 잠금 순서대로 처리됩니다. 잔액 부족은 영향받은 행
+ * 수가 0인 것으로 판단하며 재시도 없이 바로 실패합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.balance", name = "update-mode", havingValue = "conditional")
+public class ConditionalBalanceUpdater implements BalanceUpdater {
+
+  private final BalanceDeltaPort balanceDeltaPort;
+  private final BalancePort balancePort;
+
+  /** 판단은 UPDATE 조건에 맡깁니다. 여기서 읽은 값은 커밋 시점에 이미 달라져 있을 수 있습니다. */
+  @Override
+  public void verifyWithdrawable(Long accountId, Money amount) {}
+
+  @Override
+  public void deposit(Long accountId, Money amount, Long transactionId, Instant now) {
+    if (!balanceDeltaPort.increase(accountId, amount, transactionId, now)) {
+      throw new IllegalArgumentException("Balance not found: " + accountId);
+    }
+  }
+
+  @Override
+  public void withdraw(Long accountId, Money amount, Long transactionId, Instant now) {
+    if (balanceDeltaPort.decreaseIfAvailable(accountId, amount, transactionId, now)) {
+      return;
+    }
+    // 실패 시에만 잔액을 읽어 원인(행 없음/잔액 부족)을 구분합니다.
+    Balance balance =
+        balancePort
+            .findByAccountId(accountId)
+            .orElseThrow(() -> new IllegalArgumentException("Balance not found: " + accountId));
+    throw new InsufficientBalanceException(accountId, amount, balance.getAvailableAmount());
+  }
+}
@@ -0,0 +1,53 @@
+package com.securities.kuku.ledger.application.service.balance;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 → 도메인 계산 → {@code @Version} 저장 방식의 잔액 갱신.
+ *
+ * <p>동시에 같은 계좌를 갱신하면 늦게 커밋한 쪽이 {@code ObjectOptimisticLockingFailureException}으로 실패하고 서비스의
+ * {@code @Retryable}이 재시도합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(
+    prefix = "ledger.balance",
+    name = "update-mode",
+    havingValue = "optimistic",
+    matchIfMissing = true)
+public class OptimisticBalanceUpdater implements BalanceUpdater {
+
+  private final BalancePort balancePort;
+
+  @Override
+  public void verifyWithdrawable(Long accountId, Money amount) {
+    Balance balance = loadBalance(accountId);
+    if (amount.isGreaterThan(balance.getAvailableAmount())) {
+      throw new InsufficientBalanceException(accountId, amount, balance.getAvailableAmount());
+    }
+  }
+
+  @Override
+  public void deposit(Long accountId, Money amount, Long transactionId, Instant now) {
+    balancePort.update(loadBalance(accountId).deposit(amount, transactionId, now));
+  }
+
+  @Override
+  public void withdraw(Long accountId, Money amount, Long transactionId, Instant now) {
+    balancePort.update(loadBalance(accountId).withdraw(amount, transactionId, now));
+  }
+
+  // verifyWithdrawable 이후의 재조회는 같은 트랜잭션의 영속성 컨텍스트에서 반환되어 추가 쿼리가 없습니다.
+  private Balance loadBalance(Long accountId) {
+    return balancePort
+        .findByAccountId(accountId)
+        .orElseThrow(() -> new IllegalArgumentException("Balance not found: " + accountId));
+  }
+}
@@ -0,0 +1,145 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult.ItemResult;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.BulkDepositCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.application.service.idempotency.IdempotencyGuard;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대량 입금의 한 청크를 하나의 DB 트랜잭션으로 반영합니다.
+ *
+ * <p>멱등성 조회 1회, 잔액 조회 1회, transactions/journal_entries/outbox_event 배치 INSERT 각 1회, 잔액 배치
+ * UPDATE 1회로 청크 크기와 무관하게 왕복 횟수가 고정됩니다. 커밋 위치도 같은 트랜잭션에서 기록하므로 청크 반영과 체크포인트가 어긋나지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkDepositChunkProcessor {
+
+  private final Clock clock;
+  private final BalancePort balancePort;
+  private final TransactionPort transactionPort;
+  private final JournalEntryPort journalEntryPort;
+  private final OutboxEventRecorder outboxEventRecorder;
+  private final IdempotencyGuard idempotencyGuard;
+  private final BulkDepositCheckpointPort checkpointPort;
+
+  /**
+   * @param batchId 배치 ID
+   * @param startIndex 청크 첫 요청의 입력 위치
+   * @param deposits 청크에 속한 입금 요청
+   * @return 요청 순서대로의 처리 결과
+   */
+  @Retryable(label = "bulk-deposit", interceptor = LedgerRetryInterceptor.BEAN_NAME)
+  @Transactional
+  public List<ItemResult> process(String batchId, int startIndex, List<DepositCommand> deposits) {
+    Instant now = clock.instant();
+
+    // 1. 멱등성 검사와 잔액 존재 여부를 메모리에서 먼저 판단하여 반영할 요청만 추린다
+    Map<Long, Balance> balances =
+        balancePort.findByAccountIds(
+            deposits.stream().map(DepositCommand::accountId).collect(Collectors.toSet()));
+    ItemResult[] results = new ItemResult[deposits.size()];
+    List<DepositCommand> accepted = selectAcceptedDeposits(startIndex, deposits, balances, results);
+
+    if (!accepted.isEmpty()) {
+      post(accepted, balances, now);
+    }
+
+    // 2. 커밋 위치 기록
+    checkpointPort.save(batchId, startIndex + deposits.size(), now);
+    return Arrays.asList(results);
+  }
+
+  private void post(List<DepositCommand> accepted, Map<Long, Balance> balances, Instant now) {
+    // Transaction 배치 저장
+    List<Transaction> savedTransactions =
+        transactionPort.saveAll(
+            accepted.stream()
+                .map(
+                    deposit ->
+                        Transaction.createDeposit(
+                            deposit.description(), deposit.businessRefId(), now))
+                .toList());
+
+    // JournalEntry 배치 저장 및 잔액 반영 (같은 계좌로의 입금은 누적)
+    List<JournalEntry> journalEntries = new ArrayList<>(accepted.size());
+    List<LedgerPostedEvent> events = new ArrayList<>(accepted.size());
+    Map<Long, Balance> updatedBalances = new HashMap<>();
+    for (int i = 0; i < accepted.size(); i++) {
+      DepositCommand deposit = accepted.get(i);
+      Transaction savedTransaction = savedTransactions.get(i);
+      journalEntries.add(
+          savedTransaction.createJournalEntry(deposit.accountId(), deposit.amount(), now));
+      Balance balance =
+          updatedBalances.getOrDefault(deposit.accountId(), balances.get(deposit.accountId()));
+      updatedBalances.put(
+          deposit.accountId(), balance.deposit(deposit.amount(), savedTransaction.getId(), now));
+      events.add(
+          savedTransaction.toPostedEvent(
+              deposit.accountId(), deposit.amount(), TransactionType.DEPOSIT));
+    }
+    journalEntryPort.saveAll(journalEntries);
+    balancePort.updateAll(updatedBalances.values());
+
+    // Domain Event 배치 기록
+    outboxEventRecorder.recordAll(events);
+    accepted.forEach(deposit -> idempotencyGuard.markPosted(deposit.businessRefId()));
+  }
+
+  private List<DepositCommand> selectAcceptedDeposits(
+      int startIndex,
+      List<DepositCommand> deposits,
+      Map<Long, Balance> balances,
+      ItemResult[] results) {
+    Set<String> seenBusinessRefIds =
+        new HashSet<>(
+            transactionPort.findExistingBusinessRefIds(
+                deposits.stream().map(DepositCommand::businessRefId).toList()));
+
+    List<DepositCommand> accepted = new ArrayList<>(deposits.size());
+    for (int i = 0; i < deposits.size(); i++) {
+      DepositCommand deposit = deposits.get(i);
+      int index = startIndex + i;
+      if (!balances.containsKey(deposit.accountId())) {
+        results[i] =
+            ItemResult.rejected(
+                index, deposit.businessRefId(), "Balance not found: " + deposit.accountId());
+        continue;
+      }
+      if (!seenBusinessRefIds.add(deposit.businessRefId())) {
+        log.warn("Duplicate transaction detected. businessRefId={}", deposit.businessRefId());
+        results[i] = ItemResult.duplicate(index, deposit.businessRefId());
+        continue;
+      }
+      accepted.add(deposit);
+      results[i] = ItemResult.posted(index, deposit.businessRefId());
+    }
+    return accepted;
+  }
+}
@@ -0,0 +1,64 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import com.securities.kuku.ledger.application.port.in.BulkDepositUseCase;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult;
+import com.securities.kuku.ledger.application.port.out.BulkDepositCheckpointPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
+import com.securities.kuku.ledger.config.BulkDepositProperties;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 입금 요청을 청크로 나누어 {@link BulkDepositChunkProcessor}에 넘깁니다.
+ *
+ * <p>트랜잭션은 청크 단위로만 열리므로, 중간 청크가 실패하면 앞선 청크는 커밋된 채 예외가 전파됩니다. 같은 {@code batchId}로 다시 호출하면 커밋된
+ * 위치까지의 요청은 읽기만 하고 건너뜁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkDepositService implements BulkDepositUseCase {
+
+  private final BulkDepositChunkProcessor chunkProcessor;
+  private final BulkDepositCheckpointPort checkpointPort;
+  private final BulkDepositProperties properties;
+  private final LedgerLogModeGuard ledgerLogModeGuard;
+
+  @Override
+  public BulkDepositResult depositAll(String batchId, Stream<DepositCommand> deposits) {
+    ledgerLogModeGuard.requireDirectBalanceWrite("run bulk deposit");
+    if (batchId == null || batchId.isBlank()) {
+      throw new IllegalArgumentException("Batch ID cannot be null or empty");
+    }
+
+    int resumedFrom = checkpointPort.findNextIndex(batchId).orElse(0);
+    if (resumedFrom > 0) {
+      log.info("Resuming bulk deposit. batchId={}, nextIndex={}", batchId, resumedFrom);
+    }
+
+    List<ItemResult> results = new ArrayList<>();
+    int nextIndex = resumedFrom;
+    Iterator<DepositCommand> iterator = deposits.skip(resumedFrom).iterator();
+    while (iterator.hasNext()) {
+      List<DepositCommand> chunk = nextChunk(iterator);
+      results.addAll(chunkProcessor.process(batchId, nextIndex, chunk));
+      nextIndex += chunk.size();
+    }
+    return new BulkDepositResult(batchId, resumedFrom, nextIndex, List.copyOf(results));
+  }
+
+  private List<DepositCommand> nextChunk(Iterator<DepositCommand> iterator) {
+    List<DepositCommand> chunk = new ArrayList<>(properties.chunkSize());
+    while (iterator.hasNext() && chunk.size() < properties.chunkSize()) {
+      chunk.add(iterator.next());
+    }
+    return chunk;
+  }
+}
@@ -0,0 +1,200 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult.ItemResult;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.domain.exception.InvalidTransactionStateException;
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 대량 역분개의 한 청크를 하나의 DB 트랜잭션으로 반영합니다.
+ *
+ * <p>원 트랜잭션·분개·잔액을 각각 한 번에 조회하고, 청크 안에서 여러 번 등장하는 계좌의 증감은 메모리에서 합산하여 계좌당 한 번만 갱신합니다.
+ *
+ * <p>행 잠금은 원 트랜잭션 행(트랜잭션 ID 오름차순), 잔액 행(계좌 ID 오름차순) 순서로 잡습니다. 동시에 실행된 대량 역분개끼리는 같은 순서로
+ * 잠그므로 서로 교착 상태에 빠지지 않습니다. (flush 시점의 UPDATE 순서는 {@code hibernate.order_updates}가, 분산 계좌의 슬롯 UPDATE
+ * 순서는 전달한 순서가 결정합니다.) 단건 역분개처럼 다른 순서로 잠그는 경로와는 교착이 생길 수 있고, 이때 DB가 중단시킨 쪽의 청크는 실패합니다.
+ *
+ * <p>원 트랜잭션은 POSTED일 때만 REVERSED로 바꿉니다. 다른 요청이 먼저 역분개했다면 충돌로 청크 전체를 재시도하고, 다시 읽은 상태로 그 건을
+ * 거절합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BulkReversalChunkProcessor {
+
+  private final Clock clock;
+  private final TransactionPort transactionPort;
+  private final JournalEntryPort journalEntryPort;
+  private final BalancePort balancePort;
+  private final OutboxEventRecorder outboxEventRecorder;
+
+  /**
+   * @param commands 청크에 속한 역분개 요청
+   * @return 요청 순서대로의 처리 결과
+   */
+  @Retryable(label = "bulk-reversal", interceptor = LedgerRetryInterceptor.BEAN_NAME)
+  @Transactional
+  public List<ItemResult> process(List<ReversalCommand> commands) {
+    // 1. 원 트랜잭션, 분개, 잔액을 한 번씩 조회
+    Set<Long> transactionIds =
+        commands.stream().map(ReversalCommand::originalTransactionId).collect(Collectors.toSet());
+    Map<Long, Transaction> transactions = transactionPort.findByIds(transactionIds);
+    Map<Long, List<JournalEntry>> entriesByTransaction =
+        journalEntryPort.findByTransactionIds(transactions.keySet()).stream()
+            .collect(Collectors.groupingBy(JournalEntry::getTransactionId));
+    Map<Long, Balance> loadedBalances =
+        balancePort.findByAccountIds(
+            entriesByTransaction.values().stream()
+                .flatMap(List::stream)
+                .map(JournalEntry::getAccountId)
+                .collect(Collectors.toSet()));
+
+    Instant now = clock.instant();
+
+    // 2. 상태 검증과 잔액 검증을 메모리에서 먼저 수행하여 반영할 요청만 추린다
+    ItemResult[] results = new ItemResult[commands.size()];
+    List<Candidate> accepted =
+        selectAcceptedReversals(
+            commands, transactions, entriesByTransaction, loadedBalances, now, results);
+    if (accepted.isEmpty()) {
+      return Arrays.asList(results);
+    }
+
+    // 3. 역분개 트랜잭션 배치 저장 및 원 트랜잭션 상태 변경 (POSTED 조건, 트랜잭션 ID 오름차순)
+    List<Transaction> savedReversals =
+        transactionPort.saveAll(
+            accepted.stream()
+                .map(
+                    candidate ->
+                        Transaction.createReversal(
+                            candidate.original().getId(), candidate.command().reason(), now))
+                .toList());
+    transactionPort.updateAll(
+        accepted.stream().map(candidate -> candidate.original().toReversed()).toList(),
+        TransactionStatus.POSTED);
+
+    // 4. 반대 분개 배치 저장 및 계좌별 잔액 합산
+    SortedMap<Long, Balance> balances = new TreeMap<>(loadedBalances);
+    Set<Long> touchedAccountIds = new HashSet<>();
+    List<JournalEntry> oppositeEntries = new ArrayList<>();
+    List<LedgerReversedEvent> events = new ArrayList<>(accepted.size());
+    for (int i = 0; i < accepted.size(); i++) {
+      Candidate candidate = accepted.get(i);
+      Transaction savedReversal = savedReversals.get(i);
+      for (JournalEntry entry : candidate.entries()) {
+        oppositeEntries.add(entry.createOpposite(savedReversal.getId(), now));
+        touchedAccountIds.add(entry.getAccountId());
+      }
+      applyReverse(candidate.entries(), balances, savedReversal.getId(), now);
+      events.add(
+          savedReversal.toReversedEvent(
+              candidate.original().getId(), candidate.command().reason()));
+      results[candidate.index()] =
+          ItemResult.reversed(candidate.original().getId(), savedReversal.getId());
+    }
+    journalEntryPort.saveAll(oppositeEntries);
+
+    // 5. 잔액은 계좌 ID 오름차순으로 갱신 (교착 방지)
+    balancePort.updateAll(
+        balances.entrySet().stream()
+            .filter(entry -> touchedAccountIds.contains(entry.getKey()))
+            .map(Map.Entry::getValue)
+            .toList());
+
+    // 6. Domain Event 배치 기록
+    outboxEventRecorder.recordAll(events);
+
+    return Arrays.asList(results);
+  }
+
+  private List<Candidate> selectAcceptedReversals(
+      List<ReversalCommand> commands,
+      Map<Long, Transaction> transactions,
+      Map<Long, List<JournalEntry>> entriesByTransaction,
+      Map<Long, Balance> loadedBalances,
+      Instant now,
+      ItemResult[] results) {
+    Set<Long> seenTransactionIds = new HashSet<>();
+    Map<Long, Balance> projected = new HashMap<>(loadedBalances);
+    List<Candidate> accepted = new ArrayList<>(commands.size());
+    for (int i = 0; i < commands.size(); i++) {
+      ReversalCommand command = commands.get(i);
+      Long transactionId = command.originalTransactionId();
+      Transaction original = transactions.get(transactionId);
+      List<JournalEntry> entries = entriesByTransaction.getOrDefault(transactionId, List.of());
+      if (!seenTransactionIds.add(transactionId)) {
+        results[i] = reject(transactionId, "Duplicate transaction in batch: " + transactionId);
+        continue;
+      }
+      if (original == null) {
+        results[i] = reject(transactionId, "Transaction not found: " + transactionId);
+        continue;
+      }
+      if (entries.isEmpty()) {
+        results[i] =
+            reject(transactionId, "No journal entries found for transaction: " + transactionId);
+        continue;
+      }
+      try {
+        original.validateCanBeReversed();
+        applyReverse(entries, projected, null, now);
+        accepted.add(new Candidate(i, command, original, entries));
+      } catch (InvalidTransactionStateException
+          | InsufficientBalanceException
+          | IllegalArgumentException e) {
+        results[i] = reject(transactionId, e.getMessage());
+      }
+    }
+    return accepted;
+  }
+
+  /** 한 트랜잭션의 분개를 모두 되돌린 잔액을 반영합니다. 도중에 실패하면 {@code balances}는 바뀌지 않습니다. */
+  private static void applyReverse(
+      List<JournalEntry> entries, Map<Long, Balance> balances, Long transactionId, Instant now) {
+    Map<Long, Balance> applied = new HashMap<>();
+    for (JournalEntry entry : entries) {
+      Long accountId = entry.getAccountId();
+      Balance balance = applied.getOrDefault(accountId, balances.get(accountId));
+      if (balance == null) {
+        throw new IllegalArgumentException("Balance not found: " + accountId);
+      }
+      applied.put(accountId, entry.applyReverseTo(balance, transactionId, now));
+    }
+    balances.putAll(applied);
+  }
+
+  private ItemResult reject(Long transactionId, String reason) {
+    log.warn("Reversal rejected. transactionId={}, reason={}", transactionId, reason);
+    return ItemResult.rejected(transactionId, reason);
+  }
+
+  private record Candidate(
+      int index, ReversalCommand command, Transaction original, List<JournalEntry> entries) {}
+}
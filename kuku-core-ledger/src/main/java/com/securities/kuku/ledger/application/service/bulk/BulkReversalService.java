@@ -0,0 +1,33 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import com.securities.kuku.ledger.application.port.in.BulkReversalUseCase;
+import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
+import com.securities.kuku.ledger.config.BulkReversalProperties;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+/** 역분개 요청을 청크로 나누어 {@link BulkReversalChunkProcessor}에 넘깁니다. */
+@Service
+@RequiredArgsConstructor
+public class BulkReversalService implements BulkReversalUseCase {
+
+  private final BulkReversalChunkProcessor chunkProcessor;
+  private final BulkReversalProperties properties;
+  private final LedgerLogModeGuard ledgerLogModeGuard;
+
+  @Override
+  public BulkReversalResult reverseAll(List<ReversalCommand> commands) {
+    ledgerLogModeGuard.requireDirectBalanceWrite("run bulk reversal");
+    List<ItemResult> results = new ArrayList<>(commands.size());
+    for (int from = 0; from < commands.size(); from += properties.chunkSize()) {
+      int to = Math.min(from + properties.chunkSize(), commands.size());
+      results.addAll(chunkProcessor.process(commands.subList(from, to)));
+    }
+    return new BulkReversalResult(List.copyOf(results));
+  }
+}
@@ -0,0 +1,46 @@
+package com.securities.kuku.ledger.application.service.checkpoint;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.BalanceAsOfUseCase;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import java.time.Instant;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 과거 시점 잔액 조회.
+ *
+ * <p>{@code asOf} 이전의 가장 가까운 체크포인트에 그 이후 분개만 더합니다. 일 단위 체크포인트라면 계좌의 전체 이력과 관계없이 최대 하루치 분개만
+ * 읽습니다. 체크포인트가 없는 계좌는 처음부터 합산합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BalanceAsOfService implements BalanceAsOfUseCase {
+
+  private final AccountPort accountPort;
+  private final BalanceCheckpointPort balanceCheckpointPort;
+  private final JournalEntryPort journalEntryPort;
+
+  @Override
+  @Transactional(readOnly = true)
+  public Money getBalanceAsOf(Long accountId, Instant asOf) {
+    if (asOf == null) {
+      throw new IllegalArgumentException("AsOf cannot be null");
+    }
+    accountPort
+        .findById(accountId)
+        .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountId));
+
+    BalanceCheckpoint checkpoint =
+        balanceCheckpointPort
+            .findLatest(accountId, asOf)
+            .orElseGet(() -> BalanceCheckpoint.origin(accountId));
+    Money tail =
+        journalEntryPort.sumSignedAmount(accountId, checkpoint.getCheckpointAt(), asOf);
+    return checkpoint.getAmount().plus(tail);
+  }
+}
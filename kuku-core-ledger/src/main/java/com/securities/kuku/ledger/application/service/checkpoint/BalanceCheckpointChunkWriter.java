@@ -0,0 +1,64 @@
+package com.securities.kuku.ledger.application.service.checkpoint;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌 청크 하나의 체크포인트를 하나의 DB 트랜잭션으로 기록합니다.
+ *
+ * <p>계좌를 직전 체크포인트 시각별로 묶어 구간 합계를 {@code GROUP BY} 한 번으로 구합니다. 보통은 청크의 계좌 대부분이 직전 실행 시각을
+ * 공유하므로 조회 1~2회로 끝나며, 구간에 분개가 없는 계좌는 합계 결과에 나오지 않아 그대로 건너뜁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class BalanceCheckpointChunkWriter {
+
+  private final Clock clock;
+  private final BalanceCheckpointPort balanceCheckpointPort;
+  private final JournalEntryPort journalEntryPort;
+
+  /** 새로 기록한 체크포인트 수를 반환합니다. */
+  @Transactional
+  public int write(List<Long> accountIds, Instant cutoff) {
+    Map<Long, BalanceCheckpoint> latest =
+        balanceCheckpointPort.findLatestByAccountIds(accountIds, cutoff);
+    Map<Instant, List<Long>> accountIdsByLastCheckpointAt =
+        accountIds.stream()
+            .collect(
+                Collectors.groupingBy(
+                    accountId -> previousOf(latest, accountId).getCheckpointAt()));
+
+    Instant now = clock.instant();
+    List<BalanceCheckpoint> checkpoints = new ArrayList<>();
+    accountIdsByLastCheckpointAt.forEach(
+        (lastCheckpointAt, group) -> {
+          if (!lastCheckpointAt.isBefore(cutoff)) {
+            return; // 이미 이 시각의 체크포인트가 있음
+          }
+          Map<Long, Money> deltas =
+              journalEntryPort.sumSignedAmountByAccountIds(group, lastCheckpointAt, cutoff);
+          deltas.forEach(
+              (accountId, delta) ->
+                  checkpoints.add(previousOf(latest, accountId).advance(cutoff, delta, now)));
+        });
+
+    balanceCheckpointPort.saveAll(checkpoints);
+    return checkpoints.size();
+  }
+
+  private static BalanceCheckpoint previousOf(Map<Long, BalanceCheckpoint> latest, Long accountId) {
+    BalanceCheckpoint checkpoint = latest.get(accountId);
+    return checkpoint != null ? checkpoint : BalanceCheckpoint.origin(accountId);
+  }
+}
@@ -0,0 +1,99 @@
+package com.securities.kuku.ledger.application.service.checkpoint;
+
+import com.securities.kuku.ledger.application.port.in.BalanceCheckpointUseCase;
+import com.securities.kuku.ledger.application.port.in.result.BalanceCheckpointResult;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.config.BalanceCheckpointProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 전체 계좌를 ID 순으로 청크씩 읽어 {@link BalanceCheckpointChunkWriter}에 병렬로 넘깁니다.
+ *
+ * <p>계좌 ID를 모두 메모리에 올리지 않도록 처리 중인 청크가 {@code parallelism * 2}개를 넘으면 가장 오래된 청크를 기다린 뒤 다음 청크를
+ * 읽습니다. 실패한 청크는 기록하고 넘어가며, 그 계좌들은 직전 체크포인트가 그대로이므로 다음 실행에서 이어서 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BalanceCheckpointService implements BalanceCheckpointUseCase {
+
+  private final Clock clock;
+  private final AccountPort accountPort;
+  private final BalanceCheckpointChunkWriter chunkWriter;
+  private final BalanceCheckpointProperties properties;
+
+  @Override
+  public BalanceCheckpointResult createCheckpoints(Instant cutoff) {
+    Instant latestAllowed = clock.instant().minus(properties.settleDelay());
+    if (cutoff.isAfter(latestAllowed)) {
+      throw new IllegalArgumentException(
+          "Checkpoint cutoff must be at least " + properties.settleDelay() + " in the past");
+    }
+
+    Progress progress = new Progress();
+    Deque<Future<Integer>> inFlight = new ArrayDeque<>();
+    int maxInFlight = properties.parallelism() * 2;
+    try (ExecutorService executor = newExecutor()) {
+      Long afterId = Long.MIN_VALUE;
+      while (true) {
+        List<Long> chunk = accountPort.findIdsAfter(afterId, properties.chunkSize());
+        if (chunk.isEmpty()) {
+          break;
+        }
+        if (inFlight.size() >= maxInFlight) {
+          progress.collect(inFlight.poll());
+        }
+        inFlight.add(executor.submit(() -> chunkWriter.write(chunk, cutoff)));
+        progress.scannedAccounts += chunk.size();
+        afterId = chunk.get(chunk.size() - 1);
+      }
+      while (!inFlight.isEmpty()) {
+        progress.collect(inFlight.poll());
+      }
+    }
+
+    log.info(
+        "Balance checkpoints created. cutoff={}, scanned={}, checkpointed={}, failedChunks={}",
+        cutoff,
+        progress.scannedAccounts,
+        progress.checkpointedAccounts,
+        progress.failedChunks);
+    return new BalanceCheckpointResult(
+        cutoff, progress.scannedAccounts, progress.checkpointedAccounts, progress.failedChunks);
+  }
+
+  private ExecutorService newExecutor() {
+    return Executors.newFixedThreadPool(
+        properties.parallelism(), Thread.ofPlatform().name("balance-checkpoint-", 0).factory());
+  }
+
+  private static class Progress {
+
+    long scannedAccounts;
+    long checkpointedAccounts;
+    int failedChunks;
+
+    void collect(Future<Integer> chunk) {
+      try {
+        checkpointedAccounts += chunk.get();
+      } catch (ExecutionException e) {
+        failedChunks++;
+        log.warn("Balance checkpoint chunk failed", e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while creating balance checkpoints", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.securities.kuku.ledger.application.service.groupcommit;
+
+import com.securities.kuku.ledger.application.port.in.DepositUseCase;
+import com.securities.kuku.ledger.application.port.in.WithdrawUseCase;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * Group Commit 모드의 입출금 UseCase.
+ *
+ * <p>{@code ledger.group-commit.enabled=true}일 때 {@link DepositUseCase}, {@link
+ * WithdrawUseCase}의 기본 구현으로 등록됩니다. 호출자는 기존과 같이 동기적으로 자신의 성공/실패만 돌려받습니다.
+ */
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.group-commit", name = "enabled", havingValue = "true")
+public class GroupCommitPostingService implements DepositUseCase, WithdrawUseCase {
+
+  private final PostingBatcher postingBatcher;
+
+  @Override
+  public void deposit(DepositCommand command) {
+    postingBatcher.submit(LedgerPosting.from(command));
+  }
+
+  @Override
+  public void withdraw(WithdrawCommand command) {
+    postingBatcher.submit(LedgerPosting.from(command));
+  }
+}
@@ -0,0 +1,45 @@
+package com.securities.kuku.ledger.application.service.groupcommit;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionType;
+import java.time.Instant;
+
+/** Group Commit 대기열에 올라가는 단건 입출금 요청. */
+public record LedgerPosting(
+    Long accountId,
+    TransactionType type,
+    Money amount,
+    String description,
+    String businessRefId) {
+
+  public static LedgerPosting from(DepositCommand command) {
+    return new LedgerPosting(
+        command.accountId(),
+        TransactionType.DEPOSIT,
+        command.amount(),
+        command.description(),
+        command.businessRefId());
+  }
+
+  public static LedgerPosting from(WithdrawCommand command) {
+    return new LedgerPosting(
+        command.accountId(),
+        TransactionType.WITHDRAWAL,
+        command.amount(),
+        command.description(),
+        command.businessRefId());
+  }
+
+  public Transaction toTransaction(Instant now) {
+    return switch (type) {
+      case DEPOSIT -> Transaction.createDeposit(description, businessRefId, now);
+      case WITHDRAWAL -> Transaction.createWithdraw(description, businessRefId, now);
+      default ->
+          throw new IllegalArgumentException(
+              "Transaction type " + type + " cannot be group-committed");
+    };
+  }
+}
@@ -0,0 +1,124 @@
+package com.securities.kuku.ledger.application.service.groupcommit;
+
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.domain.Account;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 같은 계좌에 대한 입출금 요청 묶음을 하나의 DB 트랜잭션으로 반영합니다.
+ *
+ * <p>멱등성 조회 1회, 잔액 조회 1회, transactions/journal_entries/outbox_event 배치 INSERT 각 1회, 잔액 UPDATE 1회로
+ * 요청 수와 무관하게 왕복 횟수가 고정됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.group-commit", name = "enabled", havingValue = "true")
+public class PostingBatchProcessor {
+
+  private final Clock clock;
+  private final AccountPort accountPort;
+  private final BalancePort balancePort;
+  private final TransactionPort transactionPort;
+  private final JournalEntryPort journalEntryPort;
+  private final OutboxEventRecorder outboxEventRecorder;
+
+  @Retryable(label = "group-commit", interceptor = LedgerRetryInterceptor.BEAN_NAME)
+  @Transactional
+  public List<PostingResult> process(Long accountId, List<LedgerPosting> postings) {
+    Account account =
+        accountPort
+            .findById(accountId)
+            .orElseThrow(() -> new IllegalArgumentException("Account not found: " + accountId));
+
+    Balance balance =
+        balancePort
+            .findByAccountId(accountId)
+            .orElseThrow(() -> new IllegalArgumentException("Balance not found: " + accountId));
+
+    Instant now = clock.instant();
+
+    // 1. 멱등성 검사와 잔액 검증을 메모리에서 먼저 수행하여 반영할 요청만 추린다
+    PostingResult[] results = new PostingResult[postings.size()];
+    List<LedgerPosting> accepted = selectAcceptedPostings(postings, balance, now, results);
+    if (accepted.isEmpty()) {
+      return Arrays.asList(results);
+    }
+
+    // 2. Transaction 배치 저장
+    List<Transaction> savedTransactions =
+        transactionPort.saveAll(
+            accepted.stream().map(posting -> posting.toTransaction(now)).toList());
+
+    // 3. JournalEntry 배치 저장 및 잔액 반영
+    List<JournalEntry> journalEntries = new ArrayList<>(accepted.size());
+    List<LedgerPostedEvent> events = new ArrayList<>(accepted.size());
+    Balance newBalance = balance;
+    for (int i = 0; i < accepted.size(); i++) {
+      LedgerPosting posting = accepted.get(i);
+      Transaction savedTransaction = savedTransactions.get(i);
+      journalEntries.add(
+          savedTransaction.createJournalEntry(account.getId(), posting.amount(), now));
+      newBalance =
+          posting.type().applyTo(newBalance, posting.amount(), savedTransaction.getId(), now);
+      events.add(savedTransaction.toPostedEvent(accountId, posting.amount(), posting.type()));
+    }
+    journalEntryPort.saveAll(journalEntries);
+    balancePort.update(newBalance);
+
+    // 4. Domain Event 배치 기록
+    outboxEventRecorder.recordAll(events);
+
+    return Arrays.asList(results);
+  }
+
+  private List<LedgerPosting> selectAcceptedPostings(
+      List<LedgerPosting> postings, Balance balance, Instant now, PostingResult[] results) {
+    Set<String> seenBusinessRefIds =
+        new HashSet<>(
+            transactionPort.findExistingBusinessRefIds(
+                postings.stream().map(LedgerPosting::businessRefId).toList()));
+
+    List<LedgerPosting> accepted = new ArrayList<>(postings.size());
+    Balance projected = balance;
+    for (int i = 0; i < postings.size(); i++) {
+      LedgerPosting posting = postings.get(i);
+      if (!seenBusinessRefIds.add(posting.businessRefId())) {
+        log.warn("Duplicate transaction detected. businessRefId={}", posting.businessRefId());
+        results[i] = PostingResult.duplicate();
+        continue;
+      }
+      try {
+        projected = posting.type().applyTo(projected, posting.amount(), null, now);
+        accepted.add(posting);
+        results[i] = PostingResult.posted();
+      } catch (InsufficientBalanceException e) {
+        seenBusinessRefIds.remove(posting.businessRefId());
+        results[i] = PostingResult.rejected(e);
+      }
+    }
+    return accepted;
+  }
+}
@@ -0,0 +1,211 @@
+package com.securities.kuku.ledger.application.service.groupcommit;
+
+import com.securities.kuku.ledger.config.GroupCommitProperties;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 계좌별 대기열에 요청을 모아 {@link PostingBatchProcessor}로 한 번에 넘기는 Group Commit 엔진.
+ *
+ * <p>별도 스레드 없이 Leader/Follower 방식으로 동작합니다. 대기열의 락을 먼저 잡은 요청 스레드가 Leader가 되어 짧은 배치 윈도우 동안
+ * 요청을 더 모은 뒤 커밋하고, 나머지 스레드는 자신의 결과가 채워질 때까지 기다립니다. Leader가 처리하지 못한 요청이 남아 있으면 기다리던
+ * 스레드 중 하나가 다음 Leader가 됩니다.
+ *
+ * <p>Leader는 배치 윈도우 동안 대기열이 {@code maxBatchSize}만큼 차거나 {@code maxWait}가 지날 때까지 잠들어 기다립니다. 빈 대기열은
+ * Leader가 없을 때만 닫고 지우며, 닫힌 대기열에는 요청을 넣지 않고 새 대기열을 만들므로 한 계좌의 Leader는 언제나 하나입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.group-commit", name = "enabled", havingValue = "true")
+public class PostingBatcher {
+
+  private static final long MIN_FOLLOWER_WAIT_NANOS = TimeUnit.MILLISECONDS.toNanos(1);
+
+  private final PostingBatchProcessor postingBatchProcessor;
+  private final GroupCommitProperties properties;
+  private final Map<Long, AccountLane> lanes = new ConcurrentHashMap<>();
+
+  public void submit(LedgerPosting posting) {
+    PendingPosting pending = new PendingPosting(posting);
+    AccountLane lane = enqueue(posting.accountId(), pending);
+
+    while (!pending.result.isDone()) {
+      if (lane.flushLock.tryLock()) {
+        try {
+          if (!pending.result.isDone()) {
+            flush(posting.accountId(), lane);
+          }
+        } finally {
+          lane.flushLock.unlock();
+        }
+      } else {
+        awaitLeader(pending);
+      }
+    }
+
+    if (lane.retireIfIdle()) {
+      lanes.remove(posting.accountId(), lane);
+    }
+    pending.join();
+  }
+
+  private AccountLane enqueue(Long accountId, PendingPosting pending) {
+    while (true) {
+      AccountLane lane = lanes.computeIfAbsent(accountId, id -> new AccountLane());
+      if (lane.enqueue(pending, properties.maxBatchSize())) {
+        return lane;
+      }
+      // 방금 닫힌 대기열입니다. 지우는 것을 거들고 새 대기열에 넣습니다.
+      lanes.remove(accountId, lane);
+    }
+  }
+
+  private void flush(Long accountId, AccountLane lane) {
+    lane.awaitBatch(properties.maxBatchSize(), properties.maxWait().toNanos());
+    List<PendingPosting> batch = lane.drain(properties.maxBatchSize());
+    if (batch.isEmpty()) {
+      return;
+    }
+
+    try {
+      List<PostingResult> results =
+          postingBatchProcessor.process(
+              accountId, batch.stream().map(pending -> pending.posting).toList());
+      for (int i = 0; i < batch.size(); i++) {
+        batch.get(i).complete(results.get(i));
+      }
+    } catch (RuntimeException e) {
+      batch.forEach(pending -> pending.result.completeExceptionally(e));
+    }
+  }
+
+  private void awaitLeader(PendingPosting pending) {
+    long waitNanos = Math.max(properties.maxWait().toNanos(), MIN_FOLLOWER_WAIT_NANOS);
+    try {
+      pending.result.get(waitNanos, TimeUnit.NANOSECONDS);
+    } catch (TimeoutException | ExecutionException e) {
+      // 결과 확인과 예외 전파는 submit 루프와 join()에서 처리한다
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new IllegalStateException("Interrupted while waiting for group commit", e);
+    }
+  }
+
+  private static final class AccountLane {
+    private final ConcurrentLinkedQueue<PendingPosting> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final ReentrantLock flushLock = new ReentrantLock();
+    // 요청 추가·배치 윈도우 대기·대기열 닫기를 직렬화합니다.
+    private final ReentrantLock stateLock = new ReentrantLock();
+    private final Condition batchFull = stateLock.newCondition();
+    private boolean retired;
+
+    /** 대기열이 이미 닫혔으면 넣지 않고 {@code false}를 돌려줍니다. */
+    boolean enqueue(PendingPosting pending, int maxBatchSize) {
+      stateLock.lock();
+      try {
+        if (retired) {
+          return false;
+        }
+        queue.add(pending);
+        if (size.incrementAndGet() >= maxBatchSize) {
+          batchFull.signal();
+        }
+        return true;
+      } finally {
+        stateLock.unlock();
+      }
+    }
+
+    /** 대기열이 {@code maxBatchSize}만큼 차거나 {@code maxWaitNanos}가 지날 때까지 기다립니다. */
+    void awaitBatch(int maxBatchSize, long maxWaitNanos) {
+      stateLock.lock();
+      try {
+        long remaining = maxWaitNanos;
+        while (size.get() < maxBatchSize && remaining > 0) {
+          remaining = batchFull.awaitNanos(remaining);
+        }
+      } catch (InterruptedException e) {
+        // 모인 요청은 그대로 처리하고, 인터럽트는 결과를 기다리는 쪽에서 처리한다
+        Thread.currentThread().interrupt();
+      } finally {
+        stateLock.unlock();
+      }
+    }
+
+    /** Leader가 없고 비어 있으면 대기열을 닫습니다. 닫았으면 {@code true}입니다. */
+    boolean retireIfIdle() {
+      if (!flushLock.tryLock()) {
+        return false;
+      }
+      try {
+        stateLock.lock();
+        try {
+          if (size.get() > 0) {
+            return false;
+          }
+          retired = true;
+          return true;
+        } finally {
+          stateLock.unlock();
+        }
+      } finally {
+        flushLock.unlock();
+      }
+    }
+
+    List<PendingPosting> drain(int maxBatchSize) {
+      List<PendingPosting> batch = new ArrayList<>(Math.min(maxBatchSize, size.get()));
+      PendingPosting pending;
+      while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+        size.decrementAndGet();
+        batch.add(pending);
+      }
+      return batch;
+    }
+  }
+
+  private static final class PendingPosting {
+    private final LedgerPosting posting;
+    private final CompletableFuture<PostingResult> result = new CompletableFuture<>();
+
+    PendingPosting(LedgerPosting posting) {
+      this.posting = posting;
+    }
+
+    void complete(PostingResult postingResult) {
+      if (postingResult.isRejected()) {
+        result.completeExceptionally(postingResult.failure());
+      } else {
+        result.complete(postingResult);
+      }
+    }
+
+    void join() {
+      try {
+        result.get();
+      } catch (ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException runtimeException) {
+          throw runtimeException;
+        }
+        throw new IllegalStateException(e.getCause());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException("Interrupted while waiting for group commit", e);
+      }
+    }
+  }
+}
@@ -0,0 +1,29 @@
+package com.securities.kuku.ledger.application.service.groupcommit;
+
+/**
+ * 배치 안에서 개별 요청이 어떻게 처리되었는지를 나타냅니다. 배치 전체가 커밋되더라도 잔액 부족 같은 건별 실패는 해당 요청자에게만 전달됩니다.
+ */
+public record PostingResult(Status status, RuntimeException failure) {
+
+  public enum Status {
+    POSTED,
+    DUPLICATE,
+    REJECTED
+  }
+
+  public static PostingResult posted() {
+    return new PostingResult(Status.POSTED, null);
+  }
+
+  public static PostingResult duplicate() {
+    return new PostingResult(Status.DUPLICATE, null);
+  }
+
+  public static PostingResult rejected(RuntimeException failure) {
+    return new PostingResult(Status.REJECTED, failure);
+  }
+
+  public boolean isRejected() {
+    return status == Status.REJECTED;
+  }
+}
@@ -0,0 +1,92 @@
+package com.securities.kuku.ledger.application.service.idempotency;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom 필터. 잠금 없이 여러 스레드에서 동시에 사용할 수 있습니다.
+ *
+ * <p>{@link #mightContain}이 false면 넣은 적이 없는 키임이 확실하고, true면 오탐일 수 있습니다.
+ */
+final class BloomFilter {
+
+  private static final long FNV_OFFSET_BASIS = 0xcbf29ce484222325L;
+  private static final long FNV_PRIME = 0x100000001b3L;
+
+  private final AtomicLongArray bits;
+  private final long bitSize;
+  private final int hashCount;
+  private final AtomicInteger insertions = new AtomicInteger();
+
+  BloomFilter(int expectedInsertions, double falsePositiveRate) {
+    double ln2 = Math.log(2);
+    long optimalBits =
+        (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (ln2 * ln2));
+    this.bitSize = Math.max(Long.SIZE, optimalBits);
+    this.hashCount = Math.max(1, (int) Math.round((double) bitSize / expectedInsertions * ln2));
+    this.bits = new AtomicLongArray((int) ((bitSize + Long.SIZE - 1) / Long.SIZE));
+  }
+
+  void put(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1);
+    for (int i = 0; i < hashCount; i++) {
+      setBit(index(hash1 + i * hash2));
+    }
+    insertions.incrementAndGet();
+  }
+
+  boolean mightContain(String key) {
+    long hash1 = hash(key);
+    long hash2 = mix(hash1);
+    for (int i = 0; i < hashCount; i++) {
+      if (!getBit(index(hash1 + i * hash2))) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  int insertions() {
+    return insertions.get();
+  }
+
+  private long index(long combinedHash) {
+    return Math.floorMod(combinedHash, bitSize);
+  }
+
+  private void setBit(long bitIndex) {
+    int wordIndex = (int) (bitIndex >>> 6);
+    long mask = 1L << bitIndex;
+    long word;
+    do {
+      word = bits.get(wordIndex);
+      if ((word & mask) != 0) {
+        return;
+      }
+    } while (!bits.compareAndSet(wordIndex, word, word | mask));
+  }
+
+  private boolean getBit(long bitIndex) {
+    return (bits.get((int) (bitIndex >>> 6)) & (1L << bitIndex)) != 0;
+  }
+
+  // FNV-1a 64비트. String.hashCode()는 32비트라 키가 많아지면 충돌이 오탐률을 끌어올립니다.
+  private static long hash(String key) {
+    long hash = FNV_OFFSET_BASIS;
+    for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+      hash ^= (b & 0xff);
+      hash *= FNV_PRIME;
+    }
+    return hash;
+  }
+
+  // SplitMix64 finalizer. 두 번째 해시를 만들어 double hashing에 사용합니다.
+  private static long mix(long value) {
+    long z = value + 0x9e3779b97f4a7c15L;
+    z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+    z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+    return z ^ (z >>> 31);
+  }
+}
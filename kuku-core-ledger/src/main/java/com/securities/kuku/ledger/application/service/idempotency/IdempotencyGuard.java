@@ -0,0 +1,109 @@
+package com.securities.kuku.ledger.application.service.idempotency;
+
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.config.IdempotencyProperties;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * businessRefId 중복 여부를 DB 조회 없이 먼저 판단하는 필터.
+ *
+ * <p>최종 판단은 {@code transactions.uk_business_ref_id} 유니크 키가 하고, 이 필터는 그 앞에서 DB 왕복을 줄이는 역할만 합니다.
+ *
+ * <ul>
+ *   <li>최근 키 목록에 있으면 DB를 거치지 않고 중복으로 판단합니다. 클라이언트 재시도가 몰려도 DB까지 내려가지 않습니다.
+ *   <li>Bloom 필터에 없으면 처음 보는 키이므로 사전 조회를 생략하고 INSERT에 판단을 맡깁니다.
+ *   <li>Bloom 필터에 있으면 오탐일 수 있으므로 DB에서 확인합니다.
+ * </ul>
+ *
+ * <p>인스턴스마다 따로 기억하므로 다른 인스턴스가 처리한 키는 "처음 보는 키"로 통과하고, 유니크 키 위반으로 걸러집니다.
+ */
+@Component
+public class IdempotencyGuard {
+
+  private final TransactionPort transactionPort;
+  private final int expectedKeys;
+  private final double falsePositiveRate;
+  private final Set<String> recentKeys;
+
+  private volatile BloomFilter current;
+  private volatile BloomFilter previous;
+
+  public IdempotencyGuard(TransactionPort transactionPort, IdempotencyProperties properties) {
+    this.transactionPort = transactionPort;
+    this.expectedKeys = properties.expectedKeys();
+    this.falsePositiveRate = properties.falsePositiveRate();
+    this.recentKeys = Collections.synchronizedSet(newRecentKeySet(properties.recentKeys()));
+    this.current = new BloomFilter(expectedKeys, falsePositiveRate);
+    this.previous = new BloomFilter(expectedKeys, falsePositiveRate);
+  }
+
+  public boolean isDuplicate(String businessRefId) {
+    if (recentKeys.contains(businessRefId)) {
+      return true;
+    }
+    if (!current.mightContain(businessRefId) && !previous.mightContain(businessRefId)) {
+      return false;
+    }
+    boolean exists = transactionPort.findByBusinessRefId(businessRefId).isPresent();
+    if (exists) {
+      remember(businessRefId);
+    }
+    return exists;
+  }
+
+  /** INSERT 시점에 유니크 키 위반으로 확인된 중복을 기억합니다. */
+  public void markDuplicate(String businessRefId) {
+    remember(businessRefId);
+  }
+
+  /** 처리한 키를 기억합니다. 롤백된 키를 중복으로 오인하지 않도록 트랜잭션이 커밋된 뒤에 반영합니다. */
+  public void markPosted(String businessRefId) {
+    if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+      remember(businessRefId);
+      return;
+    }
+    TransactionSynchronizationManager.registerSynchronization(
+        new TransactionSynchronization() {
+          @Override
+          public void afterCommit() {
+            remember(businessRefId);
+          }
+        });
+  }
+
+  private void remember(String businessRefId) {
+    recentKeys.add(businessRefId);
+    bloomFilterForInsert().put(businessRefId);
+  }
+
+  // 가득 찬 세대는 한 세대 동안 더 조회에 사용한 뒤 버려서, 메모리를 고정한 채 최근 키를 계속 기억합니다.
+  private BloomFilter bloomFilterForInsert() {
+    BloomFilter filter = current;
+    if (filter.insertions() < expectedKeys) {
+      return filter;
+    }
+    synchronized (this) {
+      if (current.insertions() >= expectedKeys) {
+        previous = current;
+        current = new BloomFilter(expectedKeys, falsePositiveRate);
+      }
+      return current;
+    }
+  }
+
+  private static Set<String> newRecentKeySet(int capacity) {
+    return Collections.newSetFromMap(
+        new LinkedHashMap<>() {
+          @Override
+          protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+            return size() > capacity;
+          }
+        });
+  }
+}
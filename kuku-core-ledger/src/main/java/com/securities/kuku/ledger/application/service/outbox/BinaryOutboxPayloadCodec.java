@@ -0,0 +1,146 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerEvent;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이벤트마다 필드 순서와 길이를 고정한 바이너리 형식. 필드 이름을 쓰지 않고, ID는 8바이트, 금액은 {@link Money#units()}(8바이트),
+ * enum은 ordinal(1바이트)로 씁니다.
+ *
+ * <pre>
+ * 공통 헤더  [version:1][type:1]
+ * POSTED    [transactionId:8][accountId:8][amountUnits:8][transactionType:1]
+ *           [epochSecond:8][nano:4]
+ * REVERSED  [reversalTransactionId:8][originalTransactionId:8][epochSecond:8][nano:4]
+ *           [reasonLength:4][reason:UTF-8]
+ * </pre>
+ *
+ * <p>형식을 바꿀 때는 {@link #VERSION}을 올리고 이전 버전의 decode를 남깁니다. 저장된 이벤트의 ordinal이 바뀌지 않도록 {@link
+ * TransactionType} 상수는 끝에만 추가합니다.
+ */
+@Component
+public class BinaryOutboxPayloadCodec implements OutboxPayloadCodec {
+
+  public static final String ID = "binary";
+
+  static final byte VERSION = 1;
+  static final byte TYPE_POSTED = 1;
+  static final byte TYPE_REVERSED = 2;
+
+  static final int POSTED_SIZE = 2 + 8 + 8 + 8 + 1 + 8 + 4;
+  private static final int REVERSED_FIXED_SIZE = 2 + 8 + 8 + 8 + 4 + 4;
+
+  private static final TransactionType[] TRANSACTION_TYPES = TransactionType.values();
+
+  @Override
+  public String id() {
+    return ID;
+  }
+
+  @Override
+  public byte[] encode(LedgerEvent event) {
+    if (event instanceof LedgerPostedEvent posted) {
+      return encodePosted(posted);
+    }
+    if (event instanceof LedgerReversedEvent reversed) {
+      return encodeReversed(reversed);
+    }
+    throw new IllegalArgumentException("Unsupported event type: " + event.eventType());
+  }
+
+  @Override
+  public LedgerEvent decode(String eventType, byte[] payload) {
+    ByteBuffer buffer = ByteBuffer.wrap(payload);
+    try {
+      byte version = buffer.get();
+      if (version != VERSION) {
+        throw new IllegalArgumentException("Unsupported payload version: " + version);
+      }
+      byte type = buffer.get();
+      LedgerEvent event =
+          switch (type) {
+            case TYPE_POSTED -> decodePosted(buffer);
+            case TYPE_REVERSED -> decodeReversed(buffer);
+            default -> throw new IllegalArgumentException("Unknown payload type: " + type);
+          };
+      if (!event.eventType().equals(eventType) || buffer.hasRemaining()) {
+        throw new IllegalArgumentException("Payload does not match event type: " + eventType);
+      }
+      return event;
+    } catch (BufferUnderflowException e) {
+      throw new IllegalArgumentException("Truncated payload for " + eventType, e);
+    }
+  }
+
+  private static byte[] encodePosted(LedgerPostedEvent event) {
+    ByteBuffer buffer = ByteBuffer.allocate(POSTED_SIZE);
+    buffer.put(VERSION).put(TYPE_POSTED);
+    buffer.putLong(event.transactionId());
+    buffer.putLong(event.accountId());
+    buffer.putLong(Money.of(event.amount()).units());
+    buffer.put((byte) event.transactionType().ordinal());
+    putInstant(buffer, event.occurredAt());
+    return buffer.array();
+  }
+
+  private static LedgerPostedEvent decodePosted(ByteBuffer buffer) {
+    long transactionId = buffer.getLong();
+    long accountId = buffer.getLong();
+    long amountUnits = buffer.getLong();
+    int typeOrdinal = Byte.toUnsignedInt(buffer.get());
+    if (typeOrdinal >= TRANSACTION_TYPES.length) {
+      throw new IllegalArgumentException("Unknown transaction type ordinal: " + typeOrdinal);
+    }
+    return LedgerPostedEvent.of(
+        transactionId,
+        accountId,
+        Money.ofUnits(amountUnits).toBigDecimal(),
+        TRANSACTION_TYPES[typeOrdinal],
+        getInstant(buffer));
+  }
+
+  private static byte[] encodeReversed(LedgerReversedEvent event) {
+    byte[] reason = event.reason().getBytes(StandardCharsets.UTF_8);
+    ByteBuffer buffer = ByteBuffer.allocate(REVERSED_FIXED_SIZE + reason.length);
+    buffer.put(VERSION).put(TYPE_REVERSED);
+    buffer.putLong(event.reversalTransactionId());
+    buffer.putLong(event.originalTransactionId());
+    putInstant(buffer, event.occurredAt());
+    buffer.putInt(reason.length).put(reason);
+    return buffer.array();
+  }
+
+  private static LedgerReversedEvent decodeReversed(ByteBuffer buffer) {
+    long reversalTransactionId = buffer.getLong();
+    long originalTransactionId = buffer.getLong();
+    Instant occurredAt = getInstant(buffer);
+    int reasonLength = buffer.getInt();
+    if (reasonLength < 0 || reasonLength > buffer.remaining()) {
+      throw new IllegalArgumentException("Invalid reason length: " + reasonLength);
+    }
+    byte[] reason = new byte[reasonLength];
+    buffer.get(reason);
+    return LedgerReversedEvent.of(
+        reversalTransactionId,
+        originalTransactionId,
+        new String(reason, StandardCharsets.UTF_8),
+        occurredAt);
+  }
+
+  private static void putInstant(ByteBuffer buffer, Instant instant) {
+    buffer.putLong(instant.getEpochSecond()).putInt(instant.getNano());
+  }
+
+  private static Instant getInstant(ByteBuffer buffer) {
+    long epochSecond = buffer.getLong();
+    return Instant.ofEpochSecond(epochSecond, buffer.getInt());
+  }
+}
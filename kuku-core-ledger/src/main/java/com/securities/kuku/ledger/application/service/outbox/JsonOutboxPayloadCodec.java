@@ -0,0 +1,48 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securities.kuku.ledger.domain.event.LedgerEvent;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/** Jackson으로 이벤트를 UTF-8 JSON으로 변환합니다. 사람이 읽을 수 있고 필드 추가에 관대하지만, 바이너리보다 크고 느립니다. */
+@Component
+@RequiredArgsConstructor
+public class JsonOutboxPayloadCodec implements OutboxPayloadCodec {
+
+  public static final String ID = "json";
+
+  private final ObjectMapper objectMapper;
+
+  @Override
+  public String id() {
+    return ID;
+  }
+
+  @Override
+  public byte[] encode(LedgerEvent event) {
+    try {
+      return objectMapper.writeValueAsBytes(event);
+    } catch (IOException e) {
+      throw new IllegalStateException("Failed to serialize LedgerEvent: " + event.eventType(), e);
+    }
+  }
+
+  @Override
+  public LedgerEvent decode(String eventType, byte[] payload) {
+    Class<? extends LedgerEvent> type =
+        switch (eventType) {
+          case LedgerPostedEvent.EVENT_TYPE -> LedgerPostedEvent.class;
+          case LedgerReversedEvent.EVENT_TYPE -> LedgerReversedEvent.class;
+          default -> throw new IllegalArgumentException("Unknown event type: " + eventType);
+        };
+    try {
+      return objectMapper.readValue(payload, type);
+    } catch (IOException e) {
+      throw new IllegalArgumentException("Malformed JSON payload for " + eventType, e);
+    }
+  }
+}
@@ -0,0 +1,15 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import java.util.List;
+
+/** 커밋된 Outbox 이벤트를 폴링을 기다리지 않고 바로 발행하도록 넘겨받는 곳. */
+public interface OutboxFastPath {
+
+  /**
+   * 커밋 직후 호출됩니다. 호출한 스레드를 막지 않아야 하며, 받지 못한 이벤트는 PENDING으로 남아 relay가 발행합니다.
+   *
+   * @param committed 방금 커밋된 이벤트 (ID 포함)
+   */
+  void submit(List<OutboxEvent> committed);
+}
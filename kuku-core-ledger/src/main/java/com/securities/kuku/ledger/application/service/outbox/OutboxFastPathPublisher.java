@@ -0,0 +1,128 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.ledger.config.OutboxFastPathProperties;
+import com.securities.kuku.ledger.config.OutboxRelayProperties;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커밋된 Outbox 이벤트를 폴링 주기를 기다리지 않고 바로 발행하는 백그라운드 작업.
+ *
+ * <p>커밋 직후 받은 이벤트의 파티션 번호를 대기열에 넣고, 전용 worker 하나가 대기열에 쌓인 파티션을 모아 {@link
+ * OutboxRelayBatchProcessor#relayCommitted}로 발행합니다. 파티션 잠금과 발행 순서는 폴링 relay와 같으므로, 두 경로가 같은 이벤트를
+ * 함께 발행하거나 순서를 바꾸지 않습니다.
+ *
+ * <p>대기열이 가득 찼거나, 발행에 실패했거나, 파티션을 다른 relay가 잡고 있었던 이벤트는 PENDING으로 남아 폴링 relay가 발행합니다.
+ * 종료 시 대기열에 남은 파티션도 마찬가지입니다.
+ *
+ * <ul>
+ *   <li>{@code ledger.outbox.fastpath.dropped}: 대기열이 가득 차 폴링 relay로 넘긴 이벤트 수
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboxFastPathPublisher implements OutboxFastPath, SmartLifecycle {
+
+  static final String DROPPED = "ledger.outbox.fastpath.dropped";
+
+  private static final long POLL_TIMEOUT_MILLIS = 100L;
+
+  private final OutboxRelayBatchProcessor batchProcessor;
+  private final int batchSize;
+  private final boolean enabled;
+  private final BlockingQueue<Integer> partitionQueue;
+  private final Counter dropped;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  public OutboxFastPathPublisher(
+      OutboxRelayBatchProcessor batchProcessor,
+      OutboxFastPathProperties properties,
+      OutboxRelayProperties relayProperties,
+      MeterRegistry meterRegistry) {
+    this.batchProcessor = batchProcessor;
+    this.batchSize = relayProperties.batchSize();
+    this.enabled = properties.enabled();
+    this.partitionQueue = new ArrayBlockingQueue<>(properties.queueCapacity());
+    this.dropped = Counter.builder(DROPPED).register(meterRegistry);
+  }
+
+  @Override
+  public void submit(List<OutboxEvent> committed) {
+    if (!running) {
+      return;
+    }
+    for (OutboxEvent event : committed) {
+      if (!partitionQueue.offer(event.getPartitionNo())) {
+        dropped.increment();
+      }
+    }
+  }
+
+  @Override
+  public void start() {
+    if (!enabled) {
+      return;
+    }
+    running = true;
+    worker = Thread.ofVirtual().name("outbox-fast-path").start(this::publishLoop);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker == null) {
+      return;
+    }
+    try {
+      worker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private void publishLoop() {
+    while (running) {
+      Integer first;
+      try {
+        first = partitionQueue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (first == null) {
+        continue;
+      }
+      // 처리하는 동안 쌓인 파티션을 모아 발행합니다. 묶음이 가득 찼으면 남은 이벤트가 있을 수 있으므로 이어서 발행합니다.
+      List<Integer> drained = new ArrayList<>();
+      drained.add(first);
+      partitionQueue.drainTo(drained);
+      Set<Integer> partitionNos = new LinkedHashSet<>(drained);
+      try {
+        int relayed;
+        do {
+          relayed = batchProcessor.relayCommitted(partitionNos);
+        } while (relayed >= batchSize && running);
+      } catch (RuntimeException e) {
+        log.warn("Fast path relay failed. Left to poller. partitionNos={}", partitionNos, e);
+      }
+    }
+  }
+}
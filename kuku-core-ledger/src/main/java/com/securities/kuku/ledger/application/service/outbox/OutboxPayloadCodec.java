@@ -0,0 +1,22 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.ledger.domain.event.LedgerEvent;
+
+/**
+ * {@link LedgerEvent}와 Outbox payload 바이트 사이의 변환.
+ *
+ * <p>이벤트를 저장할 때 쓴 codec의 {@link #id()}가 행에 함께 남으므로, 설정을 바꿔도 이미 저장된 이벤트는 저장할 때의 codec으로 읽습니다.
+ */
+public interface OutboxPayloadCodec {
+
+  /** 행의 {@code payload_codec}에 저장되는 식별자. 한 번 정하면 바꾸지 않습니다. */
+  String id();
+
+  byte[] encode(LedgerEvent event);
+
+  /**
+   * @param eventType 행의 {@code event_type}
+   * @throws IllegalArgumentException 알 수 없는 이벤트 타입이거나 형식이 맞지 않을 때
+   */
+  LedgerEvent decode(String eventType, byte[] payload);
+}
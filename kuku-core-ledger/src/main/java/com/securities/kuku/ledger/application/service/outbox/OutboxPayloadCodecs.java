@@ -0,0 +1,42 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.ledger.config.OutboxPayloadProperties;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.springframework.stereotype.Component;
+
+/**
+ * 등록된 {@link OutboxPayloadCodec}을 id로 찾습니다. 새 이벤트는 {@code ledger.outbox.payload.codec}으로 기록하고, 저장된
+ * 이벤트는 행에 남은 codec id로 읽습니다.
+ */
+@Component
+public class OutboxPayloadCodecs {
+
+  private final Map<String, OutboxPayloadCodec> codecs;
+  private final OutboxPayloadCodec writeCodec;
+
+  public OutboxPayloadCodecs(List<OutboxPayloadCodec> codecs, OutboxPayloadProperties properties) {
+    this.codecs =
+        codecs.stream()
+            .collect(Collectors.toUnmodifiableMap(OutboxPayloadCodec::id, Function.identity()));
+    this.writeCodec = forId(properties.codec());
+  }
+
+  /** 새 이벤트를 기록할 codec. */
+  public OutboxPayloadCodec writeCodec() {
+    return writeCodec;
+  }
+
+  /**
+   * @throws IllegalArgumentException 등록되지 않은 codec id일 때
+   */
+  public OutboxPayloadCodec forId(String codecId) {
+    OutboxPayloadCodec codec = codecs.get(codecId);
+    if (codec == null) {
+      throw new IllegalArgumentException("Unknown outbox payload codec: " + codecId);
+    }
+    return codec;
+  }
+}
@@ -0,0 +1,100 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.ledger.config.OutboxRelayProperties;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * PENDING Outbox 이벤트를 파티션 순서대로 발행하는 백그라운드 작업.
+ *
+ * <p>파티션 {@code p}는 lane {@code p % lanes}가 맡고, lane마다 가상 스레드 하나가 {@link
+ * OutboxRelayBatchProcessor#relay(Collection)}를 반복합니다. 묶음을 가득 채워 처리했으면 쉬지 않고 다음 묶음을 가져오고, 덜
+ * 찼으면 {@code pollInterval}만큼 기다립니다. 한 lane이 막혀도 다른 lane은 계속 발행합니다. 종료 시에는 진행 중인 묶음까지만
+ * 마치고 멈춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.outbox.relay", name = "enabled", havingValue = "true")
+public class OutboxRelay implements SmartLifecycle {
+
+  private final OutboxRelayBatchProcessor batchProcessor;
+  private final OutboxRelayProperties properties;
+
+  private volatile boolean running;
+  private volatile CountDownLatch stopSignal = new CountDownLatch(0);
+  private final List<Thread> workers = new ArrayList<>();
+
+  @Override
+  public void start() {
+    stopSignal = new CountDownLatch(1);
+    running = true;
+    for (int lane = 0; lane < properties.lanes(); lane++) {
+      List<Integer> partitionNos = partitionsOf(lane);
+      workers.add(
+          Thread.ofVirtual().name("outbox-relay-" + lane).start(() -> relayLoop(partitionNos)));
+    }
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    stopSignal.countDown();
+    try {
+      for (Thread worker : workers) {
+        worker.join();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    } finally {
+      workers.clear();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  private List<Integer> partitionsOf(int lane) {
+    return IntStream.range(0, OutboxEvent.PARTITION_COUNT)
+        .filter(partitionNo -> partitionNo % properties.lanes() == lane)
+        .boxed()
+        .toList();
+  }
+
+  private void relayLoop(List<Integer> partitionNos) {
+    while (running) {
+      int relayed;
+      try {
+        relayed = batchProcessor.relay(partitionNos);
+      } catch (RuntimeException e) {
+        log.error("Failed to relay outbox events. partitionNos={}", partitionNos, e);
+        relayed = 0;
+      }
+      if (relayed < properties.batchSize() && !awaitNextPoll()) {
+        return;
+      }
+    }
+  }
+
+  // 멈추라는 신호를 받았거나 인터럽트되면 false를 돌려줍니다.
+  private boolean awaitNextPoll() {
+    try {
+      return !stopSignal.await(properties.pollInterval().toMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+}
@@ -0,0 +1,189 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.ledger.application.port.out.OutboxEventPort;
+import com.securities.kuku.ledger.application.port.out.OutboxPublishPort;
+import com.securities.kuku.ledger.config.OutboxRelayProperties;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.time.Instant;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 맡은 파티션을 잠가 PENDING 이벤트 한 묶음을 생성 순서대로 발행하고 결과를 기록합니다. 묶음 하나가 트랜잭션 하나입니다.
+ *
+ * <p>파티션 잠금은 발행이 끝나 커밋될 때까지 유지되므로 다른 worker·인스턴스는 그 파티션을 건너뜁니다. 발행 도중 죽으면 트랜잭션이
+ * 롤백되어 이벤트는 다시 PENDING이 되고, 다음 relay가 다시 발행합니다(At-Least-Once).
+ *
+ * <p>이벤트 하나가 발행에 실패하면 같은 파티션의 뒤 이벤트는 발행하지 않습니다. 앞 이벤트를 건너뛰고 발행하면 순서가 깨지기 때문이며, 다른
+ * 파티션은 계속 발행합니다. 브로커 장애처럼 다시 시도하면 될 실패는 몇 번이 되든 파티션을 막아 둔 채, 연속 실패 횟수에 따라 {@code
+ * pollInterval}부터 두 배씩 늘린 간격(최대 {@code maxBackoff})이 지난 뒤 다시 시도합니다. 간격은 이 인스턴스의 메모리에만 있으므로 다른
+ * 인스턴스가 그 사이 파티션을 잡아 시도할 수 있습니다.
+ *
+ * <p>payload를 읽을 수 없어 {@link OutboxPublishPort#publish}가 {@link IllegalArgumentException}을 던진 이벤트만
+ * FAILED로 넘기고 뒤 이벤트를 발행합니다. 다시 시도해도 성공할 수 없기 때문이며, 그 파티션의 컨슈머는 빠진 이벤트를 수동 조치로 메워야 합니다.
+ *
+ * <ul>
+ *   <li>{@code ledger.outbox.relay.events}: 처리한 이벤트 수 ({@code result}=published|retry|failed)
+ *   <li>{@code ledger.outbox.publish.latency}: 이벤트 저장 시각부터 발행까지 걸린 시간 ({@code
+ *       path}=poller|fast_path). 저장 시각은 이벤트를 기록한 트랜잭션 안에서 정해지므로 커밋에 걸린 시간을 포함합니다.
+ * </ul>
+ */
+@Slf4j
+@Component
+public class OutboxRelayBatchProcessor {
+
+  static final String EVENTS = "ledger.outbox.relay.events";
+  static final String PUBLISH_LATENCY = "ledger.outbox.publish.latency";
+
+  private final OutboxEventPort outboxEventPort;
+  private final OutboxPublishPort outboxPublishPort;
+  private final OutboxRelayProperties properties;
+  private final Clock clock;
+
+  private final Counter published;
+  private final Counter retried;
+  private final Counter failed;
+  private final Timer pollerLatency;
+  private final Timer fastPathLatency;
+
+  // 발행이 실패해 막힌 파티션과 다음 시도 시각. 폴링 lane과 fast path worker가 함께 씁니다.
+  private final Map<Integer, Instant> retryNotBefore = new ConcurrentHashMap<>();
+
+  public OutboxRelayBatchProcessor(
+      OutboxEventPort outboxEventPort,
+      OutboxPublishPort outboxPublishPort,
+      OutboxRelayProperties properties,
+      Clock clock,
+      MeterRegistry meterRegistry) {
+    this.outboxEventPort = outboxEventPort;
+    this.outboxPublishPort = outboxPublishPort;
+    this.properties = properties;
+    this.clock = clock;
+    this.published = Counter.builder(EVENTS).tag("result", "published").register(meterRegistry);
+    this.retried = Counter.builder(EVENTS).tag("result", "retry").register(meterRegistry);
+    this.failed = Counter.builder(EVENTS).tag("result", "failed").register(meterRegistry);
+    this.pollerLatency = publishLatency("poller", meterRegistry);
+    this.fastPathLatency = publishLatency("fast_path", meterRegistry);
+  }
+
+  private static Timer publishLatency(String path, MeterRegistry meterRegistry) {
+    return Timer.builder(PUBLISH_LATENCY)
+        .tag("path", path)
+        .publishPercentileHistogram()
+        .register(meterRegistry);
+  }
+
+  /**
+   * @param partitionNos 이 worker가 맡은 파티션 번호
+   * @return 발행했거나 FAILED로 넘겨 더 이상 PENDING이 아닌 이벤트 수. {@code batchSize}보다 적으면 남은 이벤트가 없거나, 파티션을
+   *     다른 relay가 잡고 있거나, 발행이 막힌 파티션이 있는 것입니다.
+   */
+  @Transactional
+  public int relay(Collection<Integer> partitionNos) {
+    return relay(partitionNos, pollerLatency);
+  }
+
+  /**
+   * 방금 커밋된 이벤트의 파티션을 바로 relay합니다. 파티션에 앞서 남은 PENDING 이벤트가 있으면 그것부터 순서대로 발행하고, 다른 relay가
+   * 잡고 있는 파티션은 건너뜁니다(그 relay가 발행합니다).
+   *
+   * @see #relay(Collection)
+   */
+  @Transactional
+  public int relayCommitted(Collection<Integer> partitionNos) {
+    return relay(partitionNos, fastPathLatency);
+  }
+
+  private int relay(Collection<Integer> partitionNos, Timer latency) {
+    Instant now = clock.instant();
+    List<Integer> readyPartitions =
+        partitionNos.stream().filter(partitionNo -> isReady(partitionNo, now)).toList();
+    if (readyPartitions.isEmpty()) {
+      return 0;
+    }
+    List<OutboxEvent> claimed =
+        outboxEventPort.claimPendingEvents(readyPartitions, properties.batchSize());
+    List<Long> publishedIds = new ArrayList<>(claimed.size());
+    Set<Integer> blockedPartitions = new HashSet<>();
+    int failedCount = 0;
+    for (OutboxEvent event : claimed) {
+      if (blockedPartitions.contains(event.getPartitionNo())) {
+        continue;
+      }
+      try {
+        outboxPublishPort.publish(event);
+        publishedIds.add(event.getId());
+        retryNotBefore.remove(event.getPartitionNo());
+        latency.record(Duration.between(event.getCreatedAt(), clock.instant()));
+      } catch (RuntimeException e) {
+        if (e instanceof IllegalArgumentException) {
+          recordRejected(event, e);
+          failedCount++;
+        } else {
+          recordRetry(event, e);
+          blockedPartitions.add(event.getPartitionNo());
+        }
+      }
+    }
+    outboxEventPort.markAsProcessed(publishedIds, clock.instant());
+    published.increment(publishedIds.size());
+    return publishedIds.size() + failedCount;
+  }
+
+  private boolean isReady(Integer partitionNo, Instant now) {
+    Instant notBefore = retryNotBefore.get(partitionNo);
+    return notBefore == null || !now.isBefore(notBefore);
+  }
+
+  private void recordRetry(OutboxEvent event, RuntimeException cause) {
+    int retryCount = event.getRetryCount() + 1;
+    Duration backoff = backoff(retryCount);
+    log.warn(
+        "Failed to publish outbox event. Holding its partition. id={}, partitionNo={}, "
+            + "retryCount={}, backoff={}",
+        event.getId(),
+        event.getPartitionNo(),
+        retryCount,
+        backoff,
+        cause);
+    outboxEventPort.markForRetry(event.getId(), retryCount);
+    retryNotBefore.put(event.getPartitionNo(), clock.instant().plus(backoff));
+    retried.increment();
+  }
+
+  private void recordRejected(OutboxEvent event, RuntimeException cause) {
+    int retryCount = event.getRetryCount() + 1;
+    log.error(
+        "Outbox event cannot be published. Skipping it in its partition. id={}, partitionNo={}, "
+            + "eventType={}",
+        event.getId(),
+        event.getPartitionNo(),
+        event.getEventType(),
+        cause);
+    outboxEventPort.markAsFailed(event.getId(), retryCount);
+    failed.increment();
+  }
+
+  // pollInterval * 2^(retryCount - 1), 최대 maxBackoff
+  private Duration backoff(int retryCount) {
+    Duration maxBackoff = properties.maxBackoff();
+    Duration backoff = properties.pollInterval();
+    for (int i = 1; i < retryCount && backoff.compareTo(maxBackoff) < 0; i++) {
+      backoff = backoff.multipliedBy(2);
+    }
+    return backoff.compareTo(maxBackoff) < 0 ? backoff : maxBackoff;
+  }
+}
@@ -0,0 +1,121 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import com.securities.kuku.ledger.application.port.in.OutboxRetentionUseCase;
+import com.securities.kuku.ledger.application.port.in.result.OutboxRetentionResult;
+import com.securities.kuku.ledger.application.port.out.OutboxRetentionPort;
+import com.securities.kuku.ledger.application.port.out.OutboxRetentionPort.Partition;
+import com.securities.kuku.ledger.config.OutboxRetentionProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * Outbox 테이블의 일 파티션을 앞으로는 미리 만들고, 뒤로는 통째로 지웁니다.
+ *
+ * <p>발행된 이벤트를 행 단위 DELETE로 지우지 않으므로 정리 중에도 relay와 인덱스 잠금을 다투지 않고, 테이블에 남는 파티션 수가 보관 기간으로
+ * 정해지므로 PENDING 조회 비용이 누적 이벤트 수와 관계없이 일정합니다.
+ *
+ * <p>보관 기간이 지난 파티션에 PENDING 이벤트가 남아 있으면 지우지 않고 다음 실행에서 다시 확인합니다. 지난 파티션에는 새 이벤트가
+ * 쓰이지 않고(ID가 생성 시각 순) PROCESSED 이벤트가 다시 PENDING이 되지 않으므로, 남은 이벤트가 없음을 확인한 뒤 지우는 사이에 발행되지 않은
+ * 이벤트가 생기지 않습니다.
+ *
+ * <p>FAILED 이벤트는 다시 발행되지 않으므로 파티션을 붙잡아 두지 않고, 지우기 전에 dead letter 테이블로 복사하여 수동 조치할 수 있게 남깁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class OutboxRetentionService implements OutboxRetentionUseCase {
+
+  private static final DateTimeFormatter PARTITION_DAY = DateTimeFormatter.ofPattern("yyyyMMdd");
+
+  private final Clock clock;
+  private final OutboxRetentionPort outboxRetentionPort;
+  private final OutboxRetentionProperties properties;
+
+  @Override
+  public OutboxRetentionResult rotate() {
+    List<Partition> partitions = outboxRetentionPort.findPartitions();
+    if (partitions.isEmpty()) {
+      throw new IllegalStateException("outbox_event is not partitioned");
+    }
+    LocalDate today = LocalDate.now(clock.withZone(ZoneOffset.UTC));
+    List<String> createdPartitions = addUpcomingPartitions(partitions, today);
+
+    Instant horizon = startOf(today.minusDays(properties.retentionDays()));
+    List<String> droppedPartitions = new ArrayList<>();
+    List<String> retainedPartitions = new ArrayList<>();
+    long deadLetteredEvents = 0;
+    for (Partition partition : partitions) {
+      if (!partition.isBounded() || partition.upperBound().isAfter(horizon)) {
+        break;
+      }
+      long pending = outboxRetentionPort.countPending(partition.name());
+      if (pending > 0) {
+        log.warn(
+            "Outbox partition has pending events. Keeping it. partition={}, pending={}",
+            partition.name(),
+            pending);
+        retainedPartitions.add(partition.name());
+        continue;
+      }
+      long deadLettered =
+          outboxRetentionPort.copyFailedToDeadLetter(partition.name(), clock.instant());
+      if (deadLettered > 0) {
+        log.warn(
+            "Copied failed outbox events to dead letter table. partition={}, events={}",
+            partition.name(),
+            deadLettered);
+      }
+      outboxRetentionPort.dropPartition(partition.name());
+      droppedPartitions.add(partition.name());
+      deadLetteredEvents += deadLettered;
+    }
+
+    OutboxRetentionResult result =
+        new OutboxRetentionResult(
+            horizon, createdPartitions, droppedPartitions, retainedPartitions, deadLetteredEvents);
+    log.info(
+        "Outbox partitions rotated. horizon={}, created={}, dropped={}, retained={}, "
+            + "deadLettered={}",
+        horizon,
+        createdPartitions,
+        droppedPartitions,
+        retainedPartitions,
+        deadLetteredEvents);
+    return result;
+  }
+
+  private List<String> addUpcomingPartitions(List<Partition> partitions, LocalDate today) {
+    LocalDate next =
+        partitions.stream()
+            .filter(Partition::isBounded)
+            .map(partition -> LocalDate.ofInstant(partition.upperBound(), ZoneOffset.UTC))
+            .reduce((first, second) -> second)
+            .orElse(today);
+    LocalDate until = today.plusDays(properties.futureDays());
+
+    List<String> created = new ArrayList<>();
+    while (!next.isAfter(until)) {
+      String name = partitionName(next);
+      outboxRetentionPort.addPartition(name, startOf(next.plusDays(1)));
+      created.add(name);
+      next = next.plusDays(1);
+    }
+    return created;
+  }
+
+  private static String partitionName(LocalDate day) {
+    return "p" + day.format(PARTITION_DAY);
+  }
+
+  private static Instant startOf(LocalDate day) {
+    return day.atStartOfDay(ZoneOffset.UTC).toInstant();
+  }
+}
@@ -0,0 +1,114 @@
+package com.securities.kuku.ledger.application.service.reconciliation;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.ReconciliationPort;
+import com.securities.kuku.ledger.config.ReconciliationProperties;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import com.securities.kuku.ledger.domain.ReconciliationMismatch;
+import com.securities.kuku.ledger.domain.ReconciliationPartition;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌 청크 하나를 대사하고, 불일치 내역과 구간 진행 위치를 같은 트랜잭션으로 커밋합니다.
+ *
+ * <p>잔액과 분개를 REPEATABLE READ 스냅샷 하나에서 읽으므로, 대사 도중 커밋된 입출금 때문에 거짓 불일치가 생기지 않습니다. 분개 합계는 계좌를
+ * 기준 시각(최신 체크포인트 시각)별로 묶어 {@code GROUP BY} 한 번씩 구하므로 청크당 조회 수가 계좌 수와 무관합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReconciliationChunkProcessor {
+
+  /** 분개 합계 구간의 상한. 모든 분개를 포함하되 DB DATETIME 범위 안에 있어야 합니다. */
+  static final Instant END_OF_TIME = Instant.parse("9999-12-31T23:59:59Z");
+
+  private final Clock clock;
+  private final BalancePort balancePort;
+  private final BalanceCheckpointPort balanceCheckpointPort;
+  private final JournalEntryPort journalEntryPort;
+  private final ReconciliationPort reconciliationPort;
+  private final ReconciliationProperties properties;
+
+  /**
+   * @param accountIds 대사할 계좌 ID
+   * @param progressed 이 청크까지 반영한 구간 진행 위치
+   * @return 발견한 불일치 수
+   */
+  @Transactional(isolation = Isolation.REPEATABLE_READ)
+  public int process(List<Long> accountIds, ReconciliationPartition progressed) {
+    Instant now = clock.instant();
+    List<ReconciliationMismatch> mismatches = new ArrayList<>();
+    if (!accountIds.isEmpty()) {
+      Map<Long, Balance> balances = balancePort.findByAccountIds(new HashSet<>(accountIds));
+      Map<Long, Money> journalAmounts = journalAmounts(accountIds);
+      for (Long accountId : accountIds) {
+        Balance balance = balances.get(accountId);
+        Money balanceAmount = balance != null ? balance.getAmount() : Money.ZERO;
+        Money journalAmount = journalAmounts.getOrDefault(accountId, Money.ZERO);
+        if (!balanceAmount.equals(journalAmount)) {
+          Long lastTransactionId = balance != null ? balance.getLastTransactionId() : null;
+          log.warn(
+              "Ledger mismatch. runId={}, accountId={}, balance={}, journal={},"
+                  + " lastTransactionId={}",
+              progressed.runId(),
+              accountId,
+              balanceAmount,
+              journalAmount,
+              lastTransactionId);
+          mismatches.add(
+              new ReconciliationMismatch(
+                  progressed.runId(),
+                  accountId,
+                  balanceAmount,
+                  journalAmount,
+                  lastTransactionId,
+                  now));
+        }
+      }
+    }
+
+    reconciliationPort.saveMismatches(mismatches);
+    reconciliationPort.savePartition(progressed, now);
+    return mismatches.size();
+  }
+
+  private Map<Long, Money> journalAmounts(List<Long> accountIds) {
+    Map<Long, BalanceCheckpoint> checkpoints =
+        properties.useCheckpoints()
+            ? balanceCheckpointPort.findLatestByAccountIds(accountIds, END_OF_TIME)
+            : Map.of();
+    Map<Long, Money> amounts = new HashMap<>();
+    checkpoints.forEach((accountId, checkpoint) -> amounts.put(accountId, checkpoint.getAmount()));
+
+    Map<Instant, List<Long>> accountIdsByCheckpointAt =
+        accountIds.stream()
+            .collect(
+                Collectors.groupingBy(
+                    accountId -> {
+                      BalanceCheckpoint checkpoint = checkpoints.get(accountId);
+                      return checkpoint != null ? checkpoint.getCheckpointAt() : Instant.EPOCH;
+                    }));
+    accountIdsByCheckpointAt.forEach(
+        (after, group) ->
+            journalEntryPort
+                .sumSignedAmountByAccountIds(group, after, END_OF_TIME)
+                .forEach((accountId, tail) -> amounts.merge(accountId, tail, Money::plus)));
+    return amounts;
+  }
+}
@@ -0,0 +1,143 @@
+package com.securities.kuku.ledger.application.service.reconciliation;
+
+import com.securities.kuku.ledger.application.port.in.ReconciliationUseCase;
+import com.securities.kuku.ledger.application.port.in.result.ReconciliationResult;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.application.port.out.ReconciliationPort;
+import com.securities.kuku.ledger.config.ReconciliationProperties;
+import com.securities.kuku.ledger.domain.ReconciliationPartition;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+/**
+ * 계좌 ID 공간을 구간으로 나누어 {@code workerThreads}개 스레드에서 병렬로 대사합니다.
+ *
+ * <p>각 스레드는 맡은 구간을 ID 순으로 청크씩 읽어 {@link ReconciliationChunkProcessor}에 넘기고, 청크마다 진행 위치가 커밋됩니다. 같은
+ * {@code runId}로 다시 실행하면 저장된 구간과 위치에서 이어서 처리하며, 완료된 구간은 건너뜁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReconciliationService implements ReconciliationUseCase {
+
+  private final Clock clock;
+  private final AccountPort accountPort;
+  private final ReconciliationPort reconciliationPort;
+  private final ReconciliationChunkProcessor chunkProcessor;
+  private final ReconciliationProperties properties;
+
+  @Override
+  public ReconciliationResult reconcile(String runId) {
+    if (runId == null || runId.isBlank()) {
+      throw new IllegalArgumentException("Run ID cannot be blank");
+    }
+
+    List<ReconciliationPartition> partitions = reconciliationPort.findPartitions(runId);
+    if (partitions.isEmpty()) {
+      partitions = createPartitions(runId);
+    } else {
+      log.info(
+          "Resuming reconciliation. runId={}, remainingPartitions={}",
+          runId,
+          partitions.stream().filter(partition -> !partition.completed()).count());
+    }
+
+    AtomicLong checkedAccounts = new AtomicLong();
+    AtomicLong mismatches = new AtomicLong();
+    int failedPartitions = 0;
+    try (ExecutorService executor = newExecutor()) {
+      List<Future<?>> futures = new ArrayList<>();
+      for (ReconciliationPartition partition : partitions) {
+        if (!partition.completed()) {
+          futures.add(
+              executor.submit(() -> reconcilePartition(partition, checkedAccounts, mismatches)));
+        }
+      }
+      for (Future<?> future : futures) {
+        try {
+          future.get();
+        } catch (ExecutionException e) {
+          failedPartitions++;
+          log.warn("Reconciliation partition failed. runId={}", runId, e.getCause());
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new IllegalStateException("Interrupted while reconciling ledger", e);
+        }
+      }
+    }
+
+    ReconciliationResult result =
+        new ReconciliationResult(
+            runId,
+            partitions.size(),
+            checkedAccounts.get(),
+            mismatches.get(),
+            failedPartitions);
+    if (result.isClean()) {
+      log.info("Reconciliation finished. {}", result);
+    } else {
+      log.warn("Reconciliation finished with problems. {}", result);
+    }
+    return result;
+  }
+
+  private void reconcilePartition(
+      ReconciliationPartition partition, AtomicLong checkedAccounts, AtomicLong mismatches) {
+    ReconciliationPartition current = partition;
+    while (!current.completed()) {
+      List<Long> accountIds =
+          accountPort.findIdsBetween(
+              current.lastAccountId(), current.toAccountId(), properties.chunkSize());
+      boolean last = accountIds.size() < properties.chunkSize();
+      long lastAccountId = accountIds.isEmpty() ? current.lastAccountId() : accountIds.getLast();
+      ReconciliationPartition next = current.advanceTo(lastAccountId, last);
+
+      mismatches.addAndGet(chunkProcessor.process(accountIds, next));
+      checkedAccounts.addAndGet(accountIds.size());
+      current = next;
+    }
+  }
+
+  private List<ReconciliationPartition> createPartitions(String runId) {
+    OptionalLong minId = accountPort.findMinId();
+    OptionalLong maxId = accountPort.findMaxId();
+    if (minId.isEmpty() || maxId.isEmpty()) {
+      return List.of();
+    }
+    List<ReconciliationPartition> partitions =
+        split(runId, minId.getAsLong(), maxId.getAsLong(), properties.partitions());
+    reconciliationPort.createPartitions(partitions, clock.instant());
+    return partitions;
+  }
+
+  /** {@code [minId, maxId]}를 폭이 같은 연속 구간으로 나눕니다. 계좌 수가 구간 수보다 적으면 구간도 그만큼만 만듭니다. */
+  static List<ReconciliationPartition> split(String runId, long minId, long maxId, int count) {
+    long width = (maxId - minId) / count + 1;
+    List<ReconciliationPartition> partitions = new ArrayList<>(count);
+    long from = minId;
+    while (true) {
+      long to = maxId - from < width ? maxId : from + width - 1;
+      partitions.add(ReconciliationPartition.of(runId, partitions.size(), from, to));
+      if (to == maxId) {
+        return partitions;
+      }
+      from = to + 1;
+    }
+  }
+
+  private ExecutorService newExecutor() {
+    return Executors.newFixedThreadPool(
+        properties.workerThreads(),
+        Thread.ofPlatform().name("ledger-reconciliation-", 0).factory());
+  }
+}
@@ -0,0 +1,49 @@
+package com.securities.kuku.ledger.application.service.statement;
+
+import com.securities.kuku.common.money.Money;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.DateTimeException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * 거래내역 keyset 커서. 페이지 마지막 분개의 {@code (createdAt, id)}와 그 분개 직전의 잔액을 담습니다.
+ *
+ * <p>잔액을 커서에 담아 두므로 다음 페이지는 앞선 분개를 다시 합산하지 않고 이어서 누적 잔액을 계산합니다. 다른 계좌의 커서는 거부합니다.
+ */
+record StatementCursor(Long accountId, Instant createdAt, Long journalEntryId, Money balance) {
+
+  private static final String DELIMITER = ":";
+
+  String encode() {
+    String raw =
+        String.join(
+            DELIMITER,
+            accountId.toString(),
+            Long.toString(createdAt.getEpochSecond()),
+            Integer.toString(createdAt.getNano()),
+            journalEntryId.toString(),
+            balance.toString());
+    return Base64.getUrlEncoder()
+        .withoutPadding()
+        .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+  }
+
+  static StatementCursor decode(String cursor, Long accountId) {
+    try {
+      String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+      String[] parts = raw.split(DELIMITER);
+      if (parts.length != 5 || !Long.valueOf(parts[0]).equals(accountId)) {
+        throw new IllegalArgumentException("Invalid statement cursor");
+      }
+      return new StatementCursor(
+          accountId,
+          Instant.ofEpochSecond(Long.parseLong(parts[1]), Long.parseLong(parts[2])),
+          Long.valueOf(parts[3]),
+          Money.of(new BigDecimal(parts[4])));
+    } catch (IllegalArgumentException | DateTimeException | ArithmeticException e) {
+      throw new IllegalArgumentException("Invalid statement cursor", e);
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.securities.kuku.ledger.application.service.statement;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.StatementUseCase;
+import com.securities.kuku.ledger.application.port.in.result.StatementLine;
+import com.securities.kuku.ledger.application.port.in.result.StatementPage;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 계좌 거래내역 조회.
+ *
+ * <p>OFFSET 없이 {@code (createdAt, id)} keyset으로 페이지를 넘기므로, 분개가 10건이든 천만 건이든 페이지마다 인덱스에서
+ * {@code size + 1}건만 읽습니다. 누적 잔액은 첫 페이지에서 현재 잔액을 시작점으로 삼아 최신 분개부터 거꾸로 되돌려 계산하고, 이어지는 페이지는
+ * 커서에 담긴 잔액에서 계속합니다.
+ */
+@Service
+@RequiredArgsConstructor
+public class StatementService implements StatementUseCase {
+
+  static final int MAX_PAGE_SIZE = 500;
+
+  private final BalancePort balancePort;
+  private final JournalEntryPort journalEntryPort;
+
+  @Override
+  @Transactional(readOnly = true)
+  public StatementPage getStatement(Long accountId, String cursor, int size) {
+    if (size <= 0 || size > MAX_PAGE_SIZE) {
+      throw new IllegalArgumentException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+    }
+
+    // 다음 페이지 존재 여부를 알기 위해 한 건 더 조회
+    List<JournalEntry> entries;
+    Money balance;
+    if (cursor == null) {
+      balance = currentBalance(accountId);
+      entries = journalEntryPort.findLatestByAccountId(accountId, size + 1);
+    } else {
+      StatementCursor position = StatementCursor.decode(cursor, accountId);
+      balance = position.balance();
+      entries =
+          journalEntryPort.findByAccountIdBefore(
+              accountId, position.createdAt(), position.journalEntryId(), size + 1);
+    }
+
+    boolean hasNext = entries.size() > size;
+    List<JournalEntry> page = hasNext ? entries.subList(0, size) : entries;
+    List<StatementLine> lines = new ArrayList<>(page.size());
+    for (JournalEntry entry : page) {
+      lines.add(StatementLine.of(entry, balance));
+      balance = balance.minus(entry.signedAmount());
+    }
+
+    if (!hasNext) {
+      return new StatementPage(lines, null);
+    }
+    JournalEntry last = page.get(page.size() - 1);
+    String nextCursor =
+        new StatementCursor(accountId, last.getCreatedAt(), last.getId(), balance).encode();
+    return new StatementPage(lines, nextCursor);
+  }
+
+  @Override
+  @Transactional(readOnly = true)
+  public void exportStatement(Long accountId, Consumer<StatementLine> sink) {
+    Money balance = currentBalance(accountId);
+    try (Stream<JournalEntry> entries = journalEntryPort.streamByAccountId(accountId)) {
+      Iterator<JournalEntry> iterator = entries.iterator();
+      while (iterator.hasNext()) {
+        JournalEntry entry = iterator.next();
+        sink.accept(StatementLine.of(entry, balance));
+        balance = balance.minus(entry.signedAmount());
+      }
+    }
+  }
+
+  private Money currentBalance(Long accountId) {
+    return balancePort
+        .findByAccountId(accountId)
+        .orElseThrow(() -> new IllegalArgumentException("Balance not found: " + accountId))
+        .getAmount();
+  }
+}
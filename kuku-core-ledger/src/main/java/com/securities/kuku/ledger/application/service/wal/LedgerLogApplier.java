@@ -0,0 +1,133 @@
+package com.securities.kuku.ledger.application.service.wal;
+
+import com.securities.kuku.ledger.application.port.out.LedgerLogPort;
+import com.securities.kuku.ledger.config.LedgerLogProperties;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 로그를 DB에 반영하는 백그라운드 작업.
+ *
+ * <p>기동 시 지난 실행에서 반영하지 못한 기록을 먼저 모두 반영한 뒤에 시작을 마치므로, 웹 서버가 요청을 받기 전에 DB와 로그가 맞춰집니다.
+ * 이후에는 로그에 덧붙은 기록을 {@code applyBatchSize} 건씩 꺼내 반영하고, 실패하면 같은 묶음을 성공할 때까지 다시 시도합니다. 종료
+ * 시에는 대기열을 비운 뒤 멈춥니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.wal", name = "enabled", havingValue = "true")
+public class LedgerLogApplier implements SmartLifecycle {
+
+  private static final long RETRY_BACKOFF_MILLIS = 500L;
+  // 웹 서버(SmartLifecycle 기본 phase)보다 먼저 시작하고 나중에 멈춥니다.
+  private static final int PHASE = 0;
+
+  private final LedgerLogPort ledgerLogPort;
+  private final LedgerLogBatchApplier batchApplier;
+  private final PendingBalanceOverlay pendingBalanceOverlay;
+  private final LedgerLogProperties properties;
+
+  private volatile boolean running;
+  private Thread worker;
+
+  @Override
+  public void start() {
+    List<LedgerLogRecord> unapplied = ledgerLogPort.recover();
+    for (int from = 0; from < unapplied.size(); from += properties.applyBatchSize()) {
+      int to = Math.min(from + properties.applyBatchSize(), unapplied.size());
+      apply(unapplied.subList(from, to));
+    }
+    if (!unapplied.isEmpty()) {
+      log.info("Replayed ledger log. records={}", unapplied.size());
+    }
+
+    running = true;
+    worker = Thread.ofPlatform().name("ledger-wal-applier").start(this::applyLoop);
+  }
+
+  @Override
+  public void stop() {
+    running = false;
+    if (worker == null) {
+      return;
+    }
+    try {
+      worker.join();
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+    }
+  }
+
+  @Override
+  public boolean isRunning() {
+    return running;
+  }
+
+  @Override
+  public int getPhase() {
+    return PHASE;
+  }
+
+  private void applyLoop() {
+    while (true) {
+      List<LedgerLogRecord> batch;
+      try {
+        batch =
+            ledgerLogPort.takeAppended(properties.applyBatchSize(), properties.applyInterval());
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        return;
+      }
+      if (batch.isEmpty()) {
+        if (!running) {
+          return;
+        }
+        continue;
+      }
+      if (!applyUntilSuccess(batch)) {
+        return;
+      }
+    }
+  }
+
+  // 멈추는 중에 실패하면 포기합니다. 남은 기록은 로그에 있으므로 다음 기동 때 반영됩니다.
+  private boolean applyUntilSuccess(List<LedgerLogRecord> batch) {
+    while (true) {
+      try {
+        apply(batch);
+        return true;
+      } catch (RuntimeException e) {
+        log.error(
+            "Failed to apply ledger log batch. firstSequence={}, size={}",
+            batch.getFirst().sequence(),
+            batch.size(),
+            e);
+        if (!running) {
+          return false;
+        }
+        try {
+          Thread.sleep(RETRY_BACKOFF_MILLIS);
+        } catch (InterruptedException interrupted) {
+          Thread.currentThread().interrupt();
+          return false;
+        }
+      }
+    }
+  }
+
+  private void apply(List<LedgerLogRecord> batch) {
+    try {
+      batchApplier.apply(batch);
+    } catch (RuntimeException e) {
+      pendingBalanceOverlay.clearApplying(batch);
+      throw e;
+    }
+    pendingBalanceOverlay.removeAll(batch);
+    ledgerLogPort.markApplied(batch.getLast().sequence());
+  }
+}
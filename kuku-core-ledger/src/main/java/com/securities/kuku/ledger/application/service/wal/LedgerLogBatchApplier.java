@@ -0,0 +1,96 @@
+package com.securities.kuku.ledger.application.service.wal;
+
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 원장 로그 기록 묶음을 하나의 DB 트랜잭션으로 반영합니다.
+ *
+ * <p>여러 계좌가 섞인 묶음이라도 멱등성 조회 1회, 잔액 조회 1회, 테이블별 배치 INSERT 1회, 잔액 배치 UPDATE 1회로 처리합니다. 이미
+ * 반영된 businessRefId는 건너뛰므로, 재기동 후 같은 기록을 다시 반영해도 중복되지 않습니다.
+ *
+ * <p>출금도 일반 출금과 같이 가용 잔액을 검사합니다. 로그에 쓰기 전에 대기 잔액으로 이미 검증했고, WAL 모드에서는 로그를 거치지 않는 잔액
+ * 쓰기를 {@link LedgerLogModeGuard}가 막으므로 여기서 실패하면 검증 경로의 결함입니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.wal", name = "enabled", havingValue = "true")
+public class LedgerLogBatchApplier {
+
+  private final BalancePort balancePort;
+  private final TransactionPort transactionPort;
+  private final JournalEntryPort journalEntryPort;
+  private final OutboxEventRecorder outboxEventRecorder;
+  private final PendingBalanceOverlay pendingBalanceOverlay;
+
+  /**
+   * @return 새로 반영한 기록 수
+   */
+  @Transactional
+  public int apply(List<LedgerLogRecord> records) {
+    Set<String> existing =
+        transactionPort.findExistingBusinessRefIds(
+            records.stream().map(LedgerLogRecord::businessRefId).toList());
+    List<LedgerLogRecord> fresh =
+        records.stream().filter(record -> !existing.contains(record.businessRefId())).toList();
+    if (fresh.isEmpty()) {
+      return 0;
+    }
+
+    List<Transaction> savedTransactions =
+        transactionPort.saveAll(fresh.stream().map(LedgerLogRecord::toTransaction).toList());
+
+    Set<Long> accountIds =
+        fresh.stream().map(LedgerLogRecord::accountId).collect(Collectors.toSet());
+    Map<Long, Balance> loadedBalances = balancePort.findByAccountIds(accountIds);
+    Map<Long, Balance> balances = new HashMap<>(loadedBalances);
+
+    List<JournalEntry> journalEntries = new ArrayList<>(fresh.size());
+    List<LedgerPostedEvent> events = new ArrayList<>(fresh.size());
+    for (int i = 0; i < fresh.size(); i++) {
+      LedgerLogRecord record = fresh.get(i);
+      Transaction savedTransaction = savedTransactions.get(i);
+      Balance balance = balances.get(record.accountId());
+      if (balance == null) {
+        throw new IllegalArgumentException("Balance not found: " + record.accountId());
+      }
+      journalEntries.add(
+          savedTransaction.createJournalEntry(
+              record.accountId(), record.amount(), record.createdAt()));
+      balances.put(
+          record.accountId(),
+          record
+              .type()
+              .applyTo(balance, record.amount(), savedTransaction.getId(), record.createdAt()));
+      events.add(
+          savedTransaction.toPostedEvent(record.accountId(), record.amount(), record.type()));
+    }
+    journalEntryPort.saveAll(journalEntries);
+    balancePort.updateAll(balances.values());
+    outboxEventRecorder.recordAll(events);
+
+    // 커밋되면 잔액 version이 하나 오르므로, 그 version부터는 잔액에 포함된 것으로 보도록 표시합니다.
+    for (LedgerLogRecord record : fresh) {
+      pendingBalanceOverlay.markApplying(
+          record.businessRefId(), loadedBalances.get(record.accountId()).getVersion() + 1);
+    }
+    return fresh.size();
+  }
+}
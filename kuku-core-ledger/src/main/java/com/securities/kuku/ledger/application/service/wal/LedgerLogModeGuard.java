@@ -0,0 +1,37 @@
+package com.securities.kuku.ledger.application.service.wal;
+
+import com.securities.kuku.ledger.config.LedgerLogProperties;
+import com.securities.kuku.ledger.domain.exception.UnsupportedInLedgerLogModeException;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * 원장 로그(WAL) 모드에서 로그를 거치지 않는 잔액 쓰기를 막습니다.
+ *
+ * <p>WAL 모드의 출금 검증은 로그에 쓴 입출금만 더한 대기 잔액으로 합니다. 역분개, 확정, 대량 입금·역분개가 DB 잔액을 직접 바꾸면 이미 응답한
+ * 출금이 가용 잔액을 넘게 되므로, 이 UseCase들은 WAL 모드에서 실행을 거절합니다.
+ */
+@Component
+public class LedgerLogModeGuard {
+
+  private final boolean enabled;
+
+  @Autowired
+  public LedgerLogModeGuard(LedgerLogProperties properties) {
+    this(properties.enabled());
+  }
+
+  public LedgerLogModeGuard(boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * @param action 예외 메시지에 쓸 작업 이름 (예: {@code "reverse transaction"})
+   * @throws UnsupportedInLedgerLogModeException WAL 모드가 켜져 있으면
+   */
+  public void requireDirectBalanceWrite(String action) {
+    if (enabled) {
+      throw new UnsupportedInLedgerLogModeException(action);
+    }
+  }
+}
@@ -0,0 +1,100 @@
+package com.securities.kuku.ledger.application.service.wal;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.DepositUseCase;
+import com.securities.kuku.ledger.application.port.in.WithdrawUseCase;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.application.port.out.LedgerLogPort;
+import com.securities.kuku.ledger.application.service.idempotency.IdempotencyGuard;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import com.securities.kuku.ledger.domain.TransactionType;
+import java.time.Clock;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+
+/**
+ * 원장 로그(WAL) 모드의 입출금 UseCase.
+ *
+ * <p>{@code ledger.wal.enabled=true}일 때 {@link DepositUseCase}, {@link WithdrawUseCase}의 기본 구현으로
+ * 등록됩니다. 요청은 로그에 기록되어 fsync되는 즉시 성공으로 돌아가고, DB 반영은 {@link LedgerLogApplier}가 나중에 합니다. 출금
+ * 잔액 검증은 반영 대기 중인 입출금까지 더한 잔액으로 합니다.
+ *
+ * <p>잔액 검증이 인스턴스 메모리에 의존하므로, 한 계좌의 입출금은 한 인스턴스로만 들어와야 합니다.
+ */
+@Slf4j
+@Primary
+@Service
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.wal", name = "enabled", havingValue = "true")
+public class LedgerLogPostingService implements DepositUseCase, WithdrawUseCase {
+
+  private final Clock clock;
+  private final AccountPort accountPort;
+  private final IdempotencyGuard idempotencyGuard;
+  private final PendingBalanceOverlay pendingBalanceOverlay;
+  private final LedgerLogPort ledgerLogPort;
+
+  // 계좌는 지워지지 않으므로 한 번 확인한 계좌는 다시 조회하지 않습니다.
+  private final Set<Long> knownAccountIds = ConcurrentHashMap.newKeySet();
+
+  @Override
+  public void deposit(DepositCommand command) {
+    post(
+        command.accountId(),
+        TransactionType.DEPOSIT,
+        command.amount(),
+        command.description(),
+        command.businessRefId());
+  }
+
+  @Override
+  public void withdraw(WithdrawCommand command) {
+    post(
+        command.accountId(),
+        TransactionType.WITHDRAWAL,
+        command.amount(),
+        command.description(),
+        command.businessRefId());
+  }
+
+  private void post(
+      Long accountId,
+      TransactionType type,
+      Money amount,
+      String description,
+      String businessRefId) {
+    if (idempotencyGuard.isDuplicate(businessRefId)) {
+      log.warn("Duplicate transaction detected. businessRefId={}", businessRefId);
+      return;
+    }
+    requireAccount(accountId);
+
+    LedgerLogRecord record =
+        LedgerLogRecord.of(accountId, type, amount, description, businessRefId, clock.instant());
+    LedgerLogRecord appended = pendingBalanceOverlay.append(record, ledgerLogPort::append);
+    if (appended == null) {
+      log.warn("Duplicate transaction detected. businessRefId={}", businessRefId);
+      return;
+    }
+
+    ledgerLogPort.awaitDurable(appended.sequence());
+    idempotencyGuard.markPosted(businessRefId);
+  }
+
+  private void requireAccount(Long accountId) {
+    if (knownAccountIds.contains(accountId)) {
+      return;
+    }
+    if (accountPort.findById(accountId).isEmpty()) {
+      throw new IllegalArgumentException("Account not found: " + accountId);
+    }
+    knownAccountIds.add(accountId);
+  }
+}
@@ -0,0 +1,142 @@
+package com.securities.kuku.ledger.application.service.wal;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그에 기록됐지만 아직 DB에 반영되지 않은 입출금을 계좌별로 들고 있다가 잔액 조회에 더합니다.
+ *
+ * <p>반영 트랜잭션은 커밋 전에 각 기록에 "반영 후 잔액 version"을 표시합니다. 조회는 대기 기록을 먼저 복사한 뒤 DB 잔액을 읽고, 읽은
+ * version에 이미 포함된 기록(표시된 version 이하)만 빼고 더합니다. 그래서 반영 커밋과 조회가 겹쳐도 같은 기록을 두 번 세거나 빠뜨리지
+ * 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "ledger.wal", name = "enabled", havingValue = "true")
+public class PendingBalanceOverlay {
+
+  private final BalancePort balancePort;
+
+  private final Map<String, PendingPosting> postingsByBusinessRefId = new ConcurrentHashMap<>();
+  private final Map<Long, Set<PendingPosting>> postingsByAccount = new ConcurrentHashMap<>();
+
+  /** DB 잔액에 반영 대기 중인 입출금을 더한 현재 잔액. */
+  public Balance currentBalance(Long accountId) {
+    List<PendingPosting> pending = List.copyOf(pendingOf(accountId));
+    Balance balance =
+        balancePort
+            .findByAccountId(accountId)
+            .orElseThrow(() -> new IllegalArgumentException("Balance not found: " + accountId));
+
+    Money delta = Money.ZERO;
+    for (PendingPosting posting : pending) {
+      if (!posting.isIncludedIn(balance.getVersion())) {
+        delta = delta.plus(posting.signedAmount);
+      }
+    }
+    if (delta.isZero()) {
+      return balance;
+    }
+    return new Balance(
+        accountId,
+        balance.getAmount().plus(delta),
+        balance.getHoldAmount(),
+        balance.getVersion(),
+        balance.getLastTransactionId(),
+        balance.getUpdatedAt());
+  }
+
+  /**
+   * 출금 잔액 검증과 대기 등록을 계좌 단위로 직렬화한 뒤 {@code appender}로 로그에 기록합니다.
+   *
+   * @return 로그에 기록된 기록, 같은 businessRefId가 이미 대기 중이면 {@code null}
+   * @throws InsufficientBalanceException 대기 중인 출금까지 빼고 나면 가용 잔액이 부족한 경우
+   */
+  public LedgerLogRecord append(LedgerLogRecord record, UnaryOperator<LedgerLogRecord> appender) {
+    Set<PendingPosting> accountPostings = pendingOf(record.accountId());
+    synchronized (accountPostings) {
+      if (record.isWithdrawal()) {
+        Money available = currentBalance(record.accountId()).getAvailableAmount();
+        if (record.amount().isGreaterThan(available)) {
+          throw new InsufficientBalanceException(record.accountId(), record.amount(), available);
+        }
+      }
+
+      PendingPosting posting = new PendingPosting(record.accountId(), record.signedAmount());
+      if (postingsByBusinessRefId.putIfAbsent(record.businessRefId(), posting) != null) {
+        return null;
+      }
+      accountPostings.add(posting);
+      try {
+        return appender.apply(record);
+      } catch (RuntimeException e) {
+        remove(record.businessRefId());
+        throw e;
+      }
+    }
+  }
+
+  /** 반영 트랜잭션 안에서, 커밋되면 잔액 version이 {@code balanceVersion}이 됨을 표시합니다. */
+  public void markApplying(String businessRefId, long balanceVersion) {
+    PendingPosting posting = postingsByBusinessRefId.get(businessRefId);
+    if (posting != null) {
+      posting.appliedVersion = balanceVersion;
+    }
+  }
+
+  /** 반영 트랜잭션이 롤백되어 표시를 되돌립니다. */
+  public void clearApplying(Collection<LedgerLogRecord> records) {
+    for (LedgerLogRecord record : records) {
+      PendingPosting posting = postingsByBusinessRefId.get(record.businessRefId());
+      if (posting != null) {
+        posting.appliedVersion = null;
+      }
+    }
+  }
+
+  /** 반영이 커밋된 기록을 대기 목록에서 뺍니다. */
+  public void removeAll(Collection<LedgerLogRecord> records) {
+    records.forEach(record -> remove(record.businessRefId()));
+  }
+
+  private void remove(String businessRefId) {
+    PendingPosting posting = postingsByBusinessRefId.remove(businessRefId);
+    if (posting != null) {
+      pendingOf(posting.accountId).remove(posting);
+    }
+  }
+
+  // 계좌별 집합은 잠금 대상이기도 하므로 비어도 지우지 않습니다.
+  private Set<PendingPosting> pendingOf(Long accountId) {
+    return postingsByAccount.computeIfAbsent(accountId, id -> ConcurrentHashMap.newKeySet());
+  }
+
+  private static final class PendingPosting {
+
+    private final Long accountId;
+    private final Money signedAmount;
+    private volatile Long appliedVersion;
+
+    private PendingPosting(Long accountId, Money signedAmount) {
+      this.accountId = accountId;
+      this.signedAmount = signedAmount;
+    }
+
+    private boolean isIncludedIn(Long balanceVersion) {
+      Long applied = appliedVersion;
+      return applied != null && balanceVersion != null && applied <= balanceVersion;
+    }
+  }
+}
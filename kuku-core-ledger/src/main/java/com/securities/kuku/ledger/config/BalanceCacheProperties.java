@@ -0,0 +1,27 @@
+package com.securities.kuku.ledger.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 조회 캐시 설정.
+ *
+ * <p>최대 {@code maximumSize}개 계좌의 잔액을 최근 사용 순으로 기억합니다. 같은 인스턴스의 쓰기는 커밋 직후 항목을 무효화하지만, 다른
+ * 인스턴스의 쓰기는 알 수 없어 {@code timeToLive} 동안 이전 잔액이 보일 수 있습니다. 따라서 인스턴스가 하나일 때만 켭니다(기본값 꺼짐).
+ */
+@ConfigurationProperties(prefix = "ledger.balance.cache")
+public record BalanceCacheProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("100000") int maximumSize,
+    @DefaultValue("5s") Duration timeToLive) {
+
+  public BalanceCacheProperties {
+    if (maximumSize <= 0) {
+      throw new IllegalArgumentException("maximumSize must be positive");
+    }
+    if (timeToLive == null || timeToLive.isNegative() || timeToLive.isZero()) {
+      throw new IllegalArgumentException("timeToLive must be positive");
+    }
+  }
+}
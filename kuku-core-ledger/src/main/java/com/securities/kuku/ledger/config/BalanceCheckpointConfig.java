@@ -0,0 +1,8 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(BalanceCheckpointProperties.class)
+public class BalanceCheckpointConfig {}
@@ -0,0 +1,34 @@
+package com.securities.kuku.ledger.config;
+
+import java.time.Duration;
+import java.time.ZoneId;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔액 체크포인트 설정.
+ *
+ * <p>계좌를 {@code chunkSize}개씩 읽어 {@code parallelism}개 스레드에서 청크마다 하나의 DB 트랜잭션으로 기록합니다. {@code cron}을
+ * 지정하면 그 주기로 {@code zone} 기준 당일 0시를 체크포인트 시각으로 실행합니다. 커밋이 늦은 트랜잭션의 분개를 놓치지 않도록 체크포인트 시각은
+ * 현재보다 {@code settleDelay} 이상 과거여야 합니다.
+ */
+@ConfigurationProperties(prefix = "ledger.balance-checkpoint")
+public record BalanceCheckpointProperties(
+    @DefaultValue("1000") int chunkSize,
+    @DefaultValue("4") int parallelism,
+    @DefaultValue("PT1M") Duration settleDelay,
+    @DefaultValue("Asia/Seoul") ZoneId zone,
+    String cron) {
+
+  public BalanceCheckpointProperties {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive");
+    }
+    if (parallelism <= 0) {
+      throw new IllegalArgumentException("parallelism must be positive");
+    }
+    if (settleDelay == null || settleDelay.isNegative()) {
+      throw new IllegalArgumentException("settleDelay cannot be null or negative");
+    }
+  }
+}
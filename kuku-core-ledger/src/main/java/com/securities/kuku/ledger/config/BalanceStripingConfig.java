@@ -0,0 +1,10 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+@Configuration
+@EnableScheduling
+@EnableConfigurationProperties(BalanceStripingProperties.class)
+public class BalanceStripingConfig {}
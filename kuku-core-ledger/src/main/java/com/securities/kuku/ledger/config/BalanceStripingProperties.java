@@ -0,0 +1,38 @@
+package com.securities.kuku.ledger.config;
+
+import java.time.Duration;
+import java.util.Map;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 핫 계좌 잔액 분산(striping) 설정.
+ *
+ * <p>{@code accounts}에 등록한 계좌(계좌 ID → 슬롯 수)는 입금이 {@code balances} 행 대신 여러 {@code balance_slots} 행 중
+ * 하나에 반영되어, 거의 모든 체결에 참여하는 SYSTEM_FEE, EXCHANGE_CLEARING 계좌가 한 행에 직렬화되지 않습니다. {@code
+ * consolidationInterval}을 지정하면 그 주기로 슬롯 금액을 {@code balances} 행에 합칩니다.
+ */
+@ConfigurationProperties(prefix = "ledger.balance.striping")
+public record BalanceStripingProperties(
+    Map<Long, Integer> accounts,
+    @DefaultValue("ROUND_ROBIN") SlotSelection slotSelection,
+    Duration consolidationInterval) {
+
+  public enum SlotSelection {
+    /** 계좌별 카운터로 슬롯을 돌아가며 선택합니다. */
+    ROUND_ROBIN,
+    /** 트랜잭션 ID의 해시로 슬롯을 선택합니다. */
+    HASH
+  }
+
+  public BalanceStripingProperties {
+    accounts = accounts == null ? Map.of() : Map.copyOf(accounts);
+    accounts.forEach(
+        (accountId, slotCount) -> {
+          if (slotCount == null || slotCount <= 0) {
+            throw new IllegalArgumentException(
+                "Slot count must be positive for account: " + accountId);
+          }
+        });
+  }
+}
@@ -0,0 +1,20 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 대량 입금 설정.
+ *
+ * <p>{@code chunkSize} 건마다 하나의 DB 트랜잭션으로 커밋합니다. 클수록 왕복 횟수가 줄지만 트랜잭션이 잡는 잔액 행과 재시도 시 다시 처리할 양이
+ * 늘어납니다. JDBC {@code batch_size}의 배수로 두면 마지막 배치가 잘리지 않습니다.
+ */
+@ConfigurationProperties(prefix = "ledger.bulk-deposit")
+public record BulkDepositProperties(@DefaultValue("500") int chunkSize) {
+
+  public BulkDepositProperties {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive");
+    }
+  }
+}
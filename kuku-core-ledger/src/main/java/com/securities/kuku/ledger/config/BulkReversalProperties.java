@@ -0,0 +1,20 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 대량 역분개 설정.
+ *
+ * <p>{@code chunkSize} 건의 원 트랜잭션마다 하나의 DB 트랜잭션으로 커밋합니다. 원 트랜잭션 하나가 여러 분개를 가질 수 있으므로 대량 입금보다 작게
+ * 둡니다.
+ */
+@ConfigurationProperties(prefix = "ledger.bulk-reversal")
+public record BulkReversalProperties(@DefaultValue("200") int chunkSize) {
+
+  public BulkReversalProperties {
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive");
+    }
+  }
+}
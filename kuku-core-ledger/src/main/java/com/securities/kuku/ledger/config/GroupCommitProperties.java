@@ -0,0 +1,27 @@
+package com.securities.kuku.ledger.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Group Commit 설정.
+ *
+ * <p>같은 계좌로 들어온 입출금 요청을 {@code maxBatchSize} 건 또는 {@code maxWait} 시간까지 모아 하나의 DB 트랜잭션으로
+ * 처리합니다. 대기 시간은 마이크로초 단위로 짧게 유지해야 단건 요청의 지연이 늘어나지 않습니다.
+ */
+@ConfigurationProperties(prefix = "ledger.group-commit")
+public record GroupCommitProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("64") int maxBatchSize,
+    @DefaultValue("200us") Duration maxWait) {
+
+  public GroupCommitProperties {
+    if (maxBatchSize <= 0) {
+      throw new IllegalArgumentException("maxBatchSize must be positive");
+    }
+    if (maxWait == null || maxWait.isNegative()) {
+      throw new IllegalArgumentException("maxWait cannot be null or negative");
+    }
+  }
+}
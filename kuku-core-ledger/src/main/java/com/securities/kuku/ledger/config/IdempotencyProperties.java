@@ -0,0 +1,30 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * businessRefId 멱등성 필터 설정.
+ *
+ * <p>{@code expectedKeys}개를 넣었을 때 오탐률이 {@code falsePositiveRate}가 되도록 Bloom 필터 크기를 정합니다. 필터가 가득 차면
+ * 새 세대로 교체하므로 최근 {@code expectedKeys} ~ 2배 개의 키를 기억합니다. {@code recentKeys}는 DB 조회 없이 중복으로 판단할 최근
+ * 키의 개수입니다.
+ */
+@ConfigurationProperties(prefix = "ledger.idempotency")
+public record IdempotencyProperties(
+    @DefaultValue("1000000") int expectedKeys,
+    @DefaultValue("0.01") double falsePositiveRate,
+    @DefaultValue("10000") int recentKeys) {
+
+  public IdempotencyProperties {
+    if (expectedKeys <= 0) {
+      throw new IllegalArgumentException("expectedKeys must be positive");
+    }
+    if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+      throw new IllegalArgumentException("falsePositiveRate must be between 0 and 1");
+    }
+    if (recentKeys <= 0) {
+      throw new IllegalArgumentException("recentKeys must be positive");
+    }
+  }
+}
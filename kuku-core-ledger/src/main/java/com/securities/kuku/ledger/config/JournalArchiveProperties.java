@@ -0,0 +1,36 @@
+package com.securities.kuku.ledger.config;
+
+import java.nio.file.Path;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 분개 월 파티션 관리와 보관 설정.
+ *
+ * <p>실행할 때마다 이번 달부터 {@code futureMonths}개월 뒤까지의 파티션을 미리 만들고, 끝난 지 {@code retentionMonths}개월이 지난
+ * 파티션은 {@code directory} 아래 압축 파일로 옮긴 뒤 지웁니다. 보관 파일은 {@code blockRows}행마다 gzip 블록을 새로 시작하여, 계좌 하나를
+ * 조회할 때 그 계좌가 들어 있는 블록부터 읽습니다. {@code cron}을 지정하면 그 주기로 실행합니다. (단일 인스턴스에서만 지정)
+ */
+@ConfigurationProperties(prefix = "ledger.journal-archive")
+public record JournalArchiveProperties(
+    @DefaultValue("12") int retentionMonths,
+    @DefaultValue("3") int futureMonths,
+    @DefaultValue("archive/journal") Path directory,
+    @DefaultValue("10000") int blockRows,
+    String cron) {
+
+  public JournalArchiveProperties {
+    if (retentionMonths <= 0) {
+      throw new IllegalArgumentException("retentionMonths must be positive");
+    }
+    if (futureMonths <= 0) {
+      throw new IllegalArgumentException("futureMonths must be positive");
+    }
+    if (directory == null) {
+      throw new IllegalArgumentException("directory cannot be null");
+    }
+    if (blockRows <= 0) {
+      throw new IllegalArgumentException("blockRows must be positive");
+    }
+  }
+}
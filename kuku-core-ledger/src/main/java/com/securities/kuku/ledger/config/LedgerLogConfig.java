@@ -0,0 +1,32 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * 원장 로그(WAL) 모드 설정.
+ *
+ * <p>WAL 모드는 Group Commit, 잔액 분산(striping)과 함께 쓸 수 없으므로 기동 시 함께 켜져 있으면 거절합니다.
+ */
+@Configuration
+@EnableConfigurationProperties(LedgerLogProperties.class)
+public class LedgerLogConfig {
+
+  public LedgerLogConfig(
+      LedgerLogProperties ledgerLogProperties,
+      GroupCommitProperties groupCommitProperties,
+      BalanceStripingProperties balanceStripingProperties) {
+    if (!ledgerLogProperties.enabled()) {
+      return;
+    }
+    if (groupCommitProperties.enabled()) {
+      throw new IllegalStateException(
+          "ledger.wal.enabled and ledger.group-commit.enabled cannot both be true");
+    }
+    if (!balanceStripingProperties.accounts().isEmpty()) {
+      throw new IllegalStateException(
+          "ledger.wal.enabled cannot be used with ledger.balance.striping.accounts: "
+              + balanceStripingProperties.accounts().keySet());
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.securities.kuku.ledger.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * 원장 로그(WAL) 모드 설정.
+ *
+ * <p>켜면 입출금은 메모리 매핑된 로그 세그먼트에 기록되고 fsync되는 즉시 응답하며, DB에는 {@code applyBatchSize} 건씩 비동기로
+ * 반영됩니다. 반영을 기다리는 기록이 {@code maxPendingRecords} 건을 넘으면 새 요청은 반영이 따라올 때까지 대기합니다.
+ */
+@ConfigurationProperties(prefix = "ledger.wal")
+public record LedgerLogProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("wal/ledger") String directory,
+    @DefaultValue("64MB") DataSize segmentSize,
+    @DefaultValue("1000") int applyBatchSize,
+    @DefaultValue("10ms") Duration applyInterval,
+    @DefaultValue("100000") int maxPendingRecords) {
+
+  public LedgerLogProperties {
+    if (directory == null || directory.isBlank()) {
+      throw new IllegalArgumentException("directory cannot be null or blank");
+    }
+    if (segmentSize == null
+        || segmentSize.toBytes() <= 0
+        || segmentSize.toBytes() > Integer.MAX_VALUE) {
+      throw new IllegalArgumentException("segmentSize must be positive and below 2GB");
+    }
+    if (applyBatchSize <= 0) {
+      throw new IllegalArgumentException("applyBatchSize must be positive");
+    }
+    if (applyInterval == null || applyInterval.isNegative() || applyInterval.isZero()) {
+      throw new IllegalArgumentException("applyInterval must be positive");
+    }
+    if (maxPendingRecords <= 0) {
+      throw new IllegalArgumentException("maxPendingRecords must be positive");
+    }
+  }
+}
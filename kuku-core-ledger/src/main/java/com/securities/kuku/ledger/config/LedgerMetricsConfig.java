@@ -0,0 +1,16 @@
+package com.securities.kuku.ledger.config;
+
+import com.securities.kuku.ledger.metrics.HotAccountTracker;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(LedgerMetricsProperties.class)
+public class LedgerMetricsConfig {
+
+  @Bean
+  public HotAccountTracker hotAccountTracker(LedgerMetricsProperties properties) {
+    return new HotAccountTracker(properties.hotAccountsCapacity());
+  }
+}
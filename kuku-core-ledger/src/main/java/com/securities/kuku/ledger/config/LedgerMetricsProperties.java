@@ -0,0 +1,24 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 원장 재시도 지표 설정.
+ *
+ * <p>{@code hotAccountsCapacity}는 충돌 계좌 스케치가 기억하는 최대 계좌 수이고, {@code hotAccountsTopK}는 actuator로
+ * 노출할 계좌 수입니다. 스케치 오차는 capacity에 반비례하므로 capacity를 topK보다 넉넉하게 둡니다.
+ */
+@ConfigurationProperties(prefix = "ledger.metrics")
+public record LedgerMetricsProperties(
+    @DefaultValue("256") int hotAccountsCapacity, @DefaultValue("10") int hotAccountsTopK) {
+
+  public LedgerMetricsProperties {
+    if (hotAccountsCapacity <= 0) {
+      throw new IllegalArgumentException("hotAccountsCapacity must be positive");
+    }
+    if (hotAccountsTopK <= 0 || hotAccountsTopK > hotAccountsCapacity) {
+      throw new IllegalArgumentException("hotAccountsTopK must be between 1 and capacity");
+    }
+  }
+}
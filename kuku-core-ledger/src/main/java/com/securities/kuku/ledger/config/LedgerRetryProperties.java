@@ -0,0 +1,54 @@
+package com.securities.kuku.ledger.config;
+
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 원장 쓰기 유스케이스의 Optimistic Lock 재시도 정책.
+ *
+ * <p>{@code FIXED}는 기존 {@code @Retryable} 설정(100ms에서 2배씩, 최대 1초)과 같습니다. {@code ADAPTIVE}는 다음을
+ * 적용합니다.
+ *
+ * <ul>
+ *   <li>0 ~ min({@code jitterMaxDelay}, {@code jitterBaseDelay} × 2<sup>n</sup>) 사이 무작위 대기
+ *       (full jitter)
+ *   <li>계좌별·프로세스 전체 초당 재시도 예산. 예산이 없으면 재시도하지 않고 실패시킵니다.
+ *   <li>최근 {@code admissionWindow} 동안 충돌률이 {@code admissionConflictRate}를 넘은 계좌는 {@code
+ *       admissionCoolDown} 동안 요청을 한 건씩 들여보냅니다.
+ * </ul>
+ */
+@ConfigurationProperties(prefix = "ledger.retry")
+public record LedgerRetryProperties(
+    @DefaultValue("FIXED") Policy policy,
+    @DefaultValue("3") int maxAttempts,
+    @DefaultValue("100ms") Duration initialDelay,
+    @DefaultValue("2.0") double multiplier,
+    @DefaultValue("1s") Duration maxDelay,
+    @DefaultValue("5ms") Duration jitterBaseDelay,
+    @DefaultValue("200ms") Duration jitterMaxDelay,
+    @DefaultValue("20") int accountRetriesPerSecond,
+    @DefaultValue("500") int processRetriesPerSecond,
+    @DefaultValue("0.2") double admissionConflictRate,
+    @DefaultValue("20") int admissionMinSamples,
+    @DefaultValue("1s") Duration admissionWindow,
+    @DefaultValue("5s") Duration admissionCoolDown,
+    @DefaultValue("2s") Duration admissionTimeout) {
+
+  public enum Policy {
+    FIXED,
+    ADAPTIVE
+  }
+
+  public LedgerRetryProperties {
+    if (maxAttempts < 1) {
+      throw new IllegalArgumentException("maxAttempts must be positive");
+    }
+    if (accountRetriesPerSecond <= 0 || processRetriesPerSecond <= 0) {
+      throw new IllegalArgumentException("retry budgets must be positive");
+    }
+    if (admissionConflictRate <= 0 || admissionConflictRate > 1) {
+      throw new IllegalArgumentException("admissionConflictRate must be between 0 and 1");
+    }
+  }
+}
@@ -0,0 +1,21 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Outbox 커밋 직후 발행(fast path) 설정.
+ *
+ * <p>켜면 이벤트를 기록한 트랜잭션이 커밋되자마자 그 이벤트의 파티션을 대기열({@code queueCapacity})에 넣고, 전용 worker가 바로
+ * relay합니다. 대기열이 가득 차거나 발행에 실패한 이벤트는 PENDING으로 남아 {@code ledger.outbox.relay}가 발행합니다.
+ */
+@ConfigurationProperties(prefix = "ledger.outbox.fast-path")
+public record OutboxFastPathProperties(
+    @DefaultValue("false") boolean enabled, @DefaultValue("10000") int queueCapacity) {
+
+  public OutboxFastPathProperties {
+    if (queueCapacity <= 0) {
+      throw new IllegalArgumentException("queueCapacity must be positive");
+    }
+  }
+}
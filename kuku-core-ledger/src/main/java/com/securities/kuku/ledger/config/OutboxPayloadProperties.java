@@ -0,0 +1,20 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Outbox payload 직렬화 설정.
+ *
+ * <p>{@code codec}은 새로 기록하는 이벤트에만 적용됩니다({@code binary} 또는 {@code json}). 행마다 codec id가 남으므로 바꿔도
+ * 이미 저장된 이벤트는 그대로 읽습니다.
+ */
+@ConfigurationProperties(prefix = "ledger.outbox.payload")
+public record OutboxPayloadProperties(@DefaultValue("binary") String codec) {
+
+  public OutboxPayloadProperties {
+    if (codec == null || codec.isBlank()) {
+      throw new IllegalArgumentException("codec cannot be null or blank");
+    }
+  }
+}
@@ -0,0 +1,42 @@
+package com.securities.kuku.ledger.config;
+
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import java.time.Duration;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Outbox relay 설정.
+ *
+ * <p>Outbox 파티션({@link OutboxEvent#PARTITION_COUNT}개)을 {@code lanes}개 lane에 나눠 맡기고, lane마다
+ * worker 하나가 맡은 파티션의 PENDING 이벤트를 {@code batchSize}건씩 순서대로 발행합니다. 묶음이 덜 찼으면 {@code
+ * pollInterval}만큼 쉽니다. 발행에 실패한 이벤트의 파티션은 {@code pollInterval}부터 두 배씩 늘린 간격(최대 {@code
+ * maxBackoff})을 두고 같은 이벤트를 다시 시도하며, 그동안 뒤 이벤트를 발행하지 않습니다.
+ *
+ * <p>{@code lanes}는 재기동만으로 바꿀 수 있습니다. 순서는 행에 저장된 파티션 단위로 지켜지고 파티션은 잠근 relay 하나만 발행하므로,
+ * lane 수가 다른 인스턴스가 함께 떠 있어도 순서가 바뀌지 않습니다.
+ */
+@ConfigurationProperties(prefix = "ledger.outbox.relay")
+public record OutboxRelayProperties(
+    @DefaultValue("false") boolean enabled,
+    @DefaultValue("4") int lanes,
+    @DefaultValue("100") int batchSize,
+    @DefaultValue("2s") Duration pollInterval,
+    @DefaultValue("1m") Duration maxBackoff) {
+
+  public OutboxRelayProperties {
+    if (lanes <= 0 || lanes > OutboxEvent.PARTITION_COUNT) {
+      throw new IllegalArgumentException(
+          "lanes must be between 1 and " + OutboxEvent.PARTITION_COUNT);
+    }
+    if (batchSize <= 0) {
+      throw new IllegalArgumentException("batchSize must be positive");
+    }
+    if (pollInterval == null || pollInterval.isNegative() || pollInterval.isZero()) {
+      throw new IllegalArgumentException("pollInterval must be positive");
+    }
+    if (maxBackoff == null || maxBackoff.compareTo(pollInterval) < 0) {
+      throw new IllegalArgumentException("maxBackoff must not be shorter than pollInterval");
+    }
+  }
+}
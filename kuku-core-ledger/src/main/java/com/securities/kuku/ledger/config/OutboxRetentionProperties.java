@@ -0,0 +1,24 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * Outbox 일 파티션 관리 설정.
+ *
+ * <p>실행할 때마다 오늘부터 {@code futureDays}일 뒤까지의 파티션을 미리 만들고, 끝난 지 {@code retentionDays}일이 지난 파티션은
+ * 모든 이벤트가 PROCESSED이면 지웁니다. {@code cron}을 지정하면 그 주기로 실행합니다. (단일 인스턴스에서만 지정)
+ */
+@ConfigurationProperties(prefix = "ledger.outbox.retention")
+public record OutboxRetentionProperties(
+    @DefaultValue("7") int retentionDays, @DefaultValue("3") int futureDays, String cron) {
+
+  public OutboxRetentionProperties {
+    if (retentionDays <= 0) {
+      throw new IllegalArgumentException("retentionDays must be positive");
+    }
+    if (futureDays <= 0) {
+      throw new IllegalArgumentException("futureDays must be positive");
+    }
+  }
+}
@@ -0,0 +1,35 @@
+package com.securities.kuku.ledger.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 원장 대사 설정.
+ *
+ * <p>계좌 ID 공간을 {@code partitions}개 구간으로 나누어 {@code workerThreads}개 스레드가 나눠 맡습니다. 스레드마다 {@code
+ * chunkSize}개 계좌만 메모리에 올리므로 원장 크기와 관계없이 메모리 사용량이 일정합니다. 구간 수를 스레드 수보다 넉넉히 두면 계좌가 몰린 구간이
+ * 있어도 스레드가 놀지 않습니다.
+ *
+ * <p>{@code useCheckpoints}가 켜져 있으면 분개 합계를 최신 잔액 체크포인트와 그 이후 분개로 구해, 계좌마다 마지막 체크포인트 이후만
+ * 읽습니다. 끄면 모든 분개를 처음부터 합산하며 체크포인트 자체도 검증됩니다. {@code cron}을 지정하면 그 주기로 대사를 실행합니다.
+ */
+@ConfigurationProperties(prefix = "ledger.reconciliation")
+public record ReconciliationProperties(
+    @DefaultValue("16") int partitions,
+    @DefaultValue("4") int workerThreads,
+    @DefaultValue("1000") int chunkSize,
+    @DefaultValue("true") boolean useCheckpoints,
+    String cron) {
+
+  public ReconciliationProperties {
+    if (partitions <= 0) {
+      throw new IllegalArgumentException("partitions must be positive");
+    }
+    if (workerThreads <= 0) {
+      throw new IllegalArgumentException("workerThreads must be positive");
+    }
+    if (chunkSize <= 0) {
+      throw new IllegalArgumentException("chunkSize must be positive");
+    }
+  }
+}
@@ -1,9 +1,27 @@
 package com.securities.kuku.ledger.config;
 
+import com.securities.kuku.ledger.retry.LedgerRetryInterceptor;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.retry.RetryListener;
 import org.springframework.retry.annotation.EnableRetry;
 
-/** Spring Retry 활성화 설정. Optimistic Lock 충돌 시 자동 재시도를 가능하게 합니다. */
+/**
+ * Spring Retry 활성화 설정. Optimistic Lock 충돌 시 자동 재시도를 가능하게 합니다.
+ *
+ * <p>원장 유스케이스는 {@code @Retryable(interceptor = LedgerRetryInterceptor.BEAN_NAME)}으로 이 인터셉터를 사용하며,
+ * 등록된 RetryListener 빈은 모두 인터셉터에 연결됩니다.
+ */
 @Configuration
 @EnableRetry
-public class RetryConfig {}
+@EnableConfigurationProperties(LedgerRetryProperties.class)
+public class RetryConfig {
+
+  @Bean(LedgerRetryInterceptor.BEAN_NAME)
+  public LedgerRetryInterceptor ledgerRetryInterceptor(
+      LedgerRetryProperties properties, ObjectProvider<RetryListener> listeners) {
+    return new LedgerRetryInterceptor(properties, listeners.orderedStream().toList());
+  }
+}
@@ -1,23 +1,23 @@
 package com.securities.kuku.ledger.domain;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
-import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.Getter;
 
 @Getter
 public class Balance {
   private final Long accountId;
-  private final BigDecimal amount;
-  private final BigDecimal holdAmount;
+  private final Money amount;
+  private final Money holdAmount;
   private final Long version;
   private final Long lastTransactionId;
   private final Instant updatedAt;
 
   public Balance(
       Long accountId,
-      BigDecimal amount,
-      BigDecimal holdAmount,
+      Money amount,
+      Money holdAmount,
       Long version,
       Long lastTransactionId,
       Instant updatedAt) {
@@ -27,7 +27,7 @@ public class Balance {
     if (amount == null) {
       throw new IllegalArgumentException("Amount cannot be null");
     }
-    if (holdAmount == null || holdAmount.compareTo(BigDecimal.ZERO) < 0) {
+    if (holdAmount == null || holdAmount.isNegative()) {
       throw new IllegalArgumentException("HoldAmount cannot be null or negative");
     }
     if (updatedAt == null) {
@@ -41,12 +41,12 @@ public class Balance {
     this.updatedAt = updatedAt;
   }
 
-  public BigDecimal getAvailableAmount() {
-    return amount.subtract(holdAmount);
+  public Money getAvailableAmount() {
+    return amount.minus(holdAmount);
   }
 
-  public Balance deposit(BigDecimal depositAmount, Long transactionId, Instant now) {
-    if (depositAmount == null || depositAmount.compareTo(BigDecimal.ZERO) <= 0) {
+  public Balance deposit(Money depositAmount, Long transactionId, Instant now) {
+    if (depositAmount == null || !depositAmount.isPositive()) {
       throw new IllegalArgumentException("Deposit amount must be positive");
     }
     if (now == null) {
@@ -54,27 +54,27 @@ public class Balance {
     }
     return new Balance(
         this.accountId,
-        this.amount.add(depositAmount),
+        this.amount.plus(depositAmount),
         this.holdAmount,
         this.version,
         transactionId,
         now);
   }
 
-  public Balance withdraw(BigDecimal withdrawAmount, Long transactionId, Instant now) {
-    if (withdrawAmount == null || withdrawAmount.compareTo(BigDecimal.ZERO) <= 0) {
+  public Balance withdraw(Money withdrawAmount, Long transactionId, Instant now) {
+    if (withdrawAmount == null || !withdrawAmount.isPositive()) {
       throw new IllegalArgumentException("Withdraw amount must be positive");
     }
     if (now == null) {
       throw new IllegalArgumentException("Timestamp cannot be null");
     }
-    BigDecimal available = getAvailableAmount();
-    if (withdrawAmount.compareTo(available) > 0) {
+    Money available = getAvailableAmount();
+    if (withdrawAmount.isGreaterThan(available)) {
       throw new InsufficientBalanceException(this.accountId, withdrawAmount, available);
     }
     return new Balance(
         this.accountId,
-        this.amount.subtract(withdrawAmount),
+        this.amount.minus(withdrawAmount),
         this.holdAmount,
         this.version,
         transactionId,
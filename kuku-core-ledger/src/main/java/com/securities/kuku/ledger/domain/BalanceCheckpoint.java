@@ -0,0 +1,61 @@
+package com.securities.kuku.ledger.domain;
+
+import com.securities.kuku.common.money.Money;
+import java.time.Instant;
+import lombok.Getter;
+
+/**
+ * 특정 시각의 계좌 잔액 스냅샷.
+ *
+ * <p>{@code amount}는 {@code createdAt <= checkpointAt}인 모든 분개의 부호 있는 합계입니다. 임의 시각의 잔액은 그 시각 이전의 가장
+ * 가까운 체크포인트에 이후 분개만 더해 구합니다.
+ */
+@Getter
+public class BalanceCheckpoint {
+  private final Long accountId;
+  private final Instant checkpointAt;
+  private final Money amount;
+  private final Instant createdAt;
+
+  public BalanceCheckpoint(
+      Long accountId, Instant checkpointAt, Money amount, Instant createdAt) {
+    if (accountId == null) {
+      throw new IllegalArgumentException("Account ID cannot be null");
+    }
+    if (checkpointAt == null) {
+      throw new IllegalArgumentException("CheckpointAt cannot be null");
+    }
+    if (amount == null) {
+      throw new IllegalArgumentException("Amount cannot be null");
+    }
+    if (createdAt == null) {
+      throw new IllegalArgumentException("CreatedAt cannot be null");
+    }
+    this.accountId = accountId;
+    this.checkpointAt = checkpointAt;
+    this.amount = amount;
+    this.createdAt = createdAt;
+  }
+
+  /** 체크포인트가 하나도 없는 계좌의 기준점. 저장하지 않으며, 모든 분개가 이 시각 이후에 있다고 봅니다. */
+  public static BalanceCheckpoint origin(Long accountId) {
+    return new BalanceCheckpoint(accountId, Instant.EPOCH, Money.ZERO, Instant.EPOCH);
+  }
+
+  /**
+   * 이 체크포인트 이후 {@code checkpointAt}까지의 분개 합계를 더한 다음 체크포인트를 만듭니다.
+   *
+   * @param checkpointAt 새 체크포인트 시각 (이 체크포인트보다 뒤여야 함)
+   * @param delta {@code (this.checkpointAt, checkpointAt]} 구간 분개의 부호 있는 합계
+   * @param now 생성 시각
+   */
+  public BalanceCheckpoint advance(Instant checkpointAt, Money delta, Instant now) {
+    if (checkpointAt == null || !checkpointAt.isAfter(this.checkpointAt)) {
+      throw new IllegalArgumentException("Next checkpoint must be after " + this.checkpointAt);
+    }
+    if (delta == null) {
+      throw new IllegalArgumentException("Delta cannot be null");
+    }
+    return new BalanceCheckpoint(accountId, checkpointAt, amount.plus(delta), now);
+  }
+}
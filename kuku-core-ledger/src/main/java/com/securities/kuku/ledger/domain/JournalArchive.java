@@ -0,0 +1,48 @@
+package com.securities.kuku.ledger.domain;
+
+import java.time.Instant;
+
+/**
+ * 분개 테이블에서 떼어 내 압축 파일로 옮긴 월 파티션 하나.
+ *
+ * <p>파티션은 TSID 범위로 나뉘므로, 월 경계 직전에 기록된 분개가 다음 달 파티션에 들어갈 수 있습니다. 그래서 보관 구간은 월 경계가 아니라 실제로
+ * 옮긴 분개의 {@code createdAt} 최솟값·최댓값으로 기록합니다.
+ *
+ * @param partitionName 원래 파티션 이름 (예: {@code p202501})
+ * @param minCreatedAt 보관된 분개의 가장 이른 생성 시각
+ * @param maxCreatedAt 보관된 분개의 가장 늦은 생성 시각
+ * @param rowCount 보관된 분개 수
+ * @param location 보관 파일 위치
+ * @param status 보관 상태. {@link Status#ARCHIVED}인 보관분만 조회에 사용합니다
+ * @param archivedAt 보관 상태가 마지막으로 바뀐 시각
+ */
+public record JournalArchive(
+    String partitionName,
+    Instant minCreatedAt,
+    Instant maxCreatedAt,
+    long rowCount,
+    String location,
+    Status status,
+    Instant archivedAt) {
+
+  public enum Status {
+    /** 파일을 썼지만 아직 파티션을 지우지 않음. 조회에 쓰지 않고 다음 실행에서 다시 씁니다. */
+    WRITTEN,
+    /** 조회가 보관 파일을 읽음. 파티션이 아직 남아 있으면 다음 실행에서 지웁니다. */
+    ARCHIVED
+  }
+
+  public boolean isArchived() {
+    return status == Status.ARCHIVED;
+  }
+
+  /** {@code after < createdAt <= upTo} 구간과 겹치는 분개가 있을 수 있는지 여부. */
+  public boolean overlaps(Instant after, Instant upTo) {
+    return maxCreatedAt.isAfter(after) && !minCreatedAt.isAfter(upTo);
+  }
+
+  public JournalArchive markArchived(Instant now) {
+    return new JournalArchive(
+        partitionName, minCreatedAt, maxCreatedAt, rowCount, location, Status.ARCHIVED, now);
+  }
+}
@@ -0,0 +1,33 @@
+package com.securities.kuku.ledger.domain;
+
+import com.securities.kuku.common.money.Money;
+import java.time.Instant;
+
+/**
+ * 보관 파티션 하나에 담긴 계좌 하나의 분개 요약. 구간이 요약 전체를 포함하면 보관 파일을 열지 않고 합계를 구할 수 있습니다.
+ *
+ * @param partitionName 보관 파티션 이름
+ * @param accountId 계좌 ID
+ * @param amount 부호 있는 분개 합계 (CREDIT +, DEBIT -)
+ * @param firstCreatedAt 가장 이른 분개 생성 시각
+ * @param lastCreatedAt 가장 늦은 분개 생성 시각
+ * @param blockOffset 보관 파일에서 계좌의 첫 분개가 들어 있는 압축 블록의 시작 위치
+ */
+public record JournalArchiveAccount(
+    String partitionName,
+    Long accountId,
+    Money amount,
+    Instant firstCreatedAt,
+    Instant lastCreatedAt,
+    long blockOffset) {
+
+  /** 계좌의 보관 분개가 모두 {@code after < createdAt <= upTo} 안에 있는지 여부. */
+  public boolean isWithin(Instant after, Instant upTo) {
+    return firstCreatedAt.isAfter(after) && !lastCreatedAt.isAfter(upTo);
+  }
+
+  /** 계좌의 보관 분개가 하나도 {@code after < createdAt <= upTo} 안에 없는지 여부. */
+  public boolean isOutside(Instant after, Instant upTo) {
+    return !lastCreatedAt.isAfter(after) || firstCreatedAt.isAfter(upTo);
+  }
+}
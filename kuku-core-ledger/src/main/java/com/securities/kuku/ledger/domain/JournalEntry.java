@@ -1,6 +1,6 @@
 package com.securities.kuku.ledger.domain;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 import java.time.Instant;
 import lombok.Getter;
 
@@ -9,7 +9,7 @@ public class JournalEntry {
   private final Long id;
   private final Long transactionId;
   private final Long accountId;
-  private final BigDecimal amount;
+  private final Money amount;
   private final EntryType entryType;
   private final Instant createdAt;
 
@@ -22,7 +22,7 @@ public class JournalEntry {
       Long id,
       Long transactionId,
       Long accountId,
-      BigDecimal amount,
+      Money amount,
       EntryType entryType,
       Instant createdAt) {
 
@@ -32,7 +32,7 @@ public class JournalEntry {
     if (accountId == null) {
       throw new IllegalArgumentException("Account ID cannot be null");
     }
-    if (amount == null || amount.compareTo(BigDecimal.ZERO) <= 0) {
+    if (amount == null || !amount.isPositive()) {
       throw new IllegalArgumentException("Amount must be positive");
     }
     if (entryType == null) {
@@ -50,12 +50,12 @@ public class JournalEntry {
   }
 
   public static JournalEntry createCredit(
-      Long transactionId, Long accountId, BigDecimal amount, Instant now) {
+      Long transactionId, Long accountId, Money amount, Instant now) {
     return new JournalEntry(null, transactionId, accountId, amount, EntryType.CREDIT, now);
   }
 
   public static JournalEntry createDebit(
-      Long transactionId, Long accountId, BigDecimal amount, Instant now) {
+      Long transactionId, Long accountId, Money amount, Instant now) {
     return new JournalEntry(null, transactionId, accountId, amount, EntryType.DEBIT, now);
   }
 
@@ -66,6 +66,14 @@ public class JournalEntry {
     };
   }
 
+  /** 이 분개가 잔액에 더한 금액. CREDIT은 양수, DEBIT은 음수입니다. */
+  public Money signedAmount() {
+    return switch (this.entryType) {
+      case CREDIT -> amount;
+      case DEBIT -> amount.negate();
+    };
+  }
+
   public JournalEntry createOpposite(Long transactionId, Instant now) {
     return switch (this.entryType) {
       case CREDIT -> createDebit(transactionId, this.accountId, this.amount, now);
@@ -0,0 +1,68 @@
+package com.securities.kuku.ledger.domain;
+
+import com.securities.kuku.common.money.Money;
+import java.time.Instant;
+
+/**
+ * 원장 로그(WAL)에 기록되는 입출금 한 건.
+ *
+ * <p>로그에 기록되어 fsync된 시점에 확정되며, transactions/journal_entries/balances에는 나중에 {@link
+ * #toTransaction()}으로 만든 거래로 반영됩니다. {@code sequence}는 로그가 덧붙일 때 매기는 순번입니다.
+ */
+public record LedgerLogRecord(
+    long sequence,
+    Long accountId,
+    TransactionType type,
+    Money amount,
+    String description,
+    String businessRefId,
+    Instant createdAt) {
+
+  public LedgerLogRecord {
+    if (accountId == null) {
+      throw new IllegalArgumentException("Account ID cannot be null");
+    }
+    if (type != TransactionType.DEPOSIT && type != TransactionType.WITHDRAWAL) {
+      throw new IllegalArgumentException("Transaction type " + type + " cannot be logged");
+    }
+    if (amount == null || !amount.isPositive()) {
+      throw new IllegalArgumentException("Amount must be greater than zero");
+    }
+    if (businessRefId == null || businessRefId.isBlank()) {
+      throw new IllegalArgumentException("Business Reference ID cannot be null or empty");
+    }
+    if (createdAt == null) {
+      throw new IllegalArgumentException("CreatedAt cannot be null");
+    }
+  }
+
+  public static LedgerLogRecord of(
+      Long accountId,
+      TransactionType type,
+      Money amount,
+      String description,
+      String businessRefId,
+      Instant createdAt) {
+    return new LedgerLogRecord(0L, accountId, type, amount, description, businessRefId, createdAt);
+  }
+
+  public LedgerLogRecord withSequence(long sequence) {
+    return new LedgerLogRecord(
+        sequence, accountId, type, amount, description, businessRefId, createdAt);
+  }
+
+  public boolean isWithdrawal() {
+    return type == TransactionType.WITHDRAWAL;
+  }
+
+  /** 잔액에 더할 금액. 출금은 음수입니다. */
+  public Money signedAmount() {
+    return isWithdrawal() ? amount.negate() : amount;
+  }
+
+  public Transaction toTransaction() {
+    return isWithdrawal()
+        ? Transaction.createWithdraw(description, businessRefId, createdAt)
+        : Transaction.createDeposit(description, businessRefId, createdAt);
+  }
+}
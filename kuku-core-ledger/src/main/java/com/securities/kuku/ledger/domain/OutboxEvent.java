@@ -9,23 +9,45 @@ import lombok.Getter;
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
 public class OutboxEvent {
 
+  /**
+   * 발행 순서를 나누는 파티션 수. 같은 파티션의 이벤트는 생성 순서대로 발행됩니다.
+   *
+   * <p>파티션 번호는 저장 시점에 정해져 행에 남으므로, 이 값을 바꾸면 아직 발행되지 않은 이벤트와 새 이벤트의 파티션이 달라져 순서가 깨질 수
+   * 있습니다. PENDING 이벤트가 없을 때만 바꿉니다.
+   */
+  public static final int PARTITION_COUNT = 64;
+
   private Long id;
   private String aggregateType;
   private Long aggregateId;
+  private int partitionNo;
   private String eventType;
-  private String payload;
+  private String payloadCodec;
+  private byte[] payload;
   private OutboxEventStatus status;
   private int retryCount;
   private Instant createdAt;
   private Instant processedAt;
 
+  /**
+   * @param orderingKey 발행 순서를 지켜야 하는 이벤트끼리 같은 값. 파티션을 정합니다.
+   * @param payloadCodec {@code payload}를 만든 codec의 id. 읽을 때 같은 codec으로 되돌립니다.
+   */
   public static OutboxEvent create(
-      String aggregateType, Long aggregateId, String eventType, String payload, Instant createdAt) {
+      String aggregateType,
+      Long aggregateId,
+      Long orderingKey,
+      String eventType,
+      String payloadCodec,
+      byte[] payload,
+      Instant createdAt) {
     return new OutboxEvent(
         null,
         aggregateType,
         aggregateId,
+        partitionOf(orderingKey),
         eventType,
+        payloadCodec,
         payload,
         OutboxEventStatus.PENDING,
         0,
@@ -37,8 +59,10 @@ public class OutboxEvent {
       Long id,
       String aggregateType,
       Long aggregateId,
+      int partitionNo,
       String eventType,
-      String payload,
+      String payloadCodec,
+      byte[] payload,
       OutboxEventStatus status,
       int retryCount,
       Instant createdAt,
@@ -47,11 +71,17 @@ public class OutboxEvent {
         id,
         aggregateType,
         aggregateId,
+        partitionNo,
         eventType,
+        payloadCodec,
         payload,
         status,
         retryCount,
         createdAt,
         processedAt);
   }
+
+  public static int partitionOf(Long orderingKey) {
+    return Math.floorMod(Long.hashCode(orderingKey), PARTITION_COUNT);
+  }
 }
@@ -0,0 +1,27 @@
+package com.securities.kuku.ledger.domain;
+
+import com.securities.kuku.common.money.Money;
+import java.time.Instant;
+
+/**
+ * {@code balances} 잔액과 분개 합계가 다른 계좌.
+ *
+ * @param runId 대사 실행 ID
+ * @param accountId 계좌 ID
+ * @param balanceAmount 잔액 테이블의 논리 잔액 (잔액 행이 없으면 0)
+ * @param journalAmount 분개의 부호 있는 합계
+ * @param lastTransactionId 잔액을 마지막으로 바꾼 트랜잭션 ID. 조사를 시작할 지점
+ * @param detectedAt 발견 시각
+ */
+public record ReconciliationMismatch(
+    String runId,
+    Long accountId,
+    Money balanceAmount,
+    Money journalAmount,
+    Long lastTransactionId,
+    Instant detectedAt) {
+
+  public Money difference() {
+    return balanceAmount.minus(journalAmount);
+  }
+}
@@ -0,0 +1,23 @@
+package com.securities.kuku.ledger.domain;
+
+/**
+ * 원장 대사(reconciliation) 실행의 계좌 ID 구간 하나와 진행 위치.
+ *
+ * @param runId 대사 실행 ID
+ * @param partitionNo 구간 번호
+ * @param lastAccountId 마지막으로 대사를 마친 계좌 ID. 처음에는 구간 시작 ID - 1
+ * @param toAccountId 구간의 마지막 계좌 ID (포함)
+ * @param completed 구간 대사 완료 여부
+ */
+public record ReconciliationPartition(
+    String runId, int partitionNo, long lastAccountId, long toAccountId, boolean completed) {
+
+  public static ReconciliationPartition of(
+      String runId, int partitionNo, long fromAccountId, long toAccountId) {
+    return new ReconciliationPartition(runId, partitionNo, fromAccountId - 1, toAccountId, false);
+  }
+
+  public ReconciliationPartition advanceTo(long lastAccountId, boolean completed) {
+    return new ReconciliationPartition(runId, partitionNo, lastAccountId, toAccountId, completed);
+  }
+}
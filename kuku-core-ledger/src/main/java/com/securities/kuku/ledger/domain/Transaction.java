@@ -1,9 +1,9 @@
 package com.securities.kuku.ledger.domain;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
 import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
 import com.securities.kuku.ledger.domain.exception.InvalidTransactionStateException;
-import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.Getter;
 
@@ -99,7 +99,7 @@ public class Transaction {
     return withStatus(TransactionStatus.POSTED);
   }
 
-  public JournalEntry createJournalEntry(Long accountId, BigDecimal amount, Instant now) {
+  public JournalEntry createJournalEntry(Long accountId, Money amount, Instant now) {
     return switch (this.type) {
       case DEPOSIT -> JournalEntry.createCredit(this.id, accountId, amount, now);
       case WITHDRAWAL -> JournalEntry.createDebit(this.id, accountId, amount, now);
@@ -144,8 +144,9 @@ public class Transaction {
   }
 
   public LedgerPostedEvent toPostedEvent(
-      Long accountId, BigDecimal amount, TransactionType transactionType) {
-    return LedgerPostedEvent.of(this.id, accountId, amount, transactionType, this.createdAt);
+      Long accountId, Money amount, TransactionType transactionType) {
+    return LedgerPostedEvent.of(
+        this.id, accountId, amount.toBigDecimal(), transactionType, this.createdAt);
   }
 
   public LedgerReversedEvent toReversedEvent(Long originalTransactionId, String reason) {
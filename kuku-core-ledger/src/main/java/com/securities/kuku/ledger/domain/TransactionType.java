@@ -1,8 +1,9 @@
 package com.securities.kuku.ledger.domain;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 import java.time.Instant;
 
+/** 상수는 끝에만 추가합니다. Outbox 바이너리 payload가 ordinal을 저장합니다. */
 public enum TransactionType {
   DEPOSIT, // 입금
   WITHDRAWAL, // 출금
@@ -14,7 +15,7 @@ public enum TransactionType {
   INTEREST, // 이자 지급
   CORRECTION; // 정정 (오류 수정 등)
 
-  public Balance applyTo(Balance balance, BigDecimal amount, Long transactionId, Instant now) {
+  public Balance applyTo(Balance balance, Money amount, Long transactionId, Instant now) {
     return switch (this) {
       case DEPOSIT -> balance.deposit(amount, transactionId, now);
       case WITHDRAWAL -> balance.withdraw(amount, transactionId, now);
@@ -11,6 +11,15 @@ public interface LedgerEvent {
   /** Aggregate ID (transactionId) */
   Long aggregateId();
 
+  /**
+   * 발행 순서를 지켜야 하는 이벤트끼리 같은 값을 갖는 키. 같은 키의 이벤트는 생성 순서대로 발행됩니다.
+   *
+   * <p>기본값은 {@link #aggregateId()}입니다.
+   */
+  default Long orderingKey() {
+    return aggregateId();
+  }
+
   /** 이벤트 발생 시각 */
   Instant occurredAt();
 }
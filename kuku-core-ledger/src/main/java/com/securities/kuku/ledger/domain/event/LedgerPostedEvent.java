@@ -12,7 +12,7 @@ public record LedgerPostedEvent(
     Instant occurredAt)
     implements LedgerEvent {
 
-  private static final String EVENT_TYPE = "LEDGER_POSTED";
+  public static final String EVENT_TYPE = "LEDGER_POSTED";
 
   public static LedgerPostedEvent of(
       Long transactionId,
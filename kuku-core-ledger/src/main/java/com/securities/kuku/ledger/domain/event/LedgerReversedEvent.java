@@ -6,7 +6,7 @@ public record LedgerReversedEvent(
     Long reversalTransactionId, Long originalTransactionId, String reason, Instant occurredAt)
     implements LedgerEvent {
 
-  private static final String EVENT_TYPE = "LEDGER_REVERSED";
+  public static final String EVENT_TYPE = "LEDGER_REVERSED";
 
   public static LedgerReversedEvent of(
       Long reversalTransactionId, Long originalTransactionId, String reason, Instant occurredAt) {
@@ -23,4 +23,10 @@ public record LedgerReversedEvent(
   public Long aggregateId() {
     return reversalTransactionId;
   }
+
+  /** 원 트랜잭션의 {@link LedgerPostedEvent}보다 먼저 발행되지 않도록 원 트랜잭션 ID를 씁니다. */
+  @Override
+  public Long orderingKey() {
+    return originalTransactionId;
+  }
 }
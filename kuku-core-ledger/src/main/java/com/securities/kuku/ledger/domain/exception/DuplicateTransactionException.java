@@ -0,0 +1,19 @@
+package com.securities.kuku.ledger.domain.exception;
+
+import com.securities.kuku.common.exception.BusinessException;
+import lombok.Getter;
+
+/** 같은 businessRefId의 트랜잭션이 이미 저장되어 있을 때 발생하는 예외. */
+@Getter
+public class DuplicateTransactionException extends BusinessException {
+
+  private final String businessRefId;
+
+  public DuplicateTransactionException(String businessRefId, Throwable cause) {
+    super(
+        LedgerErrorCode.DUPLICATE_TRANSACTION,
+        "Duplicate transaction: businessRefId=" + businessRefId,
+        cause);
+    this.businessRefId = businessRefId;
+  }
+}
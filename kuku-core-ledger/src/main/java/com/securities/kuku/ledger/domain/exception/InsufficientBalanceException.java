@@ -1,7 +1,7 @@
 package com.securities.kuku.ledger.domain.exception;
 
 import com.securities.kuku.common.exception.BusinessException;
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 import lombok.Getter;
 
 /** 잔액이 부족할 때 발생하는 예외. */
@@ -9,10 +9,10 @@ import lombok.Getter;
 public class InsufficientBalanceException extends BusinessException {
 
   private final Long accountId;
-  private final BigDecimal requested;
-  private final BigDecimal available;
+  private final Money requested;
+  private final Money available;
 
-  public InsufficientBalanceException(Long accountId, BigDecimal requested, BigDecimal available) {
+  public InsufficientBalanceException(Long accountId, Money requested, Money available) {
     super(
         LedgerErrorCode.INSUFFICIENT_BALANCE,
         String.format(
@@ -13,7 +13,8 @@ public enum LedgerErrorCode implements ErrorCode {
   ACCOUNT_NOT_FOUND("LEDGER_003", "Account not found", 404),
   TRANSACTION_NOT_FOUND("LEDGER_004", "Transaction not found", 404),
   BALANCE_NOT_FOUND("LEDGER_005", "Balance not found", 404),
-  DUPLICATE_TRANSACTION("LEDGER_006", "Duplicate transaction", 409);
+  DUPLICATE_TRANSACTION("LEDGER_006", "Duplicate transaction", 409),
+  UNSUPPORTED_IN_LEDGER_LOG_MODE("LEDGER_007", "Not supported in ledger log mode", 409);
 
   private final String code;
   private final String message;
@@ -0,0 +1,13 @@
+package com.securities.kuku.ledger.domain.exception;
+
+import com.securities.kuku.common.exception.BusinessException;
+
+/** 원장 로그(WAL) 모드에서 로그를 거치지 않고 잔액을 바꾸는 작업을 요청했을 때 발생하는 예외. */
+public class UnsupportedInLedgerLogModeException extends BusinessException {
+
+  public UnsupportedInLedgerLogModeException(String action) {
+    super(
+        LedgerErrorCode.UNSUPPORTED_IN_LEDGER_LOG_MODE,
+        "Cannot " + action + " while ledger.wal.enabled is true");
+  }
+}
@@ -0,0 +1,76 @@
+package com.securities.kuku.ledger.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 잔액 충돌이 잦은 계좌를 추적하는 Top-K 스케치 (Space-Saving 알고리즘).
+ *
+ * <p>최대 {@code capacity}개의 계좌만 기억하므로 계좌 수와 관계없이 메모리가 일정합니다. 가득 찬 상태에서 새 계좌가 들어오면 가장 작은 카운터를
+ * 빼앗아 {@code 최소값 + 1}로 시작하고, 빼앗긴 값을 {@code error}로 남깁니다. 따라서 {@code count}는 실제 빈도의 상한이며 {@code
+ * count - error}는 하한입니다. 실제 빈도가 전체 기록 수 / capacity 보다 큰 계좌는 반드시 남아 있습니다.
+ *
+ * <p>충돌은 요청 수에 비해 드물게 기록되므로 단순한 동기화와 O(capacity) 최소값 탐색으로 충분합니다.
+ */
+public class HotAccountTracker {
+
+  private final int capacity;
+  private final Map<Long, Counter> counters;
+
+  public HotAccountTracker(int capacity) {
+    if (capacity <= 0) {
+      throw new IllegalArgumentException("capacity must be positive");
+    }
+    this.capacity = capacity;
+    this.counters = new HashMap<>(capacity * 2);
+  }
+
+  public synchronized void record(Long accountId) {
+    Counter counter = counters.get(accountId);
+    if (counter != null) {
+      counter.count++;
+      return;
+    }
+    if (counters.size() < capacity) {
+      counters.put(accountId, new Counter(1, 0));
+      return;
+    }
+    Map.Entry<Long, Counter> min =
+        counters.entrySet().stream()
+            .min(Comparator.comparingLong(entry -> entry.getValue().count))
+            .orElseThrow();
+    counters.remove(min.getKey());
+    long evicted = min.getValue().count;
+    counters.put(accountId, new Counter(evicted + 1, evicted));
+  }
+
+  /** 충돌 추정치가 큰 순서대로 최대 {@code k}개의 계좌를 반환합니다. */
+  public synchronized List<HotAccount> top(int k) {
+    return counters.entrySet().stream()
+        .map(
+            entry ->
+                new HotAccount(entry.getKey(), entry.getValue().count, entry.getValue().error))
+        .sorted(Comparator.comparingLong(HotAccount::count).reversed())
+        .limit(k)
+        .toList();
+  }
+
+  /**
+   * @param accountId 계좌 ID
+   * @param count 충돌 횟수 추정치 (상한)
+   * @param error 추정 오차. {@code count - error}가 하한입니다.
+   */
+  public record HotAccount(Long accountId, long count, long error) {}
+
+  private static final class Counter {
+    private long count;
+    private final long error;
+
+    private Counter(long count, long error) {
+      this.count = count;
+      this.error = error;
+    }
+  }
+}
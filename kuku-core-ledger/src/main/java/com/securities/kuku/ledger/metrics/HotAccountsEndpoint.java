@@ -0,0 +1,24 @@
+package com.securities.kuku.ledger.metrics;
+
+import com.securities.kuku.ledger.config.LedgerMetricsProperties;
+import com.securities.kuku.ledger.metrics.HotAccountTracker.HotAccount;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/** 잔액 충돌이 잦은 계좌 Top-K를 {@code /actuator/hotaccounts}로 노출합니다. */
+@Component
+@Endpoint(id = "hotaccounts")
+@RequiredArgsConstructor
+public class HotAccountsEndpoint {
+
+  private final HotAccountTracker hotAccountTracker;
+  private final LedgerMetricsProperties properties;
+
+  @ReadOperation
+  public List<HotAccount> hotAccounts() {
+    return hotAccountTracker.top(properties.hotAccountsTopK());
+  }
+}
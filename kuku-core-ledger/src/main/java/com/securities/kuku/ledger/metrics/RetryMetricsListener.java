@@ -0,0 +1,105 @@
+package com.securities.kuku.ledger.metrics;
+
+import com.securities.kuku.ledger.application.port.out.BalanceConflictException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.stereotype.Component;
+
+/**
+ * {@code @Retryable} 유스케이스의 재시도 지표를 Micrometer로 기록하는 전역 RetryListener.
+ *
+ * <p>유스케이스 이름은 {@code @Retryable(label = ...)}에서 가져오며 모든 지표의 {@code use_case} 태그가 됩니다.
+ *
+ * <ul>
+ *   <li>{@code ledger.usecase.attempts}: 호출 1건이 끝날 때까지 실행한 시도 횟수
+ *   <li>{@code ledger.usecase.latency}: 재시도와 백오프를 포함한 전체 처리 시간 ({@code outcome} 태그)
+ *   <li>{@code ledger.usecase.lock.conflicts}: 재시도로 흡수된 것을 포함한 Optimistic Lock 충돌 횟수
+ *   <li>{@code ledger.usecase.retries.exhausted}: 재시도를 모두 소진하고 실패한 호출 수
+ * </ul>
+ *
+ * <p>잔액 충돌({@link BalanceConflictException})은 {@link HotAccountTracker}에 계좌 ID로 기록합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class RetryMetricsListener implements RetryListener {
+
+  static final String ATTEMPTS = "ledger.usecase.attempts";
+  static final String LATENCY = "ledger.usecase.latency";
+  static final String LOCK_CONFLICTS = "ledger.usecase.lock.conflicts";
+  static final String RETRIES_EXHAUSTED = "ledger.usecase.retries.exhausted";
+
+  private static final String STARTED_AT = RetryMetricsListener.class.getName() + ".startedAt";
+  private static final String USE_CASE_TAG = "use_case";
+  private static final String UNKNOWN_USE_CASE = "unknown";
+
+  private final MeterRegistry meterRegistry;
+  private final HotAccountTracker hotAccountTracker;
+
+  @Override
+  public <T, E extends Throwable> boolean open(RetryContext context, RetryCallback<T, E> callback) {
+    context.setAttribute(STARTED_AT, System.nanoTime());
+    return true;
+  }
+
+  @Override
+  public <T, E extends Throwable> void onError(
+      RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+    if (!(throwable instanceof ObjectOptimisticLockingFailureException conflict)) {
+      return;
+    }
+    Counter.builder(LOCK_CONFLICTS)
+        .tag(USE_CASE_TAG, useCase(callback))
+        .register(meterRegistry)
+        .increment();
+    if (conflict instanceof BalanceConflictException balanceConflict) {
+      hotAccountTracker.record(balanceConflict.getAccountId());
+    }
+  }
+
+  @Override
+  public <T, E extends Throwable> void close(
+      RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+    String useCase = useCase(callback);
+    // retryCount는 실패한 시도 수이므로, 성공했다면 마지막 성공 시도를 더합니다.
+    int attempts = context.getRetryCount() + (throwable == null ? 1 : 0);
+
+    DistributionSummary.builder(ATTEMPTS)
+        .tag(USE_CASE_TAG, useCase)
+        .serviceLevelObjectives(1, 2, 3)
+        .register(meterRegistry)
+        .record(attempts);
+
+    if (context.getAttribute(STARTED_AT) instanceof Long startedAt) {
+      Timer.builder(LATENCY)
+          .tag(USE_CASE_TAG, useCase)
+          .tag("outcome", throwable == null ? "success" : "failure")
+          .publishPercentileHistogram()
+          .register(meterRegistry)
+          .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    if (throwable instanceof ObjectOptimisticLockingFailureException) {
+      Counter.builder(RETRIES_EXHAUSTED)
+          .tag(USE_CASE_TAG, useCase)
+          .register(meterRegistry)
+          .increment();
+    }
+  }
+
+  private String useCase(RetryCallback<?, ?> callback) {
+    if (callback instanceof MethodInvocationRetryCallback<?, ?> invocation
+        && invocation.getLabel() != null) {
+      return invocation.getLabel();
+    }
+    return UNKNOWN_USE_CASE;
+  }
+}
@@ -0,0 +1,65 @@
+package com.securities.kuku.ledger.retry;
+
+import java.util.Map;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryPolicy;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+
+/**
+ * Optimistic Lock 충돌만 최대 {@code maxAttempts}번까지 재시도하되, 재시도마다 {@link ContentionController}의 예산에서 토큰을
+ * 꺼냅니다.
+ *
+ * <p>RetryTemplate은 실패 한 번에 {@link #canRetry}를 두 번(백오프 여부, 다음 루프 여부) 호출하므로, 같은 재시도 차수에 대한 판단은
+ * 컨텍스트에 기억해 토큰을 한 번만 소비합니다.
+ */
+class BudgetedRetryPolicy implements RetryPolicy {
+
+  static final String ACCOUNT_ID = BudgetedRetryPolicy.class.getName() + ".accountId";
+  private static final String GRANTED_RETRY = BudgetedRetryPolicy.class.getName() + ".granted";
+
+  private final SimpleRetryPolicy delegate;
+  private final ContentionController contention;
+
+  BudgetedRetryPolicy(int maxAttempts, ContentionController contention) {
+    this.delegate =
+        new SimpleRetryPolicy(
+            maxAttempts, Map.of(ObjectOptimisticLockingFailureException.class, true), true);
+    this.contention = contention;
+  }
+
+  @Override
+  public boolean canRetry(RetryContext context) {
+    if (!delegate.canRetry(context)) {
+      return false;
+    }
+    int retryCount = context.getRetryCount();
+    if (retryCount == 0) {
+      return true;
+    }
+    if (context.getAttribute(GRANTED_RETRY) instanceof Integer granted && granted == retryCount) {
+      return true;
+    }
+    if (!contention.tryAcquireRetry((Long) context.getAttribute(ACCOUNT_ID))) {
+      context.setExhaustedOnly();
+      return false;
+    }
+    context.setAttribute(GRANTED_RETRY, retryCount);
+    return true;
+  }
+
+  @Override
+  public RetryContext open(RetryContext parent) {
+    return delegate.open(parent);
+  }
+
+  @Override
+  public void close(RetryContext context) {
+    delegate.close(context);
+  }
+
+  @Override
+  public void registerThrowable(RetryContext context, Throwable throwable) {
+    delegate.registerThrowable(context, throwable);
+  }
+}
@@ -0,0 +1,170 @@
+package com.securities.kuku.ledger.retry;
+
+import com.securities.kuku.ledger.config.LedgerRetryProperties;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * 계좌별 충돌률을 추적해 재시도 예산과 직렬 입장(admission)을 결정합니다.
+ *
+ * <p>충돌률이 임계값을 넘은 계좌는 cool-down 동안 공정(fair) 세마포어로 요청을 한 건씩 들여보내 경쟁 자체를 없앱니다. 입장 대기가 {@code
+ * admissionTimeout}을 넘으면 요청을 막지 않고 그대로 경쟁에 참여시킵니다.
+ */
+class ContentionController {
+
+  private static final int MAX_TRACKED_ACCOUNTS = 10_000;
+
+  private final LedgerRetryProperties properties;
+  private final LongSupplier nanoClock;
+  private final TokenBucket processBudget;
+  private final Map<Long, AccountState> accounts = new ConcurrentHashMap<>();
+
+  ContentionController(LedgerRetryProperties properties) {
+    this(properties, System::nanoTime);
+  }
+
+  ContentionController(LedgerRetryProperties properties, LongSupplier nanoClock) {
+    this.properties = properties;
+    this.nanoClock = nanoClock;
+    this.processBudget =
+        new TokenBucket(properties.processRetriesPerSecond(), nanoClock.getAsLong());
+  }
+
+  void recordAttempt(Long accountId) {
+    if (accountId != null) {
+      state(accountId).recordAttempt(nanoClock.getAsLong());
+    }
+  }
+
+  void recordConflict(Long accountId) {
+    if (accountId != null) {
+      state(accountId).recordConflict(nanoClock.getAsLong());
+    }
+  }
+
+  /** 계좌 예산과 프로세스 예산에서 재시도 토큰을 하나씩 꺼냅니다. 둘 중 하나라도 비어 있으면 재시도하지 않습니다. */
+  boolean tryAcquireRetry(Long accountId) {
+    long now = nanoClock.getAsLong();
+    if (accountId != null && !state(accountId).budget.tryAcquire(now)) {
+      return false;
+    }
+    return processBudget.tryAcquire(now);
+  }
+
+  boolean isHot(Long accountId) {
+    return accountId != null && state(accountId).isHot(nanoClock.getAsLong());
+  }
+
+  /** 과열된 계좌라면 앞선 요청이 끝날 때까지 기다립니다. 반환된 {@link Admission}을 닫아야 다음 요청이 들어옵니다. */
+  Admission admit(Long accountId) throws InterruptedException {
+    if (!isHot(accountId)) {
+      return Admission.NONE;
+    }
+    Semaphore permit = state(accountId).permit;
+    if (!permit.tryAcquire(properties.admissionTimeout().toNanos(), TimeUnit.NANOSECONDS)) {
+      return Admission.NONE;
+    }
+    return permit::release;
+  }
+
+  private AccountState state(Long accountId) {
+    AccountState state = accounts.get(accountId);
+    if (state != null) {
+      return state;
+    }
+    if (accounts.size() >= MAX_TRACKED_ACCOUNTS) {
+      long now = nanoClock.getAsLong();
+      accounts.values().removeIf(candidate -> candidate.isIdle(now));
+    }
+    return accounts.computeIfAbsent(accountId, id -> new AccountState(nanoClock.getAsLong()));
+  }
+
+  /** 직렬 입장 권한. 닫으면 다음 요청이 들어옵니다. */
+  interface Admission extends AutoCloseable {
+
+    Admission NONE = () -> {};
+
+    @Override
+    void close();
+  }
+
+  private final class AccountState {
+
+    private final TokenBucket budget;
+    private final Semaphore permit = new Semaphore(1, true);
+    private long windowStartedAt;
+    private int attempts;
+    private int conflicts;
+    private boolean hot;
+    private long hotUntil;
+
+    private AccountState(long now) {
+      this.budget = new TokenBucket(properties.accountRetriesPerSecond(), now);
+      this.windowStartedAt = now;
+    }
+
+    private synchronized void recordAttempt(long now) {
+      roll(now);
+      attempts++;
+    }
+
+    private synchronized void recordConflict(long now) {
+      roll(now);
+      conflicts++;
+      if (attempts >= properties.admissionMinSamples()
+          && conflicts >= attempts * properties.admissionConflictRate()) {
+        hot = true;
+        hotUntil = now + properties.admissionCoolDown().toNanos();
+      }
+    }
+
+    private synchronized boolean isHot(long now) {
+      if (hot && now - hotUntil >= 0) {
+        hot = false;
+      }
+      return hot;
+    }
+
+    private synchronized boolean isIdle(long now) {
+      return !isHot(now)
+          && now - windowStartedAt >= properties.admissionWindow().toNanos()
+          && permit.availablePermits() == 1;
+    }
+
+    private void roll(long now) {
+      if (now - windowStartedAt >= properties.admissionWindow().toNanos()) {
+        windowStartedAt = now;
+        attempts = 0;
+        conflicts = 0;
+      }
+    }
+  }
+
+  /** 초당 {@code ratePerSecond}개씩 채워지고 최대 {@code ratePerSecond}개까지 쌓이는 토큰 버킷. */
+  private static final class TokenBucket {
+
+    private final double ratePerSecond;
+    private double tokens;
+    private long refilledAt;
+
+    private TokenBucket(int ratePerSecond, long now) {
+      this.ratePerSecond = ratePerSecond;
+      this.tokens = ratePerSecond;
+      this.refilledAt = now;
+    }
+
+    private synchronized boolean tryAcquire(long now) {
+      double refill = (now - refilledAt) / (double) TimeUnit.SECONDS.toNanos(1) * ratePerSecond;
+      tokens = Math.min(ratePerSecond, tokens + refill);
+      refilledAt = now;
+      if (tokens < 1) {
+        return false;
+      }
+      tokens -= 1;
+      return true;
+    }
+  }
+}
@@ -0,0 +1,55 @@
+package com.securities.kuku.ledger.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.backoff.BackOffContext;
+import org.springframework.retry.backoff.BackOffInterruptedException;
+import org.springframework.retry.backoff.BackOffPolicy;
+import org.springframework.retry.backoff.Sleeper;
+import org.springframework.retry.backoff.ThreadWaitSleeper;
+
+/**
+ * n번째 재시도 전에 0 ~ min(max, base × 2<sup>n</sup>) 사이에서 균등하게 고른 시간만큼 기다립니다.
+ *
+ * <p>같은 순간 충돌한 요청들이 같은 간격으로 다시 부딪히지 않도록 대기 시간을 흩뜨리고, 하한이 0이므로 경합이 약할 때 꼬리 지연을 늘리지 않습니다.
+ */
+class FullJitterBackOffPolicy implements BackOffPolicy {
+
+  private static final int MAX_SHIFT = 30;
+
+  private final long baseMillis;
+  private final long maxMillis;
+  private final Sleeper sleeper;
+
+  FullJitterBackOffPolicy(Duration base, Duration max) {
+    this(base, max, new ThreadWaitSleeper());
+  }
+
+  FullJitterBackOffPolicy(Duration base, Duration max, Sleeper sleeper) {
+    this.baseMillis = base.toMillis();
+    this.maxMillis = max.toMillis();
+    this.sleeper = sleeper;
+  }
+
+  @Override
+  public BackOffContext start(RetryContext context) {
+    return new AttemptContext();
+  }
+
+  @Override
+  public void backOff(BackOffContext backOffContext) throws BackOffInterruptedException {
+    AttemptContext attempt = (AttemptContext) backOffContext;
+    long ceiling = Math.min(maxMillis, baseMillis << Math.min(attempt.count++, MAX_SHIFT));
+    try {
+      sleeper.sleep(ThreadLocalRandom.current().nextLong(ceiling + 1));
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new BackOffInterruptedException("Thread interrupted while sleeping", e);
+    }
+  }
+
+  private static final class AttemptContext implements BackOffContext {
+    private int count;
+  }
+}
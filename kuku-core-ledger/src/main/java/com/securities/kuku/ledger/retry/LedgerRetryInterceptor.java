@@ -0,0 +1,132 @@
+package com.securities.kuku.ledger.retry;
+
+import com.securities.kuku.ledger.application.port.in.command.AccountCommand;
+import com.securities.kuku.ledger.config.LedgerRetryProperties;
+import com.securities.kuku.ledger.config.LedgerRetryProperties.Policy;
+import com.securities.kuku.ledger.retry.ContentionController.Admission;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.aop.ProxyMethodInvocation;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+import org.springframework.retry.annotation.Retryable;
+import org.springframework.retry.backoff.ExponentialBackOffPolicy;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.retry.policy.SimpleRetryPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+/**
+ * 원장 쓰기 유스케이스의 Optimistic Lock 재시도 인터셉터. {@code @Retryable(interceptor = BEAN_NAME)}으로 연결되며 재시도 설정은
+ * {@link LedgerRetryProperties}에서 가져옵니다.
+ *
+ * <p>{@code @Retryable}의 {@code label}은 그대로 RetryListener에 전달되므로 재시도 지표의 유스케이스 구분은 유지됩니다. {@code
+ * ADAPTIVE} 정책에서는 {@link AccountCommand} 인자의 계좌 ID로 충돌률과 재시도 예산을 추적하고, 과열된 계좌는 요청을 한 건씩
+ * 들여보냅니다.
+ */
+public class LedgerRetryInterceptor implements MethodInterceptor {
+
+  public static final String BEAN_NAME = "ledgerRetryInterceptor";
+
+  private final RetryTemplate retryTemplate;
+  private final ContentionController contention;
+  private final Map<Method, String> labels = new ConcurrentHashMap<>();
+
+  public LedgerRetryInterceptor(LedgerRetryProperties properties, List<RetryListener> listeners) {
+    this(properties, listeners, new ContentionController(properties));
+  }
+
+  LedgerRetryInterceptor(
+      LedgerRetryProperties properties,
+      List<RetryListener> listeners,
+      ContentionController contention) {
+    this.contention = properties.policy() == Policy.ADAPTIVE ? contention : null;
+    this.retryTemplate = new RetryTemplate();
+    this.retryTemplate.setListeners(listeners.toArray(RetryListener[]::new));
+    if (this.contention != null) {
+      retryTemplate.setRetryPolicy(new BudgetedRetryPolicy(properties.maxAttempts(), contention));
+      retryTemplate.setBackOffPolicy(
+          new FullJitterBackOffPolicy(properties.jitterBaseDelay(), properties.jitterMaxDelay()));
+    } else {
+      retryTemplate.setRetryPolicy(
+          new SimpleRetryPolicy(
+              properties.maxAttempts(),
+              Map.of(ObjectOptimisticLockingFailureException.class, true),
+              true));
+      ExponentialBackOffPolicy backOffPolicy = new ExponentialBackOffPolicy();
+      backOffPolicy.setInitialInterval(properties.initialDelay().toMillis());
+      backOffPolicy.setMultiplier(properties.multiplier());
+      backOffPolicy.setMaxInterval(properties.maxDelay().toMillis());
+      retryTemplate.setBackOffPolicy(backOffPolicy);
+    }
+  }
+
+  @Override
+  public Object invoke(MethodInvocation invocation) throws Throwable {
+    String label = labels.computeIfAbsent(invocation.getMethod(), method -> label(invocation));
+    Long accountId = contention != null ? accountId(invocation.getArguments()) : null;
+
+    try (Admission admission = admit(accountId)) {
+      return retryTemplate.execute(
+          new MethodInvocationRetryCallback<Object, Throwable>(invocation, label) {
+            @Override
+            public Object doWithRetry(RetryContext context) throws Throwable {
+              context.setAttribute(RetryContext.NAME, label);
+              context.setAttribute(BudgetedRetryPolicy.ACCOUNT_ID, accountId);
+              if (contention != null) {
+                contention.recordAttempt(accountId);
+              }
+              try {
+                return proceed(invocation);
+              } catch (ObjectOptimisticLockingFailureException e) {
+                if (contention != null) {
+                  contention.recordConflict(accountId);
+                }
+                throw e;
+              }
+            }
+          });
+    }
+  }
+
+  private Admission admit(Long accountId) throws InterruptedException {
+    return contention != null ? contention.admit(accountId) : Admission.NONE;
+  }
+
+  /** 재시도마다 처음부터 다시 진행할 수 있도록 복제본으로 호출합니다. (Spring Retry의 RetryOperationsInterceptor와 같은 방식) */
+  private Object proceed(MethodInvocation invocation) throws Throwable {
+    if (invocation instanceof ProxyMethodInvocation proxyInvocation) {
+      return proxyInvocation.invocableClone().proceed();
+    }
+    throw new IllegalStateException(
+        "MethodInvocation of the wrong type detected: " + invocation.getClass().getName());
+  }
+
+  private String label(MethodInvocation invocation) {
+    Method method = invocation.getMethod();
+    Class<?> targetClass =
+        invocation.getThis() != null ? AopUtils.getTargetClass(invocation.getThis()) : null;
+    Retryable retryable =
+        AnnotatedElementUtils.findMergedAnnotation(
+            AopUtils.getMostSpecificMethod(method, targetClass), Retryable.class);
+    if (retryable != null && !retryable.label().isBlank()) {
+      return retryable.label();
+    }
+    return method.toGenericString();
+  }
+
+  private Long accountId(Object[] arguments) {
+    for (Object argument : arguments) {
+      if (argument instanceof AccountCommand command) {
+        return command.accountId();
+      }
+    }
+    return null;
+  }
+}
@@ -15,6 +15,8 @@ CREATE TABLE IF NOT EXISTS `accounts` (
 --   POSTED   - 트랜잭션이 확정되어 잔액에 반영됨
 --   REVERSED - 역분개되어 무효화됨
 --   UNKNOWN  - 외부 시스템 Timeout 등으로 상태 확인이 필요함
+-- 파티셔닝하지 않습니다: MySQL 파티션 테이블은 모든 UNIQUE 키에 파티션 컬럼이 있어야 해서,
+-- 멱등성을 보장하는 전역 uk_business_ref_id를 유지할 수 없습니다.
 CREATE TABLE IF NOT EXISTS `transactions` (
     `id` BIGINT NOT NULL,
     `type` VARCHAR(50) NOT NULL,
@@ -37,8 +39,41 @@ CREATE TABLE IF NOT EXISTS `journal_entries` (
     `created_at` DATETIME(6) NOT NULL,
     PRIMARY KEY (`id`),
     KEY `idx_transaction_id` (`transaction_id`),
-    KEY `idx_account_id` (`account_id`)
-) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+    -- 계좌 거래내역(keyset 페이지네이션)용. account_id 단일 조회도 이 인덱스의 선두 컬럼으로 처리됩니다.
+    KEY `idx_account_created_at_id` (`account_id`, `created_at`, `id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+-- 월(UTC) 단위 RANGE 파티션. TSID의 상위 비트가 생성 시각이므로 id 범위가 곧 월 범위이고, PK를 바꾸지 않아도 됩니다.
+-- 경계값 = TsidGenerator.minIdAt(다음 달 1일 00:00Z). pYYYYMM은 그 달 말까지의 분개를 담습니다.
+-- 앞으로의 파티션은 JournalArchiveService가 p_max를 나누어 미리 만들고, 보관 기간이 지난 파티션은 파일로 옮긴 뒤 지웁니다.
+-- 기존 테이블은 ALTER TABLE `journal_entries` PARTITION BY RANGE (`id`) (...)로 한 번 재구성합니다.
+PARTITION BY RANGE (`id`) (
+    PARTITION `p202412` VALUES LESS THAN (662082630451200000),
+    PARTITION `p202501` VALUES LESS THAN (673316654284800000),
+    PARTITION `p202502` VALUES LESS THAN (683463514521600000),
+    PARTITION `p202503` VALUES LESS THAN (694697538355200000),
+    PARTITION `p202504` VALUES LESS THAN (705569174323200000),
+    PARTITION `p202505` VALUES LESS THAN (716803198156800000),
+    PARTITION `p202506` VALUES LESS THAN (727674834124800000),
+    PARTITION `p202507` VALUES LESS THAN (738908857958400000),
+    PARTITION `p202508` VALUES LESS THAN (750142881792000000),
+    PARTITION `p202509` VALUES LESS THAN (761014517760000000),
+    PARTITION `p202510` VALUES LESS THAN (772248541593600000),
+    PARTITION `p202511` VALUES LESS THAN (783120177561600000),
+    PARTITION `p202512` VALUES LESS THAN (794354201395200000),
+    PARTITION `p202601` VALUES LESS THAN (805588225228800000),
+    PARTITION `p202602` VALUES LESS THAN (815735085465600000),
+    PARTITION `p202603` VALUES LESS THAN (826969109299200000),
+    PARTITION `p202604` VALUES LESS THAN (837840745267200000),
+    PARTITION `p202605` VALUES LESS THAN (849074769100800000),
+    PARTITION `p202606` VALUES LESS THAN (859946405068800000),
+    PARTITION `p202607` VALUES LESS THAN (871180428902400000),
+    PARTITION `p202608` VALUES LESS THAN (882414452736000000),
+    PARTITION `p202609` VALUES LESS THAN (893286088704000000),
+    PARTITION `p202610` VALUES LESS THAN (904520112537600000),
+    PARTITION `p202611` VALUES LESS THAN (915391748505600000),
+    PARTITION `p202612` VALUES LESS THAN (926625772339200000),
+    PARTITION `p_max` VALUES LESS THAN MAXVALUE
+);
 
 CREATE TABLE IF NOT EXISTS `balances` (
     `account_id` BIGINT NOT NULL,
@@ -50,21 +85,138 @@ CREATE TABLE IF NOT EXISTS `balances` (
     PRIMARY KEY (`account_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- balance_slots: 핫 계좌 잔액 분산용 슬롯 (ledger.balance.striping.accounts에 등록한 계좌만 사용)
+-- 논리 잔액 = balances.amount + SUM(balance_slots.amount)
+CREATE TABLE IF NOT EXISTS `balance_slots` (
+    `account_id` BIGINT NOT NULL,
+    `slot_no` INT NOT NULL,
+    `amount` DECIMAL(19, 4) NOT NULL DEFAULT 0,
+    `last_transaction_id` BIGINT,
+    `updated_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`account_id`, `slot_no`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
 -- outbox_event: Outbox 패턴을 위한 이벤트 저장소
 -- status 컬럼:
 --   PENDING   - 발행 대기 중 (Kafka로 전송 전)
 --   PROCESSED - 발행 완료
 --   FAILED    - 최대 재시도 횟수 초과로 실패
 CREATE TABLE IF NOT EXISTS `outbox_event` (
-    `id` BIGINT AUTO_INCREMENT PRIMARY KEY,
+    `id` BIGINT NOT NULL,
     `aggregate_type` VARCHAR(50) NOT NULL COMMENT '집합체 타입 (예: TRANSACTION)',
     `aggregate_id` BIGINT NOT NULL COMMENT '집합체 ID (예: transactionId)',
+    `partition_no` INT NOT NULL DEFAULT 0 COMMENT '발행 순서 파티션 (순서 키의 해시)',
     `event_type` VARCHAR(100) NOT NULL COMMENT '이벤트 타입 (예: LEDGER_POSTED)',
-    `payload` JSON NOT NULL COMMENT '직렬화된 이벤트 데이터',
+    `payload_codec` VARCHAR(20) NOT NULL COMMENT 'payload 직렬화 형식 (binary, json)',
+    `payload` BLOB NOT NULL COMMENT '직렬화된 이벤트 데이터',
     `status` VARCHAR(20) NOT NULL DEFAULT 'PENDING',
     `retry_count` INT NOT NULL DEFAULT 0,
     `created_at` DATETIME(6) NOT NULL,
     `processed_at` DATETIME(6) NULL,
-    INDEX `idx_outbox_status_created` (`status`, `created_at`)
+    PRIMARY KEY (`id`),
+    INDEX `idx_outbox_status_partition_created` (`status`, `partition_no`, `created_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci
+-- 일(UTC) 단위 RANGE 파티션. 경계값 = TsidGenerator.minIdAt(다음 날 00:00Z). pYYYYMMDD는 그 날의 이벤트를 담습니다.
+-- OutboxRetentionService가 p_max를 나누어 앞으로의 파티션을 미리 만들고, 보관 기간이 지났고 PENDING 이벤트가 없는 파티션을
+-- (FAILED 이벤트는 outbox_event_dead_letter로 복사한 뒤) DROP PARTITION으로 지웁니다. 남는 파티션 수가 보관 기간으로 정해지므로
+-- PENDING 조회 비용이 누적 이벤트 수와 관계없이 일정합니다.
+-- 처음에는 p_max만 있으므로 첫 rotate()는 REORGANIZE PARTITION p_max로 그때까지 쌓인 행을 모두 복사합니다. 테이블을 만든 직후
+-- 트래픽을 받기 전에 한 번 실행합니다. 날짜가 고정되어 곧 지나 버리므로 일 파티션을 이 파일에 미리 두지 않습니다.
+-- 기존 테이블은 ALTER TABLE `outbox_event` PARTITION BY RANGE (`id`) (...)로 한 번 재구성하며, 이때 오늘까지의 행을 담는 파티션과
+-- p_max를 함께 지정해 첫 rotate()가 기존 행을 다시 복사하지 않게 합니다.
+PARTITION BY RANGE (`id`) (
+    PARTITION `p_max` VALUES LESS THAN MAXVALUE
+);
+
+-- outbox_event_dead_letter: 발행할 수 없어 FAILED가 된 Outbox 이벤트 (수동 조치 대상)
+-- OutboxRetentionService가 outbox_event 일 파티션을 지우기 전에 그 파티션의 FAILED 이벤트를 복사합니다.
+CREATE TABLE IF NOT EXISTS `outbox_event_dead_letter` (
+    `id` BIGINT NOT NULL COMMENT 'outbox_event.id',
+    `aggregate_type` VARCHAR(50) NOT NULL,
+    `aggregate_id` BIGINT NOT NULL,
+    `partition_no` INT NOT NULL,
+    `event_type` VARCHAR(100) NOT NULL,
+    `payload_codec` VARCHAR(20) NOT NULL,
+    `payload` BLOB NOT NULL,
+    `retry_count` INT NOT NULL,
+    `created_at` DATETIME(6) NOT NULL,
+    `dead_lettered_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- outbox_partitions: Outbox 파티션별 발행 잠금 행
+-- relay는 파티션 행을 FOR UPDATE SKIP LOCKED로 잠근 동안에만 그 파티션의 이벤트를 발행합니다.
+-- 행은 기동 시 OutboxPartitionProvisioner가 만듭니다.
+CREATE TABLE IF NOT EXISTS `outbox_partitions` (
+    `partition_no` INT NOT NULL,
+    PRIMARY KEY (`partition_no`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- bulk_deposit_checkpoints: 대량 입금 배치의 커밋 위치 (재시작 시 next_index부터 이어서 처리)
+CREATE TABLE IF NOT EXISTS `bulk_deposit_checkpoints` (
+    `batch_id` VARCHAR(100) NOT NULL,
+    `next_index` INT NOT NULL,
+    `updated_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`batch_id`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- balance_checkpoints: 계좌 잔액 스냅샷 (amount = created_at <= checkpoint_at인 분개의 부호 있는 합계)
+-- 과거 시점 잔액 = 직전 체크포인트 + 이후 분개 합계
+CREATE TABLE IF NOT EXISTS `balance_checkpoints` (
+    `account_id` BIGINT NOT NULL,
+    `checkpoint_at` DATETIME(6) NOT NULL,
+    `amount` DECIMAL(19, 4) NOT NULL,
+    `created_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`account_id`, `checkpoint_at`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- reconciliation_partitions: 원장 대사의 계좌 ID 구간별 진행 위치 (재시작 시 last_account_id 다음부터 처리)
+CREATE TABLE IF NOT EXISTS `reconciliation_partitions` (
+    `run_id` VARCHAR(100) NOT NULL,
+    `partition_no` INT NOT NULL,
+    `last_account_id` BIGINT NOT NULL,
+    `to_account_id` BIGINT NOT NULL,
+    `completed` BOOLEAN NOT NULL,
+    `updated_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`run_id`, `partition_no`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- reconciliation_mismatches: balances 잔액과 분개 합계가 다른 계좌
+CREATE TABLE IF NOT EXISTS `reconciliation_mismatches` (
+    `id` BIGINT NOT NULL,
+    `run_id` VARCHAR(100) NOT NULL,
+    `account_id` BIGINT NOT NULL,
+    `balance_amount` DECIMAL(19, 4) NOT NULL,
+    `journal_amount` DECIMAL(19, 4) NOT NULL,
+    `last_transaction_id` BIGINT,
+    `detected_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`id`),
+    KEY `idx_run_id_account_id` (`run_id`, `account_id`)
 ) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
 
+-- journal_archives: 파일로 옮긴 journal_entries 월 파티션 목록
+--   WRITTEN  - 파일을 썼지만 파티션이 아직 남아 있음 (조회에 사용하지 않음)
+--   ARCHIVED - 조회가 보관 파일을 읽음
+CREATE TABLE IF NOT EXISTS `journal_archives` (
+    `partition_name` VARCHAR(20) NOT NULL,
+    `min_created_at` DATETIME(6) NOT NULL,
+    `max_created_at` DATETIME(6) NOT NULL,
+    `row_count` BIGINT NOT NULL,
+    `location` VARCHAR(500) NOT NULL,
+    `status` VARCHAR(20) NOT NULL,
+    `archived_at` DATETIME(6) NOT NULL,
+    PRIMARY KEY (`partition_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
+
+-- journal_archive_accounts: 보관 파티션별 계좌 요약 (합계 조회는 파일을 열지 않고 이 표로 처리합니다)
+-- block_offset: 보관 파일에서 계좌의 첫 분개가 들어 있는 gzip 블록의 시작 위치
+CREATE TABLE IF NOT EXISTS `journal_archive_accounts` (
+    `account_id` BIGINT NOT NULL,
+    `partition_name` VARCHAR(20) NOT NULL,
+    `amount` DECIMAL(19, 4) NOT NULL,
+    `first_created_at` DATETIME(6) NOT NULL,
+    `last_created_at` DATETIME(6) NOT NULL,
+    `block_offset` BIGINT NOT NULL,
+    PRIMARY KEY (`account_id`, `partition_name`),
+    KEY `idx_partition_name` (`partition_name`)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4 COLLATE=utf8mb4_unicode_ci;
@@ -0,0 +1,120 @@
+package com.securities.kuku.ledger.adapter.in.web;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.StatementUseCase;
+import com.securities.kuku.ledger.application.port.in.result.StatementLine;
+import com.securities.kuku.ledger.application.port.in.result.StatementPage;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+@WebMvcTest(StatementController.class)
+class StatementControllerTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-06T02:00:00Z");
+  private static final StatementLine LINE =
+      new StatementLine(
+          10L,
+          20L,
+          JournalEntry.EntryType.CREDIT,
+          Money.of(100),
+          Money.of(1100),
+          FIXED_TIME);
+
+  @Autowired private MockMvc mockMvc;
+
+  @MockitoBean private StatementUseCase statementUseCase;
+  @MockitoBean private Clock clock;
+
+  @Nested
+  @DisplayName("GET /api/v1/accounts/{accountId}/statement")
+  class GetStatement {
+
+    @Test
+    @DisplayName("거래내역 페이지와 다음 커서를 반환한다")
+    void success_returnsPage() throws Exception {
+      // Given
+      given(statementUseCase.getStatement(1L, "abc", 20))
+          .willReturn(new StatementPage(List.of(LINE), "next"));
+
+      // When & Then
+      mockMvc
+          .perform(get("/api/v1/accounts/1/statement").param("cursor", "abc").param("size", "20"))
+          .andExpect(status().isOk())
+          .andExpect(jsonPath("$.lines[0].journalEntryId").value(10))
+          .andExpect(jsonPath("$.lines[0].entryType").value("CREDIT"))
+          .andExpect(jsonPath("$.lines[0].balanceAfter").value(1100.0))
+          .andExpect(jsonPath("$.nextCursor").value("next"))
+          .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("잘못된 커서면 400 Bad Request를 반환한다")
+    void invalidCursor_returnsBadRequest() throws Exception {
+      // Given
+      given(clock.instant()).willReturn(FIXED_TIME);
+      given(statementUseCase.getStatement(eq(1L), eq("broken"), any(Integer.class)))
+          .willThrow(new IllegalArgumentException("Invalid statement cursor"));
+
+      // When & Then
+      mockMvc
+          .perform(get("/api/v1/accounts/1/statement").param("cursor", "broken"))
+          .andExpect(status().isBadRequest())
+          .andExpect(jsonPath("$.code").value("COMMON_002"))
+          .andExpect(jsonPath("$.message").value("Invalid statement cursor"));
+    }
+  }
+
+  @Test
+  @DisplayName("GET /api/v1/accounts/{accountId}/statement/export 는 CSV로 스트리밍한다")
+  void export_streamsCsv() throws Exception {
+    // Given
+    willAnswer(
+            invocation -> {
+              Consumer<StatementLine> sink = invocation.getArgument(1);
+              sink.accept(LINE);
+              return null;
+            })
+        .given(statementUseCase)
+        .exportStatement(eq(1L), any());
+
+    // When
+    MvcResult result =
+        mockMvc
+            .perform(get("/api/v1/accounts/1/statement/export"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+
+    // Then
+    mockMvc
+        .perform(asyncDispatch(result))
+        .andExpect(status().isOk())
+        .andExpect(content().contentTypeCompatibleWith("text/csv"))
+        .andExpect(
+            content()
+                .string(
+                    "journalEntryId,transactionId,entryType,amount,balanceAfter,createdAt\n"
+                        + "10,20,CREDIT,100.0000,1100.0000,2025-01-06T02:00:00Z\n"));
+  }
+}
@@ -0,0 +1,106 @@
+package com.securities.kuku.ledger.adapter.out.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class JournalArchiveFileTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T00:00:00Z");
+
+  @TempDir Path directory;
+
+  @Test
+  @DisplayName("계좌의 블록 위치부터 읽으면 그 계좌의 분개만 순서대로 돌려준다")
+  void read_returnsOnlyAccountEntries_fromBlockOffset() throws IOException {
+    // Given: 블록당 2행이므로 계좌마다 새 블록이 시작된다
+    Path path = directory.resolve("p202501.csv.gz");
+    List<Long> offsets = new ArrayList<>();
+    try (JournalArchiveFile.BlockWriter writer = JournalArchiveFile.create(path, 2)) {
+      for (long accountId = 1; accountId <= 3; accountId++) {
+        offsets.add(writer.startAccount());
+        writer.write(credit(accountId * 10, accountId, "100.5000", FIXED_TIME));
+        writer.write(debit(accountId * 10 + 1, accountId, "30", FIXED_TIME.plusSeconds(1)));
+      }
+    }
+
+    // When
+    List<JournalEntry> entries = JournalArchiveFile.read(path, offsets.get(1), 2L);
+
+    // Then
+    assertThat(offsets).doesNotHaveDuplicates().isSorted();
+    assertThat(entries)
+        .extracting(
+            JournalEntry::getId,
+            JournalEntry::getAccountId,
+            JournalEntry::getAmount,
+            JournalEntry::getEntryType,
+            JournalEntry::getCreatedAt)
+        .containsExactly(
+            tuple(
+                20L,
+                2L,
+                Money.of(new BigDecimal("100.5")),
+                JournalEntry.EntryType.CREDIT,
+                FIXED_TIME),
+            tuple(
+                21L,
+                2L,
+                Money.of(30),
+                JournalEntry.EntryType.DEBIT,
+                FIXED_TIME.plusSeconds(1)));
+  }
+
+  @Test
+  @DisplayName("블록이 차지 않으면 여러 계좌가 한 블록을 나눠 쓰고, 앞 계좌를 건너뛰어 읽는다")
+  void read_skipsPrecedingAccounts_inSharedBlock() throws IOException {
+    // Given
+    Path path = directory.resolve("p202502.csv.gz");
+    long firstOffset;
+    long secondOffset;
+    try (JournalArchiveFile.BlockWriter writer = JournalArchiveFile.create(path, 100)) {
+      firstOffset = writer.startAccount();
+      writer.write(credit(1L, 1L, "100", FIXED_TIME));
+      secondOffset = writer.startAccount();
+      writer.write(credit(2L, 2L, "200", FIXED_TIME));
+    }
+
+    // When
+    List<JournalEntry> entries = JournalArchiveFile.read(path, secondOffset, 2L);
+
+    // Then
+    assertThat(secondOffset).isEqualTo(firstOffset);
+    assertThat(entries).extracting(JournalEntry::getId).containsExactly(2L);
+  }
+
+  private static JournalEntry credit(Long id, Long accountId, String amount, Instant createdAt) {
+    return new JournalEntry(
+        id,
+        1L,
+        accountId,
+        Money.of(new BigDecimal(amount)),
+        JournalEntry.EntryType.CREDIT,
+        createdAt);
+  }
+
+  private static JournalEntry debit(Long id, Long accountId, String amount, Instant createdAt) {
+    return new JournalEntry(
+        id,
+        1L,
+        accountId,
+        Money.of(new BigDecimal(amount)),
+        JournalEntry.EntryType.DEBIT,
+        createdAt);
+  }
+}
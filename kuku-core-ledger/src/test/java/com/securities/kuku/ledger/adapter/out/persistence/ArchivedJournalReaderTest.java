@@ -0,0 +1,214 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.JournalArchivePort;
+import com.securities.kuku.ledger.domain.JournalArchive;
+import com.securities.kuku.ledger.domain.JournalArchiveAccount;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ArchivedJournalReaderTest {
+
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Instant JAN_2025 = Instant.parse("2025-01-01T00:00:00Z");
+  private static final Instant FEB_2025 = Instant.parse("2025-02-01T00:00:00Z");
+  private static final Instant MAR_2025 = Instant.parse("2025-03-01T00:00:00Z");
+
+  private static final JournalArchive JANUARY = archived("p202501", JAN_2025, FEB_2025);
+  private static final JournalArchive FEBRUARY = archived("p202502", FEB_2025, MAR_2025);
+
+  private ArchivedJournalReader sut;
+
+  private JournalArchivePort journalArchivePort;
+
+  @BeforeEach
+  void setUp() {
+    journalArchivePort = mock(JournalArchivePort.class);
+    sut = new ArchivedJournalReader(journalArchivePort);
+  }
+
+  @Nested
+  @DisplayName("sumSignedAmount")
+  class SumSignedAmount {
+
+    @Test
+    @DisplayName("보관된 적이 없으면 계좌 요약을 조회하지 않는다")
+    void returnsEmpty_withoutArchives() {
+      // Given
+      given(journalArchivePort.findArchives()).willReturn(List.of());
+
+      // When
+      Map<Long, Money> sums = sut.sumSignedAmount(List.of(ACCOUNT_ID), JAN_2025, MAR_2025);
+
+      // Then
+      assertThat(sums).isEmpty();
+      then(journalArchivePort).should(never()).findAccounts(any());
+    }
+
+    @Test
+    @DisplayName("구간이 계좌 요약을 모두 포함하면 파일을 읽지 않고 요약 합계를 쓴다")
+    void usesSummary_whenAccountWithinRange() {
+      // Given
+      given(journalArchivePort.findArchives()).willReturn(List.of(JANUARY));
+      given(journalArchivePort.findAccounts(List.of(ACCOUNT_ID)))
+          .willReturn(List.of(summary(JANUARY, "700", JAN_2025, JAN_2025.plusSeconds(60))));
+
+      // When
+      Map<Long, Money> sums =
+          sut.sumSignedAmount(List.of(ACCOUNT_ID), Instant.EPOCH, MAR_2025);
+
+      // Then
+      assertThat(sums.get(ACCOUNT_ID)).isEqualTo(Money.of(700));
+      then(journalArchivePort).should(never()).readEntries(any(), any());
+    }
+
+    @Test
+    @DisplayName("구간 경계가 계좌의 보관 분개 사이에 걸치면 파일을 읽어 구간 안의 분개만 더한다")
+    void readsFile_whenRangeSplitsAccount() {
+      // Given
+      Instant upTo = JAN_2025.plusSeconds(30);
+      JournalArchiveAccount account = summary(JANUARY, "700", JAN_2025, JAN_2025.plusSeconds(60));
+      given(journalArchivePort.findArchives()).willReturn(List.of(JANUARY));
+      given(journalArchivePort.findAccounts(List.of(ACCOUNT_ID))).willReturn(List.of(account));
+      given(journalArchivePort.readEntries(JANUARY, account))
+          .willReturn(
+              List.of(
+                  entry(1L, "1000", JournalEntry.EntryType.CREDIT, JAN_2025),
+                  entry(2L, "300", JournalEntry.EntryType.DEBIT, JAN_2025.plusSeconds(60))));
+
+      // When
+      Map<Long, Money> sums = sut.sumSignedAmount(List.of(ACCOUNT_ID), Instant.EPOCH, upTo);
+
+      // Then
+      assertThat(sums.get(ACCOUNT_ID)).isEqualTo(Money.of(1000));
+    }
+
+    @Test
+    @DisplayName("파일만 쓰고 ARCHIVED가 아닌 보관분은 무시한다")
+    void ignoresWrittenArchives() {
+      // Given
+      JournalArchive written =
+          new JournalArchive(
+              "p202501",
+              JAN_2025,
+              FEB_2025,
+              1,
+              "p202501.csv.gz",
+              JournalArchive.Status.WRITTEN,
+              FEB_2025);
+      given(journalArchivePort.findArchives()).willReturn(List.of(written));
+
+      // When
+      Map<Long, Money> sums =
+          sut.sumSignedAmount(List.of(ACCOUNT_ID), Instant.EPOCH, MAR_2025);
+
+      // Then
+      assertThat(sums).isEmpty();
+    }
+  }
+
+  @Nested
+  @DisplayName("mergeNewestFirst")
+  class MergeNewestFirst {
+
+    @Test
+    @DisplayName("라이브 분개 뒤에 보관 분개를 최신순으로 이어 붙이고, 월 경계에서 시각이 겹치면 병합한다")
+    void mergesLiveAndArchivedNewestFirst() {
+      // Given: 2월 보관분의 첫 분개(id=20)가 1월 보관분의 마지막 분개(id=12)보다 이르다
+      JournalArchiveAccount january = summary(JANUARY, "0", JAN_2025, FEB_2025.plusMillis(2));
+      JournalArchiveAccount february =
+          summary(FEBRUARY, "0", FEB_2025.plusMillis(1), FEB_2025.plusSeconds(10));
+      given(journalArchivePort.findArchives()).willReturn(List.of(JANUARY, FEBRUARY));
+      given(journalArchivePort.findAccounts(List.of(ACCOUNT_ID)))
+          .willReturn(List.of(january, february));
+      given(journalArchivePort.readEntries(JANUARY, january))
+          .willReturn(
+              List.of(
+                  entry(11L, "1", JournalEntry.EntryType.CREDIT, JAN_2025),
+                  entry(12L, "1", JournalEntry.EntryType.CREDIT, FEB_2025.plusMillis(2))));
+      given(journalArchivePort.readEntries(FEBRUARY, february))
+          .willReturn(
+              List.of(
+                  entry(20L, "1", JournalEntry.EntryType.CREDIT, FEB_2025.plusMillis(1)),
+                  entry(21L, "1", JournalEntry.EntryType.CREDIT, FEB_2025.plusSeconds(10))));
+      List<JournalEntry> live = List.of(entry(30L, "1", JournalEntry.EntryType.CREDIT, MAR_2025));
+
+      // When
+      List<JournalEntry> merged =
+          drain(sut.mergeNewestFirst(ACCOUNT_ID, live.iterator(), null, null));
+
+      // Then
+      assertThat(merged).extracting(JournalEntry::getId).containsExactly(30L, 21L, 12L, 20L, 11L);
+    }
+
+    @Test
+    @DisplayName("커서보다 앞선 보관 분개만 포함하고, 라이브 분개만으로 충분하면 보관 파일을 열지 않는다")
+    void filtersByCursor_andOpensArchivesLazily() {
+      // Given
+      JournalArchiveAccount january = summary(JANUARY, "0", JAN_2025, JAN_2025.plusSeconds(60));
+      given(journalArchivePort.findArchives()).willReturn(List.of(JANUARY));
+      given(journalArchivePort.findAccounts(List.of(ACCOUNT_ID))).willReturn(List.of(january));
+      given(journalArchivePort.readEntries(JANUARY, january))
+          .willReturn(
+              List.of(
+                  entry(11L, "1", JournalEntry.EntryType.CREDIT, JAN_2025),
+                  entry(12L, "1", JournalEntry.EntryType.CREDIT, JAN_2025.plusSeconds(60))));
+      List<JournalEntry> live = List.of(entry(30L, "1", JournalEntry.EntryType.CREDIT, MAR_2025));
+
+      // When
+      Iterator<JournalEntry> merged =
+          sut.mergeNewestFirst(ACCOUNT_ID, live.iterator(), JAN_2025.plusSeconds(60), 12L);
+      JournalEntry first = merged.next();
+
+      // Then
+      assertThat(first.getId()).isEqualTo(30L);
+      then(journalArchivePort).should(never()).readEntries(any(), any());
+      assertThat(drain(merged)).extracting(JournalEntry::getId).containsExactly(11L);
+    }
+  }
+
+  private static List<JournalEntry> drain(Iterator<JournalEntry> iterator) {
+    List<JournalEntry> entries = new ArrayList<>();
+    iterator.forEachRemaining(entries::add);
+    return entries;
+  }
+
+  private static JournalArchive archived(String partitionName, Instant min, Instant max) {
+    return new JournalArchive(
+        partitionName,
+        min,
+        max,
+        2,
+        partitionName + ".csv.gz",
+        JournalArchive.Status.ARCHIVED,
+        max);
+  }
+
+  private static JournalArchiveAccount summary(
+      JournalArchive archive, String amount, Instant first, Instant last) {
+    return new JournalArchiveAccount(
+        archive.partitionName(), ACCOUNT_ID, Money.of(new BigDecimal(amount)), first, last, 0L);
+  }
+
+  private static JournalEntry entry(
+      Long id, String amount, JournalEntry.EntryType entryType, Instant createdAt) {
+    return new JournalEntry(
+        id, 100L, ACCOUNT_ID, Money.of(new BigDecimal(amount)), entryType, createdAt);
+  }
+}
@@ -0,0 +1,200 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.config.BalanceCacheProperties;
+import com.securities.kuku.ledger.domain.Balance;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BalanceCacheTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Duration TIME_TO_LIVE = Duration.ofSeconds(5);
+
+  private MeterRegistry meterRegistry;
+  private MutableClock clock;
+  private BalanceCache sut;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    clock = new MutableClock(FIXED_TIME);
+    sut = newCache(3);
+  }
+
+  @Nested
+  @DisplayName("조회")
+  class Get {
+
+    @Test
+    @DisplayName("넣은 잔액을 version과 함께 돌려주고 적중/실패를 센다")
+    void returnsCachedBalanceAndCountsRequests() {
+      sut.get(ACCOUNT_ID);
+      sut.put(balance(ACCOUNT_ID, "1000", 3L), sut.beginLoad());
+
+      assertThat(sut.get(ACCOUNT_ID))
+          .hasValueSatisfying(balance -> assertThat(balance.getVersion()).isEqualTo(3L));
+      assertThat(count(BalanceCache.REQUESTS, "result", "hit")).isEqualTo(1.0);
+      assertThat(count(BalanceCache.REQUESTS, "result", "miss")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("timeToLive가 지난 항목은 만료되어 DB에서 다시 읽게 한다")
+    void expiresEntriesAfterTimeToLive() {
+      sut.put(balance(ACCOUNT_ID, "1000", 3L), sut.beginLoad());
+
+      clock.advance(TIME_TO_LIVE);
+
+      assertThat(sut.get(ACCOUNT_ID)).isEmpty();
+      assertThat(count(BalanceCache.EVICTIONS, "cause", "expired")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("크기를 넘으면 가장 오래 쓰지 않은 계좌부터 밀어낸다")
+    void evictsLeastRecentlyUsed() {
+      for (long accountId = 1; accountId <= 3; accountId++) {
+        sut.put(balance(accountId, "1000", 1L), sut.beginLoad());
+      }
+      sut.get(1L);
+
+      sut.put(balance(4L, "1000", 1L), sut.beginLoad());
+
+      assertThat(sut.get(2L)).isEmpty();
+      assertThat(sut.get(1L)).isPresent();
+      assertThat(count(BalanceCache.EVICTIONS, "cause", "size")).isEqualTo(1.0);
+    }
+  }
+
+  @Nested
+  @DisplayName("무효화")
+  class Invalidate {
+
+    @Test
+    @DisplayName("쓰기 후에는 옛 잔액을 돌려주지 않는다")
+    void dropsEntryOnWrite() {
+      sut.put(balance(ACCOUNT_ID, "1000", 3L), sut.beginLoad());
+
+      sut.invalidate(List.of(ACCOUNT_ID));
+
+      assertThat(sut.get(ACCOUNT_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("쓰기보다 먼저 시작한 조회의 결과는 넣지 않는다")
+    void rejectsLoadStartedBeforeWrite() {
+      long loadStamp = sut.beginLoad();
+      sut.invalidate(List.of(ACCOUNT_ID));
+
+      sut.put(balance(ACCOUNT_ID, "1000", 3L), loadStamp);
+
+      assertThat(sut.get(ACCOUNT_ID)).isEmpty();
+      assertThat(count(BalanceCache.STALE, "source", "load")).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("쓰기 뒤에 시작한 조회의 결과는 넣는다")
+    void acceptsLoadStartedAfterWrite() {
+      sut.invalidate(List.of(ACCOUNT_ID));
+      long loadStamp = sut.beginLoad();
+
+      sut.put(balance(ACCOUNT_ID, "1100", 4L), loadStamp);
+
+      assertThat(sut.get(ACCOUNT_ID))
+          .hasValueSatisfying(
+              balance -> assertThat(balance.getAmount()).isEqualTo(Money.of(1100)));
+    }
+
+    @Test
+    @DisplayName("무효화 표시가 밀려나도, 그보다 먼저 시작한 조회의 결과는 넣지 않는다")
+    void rejectsOldLoadAfterTombstoneEviction() {
+      long loadStamp = sut.beginLoad();
+      sut.invalidate(List.of(ACCOUNT_ID));
+      for (long accountId = 2; accountId <= 4; accountId++) {
+        sut.put(balance(accountId, "1000", 1L), sut.beginLoad());
+      }
+
+      sut.put(balance(ACCOUNT_ID, "1000", 3L), loadStamp);
+
+      assertThat(sut.get(ACCOUNT_ID)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("더 새 version이 들어 있으면 옛 version으로 덮어쓰지 않는다")
+    void keepsNewerVersion() {
+      sut.put(balance(ACCOUNT_ID, "1100", 4L), sut.beginLoad());
+
+      sut.put(balance(ACCOUNT_ID, "1000", 3L), sut.beginLoad());
+
+      assertThat(sut.get(ACCOUNT_ID))
+          .hasValueSatisfying(balance -> assertThat(balance.getVersion()).isEqualTo(4L));
+    }
+  }
+
+  @Test
+  @DisplayName("비활성화하면 넣어도 항상 실패로 돌려준다")
+  void disabledCacheNeverHits() {
+    BalanceCache disabled =
+        new BalanceCache(
+            new BalanceCacheProperties(false, 3, TIME_TO_LIVE), clock, new SimpleMeterRegistry());
+
+    disabled.put(balance(ACCOUNT_ID, "1000", 3L), disabled.beginLoad());
+
+    assertThat(disabled.get(ACCOUNT_ID)).isEmpty();
+  }
+
+  private BalanceCache newCache(int maximumSize) {
+    return new BalanceCache(
+        new BalanceCacheProperties(true, maximumSize, TIME_TO_LIVE), clock, meterRegistry);
+  }
+
+  private double count(String name, String tagKey, String tagValue) {
+    return meterRegistry.get(name).tag(tagKey, tagValue).counter().count();
+  }
+
+  private static Balance balance(Long accountId, String amount, long version) {
+    return new Balance(
+        accountId, Money.of(new BigDecimal(amount)), Money.ZERO, version, null, FIXED_TIME);
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
@@ -0,0 +1,93 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalEntryJpaEntity;
+import com.securities.kuku.ledger.application.port.in.BalanceAsOfUseCase;
+import com.securities.kuku.ledger.application.port.in.BalanceCheckpointUseCase;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/** 잔액 체크포인트 생성과 과거 시점 잔액 조회를 실제 DB 쿼리로 검증합니다. */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(LedgerTestFixture.class)
+class BalanceCheckpointIntegrationTest {
+
+  private static final Instant DAY_1 = Instant.parse("2025-03-29T06:00:00Z");
+  private static final Instant DAY_2 = Instant.parse("2025-03-30T06:00:00Z");
+  private static final Instant CUTOFF = Instant.parse("2025-03-30T15:00:00Z");
+  private static final Instant DAY_3 = Instant.parse("2025-03-31T06:00:00Z");
+
+  @Autowired private BalanceCheckpointUseCase balanceCheckpointUseCase;
+  @Autowired private BalanceAsOfUseCase balanceAsOfUseCase;
+  @Autowired private BalanceCheckpointPort balanceCheckpointPort;
+  @Autowired private LedgerTestFixture fixture;
+  @Autowired private EntityManager entityManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private Long accountId;
+
+  @BeforeEach
+  void setUp() {
+    accountId = fixture.createAccountWithBalance(Money.ZERO);
+    insertEntry(JournalEntry.createCredit(1L, accountId, Money.of(1000), DAY_1));
+    insertEntry(JournalEntry.createDebit(2L, accountId, Money.of(300), DAY_2));
+    insertEntry(JournalEntry.createCredit(3L, accountId, Money.of(50), DAY_3));
+  }
+
+  @AfterEach
+  void tearDown() {
+    transactionTemplate.executeWithoutResult(
+        status ->
+            entityManager
+                .createQuery("DELETE FROM BalanceCheckpointJpaEntity c WHERE c.accountId = :id")
+                .setParameter("id", accountId)
+                .executeUpdate());
+    fixture.cleanup(accountId);
+  }
+
+  @Test
+  @DisplayName("체크포인트는 시각까지의 분개 합계이고, 같은 시각으로 다시 실행해도 바뀌지 않는다")
+  void createCheckpoints_isIncrementalAndIdempotent() {
+    balanceCheckpointUseCase.createCheckpoints(CUTOFF);
+    balanceCheckpointUseCase.createCheckpoints(CUTOFF);
+
+    BalanceCheckpoint checkpoint = balanceCheckpointPort.findLatest(accountId, DAY_3).orElseThrow();
+    assertThat(checkpoint.getCheckpointAt()).isEqualTo(CUTOFF);
+    assertThat(checkpoint.getAmount()).isEqualTo(Money.of(700));
+  }
+
+  @Test
+  @DisplayName("과거 시점 잔액은 체크포인트 유무와 관계없이 전체 합산과 같다")
+  void getBalanceAsOf_matchesFullReplay() {
+    Money beforeCheckpoint = balanceAsOfUseCase.getBalanceAsOf(accountId, DAY_3);
+
+    balanceCheckpointUseCase.createCheckpoints(CUTOFF);
+
+    assertThat(beforeCheckpoint).isEqualTo(Money.of(750));
+    assertThat(balanceAsOfUseCase.getBalanceAsOf(accountId, DAY_3)).isEqualTo(Money.of(750));
+    assertThat(balanceAsOfUseCase.getBalanceAsOf(accountId, DAY_2)).isEqualTo(Money.of(700));
+    assertThat(balanceAsOfUseCase.getBalanceAsOf(accountId, DAY_1.minusSeconds(1)))
+        .isEqualTo(Money.ZERO);
+  }
+
+  private void insertEntry(JournalEntry entry) {
+    transactionTemplate.executeWithoutResult(
+        status -> entityManager.persist(JournalEntryJpaEntity.fromDomain(entry)));
+  }
+}
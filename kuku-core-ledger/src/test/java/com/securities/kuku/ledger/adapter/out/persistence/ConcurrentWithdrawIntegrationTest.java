@@ -2,13 +2,14 @@ package com.securities.kuku.ledger.adapter.out.persistence;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
 import com.securities.kuku.ledger.application.service.WithdrawService;
 import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
-import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
 import com.securities.kuku.ledger.test.support.ConcurrencyRunner.ExecutionResult;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
 import com.securities.kuku.ledger.test.support.LedgerTestFixture;
-import java.math.BigDecimal;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,8 +39,8 @@ class ConcurrentWithdrawIntegrationTest {
   @DisplayName("동시에 2개 스레드가 전체 잔액을 출금하면 하나만 성공해야 한다")
   void 동시_전액_출금시_하나만_성공해야_한다() {
     // Given: 잔액 1000원 계좌 생성
-    BigDecimal initialBalance = new BigDecimal("1000");
-    BigDecimal withdrawAmount = new BigDecimal("1000");
+    Money initialBalance = Money.of(1000);
+    Money withdrawAmount = Money.of(1000);
     accountId = fixture.createAccountWithBalance(initialBalance);
 
     // When: 2개 스레드가 동시 출금 (하나만 성공 기대)
@@ -65,7 +66,7 @@ class ConcurrentWithdrawIntegrationTest {
     assertThat(result.getExpectedFailureCount()).isEqualTo(1);
     assertThat(result.getSuccessCount() + result.getExpectedFailureCount()).isEqualTo(2);
 
-    fixture.assertBalance(accountId, BigDecimal.ZERO);
+    fixture.assertBalance(accountId, Money.ZERO);
     // Transaction 건수 및 총 금액 검증
     fixture.assertLedgerConsistency(accountId, 1, withdrawAmount);
   }
@@ -74,8 +75,8 @@ class ConcurrentWithdrawIntegrationTest {
   @DisplayName("10개 스레드가 동시에 100원씩 출금하면 데이터 정합성이 유지되어야 한다")
   void 다중_스레드_동시_출금시_데이터_정합성_유지() {
     // Given: 잔액 1000원 계좌 생성
-    BigDecimal initialBalance = new BigDecimal("1000");
-    BigDecimal withdrawAmount = new BigDecimal("100");
+    Money initialBalance = Money.of(1000);
+    Money withdrawAmount = Money.of(100);
     int threadCount = 10;
     accountId = fixture.createAccountWithBalance(initialBalance);
 
@@ -104,7 +105,7 @@ class ConcurrentWithdrawIntegrationTest {
 
     fixture.assertBalance(
         accountId,
-        initialBalance.subtract(withdrawAmount.multiply(new BigDecimal(result.getSuccessCount()))));
+        initialBalance.minus(withdrawAmount.times(Quantity.of(result.getSuccessCount()))));
     // Transaction 건수 및 총 금액 검증
     fixture.assertLedgerConsistency(accountId, result.getSuccessCount(), withdrawAmount);
   }
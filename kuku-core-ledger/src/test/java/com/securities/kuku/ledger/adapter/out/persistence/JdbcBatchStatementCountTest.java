@@ -0,0 +1,252 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalEntryJpaEntity;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.TransactionJpaEntity;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.DepositService;
+import com.securities.kuku.ledger.application.service.ReversalService;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 원장 쓰기 경로가 DB로 보내는 Statement 수를 측정합니다.
+ *
+ * <p>TSID 기반 ID와 JDBC 배치 설정이 적용되면, 여러 행을 저장하더라도 테이블당 하나의 배치 Statement로 전송되어야 합니다. 측정 결과는
+ * {@code docs/experiments/jdbc-batch-statement-count.md}에 정리되어 있습니다.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import(LedgerTestFixture.class)
+class JdbcBatchStatementCountTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Money INITIAL_BALANCE = Money.of(1000);
+  private static final Money ENTRY_AMOUNT = Money.of(100);
+
+  @Autowired private DepositService depositService;
+  @Autowired private ReversalService reversalService;
+  @Autowired private BalancePort balancePort;
+  @Autowired private TransactionPort transactionPort;
+  @Autowired private LedgerTestFixture fixture;
+  @Autowired private EntityManager entityManager;
+  @Autowired private EntityManagerFactory entityManagerFactory;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private Statistics statistics;
+
+  @BeforeEach
+  void setUp() {
+    statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+  }
+
+  @Test
+  @DisplayName("입금 1건은 조회 2회, INSERT 3회, UPDATE 1회의 Statement로 처리된다")
+  void deposit_usesSixStatements() {
+    Long accountId = fixture.createAccountWithBalance(INITIAL_BALANCE);
+    DepositCommand command =
+        DepositCommand.of(accountId, ENTRY_AMOUNT, fixture.generateBusinessRefId(accountId, 1L));
+
+    statistics.clear();
+    depositService.deposit(command);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(6);
+  }
+
+  @Test
+  @DisplayName("캐시에 잔액이 있으면 입금 1건은 잔액을 다시 읽지 않고 5개의 Statement로 처리된다")
+  void deposit_withCachedBalance_usesFiveStatements() {
+    Long accountId = fixture.createAccountWithBalance(INITIAL_BALANCE);
+    balancePort.findByAccountId(accountId);
+    DepositCommand command =
+        DepositCommand.of(accountId, ENTRY_AMOUNT, fixture.generateBusinessRefId(accountId, 1L));
+
+    statistics.clear();
+    depositService.deposit(command);
+
+    assertThat(statistics.getPrepareStatementCount()).isEqualTo(5);
+    fixture.assertBalance(accountId, INITIAL_BALANCE.plus(ENTRY_AMOUNT));
+  }
+
+  @Test
+  @DisplayName("잔액 여러 건 갱신은 행을 다시 읽지 않고 version 조건 UPDATE 배치로 처리된다")
+  void updateAll_doesNotReloadBalances() {
+    Set<Long> accountIds =
+        Set.of(
+            fixture.createAccountWithBalance(INITIAL_BALANCE),
+            fixture.createAccountWithBalance(INITIAL_BALANCE),
+            fixture.createAccountWithBalance(INITIAL_BALANCE));
+    List<Balance> deposited =
+        balancePort.findByAccountIds(accountIds).values().stream()
+            .map(balance -> balance.deposit(ENTRY_AMOUNT, 1L, FIXED_TIME))
+            .toList();
+
+    Money expectedAmount = INITIAL_BALANCE.plus(ENTRY_AMOUNT);
+
+    statistics.clear();
+    transactionTemplate.executeWithoutResult(status -> balancePort.updateAll(deposited));
+
+    // JDBC 배치는 Hibernate 통계에 잡히지 않으므로, Hibernate가 보낸 Statement가 없다는 것으로 다시 읽지 않았음을 확인합니다.
+    assertThat(statistics.getPrepareStatementCount()).isZero();
+    assertThat(balancePort.findByAccountIds(accountIds).values())
+        .hasSize(3)
+        .allSatisfy(
+            balance -> {
+              assertThat(balance.getAmount()).isEqualTo(expectedAmount);
+              assertThat(balance.getVersion()).isEqualTo(1L);
+              assertThat(balance.getUpdatedAt()).isEqualTo(FIXED_TIME);
+            });
+  }
+
+  @Test
+  @DisplayName("읽은 뒤 다른 쓰기로 version이 바뀐 잔액을 갱신하면 Optimistic Lock 충돌이 난다")
+  void update_withStaleVersion_throwsOptimisticLockingFailure() {
+    Long accountId = fixture.createAccountWithBalance(INITIAL_BALANCE);
+    Balance stale =
+        balancePort.findByAccountId(accountId).orElseThrow().deposit(ENTRY_AMOUNT, 1L, FIXED_TIME);
+    depositService.deposit(
+        DepositCommand.of(accountId, ENTRY_AMOUNT, fixture.generateBusinessRefId(accountId, 1L)));
+
+    assertThatThrownBy(
+            () -> transactionTemplate.executeWithoutResult(status -> balancePort.update(stale)))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThatThrownBy(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    status -> balancePort.updateAll(List.of(stale))))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    fixture.assertBalance(accountId, INITIAL_BALANCE.plus(ENTRY_AMOUNT));
+  }
+
+  @Test
+  @DisplayName("이미 확정된 거래를 PENDING 조건으로 다시 확정하면 Optimistic Lock 충돌이 난다")
+  void update_afterConcurrentConfirm_throwsOptimisticLockingFailure() {
+    Long transactionId = createPendingTransaction();
+    Transaction confirmed = transactionPort.findById(transactionId).orElseThrow().confirm();
+    transactionTemplate.executeWithoutResult(
+        status -> transactionPort.update(confirmed, TransactionStatus.PENDING));
+
+    assertThatThrownBy(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    status -> transactionPort.update(confirmed, TransactionStatus.PENDING)))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThatThrownBy(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    status ->
+                        transactionPort.updateAll(List.of(confirmed), TransactionStatus.PENDING)))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(transactionPort.findById(transactionId).orElseThrow().getStatus())
+        .isEqualTo(TransactionStatus.POSTED);
+  }
+
+  @Test
+  @DisplayName("여러 거래의 상태는 전달 순서와 관계없이 갱신되고, 이미 역분개된 거래는 충돌한다")
+  void updateAll_reversesPostedTransactionsOnce() {
+    Long first = createPostedTransactionWithEntries(1);
+    Long second = createPostedTransactionWithEntries(1);
+    List<Transaction> reversed =
+        List.of(
+            transactionPort.findById(second).orElseThrow().toReversed(),
+            transactionPort.findById(first).orElseThrow().toReversed());
+
+    transactionTemplate.executeWithoutResult(
+        status -> transactionPort.updateAll(reversed, TransactionStatus.POSTED));
+
+    assertThat(transactionPort.findByIds(Set.of(first, second)).values())
+        .extracting(Transaction::getStatus)
+        .containsOnly(TransactionStatus.REVERSED);
+    assertThatThrownBy(
+            () ->
+                transactionTemplate.executeWithoutResult(
+                    status -> transactionPort.updateAll(reversed, TransactionStatus.POSTED)))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+  }
+
+  @Test
+  @DisplayName("역분개 Statement 수는 분개 수와 관계없이 일정하다")
+  void reversal_statementCountDoesNotGrowWithJournalEntries() {
+    long twoEntries = measureReversalStatements(2);
+    long sixEntries = measureReversalStatements(6);
+
+    assertThat(sixEntries).isEqualTo(twoEntries);
+  }
+
+  private long measureReversalStatements(int entryCount) {
+    Long transactionId = createPostedTransactionWithEntries(entryCount);
+
+    statistics.clear();
+    reversalService.reverse(ReversalCommand.of(transactionId, "Statement count"));
+    return statistics.getPrepareStatementCount();
+  }
+
+  private Long createPendingTransaction() {
+    return transactionTemplate.execute(
+        status -> {
+          TransactionJpaEntity transaction =
+              TransactionJpaEntity.fromDomain(
+                  new Transaction(
+                      null,
+                      TransactionType.DEPOSIT,
+                      "Pending deposit",
+                      "pending-" + UUID.randomUUID(),
+                      TransactionStatus.PENDING,
+                      null,
+                      FIXED_TIME));
+          entityManager.persist(transaction);
+          return transaction.getId();
+        });
+  }
+
+  private Long createPostedTransactionWithEntries(int entryCount) {
+    List<Long> accountIds = new ArrayList<>();
+    for (int i = 0; i < entryCount; i++) {
+      accountIds.add(fixture.createAccountWithBalance(INITIAL_BALANCE));
+    }
+
+    return transactionTemplate.execute(
+        status -> {
+          TransactionJpaEntity transaction =
+              TransactionJpaEntity.fromDomain(
+                  Transaction.createDeposit(
+                      "Multi-leg deposit", "stmt-" + UUID.randomUUID(), FIXED_TIME));
+          entityManager.persist(transaction);
+          accountIds.forEach(
+              accountId ->
+                  entityManager.persist(
+                      JournalEntryJpaEntity.fromDomain(
+                          JournalEntry.createCredit(
+                              transaction.getId(), accountId, ENTRY_AMOUNT, FIXED_TIME))));
+          return transaction.getId();
+        });
+  }
+}
@@ -0,0 +1,93 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.service.DepositService;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import com.securities.kuku.ledger.domain.OutboxEventStatus;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "ledger.outbox.fast-path.enabled=true")
+@ActiveProfiles("test")
+@Import({LedgerTestFixture.class, OutboxFastPathIntegrationTest.PublishedEventRecorder.class})
+class OutboxFastPathIntegrationTest {
+
+  private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+  @Autowired private DepositService depositService;
+  @Autowired private TransactionJpaRepository transactionJpaRepository;
+  @Autowired private OutboxEventJpaRepository outboxEventJpaRepository;
+  @Autowired private MeterRegistry meterRegistry;
+  @Autowired private PublishedEventRecorder recorder;
+  @Autowired private LedgerTestFixture fixture;
+
+  private Long accountId;
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanup(accountId);
+  }
+
+  @Test
+  @DisplayName("폴링 relay 없이도 커밋 직후 이벤트를 발행하고 PROCESSED로 바꾼다")
+  void publishesRightAfterCommitWithoutPolling() throws InterruptedException {
+    accountId = fixture.createAccountWithBalance(Money.of(1000));
+    String businessRefId = fixture.generateBusinessRefId(accountId, 1L);
+
+    depositService.deposit(DepositCommand.of(accountId, Money.of(100), businessRefId));
+
+    Long transactionId =
+        transactionJpaRepository.findByBusinessRefId(businessRefId).orElseThrow().getId();
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+    while (statusOf(transactionId) != OutboxEventStatus.PROCESSED
+        && System.nanoTime() < deadline) {
+      Thread.sleep(20);
+    }
+
+    assertThat(statusOf(transactionId)).isEqualTo(OutboxEventStatus.PROCESSED);
+    assertThat(recorder.publishedAggregateIds).contains(transactionId);
+    assertThat(
+            meterRegistry
+                .get("ledger.outbox.publish.latency")
+                .tag("path", "fast_path")
+                .timer()
+                .count())
+        .isPositive();
+  }
+
+  private OutboxEventStatus statusOf(Long transactionId) {
+    return outboxEventJpaRepository.findAll().stream()
+        .filter(event -> transactionId.equals(event.getAggregateId()))
+        .map(OutboxEventJpaEntity::getStatus)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  /** 기본 발행 구현이 내보내는 Spring 이벤트의 집합체 ID를 모읍니다. */
+  @TestConfiguration
+  static class PublishedEventRecorder {
+
+    private final Set<Long> publishedAggregateIds = ConcurrentHashMap.newKeySet();
+
+    @EventListener
+    void onPublished(OutboxEvent event) {
+      publishedAggregateIds.add(event.getAggregateId());
+    }
+  }
+}
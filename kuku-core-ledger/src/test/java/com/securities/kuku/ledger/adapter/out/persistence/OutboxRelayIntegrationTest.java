@@ -0,0 +1,155 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.ledger.adapter.out.persistence.entity.OutboxEventJpaEntity;
+import com.securities.kuku.ledger.application.port.out.OutboxEventPort;
+import com.securities.kuku.ledger.application.service.outbox.OutboxRelayBatchProcessor;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import com.securities.kuku.ledger.domain.OutboxEventStatus;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner.ExecutionResult;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.event.EventListener;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(OutboxRelayIntegrationTest.PublishedEventRecorder.class)
+class OutboxRelayIntegrationTest {
+
+  private static final String AGGREGATE_TYPE = "RELAY_TEST";
+  private static final int KEY_COUNT = 20;
+  private static final int EVENTS_PER_KEY = 50;
+  private static final int EVENT_COUNT = KEY_COUNT * EVENTS_PER_KEY;
+  private static final Duration TIMEOUT = Duration.ofSeconds(20);
+
+  @Autowired private OutboxRelayBatchProcessor batchProcessor;
+  @Autowired private OutboxEventPort outboxEventPort;
+  @Autowired private OutboxEventJpaRepository repository;
+  @Autowired private PublishedEventRecorder recorder;
+
+  @AfterEach
+  void tearDown() {
+    repository.deleteAll(ownEvents());
+    recorder.clear();
+  }
+
+  @Test
+  @DisplayName("lane 수가 다른 두 relay가 함께 돌아도 순서 키마다 생성 순서대로 한 번씩 발행된다")
+  void publishesEachKeyInCreationOrderAcrossDifferentLaneCounts() {
+    saveInterleavedEvents();
+
+    // 4 lane 인스턴스와 3 lane 인스턴스가 같은 파티션을 두고 함께 relay합니다 (lane 수 변경 중 롤링 배포).
+    List<List<Integer>> lanes = new ArrayList<>();
+    lanes.addAll(lanesOf(4));
+    lanes.addAll(lanesOf(3));
+    AtomicInteger nextLane = new AtomicInteger();
+    long deadline = System.nanoTime() + TIMEOUT.toNanos();
+
+    ExecutionResult result =
+        ConcurrencyRunner.run(
+            lanes.size(),
+            () -> {
+              List<Integer> partitionNos = lanes.get(nextLane.getAndIncrement());
+              while (recorder.publishedCount() < EVENT_COUNT && System.nanoTime() < deadline) {
+                batchProcessor.relay(partitionNos);
+              }
+            });
+
+    result.assertNoUnexpectedExceptions();
+    assertThat(recorder.publishedByKey).hasSize(KEY_COUNT);
+    List<Long> expectedSequence = LongStream.range(0, EVENTS_PER_KEY).boxed().toList();
+    recorder.publishedByKey.forEach(
+        (key, sequence) -> assertThat(sequence).as("key %d", key).isEqualTo(expectedSequence));
+    assertThat(ownEvents())
+        .hasSize(EVENT_COUNT)
+        .allMatch(event -> event.getStatus() == OutboxEventStatus.PROCESSED);
+  }
+
+  // 키마다 순번 0..49의 이벤트를 만들되, 생성 시각은 키를 번갈아 가며 늘어나게 합니다.
+  private void saveInterleavedEvents() {
+    Instant base = Instant.parse("2025-01-01T03:00:00Z");
+    List<OutboxEvent> events = new ArrayList<>(EVENT_COUNT);
+    for (int seq = 0; seq < EVENTS_PER_KEY; seq++) {
+      for (long key = 0; key < KEY_COUNT; key++) {
+        events.add(
+            OutboxEvent.create(
+                AGGREGATE_TYPE,
+                aggregateId(key, seq),
+                key,
+                "LEDGER_POSTED",
+                "json",
+                "{}".getBytes(StandardCharsets.UTF_8),
+                base.plusMillis(seq * KEY_COUNT + key)));
+      }
+    }
+    outboxEventPort.saveAll(events);
+  }
+
+  private static List<List<Integer>> lanesOf(int laneCount) {
+    return IntStream.range(0, laneCount)
+        .mapToObj(
+            lane ->
+                IntStream.range(0, OutboxEvent.PARTITION_COUNT)
+                    .filter(partitionNo -> partitionNo % laneCount == lane)
+                    .boxed()
+                    .toList())
+        .toList();
+  }
+
+  private static long aggregateId(long key, int seq) {
+    return key * 1_000 + seq;
+  }
+
+  private List<OutboxEventJpaEntity> ownEvents() {
+    return repository.findAll().stream()
+        .filter(event -> AGGREGATE_TYPE.equals(event.getAggregateType()))
+        .toList();
+  }
+
+  /** 기본 발행 구현이 내보내는 Spring 이벤트를 순서 키별로 발행 순서대로 기록합니다. */
+  @TestConfiguration
+  static class PublishedEventRecorder {
+
+    private final Map<Long, List<Long>> publishedByKey = new ConcurrentHashMap<>();
+    private final AtomicInteger publishedCount = new AtomicInteger();
+
+    @EventListener
+    void onPublished(OutboxEvent event) {
+      if (AGGREGATE_TYPE.equals(event.getAggregateType())) {
+        long key = event.getAggregateId() / 1_000;
+        publishedByKey
+            .computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+            .add(event.getAggregateId() % 1_000);
+        publishedCount.incrementAndGet();
+      }
+    }
+
+    int publishedCount() {
+      return publishedCount.get();
+    }
+
+    void clear() {
+      publishedByKey.clear();
+      publishedCount.set(0);
+    }
+  }
+}
@@ -0,0 +1,94 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalEntryJpaEntity;
+import com.securities.kuku.ledger.application.port.in.ReconciliationUseCase;
+import com.securities.kuku.ledger.application.port.in.result.ReconciliationResult;
+import com.securities.kuku.ledger.application.port.out.ReconciliationPort;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.ReconciliationMismatch;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 원장 대사를 실제 DB에서 검증합니다.
+ *
+ * <p>같은 DB를 쓰는 다른 테스트의 계좌도 함께 대사되므로, 이 테스트가 만든 계좌의 결과만 확인합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(LedgerTestFixture.class)
+class ReconciliationIntegrationTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+
+  @Autowired private ReconciliationUseCase reconciliationUseCase;
+  @Autowired private ReconciliationPort reconciliationPort;
+  @Autowired private LedgerTestFixture fixture;
+  @Autowired private EntityManager entityManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private Long consistentAccountId;
+  private Long brokenAccountId;
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanup(consistentAccountId);
+    fixture.cleanup(brokenAccountId);
+  }
+
+  @Test
+  @DisplayName("잔액이 분개 합계와 다른 계좌만 불일치로 기록하고, 다시 실행하면 완료된 실행으로 끝난다")
+  void reconcile_reportsOnlyBrokenAccount() {
+    // Given: 분개 합계 700. 한 계좌는 잔액 700, 다른 계좌는 잔액 1000
+    consistentAccountId = fixture.createAccountWithBalance(Money.of(700));
+    brokenAccountId = fixture.createAccountWithBalance(Money.of(1000));
+    insertEntries(consistentAccountId);
+    insertEntries(brokenAccountId);
+    String runId = "it-" + UUID.randomUUID();
+
+    // When
+    ReconciliationResult first = reconciliationUseCase.reconcile(runId);
+    ReconciliationResult resumed = reconciliationUseCase.reconcile(runId);
+
+    // Then
+    List<ReconciliationMismatch> mismatches = reconciliationPort.findMismatches(runId);
+    assertThat(mismatches)
+        .extracting(ReconciliationMismatch::accountId)
+        .contains(brokenAccountId)
+        .doesNotContain(consistentAccountId);
+    ReconciliationMismatch broken =
+        mismatches.stream()
+            .filter(mismatch -> mismatch.accountId().equals(brokenAccountId))
+            .findFirst()
+            .orElseThrow();
+    assertThat(broken.journalAmount()).isEqualTo(Money.of(700));
+    assertThat(first.failedPartitions()).isZero();
+    assertThat(resumed.checkedAccounts()).isZero();
+  }
+
+  private void insertEntries(Long accountId) {
+    transactionTemplate.executeWithoutResult(
+        status -> {
+          entityManager.persist(
+              JournalEntryJpaEntity.fromDomain(
+                  JournalEntry.createCredit(1L, accountId, Money.of(1000), FIXED_TIME)));
+          entityManager.persist(
+              JournalEntryJpaEntity.fromDomain(
+                  JournalEntry.createDebit(2L, accountId, Money.of(300), FIXED_TIME)));
+        });
+  }
+}
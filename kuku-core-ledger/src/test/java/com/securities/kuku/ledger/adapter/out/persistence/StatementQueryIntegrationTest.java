@@ -0,0 +1,97 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.JournalEntryJpaEntity;
+import com.securities.kuku.ledger.application.port.in.StatementUseCase;
+import com.securities.kuku.ledger.application.port.in.result.StatementLine;
+import com.securities.kuku.ledger.application.port.in.result.StatementPage;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import jakarta.persistence.EntityManager;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 거래내역 keyset 페이지네이션을 실제 DB에서 검증합니다.
+ *
+ * <p>같은 {@code createdAt}을 가진 분개가 페이지 경계에 걸쳐도 {@code id}로 순서가 갈리므로 누락·중복 없이 이어져야 합니다.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Import(LedgerTestFixture.class)
+class StatementQueryIntegrationTest {
+
+  private static final Instant BASE_TIME = Instant.parse("2025-01-01T00:00:00Z");
+  private static final int ENTRY_COUNT = 7;
+  private static final Money ENTRY_AMOUNT = Money.of(100);
+
+  @Autowired private StatementUseCase statementUseCase;
+  @Autowired private LedgerTestFixture fixture;
+  @Autowired private EntityManager entityManager;
+  @Autowired private TransactionTemplate transactionTemplate;
+
+  private Long accountId;
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanup(accountId);
+  }
+
+  @Test
+  @DisplayName("페이지를 끝까지 넘기면 모든 분개를 한 번씩 최신순으로 읽고, 가장 오래된 분개 이전 잔액은 0이 된다")
+  void pagesThroughAllEntriesWithRunningBalance() {
+    // Given: 잔액 = 분개 합계, createdAt은 두 건씩 같음
+    accountId =
+        fixture.createAccountWithBalance(ENTRY_AMOUNT.times(Quantity.of(ENTRY_COUNT)));
+    List<Long> insertedIds = insertCreditEntries();
+
+    // When
+    List<StatementLine> lines = new ArrayList<>();
+    String cursor = null;
+    do {
+      StatementPage page = statementUseCase.getStatement(accountId, cursor, 3);
+      lines.addAll(page.lines());
+      cursor = page.nextCursor();
+    } while (cursor != null);
+
+    // Then
+    assertThat(lines)
+        .extracting(StatementLine::journalEntryId)
+        .containsExactlyInAnyOrderElementsOf(insertedIds)
+        .doesNotHaveDuplicates();
+    assertThat(lines)
+        .extracting(StatementLine::createdAt)
+        .isSortedAccordingTo(Comparator.reverseOrder());
+    StatementLine oldest = lines.get(lines.size() - 1);
+    assertThat(oldest.balanceAfter().minus(oldest.amount())).isEqualTo(Money.ZERO);
+  }
+
+  private List<Long> insertCreditEntries() {
+    return transactionTemplate.execute(
+        status -> {
+          List<Long> ids = new ArrayList<>();
+          for (int i = 0; i < ENTRY_COUNT; i++) {
+            Instant createdAt = BASE_TIME.plusSeconds(i / 2);
+            JournalEntryJpaEntity entity =
+                JournalEntryJpaEntity.fromDomain(
+                    JournalEntry.createCredit(1000L + i, accountId, ENTRY_AMOUNT, createdAt));
+            entityManager.persist(entity);
+            ids.add(entity.getId());
+          }
+          return ids;
+        });
+  }
+}
@@ -0,0 +1,119 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.service.DepositService;
+import com.securities.kuku.ledger.application.service.WithdrawService;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner.ExecutionResult;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 슬롯 합치기와 조건부 출금이 동시에 실행될 때의 MySQL(InnoDB) 동작을 검증합니다.
+ *
+ * <p>합치기는 슬롯 금액을 {@code balances} 행으로 옮기고 슬롯을 0으로 되돌립니다. 출금이 슬롯을 잠그지 않고 합계를 읽으면 옮기기 전 슬롯 합계와
+ * 옮긴 뒤의 {@code balances} 행을 함께 더해 가용 잔액을 두 번 셀 수 있으므로, 잠금 동작이 H2와 다른 실제 MySQL에서 확인합니다.
+ */
+@SpringBootTest(
+    properties = {
+      "ledger.balance.update-mode=conditional",
+      "ledger.balance.striping.accounts.900002=4"
+    })
+@ActiveProfiles("test")
+@Testcontainers(disabledWithoutDocker = true)
+@Import(LedgerTestFixture.class)
+class StripedBalanceConsolidationMySqlTest {
+
+  private static final Long STRIPED_ACCOUNT_ID = 900002L;
+  private static final Money AMOUNT = Money.of(100);
+  private static final int DEPOSIT_COUNT = 10;
+
+  @Container static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0");
+
+  @DynamicPropertySource
+  static void mysqlProperties(DynamicPropertyRegistry registry) {
+    registry.add("spring.datasource.url", MYSQL::getJdbcUrl);
+    registry.add("spring.datasource.username", MYSQL::getUsername);
+    registry.add("spring.datasource.password", MYSQL::getPassword);
+    registry.add("spring.datasource.driver-class-name", () -> "com.mysql.cj.jdbc.Driver");
+    registry.add(
+        "spring.jpa.properties.hibernate.dialect", () -> "org.hibernate.dialect.MySQLDialect");
+  }
+
+  @Autowired private DepositService depositService;
+  @Autowired private WithdrawService withdrawService;
+  @Autowired private BalancePort balancePort;
+  @Autowired private BalanceSlotConsolidator balanceSlotConsolidator;
+  @Autowired private LedgerTestFixture fixture;
+
+  @BeforeEach
+  void setUp() {
+    // balances 행 0 + 슬롯 합계 1000
+    fixture.createAccountWithBalance(STRIPED_ACCOUNT_ID, Money.ZERO);
+    for (int i = 0; i < DEPOSIT_COUNT; i++) {
+      depositService.deposit(
+          DepositCommand.of(
+              STRIPED_ACCOUNT_ID,
+              AMOUNT,
+              "Striped deposit",
+              fixture.generateBusinessRefId(STRIPED_ACCOUNT_ID, 1_000L + i)));
+    }
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanup(STRIPED_ACCOUNT_ID);
+  }
+
+  @Test
+  @DisplayName("합치기와 출금이 동시에 실행되어도 논리 잔액을 넘는 출금은 성공하지 않고 교착 상태도 생기지 않는다")
+  void concurrentConsolidationAndWithdrawals_doNotOverdraw() {
+    // When: 10개 스레드는 합치기, 20개 스레드는 100원씩 출금
+    AtomicInteger sequence = new AtomicInteger();
+    AtomicInteger withdrawn = new AtomicInteger();
+    ExecutionResult result =
+        ConcurrencyRunner.run(
+            30,
+            () -> {
+              int n = sequence.incrementAndGet();
+              if (n % 3 == 0) {
+                balanceSlotConsolidator.consolidate(STRIPED_ACCOUNT_ID);
+                return;
+              }
+              withdrawService.withdraw(
+                  WithdrawCommand.of(
+                      STRIPED_ACCOUNT_ID,
+                      AMOUNT,
+                      "Striped withdraw",
+                      fixture.generateBusinessRefId(STRIPED_ACCOUNT_ID, n)));
+              withdrawn.incrementAndGet();
+            },
+            InsufficientBalanceException.class);
+
+    // Then
+    result.assertNoUnexpectedExceptions();
+    assertThat(withdrawn.get()).isEqualTo(DEPOSIT_COUNT);
+    assertThat(result.getExpectedFailureCount()).isEqualTo(20 - DEPOSIT_COUNT);
+    assertThat(balancePort.findByAccountId(STRIPED_ACCOUNT_ID).orElseThrow().getAmount())
+        .isEqualTo(Money.ZERO);
+  }
+}
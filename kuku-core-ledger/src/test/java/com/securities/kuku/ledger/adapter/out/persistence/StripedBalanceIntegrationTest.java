@@ -0,0 +1,168 @@
+package com.securities.kuku.ledger.adapter.out.persistence;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
+import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceSlotJpaEntity;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.service.DepositService;
+import com.securities.kuku.ledger.application.service.WithdrawService;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner.ExecutionResult;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import com.securities.kuku.ledger.test.support.RetryCounter;
+import java.math.BigDecimal;
+import java.util.Set;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+@SpringBootTest(properties = "ledger.balance.striping.accounts.900001=4")
+@ActiveProfiles("test")
+@Import({LedgerTestFixture.class, RetryCounter.class})
+class StripedBalanceIntegrationTest {
+
+  private static final Long STRIPED_ACCOUNT_ID = 900001L;
+  private static final Money INITIAL_BALANCE = Money.of(1000);
+  private static final Money AMOUNT = Money.of(100);
+
+  @Autowired private DepositService depositService;
+  @Autowired private WithdrawService withdrawService;
+  @Autowired private BalancePort balancePort;
+  @Autowired private BalanceSlotJpaRepository balanceSlotJpaRepository;
+  @Autowired private BalanceSlotConsolidator balanceSlotConsolidator;
+  @Autowired private LedgerTestFixture fixture;
+  @Autowired private RetryCounter retryCounter;
+
+  @BeforeEach
+  void setUp() {
+    fixture.createAccountWithBalance(STRIPED_ACCOUNT_ID, INITIAL_BALANCE);
+    retryCounter.reset();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanup(STRIPED_ACCOUNT_ID);
+  }
+
+  @Test
+  @DisplayName("기동 시 설정한 수만큼 슬롯이 만들어진다")
+  void slotsAreProvisioned() {
+    assertThat(balanceSlotJpaRepository.findByAccountId(STRIPED_ACCOUNT_ID)).hasSize(4);
+  }
+
+  @Test
+  @DisplayName("입금은 balances 행이 아니라 슬롯에 반영되고, 조회 시 합산된 잔액이 보인다")
+  void deposit_goesToSlot_andReadHidesStriping() {
+    // When
+    deposit(1L);
+
+    // Then
+    fixture.assertBalance(STRIPED_ACCOUNT_ID, INITIAL_BALANCE);
+    assertThat(slotTotal()).isEqualByComparingTo(AMOUNT.toBigDecimal());
+    assertThat(logicalBalance().getAmount()).isEqualTo(INITIAL_BALANCE.plus(AMOUNT));
+    assertThat(balancePort.findByAccountIds(Set.of(STRIPED_ACCOUNT_ID)).get(STRIPED_ACCOUNT_ID))
+        .extracting(Balance::getAmount)
+        .isEqualTo(INITIAL_BALANCE.plus(AMOUNT));
+  }
+
+  @Test
+  @DisplayName("동시 입금은 슬롯으로 분산되어 Optimistic Lock 충돌 없이 모두 반영된다")
+  void concurrentDeposits_doNotConflict() {
+    // When
+    int threadCount = 20;
+    ExecutionResult result =
+        ConcurrencyRunner.run(threadCount, () -> deposit(Thread.currentThread().threadId()));
+
+    // Then
+    result.assertNoUnexpectedExceptions();
+    assertThat(result.getSuccessCount()).isEqualTo(threadCount);
+    assertThat(retryCounter.getLockConflicts()).isZero();
+    assertThat(logicalBalance().getAmount())
+        .isEqualTo(INITIAL_BALANCE.plus(AMOUNT.times(Quantity.of(threadCount))));
+    assertThat(balanceSlotJpaRepository.findByAccountId(STRIPED_ACCOUNT_ID))
+        .filteredOn(slot -> slot.getAmount().signum() > 0)
+        .hasSizeGreaterThan(1);
+  }
+
+  @Test
+  @DisplayName("출금은 슬롯 합계까지 포함한 논리 잔액으로 검증한다")
+  void withdraw_usesLogicalBalance() {
+    // Given: balances 1000 + 슬롯 100
+    deposit(1L);
+
+    // When
+    withdraw(2L, Money.of(1100));
+
+    // Then
+    assertThat(logicalBalance().getAmount()).isEqualTo(Money.ZERO);
+  }
+
+  @Test
+  @DisplayName("논리 잔액을 넘는 출금은 실패한다")
+  void withdraw_throwsException_whenLogicalBalanceInsufficient() {
+    // Given
+    deposit(1L);
+
+    // When & Then
+    assertThatThrownBy(() -> withdraw(2L, Money.of(1101)))
+        .isInstanceOf(InsufficientBalanceException.class);
+    assertThat(logicalBalance().getAmount()).isEqualTo(INITIAL_BALANCE.plus(AMOUNT));
+  }
+
+  @Test
+  @DisplayName("슬롯을 합치면 balances 행으로 옮겨지고 논리 잔액은 그대로다")
+  void consolidate_movesSlotsIntoBalanceRow() {
+    // Given
+    deposit(1L);
+    deposit(2L);
+
+    // When
+    Money moved = balanceSlotConsolidator.consolidate(STRIPED_ACCOUNT_ID);
+
+    // Then
+    assertThat(moved).isEqualTo(AMOUNT.plus(AMOUNT));
+    assertThat(slotTotal()).isEqualByComparingTo(BigDecimal.ZERO);
+    fixture.assertBalance(STRIPED_ACCOUNT_ID, INITIAL_BALANCE.plus(moved));
+    assertThat(logicalBalance().getAmount()).isEqualTo(INITIAL_BALANCE.plus(moved));
+  }
+
+  private void deposit(long sequence) {
+    depositService.deposit(
+        DepositCommand.of(
+            STRIPED_ACCOUNT_ID,
+            AMOUNT,
+            "Striped deposit",
+            fixture.generateBusinessRefId(STRIPED_ACCOUNT_ID, sequence)));
+  }
+
+  private void withdraw(long sequence, Money amount) {
+    withdrawService.withdraw(
+        WithdrawCommand.of(
+            STRIPED_ACCOUNT_ID,
+            amount,
+            "Striped withdraw",
+            fixture.generateBusinessRefId(STRIPED_ACCOUNT_ID, sequence)));
+  }
+
+  private Balance logicalBalance() {
+    return balancePort.findByAccountId(STRIPED_ACCOUNT_ID).orElseThrow();
+  }
+
+  private BigDecimal slotTotal() {
+    return balanceSlotJpaRepository.findByAccountId(STRIPED_ACCOUNT_ID).stream()
+        .map(BalanceSlotJpaEntity::getAmount)
+        .reduce(BigDecimal.ZERO, BigDecimal::add);
+  }
+}
@@ -0,0 +1,174 @@
+package com.securities.kuku.ledger.adapter.out.wal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.config.LedgerLogProperties;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import com.securities.kuku.ledger.domain.TransactionType;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+class MappedLedgerLogTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_ID = 1L;
+
+  @TempDir Path directory;
+
+  private MappedLedgerLog sut;
+
+  @AfterEach
+  void tearDown() throws InterruptedException {
+    if (sut != null) {
+      sut.close();
+    }
+  }
+
+  @Test
+  @DisplayName("덧붙인 기록은 순번이 매겨지고 반영 대기열로 같은 순서로 나온다")
+  void append_assignsSequenceAndQueuesInOrder() throws InterruptedException {
+    sut = open(DataSize.ofMegabytes(1));
+    sut.recover();
+
+    LedgerLogRecord first = sut.append(deposit("ref-1", "100"));
+    LedgerLogRecord second = sut.append(withdraw("ref-2", "30"));
+    sut.awaitDurable(second.sequence());
+
+    assertThat(first.sequence()).isEqualTo(1L);
+    assertThat(second.sequence()).isEqualTo(2L);
+    assertThat(sut.takeAppended(10, Duration.ofMillis(10)))
+        .extracting(LedgerLogRecord::sequence, LedgerLogRecord::businessRefId)
+        .containsExactly(tuple(1L, "ref-1"), tuple(2L, "ref-2"));
+  }
+
+  @Test
+  @DisplayName("재기동하면 반영 위치 이후의 기록만 돌려주고 순번을 이어서 매긴다")
+  void recover_returnsRecordsAfterAppliedCheckpoint() throws InterruptedException {
+    sut = open(DataSize.ofMegabytes(1));
+    sut.recover();
+    sut.append(deposit("ref-1", "100"));
+    sut.append(deposit("ref-2", "200"));
+    LedgerLogRecord last = sut.append(withdraw("ref-3", "50"));
+    sut.awaitDurable(last.sequence());
+    sut.markApplied(1L);
+    sut.close();
+
+    sut = open(DataSize.ofMegabytes(1));
+    List<LedgerLogRecord> unapplied = sut.recover();
+    LedgerLogRecord next = sut.append(deposit("ref-4", "10"));
+
+    assertThat(unapplied)
+        .extracting(LedgerLogRecord::sequence, LedgerLogRecord::type, LedgerLogRecord::amount)
+        .containsExactly(
+            tuple(2L, TransactionType.DEPOSIT, Money.of(200)),
+            tuple(3L, TransactionType.WITHDRAWAL, Money.of(50)));
+    assertThat(next.sequence()).isEqualTo(4L);
+  }
+
+  @Test
+  @DisplayName("마지막 기록이 중간에 끊겼으면 그 기록부터 버리고 그 자리에 이어서 쓴다")
+  void recover_discardsTornTail() throws IOException, InterruptedException {
+    sut = open(DataSize.ofMegabytes(1));
+    sut.recover();
+    sut.append(deposit("ref-1", "100"));
+    LedgerLogRecord torn = sut.append(deposit("ref-2", "200"));
+    sut.awaitDurable(torn.sequence());
+    sut.close();
+    corruptLastByteOf(torn);
+
+    sut = open(DataSize.ofMegabytes(1));
+    List<LedgerLogRecord> unapplied = sut.recover();
+    LedgerLogRecord next = sut.append(deposit("ref-3", "300"));
+    sut.awaitDurable(next.sequence());
+    sut.close();
+
+    assertThat(unapplied).extracting(LedgerLogRecord::businessRefId).containsExactly("ref-1");
+    assertThat(next.sequence()).isEqualTo(2L);
+
+    sut = open(DataSize.ofMegabytes(1));
+    assertThat(sut.recover())
+        .extracting(LedgerLogRecord::businessRefId)
+        .containsExactly("ref-1", "ref-3");
+  }
+
+  @Test
+  @DisplayName("세그먼트가 차면 새 세그먼트로 넘어가고, 반영이 끝난 세그먼트는 지운다")
+  void markApplied_deletesFullyAppliedSegments() throws IOException {
+    sut = open(DataSize.ofBytes(256));
+    sut.recover();
+    LedgerLogRecord last = null;
+    for (int i = 1; i <= 6; i++) {
+      last = sut.append(deposit("ref-" + i, "100"));
+    }
+    sut.awaitDurable(last.sequence());
+    long segmentsBefore = countSegments();
+
+    sut.markApplied(last.sequence() - 1);
+
+    assertThat(segmentsBefore).isGreaterThan(1L);
+    assertThat(countSegments()).isEqualTo(1L);
+  }
+
+  private MappedLedgerLog open(DataSize segmentSize) {
+    return new MappedLedgerLog(
+        new LedgerLogProperties(
+            true, directory.toString(), segmentSize, 100, Duration.ofMillis(10), 1000));
+  }
+
+  private long countSegments() throws IOException {
+    try (Stream<Path> files = Files.list(directory)) {
+      return files.filter(path -> path.toString().endsWith(".wal")).count();
+    }
+  }
+
+  private void corruptLastByteOf(LedgerLogRecord record) throws IOException {
+    Path segment;
+    try (Stream<Path> files = Files.list(directory)) {
+      segment = files.filter(path -> path.toString().endsWith(".wal")).findFirst().orElseThrow();
+    }
+    int end = 0;
+    for (LedgerLogRecord written : List.of(deposit("ref-1", "100").withSequence(1L), record)) {
+      end += Integer.BYTES * 2 + LedgerLogCodec.encode(written).length;
+    }
+    try (RandomAccessFile file = new RandomAccessFile(segment.toFile(), "rw")) {
+      file.seek(end - 1);
+      int last = file.read();
+      file.seek(end - 1);
+      file.write(last ^ 0xFF);
+    }
+  }
+
+  private static LedgerLogRecord deposit(String businessRefId, String amount) {
+    return LedgerLogRecord.of(
+        ACCOUNT_ID,
+        TransactionType.DEPOSIT,
+        Money.of(new BigDecimal(amount)),
+        null,
+        businessRefId,
+        FIXED_TIME);
+  }
+
+  private static LedgerLogRecord withdraw(String businessRefId, String amount) {
+    return LedgerLogRecord.of(
+        ACCOUNT_ID,
+        TransactionType.WITHDRAWAL,
+        Money.of(new BigDecimal(amount)),
+        "ATM",
+        businessRefId,
+        FIXED_TIME);
+  }
+}
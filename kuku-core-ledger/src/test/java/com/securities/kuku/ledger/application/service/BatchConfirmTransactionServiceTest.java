@@ -0,0 +1,253 @@
+package com.securities.kuku.ledger.application.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.command.ConfirmTransactionCommand;
+import com.securities.kuku.ledger.application.port.in.result.BatchConfirmResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BatchConfirmResult.Status;
+import com.securities.kuku.ledger.application.port.in.result.BatchConfirmResult;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class BatchConfirmTransactionServiceTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_A = 100L;
+  private static final Long ACCOUNT_B = 200L;
+  private static final Money INITIAL_BALANCE = Money.of(1000);
+
+  private BatchConfirmTransactionService sut;
+
+  private TransactionPort transactionPort;
+  private BalancePort balancePort;
+  private JournalEntryPort journalEntryPort;
+  private OutboxEventRecorder outboxEventRecorder;
+
+  @BeforeEach
+  void setUp() {
+    transactionPort = mock(TransactionPort.class);
+    balancePort = mock(BalancePort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    outboxEventRecorder = mock(OutboxEventRecorder.class);
+
+    sut =
+        new BatchConfirmTransactionService(
+            Clock.fixed(FIXED_TIME, ZoneId.of("UTC")),
+            transactionPort,
+            balancePort,
+            journalEntryPort,
+            outboxEventRecorder,
+            new LedgerLogModeGuard(false));
+
+    given(transactionPort.findByIds(anySet()))
+        .willReturn(
+            Map.of(
+                1L,
+                pending(1L, TransactionType.DEPOSIT),
+                2L,
+                pending(2L, TransactionType.DEPOSIT),
+                3L,
+                pending(3L, TransactionType.WITHDRAWAL),
+                4L,
+                posted(4L)));
+    given(balancePort.findByAccountIds(anySet()))
+        .willReturn(Map.of(ACCOUNT_A, balance(ACCOUNT_A), ACCOUNT_B, balance(ACCOUNT_B)));
+  }
+
+  @Nested
+  @DisplayName("배치 반영")
+  class BatchApply {
+
+    @Test
+    @DisplayName("확정된 트랜잭션의 상태를 한 번의 updateAll로 POSTED로 바꾼다")
+    void updatesTransactionsInSingleBatch() {
+      // When
+      sut.confirmAll(List.of(command(1L, ACCOUNT_A, "100"), command(2L, ACCOUNT_B, "100")));
+
+      // Then
+      ArgumentCaptor<Collection<Transaction>> captor = collectionCaptor();
+      then(transactionPort).should().updateAll(captor.capture(), eq(TransactionStatus.PENDING));
+      assertThat(captor.getValue())
+          .extracting(Transaction::getStatus)
+          .containsOnly(TransactionStatus.POSTED)
+          .hasSize(2);
+    }
+
+    @Test
+    @DisplayName("분개를 한 번의 saveAll로 저장한다")
+    void savesJournalEntriesInSingleBatch() {
+      // When
+      sut.confirmAll(List.of(command(1L, ACCOUNT_A, "100"), command(3L, ACCOUNT_A, "50")));
+
+      // Then
+      ArgumentCaptor<Collection<JournalEntry>> captor = collectionCaptor();
+      then(journalEntryPort).should().saveAll(captor.capture());
+      assertThat(captor.getValue())
+          .extracting(JournalEntry::getEntryType)
+          .containsExactly(JournalEntry.EntryType.CREDIT, JournalEntry.EntryType.DEBIT);
+    }
+
+    @Test
+    @DisplayName("같은 계좌의 여러 확정은 합산되어 계좌당 한 번만 updateAll 된다")
+    void foldsDeltasPerAccount() {
+      // When
+      sut.confirmAll(
+          List.of(
+              command(1L, ACCOUNT_A, "100"),
+              command(2L, ACCOUNT_B, "100"),
+              command(3L, ACCOUNT_A, "300")));
+
+      // Then
+      ArgumentCaptor<Collection<Balance>> captor = collectionCaptor();
+      then(balancePort).should().updateAll(captor.capture());
+      assertThat(captor.getValue()).hasSize(2);
+      assertThat(captor.getValue())
+          .filteredOn(balance -> balance.getAccountId().equals(ACCOUNT_A))
+          .singleElement()
+          .satisfies(balance -> assertThat(balance.getAmount()).isEqualTo(Money.of(800)));
+    }
+
+    @Test
+    @DisplayName("Outbox 이벤트를 한 번에 기록한다")
+    void recordsOutboxEventsInSingleBatch() {
+      // When
+      sut.confirmAll(List.of(command(1L, ACCOUNT_A, "100"), command(2L, ACCOUNT_B, "100")));
+
+      // Then
+      ArgumentCaptor<List<LedgerPostedEvent>> captor = listCaptor();
+      then(outboxEventRecorder).should().recordAll(captor.capture());
+      assertThat(captor.getValue()).hasSize(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("트랜잭션별 결과")
+  class PerTransactionResult {
+
+    @Test
+    @DisplayName("확정할 수 없는 트랜잭션만 거절되고 나머지는 확정된다")
+    void rejectsOnlyInvalidTransactions() {
+      // When
+      BatchConfirmResult result =
+          sut.confirmAll(
+              List.of(
+                  command(1L, ACCOUNT_A, "100"),
+                  command(4L, ACCOUNT_A, "100"),
+                  command(9L, ACCOUNT_A, "100"),
+                  command(2L, ACCOUNT_B, "100")));
+
+      // Then
+      assertThat(result.items())
+          .extracting(ItemResult::status)
+          .containsExactly(Status.CONFIRMED, Status.REJECTED, Status.REJECTED, Status.CONFIRMED);
+      assertThat(result.items().get(1).reason()).contains("Only PENDING");
+      assertThat(result.items().get(2).reason()).isEqualTo("Transaction not found: 9");
+    }
+
+    @Test
+    @DisplayName("앞선 확정까지 반영한 잔액이 부족하면 해당 출금 확정만 거절된다")
+    void rejectsWithdrawal_whenProjectedBalanceInsufficient() {
+      // When
+      BatchConfirmResult result =
+          sut.confirmAll(List.of(command(3L, ACCOUNT_A, "1500"), command(1L, ACCOUNT_A, "100")));
+
+      // Then
+      assertThat(result.items())
+          .extracting(ItemResult::status)
+          .containsExactly(Status.REJECTED, Status.CONFIRMED);
+    }
+
+    @Test
+    @DisplayName("배치 안에서 반복된 트랜잭션 ID는 한 번만 확정된다")
+    void confirmsRepeatedTransactionOnce() {
+      // When
+      BatchConfirmResult result =
+          sut.confirmAll(List.of(command(1L, ACCOUNT_A, "100"), command(1L, ACCOUNT_A, "100")));
+
+      // Then
+      assertThat(result.items())
+          .extracting(ItemResult::status)
+          .containsExactly(Status.CONFIRMED, Status.REJECTED);
+    }
+
+    @Test
+    @DisplayName("확정할 트랜잭션이 없으면 아무것도 저장하지 않는다")
+    void savesNothing_whenAllRejected() {
+      // When
+      sut.confirmAll(List.of(command(4L, ACCOUNT_A, "100")));
+
+      // Then
+      then(transactionPort).should(never()).updateAll(any(), any());
+      then(balancePort).should(never()).updateAll(any());
+    }
+  }
+
+  private ConfirmTransactionCommand command(Long transactionId, Long accountId, String amount) {
+    return new ConfirmTransactionCommand(
+        transactionId, accountId, Money.of(new BigDecimal(amount)));
+  }
+
+  private Transaction pending(Long transactionId, TransactionType type) {
+    return new Transaction(
+        transactionId,
+        type,
+        "정산",
+        "REF-" + transactionId,
+        TransactionStatus.PENDING,
+        null,
+        FIXED_TIME);
+  }
+
+  private Transaction posted(Long transactionId) {
+    return new Transaction(
+        transactionId,
+        TransactionType.DEPOSIT,
+        "정산",
+        "REF-" + transactionId,
+        TransactionStatus.POSTED,
+        null,
+        FIXED_TIME);
+  }
+
+  private Balance balance(Long accountId) {
+    return new Balance(accountId, INITIAL_BALANCE, Money.ZERO, 0L, null, FIXED_TIME);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ArgumentCaptor<List<T>> listCaptor() {
+    return ArgumentCaptor.forClass(List.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ArgumentCaptor<Collection<T>> collectionCaptor() {
+    return ArgumentCaptor.forClass(Collection.class);
+  }
+}
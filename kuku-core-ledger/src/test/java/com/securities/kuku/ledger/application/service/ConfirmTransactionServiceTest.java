@@ -3,22 +3,24 @@ package com.securities.kuku.ledger.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.application.port.in.command.ConfirmTransactionCommand;
 import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
 import com.securities.kuku.ledger.domain.Balance;
 import com.securities.kuku.ledger.domain.JournalEntry;
 import com.securities.kuku.ledger.domain.Transaction;
 import com.securities.kuku.ledger.domain.TransactionStatus;
 import com.securities.kuku.ledger.domain.TransactionType;
 import com.securities.kuku.ledger.domain.exception.InvalidTransactionStateException;
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -48,7 +50,13 @@ class ConfirmTransactionServiceTest {
     balancePort = mock(BalancePort.class);
     journalEntryPort = mock(JournalEntryPort.class);
 
-    sut = new ConfirmTransactionService(fixedClock, transactionPort, balancePort, journalEntryPort);
+    sut =
+        new ConfirmTransactionService(
+            fixedClock,
+            transactionPort,
+            balancePort,
+            journalEntryPort,
+            new LedgerLogModeGuard(false));
   }
 
   @Nested
@@ -61,7 +69,7 @@ class ConfirmTransactionServiceTest {
       // Given
       Long transactionId = 1L;
       Long accountId = 100L;
-      BigDecimal amount = new BigDecimal("1000");
+      Money amount = Money.of(1000);
       ConfirmTransactionCommand command =
           new ConfirmTransactionCommand(transactionId, accountId, amount);
 
@@ -75,7 +83,7 @@ class ConfirmTransactionServiceTest {
               null,
               FIXED_TIME);
       Balance balance =
-          new Balance(accountId, BigDecimal.ZERO, BigDecimal.ZERO, 0L, null, FIXED_TIME);
+          new Balance(accountId, Money.ZERO, Money.ZERO, 0L, null, FIXED_TIME);
 
       given(transactionPort.findById(transactionId)).willReturn(Optional.of(pendingTx));
       given(balancePort.findByAccountId(accountId)).willReturn(Optional.of(balance));
@@ -85,7 +93,7 @@ class ConfirmTransactionServiceTest {
 
       // Then
       ArgumentCaptor<Transaction> txCaptor = ArgumentCaptor.forClass(Transaction.class);
-      then(transactionPort).should().update(txCaptor.capture());
+      then(transactionPort).should().update(txCaptor.capture(), eq(TransactionStatus.PENDING));
       assertThat(txCaptor.getValue().getStatus()).isEqualTo(TransactionStatus.POSTED);
     }
 
@@ -95,7 +103,7 @@ class ConfirmTransactionServiceTest {
       // Given
       Long transactionId = 1L;
       Long accountId = 100L;
-      BigDecimal amount = new BigDecimal("1000");
+      Money amount = Money.of(1000);
       ConfirmTransactionCommand command =
           new ConfirmTransactionCommand(transactionId, accountId, amount);
 
@@ -109,7 +117,7 @@ class ConfirmTransactionServiceTest {
               null,
               FIXED_TIME);
       Balance balance =
-          new Balance(accountId, BigDecimal.ZERO, BigDecimal.ZERO, 0L, null, FIXED_TIME);
+          new Balance(accountId, Money.ZERO, Money.ZERO, 0L, null, FIXED_TIME);
 
       given(transactionPort.findById(transactionId)).willReturn(Optional.of(pendingTx));
       given(balancePort.findByAccountId(accountId)).willReturn(Optional.of(balance));
@@ -129,7 +137,7 @@ class ConfirmTransactionServiceTest {
       // Given
       Long transactionId = 1L;
       Long accountId = 100L;
-      BigDecimal amount = new BigDecimal("1000");
+      Money amount = Money.of(1000);
       ConfirmTransactionCommand command =
           new ConfirmTransactionCommand(transactionId, accountId, amount);
 
@@ -143,7 +151,7 @@ class ConfirmTransactionServiceTest {
               null,
               FIXED_TIME);
       Balance balance =
-          new Balance(accountId, new BigDecimal("500"), BigDecimal.ZERO, 0L, null, FIXED_TIME);
+          new Balance(accountId, Money.of(500), Money.ZERO, 0L, null, FIXED_TIME);
 
       given(transactionPort.findById(transactionId)).willReturn(Optional.of(pendingTx));
       given(balancePort.findByAccountId(accountId)).willReturn(Optional.of(balance));
@@ -155,7 +163,7 @@ class ConfirmTransactionServiceTest {
       ArgumentCaptor<Balance> balanceCaptor = ArgumentCaptor.forClass(Balance.class);
       then(balancePort).should().update(balanceCaptor.capture());
       assertThat(balanceCaptor.getValue().getAmount())
-          .isEqualByComparingTo(new BigDecimal("1500")); // 500 + 1000
+          .isEqualByComparingTo(Money.of(1500)); // 500 + 1000
     }
   }
 
@@ -169,7 +177,7 @@ class ConfirmTransactionServiceTest {
       // Given
       Long transactionId = 1L;
       Long accountId = 100L;
-      BigDecimal amount = new BigDecimal("500");
+      Money amount = Money.of(500);
       ConfirmTransactionCommand command =
           new ConfirmTransactionCommand(transactionId, accountId, amount);
 
@@ -183,7 +191,7 @@ class ConfirmTransactionServiceTest {
               null,
               FIXED_TIME);
       Balance balance =
-          new Balance(accountId, new BigDecimal("1000"), BigDecimal.ZERO, 0L, null, FIXED_TIME);
+          new Balance(accountId, Money.of(1000), Money.ZERO, 0L, null, FIXED_TIME);
 
       given(transactionPort.findById(transactionId)).willReturn(Optional.of(pendingTx));
       given(balancePort.findByAccountId(accountId)).willReturn(Optional.of(balance));
@@ -203,7 +211,7 @@ class ConfirmTransactionServiceTest {
       // Given
       Long transactionId = 1L;
       Long accountId = 100L;
-      BigDecimal amount = new BigDecimal("300");
+      Money amount = Money.of(300);
       ConfirmTransactionCommand command =
           new ConfirmTransactionCommand(transactionId, accountId, amount);
 
@@ -217,7 +225,7 @@ class ConfirmTransactionServiceTest {
               null,
               FIXED_TIME);
       Balance balance =
-          new Balance(accountId, new BigDecimal("1000"), BigDecimal.ZERO, 0L, null, FIXED_TIME);
+          new Balance(accountId, Money.of(1000), Money.ZERO, 0L, null, FIXED_TIME);
 
       given(transactionPort.findById(transactionId)).willReturn(Optional.of(pendingTx));
       given(balancePort.findByAccountId(accountId)).willReturn(Optional.of(balance));
@@ -229,7 +237,7 @@ class ConfirmTransactionServiceTest {
       ArgumentCaptor<Balance> balanceCaptor = ArgumentCaptor.forClass(Balance.class);
       then(balancePort).should().update(balanceCaptor.capture());
       assertThat(balanceCaptor.getValue().getAmount())
-          .isEqualByComparingTo(new BigDecimal("700")); // 1000 - 300
+          .isEqualByComparingTo(Money.of(700)); // 1000 - 300
     }
   }
 
@@ -243,7 +251,7 @@ class ConfirmTransactionServiceTest {
       // Given
       Long transactionId = 999L;
       ConfirmTransactionCommand command =
-          new ConfirmTransactionCommand(transactionId, 100L, new BigDecimal("1000"));
+          new ConfirmTransactionCommand(transactionId, 100L, Money.of(1000));
 
       given(transactionPort.findById(transactionId)).willReturn(Optional.empty());
 
@@ -259,7 +267,7 @@ class ConfirmTransactionServiceTest {
       // Given
       Long transactionId = 1L;
       ConfirmTransactionCommand command =
-          new ConfirmTransactionCommand(transactionId, 100L, new BigDecimal("1000"));
+          new ConfirmTransactionCommand(transactionId, 100L, Money.of(1000));
 
       Transaction postedTx =
           new Transaction(
@@ -278,7 +286,7 @@ class ConfirmTransactionServiceTest {
           .isInstanceOf(InvalidTransactionStateException.class)
           .hasMessageContaining("PENDING");
 
-      then(transactionPort).should(never()).update(any());
+      then(transactionPort).should(never()).update(any(), any());
     }
   }
 }
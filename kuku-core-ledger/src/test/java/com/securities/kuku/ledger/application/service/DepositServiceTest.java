@@ -1,17 +1,25 @@
 package com.securities.kuku.ledger.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
 import com.securities.kuku.ledger.application.port.out.AccountPort;
 import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.balance.OptimisticBalanceUpdater;
+import com.securities.kuku.ledger.application.service.idempotency.IdempotencyGuard;
+import com.securities.kuku.ledger.config.IdempotencyProperties;
 import com.securities.kuku.ledger.domain.Account;
 import com.securities.kuku.ledger.domain.AccountType;
 import com.securities.kuku.ledger.domain.Balance;
@@ -20,7 +28,7 @@ import com.securities.kuku.ledger.domain.Transaction;
 import com.securities.kuku.ledger.domain.TransactionStatus;
 import com.securities.kuku.ledger.domain.TransactionType;
 import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
-import java.math.BigDecimal;
+import com.securities.kuku.ledger.domain.exception.DuplicateTransactionException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -34,7 +42,9 @@ class DepositServiceTest {
 
   private static final Instant FIXED_TIME = Instant.parse("2024-01-01T01:00:00Z");
   private static final Long DEFAULT_ACCOUNT_ID = 1L;
-  private static final BigDecimal DEFAULT_DEPOSIT_AMOUNT = new BigDecimal("1000");
+  private static final Money DEFAULT_DEPOSIT_AMOUNT = Money.of(1000);
+  private static final IdempotencyProperties IDEMPOTENCY_PROPERTIES =
+      new IdempotencyProperties(1_000, 0.01, 100);
   private static final String DEFAULT_BUSINESS_REF_ID = "ref-123";
 
   private DepositService sut;
@@ -60,10 +70,11 @@ class DepositServiceTest {
         new DepositService(
             fixedClock,
             accountPort,
-            balancePort,
+            new OptimisticBalanceUpdater(balancePort),
             transactionPort,
             journalEntryPort,
-            outboxEventRecorder);
+            outboxEventRecorder,
+            new IdempotencyGuard(transactionPort, IDEMPOTENCY_PROPERTIES));
   }
 
   @Test
@@ -156,7 +167,8 @@ class DepositServiceTest {
     ArgumentCaptor<LedgerPostedEvent> eventCaptor =
         ArgumentCaptor.forClass(LedgerPostedEvent.class);
     then(outboxEventRecorder).should().record(eventCaptor.capture());
-    assertThat(eventCaptor.getValue().amount()).isEqualByComparingTo(DEFAULT_DEPOSIT_AMOUNT);
+    assertThat(eventCaptor.getValue().amount())
+        .isEqualByComparingTo(DEFAULT_DEPOSIT_AMOUNT.toBigDecimal());
   }
 
   @Test
@@ -175,7 +187,7 @@ class DepositServiceTest {
     ArgumentCaptor<Balance> balanceCaptor = ArgumentCaptor.forClass(Balance.class);
     then(balancePort).should().update(balanceCaptor.capture());
     assertThat(balanceCaptor.getValue().getAmount())
-        .isEqualByComparingTo(new BigDecimal("1000")); // 0 + 1000
+        .isEqualByComparingTo(Money.of(1000)); // 0 + 1000
   }
 
   @Test
@@ -251,32 +263,24 @@ class DepositServiceTest {
   }
 
   @Test
-  @DisplayName("이미 처리된 비즈니스 ID면 트랜잭션이 저장되지 않는다 (멱등성)")
-  void doesNotSaveTransaction_whenDuplicateRequest() {
+  @DisplayName("INSERT 시 businessRefId가 중복되면 예외 없이 무시된다 (멱등성)")
+  void ignoresRequest_whenDuplicateDetectedOnInsert() {
     // Given
     DepositCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createDeposit("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
-
-    // When
-    sut.deposit(command);
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID);
+    givenDuplicateOnInsert();
 
-    // Then
-    then(transactionPort).should().findByBusinessRefId(DEFAULT_BUSINESS_REF_ID);
-    then(transactionPort).shouldHaveNoMoreInteractions();
+    // When & Then
+    assertThatCode(() -> sut.deposit(command)).doesNotThrowAnyException();
   }
 
   @Test
-  @DisplayName("이미 처리된 비즈니스 ID면 잔액이 업데이트되지 않는다 (멱등성)")
+  @DisplayName("INSERT 시 businessRefId가 중복되면 잔액이 업데이트되지 않는다 (멱등성)")
   void doesNotUpdateBalance_whenDuplicateRequest() {
     // Given
     DepositCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createDeposit("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID);
+    givenDuplicateOnInsert();
 
     // When
     sut.deposit(command);
@@ -286,14 +290,12 @@ class DepositServiceTest {
   }
 
   @Test
-  @DisplayName("이미 처리된 비즈니스 ID면 분개가 저장되지 않는다 (멱등성)")
+  @DisplayName("INSERT 시 businessRefId가 중복되면 분개가 저장되지 않는다 (멱등성)")
   void doesNotSaveJournalEntry_whenDuplicateRequest() {
     // Given
     DepositCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createDeposit("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID);
+    givenDuplicateOnInsert();
 
     // When
     sut.deposit(command);
@@ -303,14 +305,12 @@ class DepositServiceTest {
   }
 
   @Test
-  @DisplayName("이미 처리된 비즈니스 ID면 Outbox 이벤트가 기록되지 않는다 (멱등성)")
+  @DisplayName("INSERT 시 businessRefId가 중복되면 Outbox 이벤트가 기록되지 않는다 (멱등성)")
   void doesNotRecordOutboxEvent_whenDuplicateRequest() {
     // Given
     DepositCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createDeposit("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID);
+    givenDuplicateOnInsert();
 
     // When
     sut.deposit(command);
@@ -319,18 +319,48 @@ class DepositServiceTest {
     then(outboxEventRecorder).shouldHaveNoInteractions();
   }
 
+  @Test
+  @DisplayName("처음 보는 businessRefId면 사전 조회 없이 저장한다")
+  void skipsLookup_whenBusinessRefIdIsNew() {
+    // Given
+    DepositCommand command = createDefaultCommand();
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID);
+
+    // When
+    sut.deposit(command);
+
+    // Then
+    then(transactionPort).should(never()).findByBusinessRefId(any());
+  }
+
+  @Test
+  @DisplayName("최근 처리한 businessRefId로 재요청하면 DB를 거치지 않고 무시된다 (멱등성)")
+  void ignoresRetry_withoutDatabaseAccess_whenRecentlyPosted() {
+    // Given
+    DepositCommand command = createDefaultCommand();
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID);
+    sut.deposit(command);
+
+    // When
+    sut.deposit(command);
+
+    // Then
+    then(transactionPort).should(times(1)).save(any());
+    then(transactionPort).should(never()).findByBusinessRefId(any());
+  }
+
   private DepositCommand createDefaultCommand() {
     return createCommand(DEFAULT_ACCOUNT_ID, DEFAULT_DEPOSIT_AMOUNT, DEFAULT_BUSINESS_REF_ID);
   }
 
-  private DepositCommand createCommand(Long accountId, BigDecimal amount, String businessRefId) {
+  private DepositCommand createCommand(Long accountId, Money amount, String businessRefId) {
     return DepositCommand.of(accountId, amount, "Deposit", businessRefId);
   }
 
   private void setupAccountBalanceAndTransactionMock(Long accountId) {
     Account account =
         new Account(accountId, 100L, "123-456", "KRW", AccountType.USER_CASH, FIXED_TIME);
-    Balance balance = new Balance(accountId, BigDecimal.ZERO, BigDecimal.ZERO, 0L, 0L, FIXED_TIME);
+    Balance balance = new Balance(accountId, Money.ZERO, Money.ZERO, 0L, 0L, FIXED_TIME);
 
     given(accountPort.findById(accountId)).willReturn(Optional.of(account));
     given(balancePort.findByAccountId(accountId)).willReturn(Optional.of(balance));
@@ -349,4 +379,10 @@ class DepositServiceTest {
                   tx.getCreatedAt());
             });
   }
+
+  private void givenDuplicateOnInsert() {
+    willThrow(new DuplicateTransactionException(DEFAULT_BUSINESS_REF_ID, null))
+        .given(transactionPort)
+        .save(any());
+  }
 }
@@ -4,14 +4,17 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.mock;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
 import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
 import com.securities.kuku.ledger.domain.Balance;
 import com.securities.kuku.ledger.domain.JournalEntry;
 import com.securities.kuku.ledger.domain.Transaction;
@@ -19,7 +22,7 @@ import com.securities.kuku.ledger.domain.TransactionStatus;
 import com.securities.kuku.ledger.domain.TransactionType;
 import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
 import com.securities.kuku.ledger.domain.exception.InvalidTransactionStateException;
-import java.math.BigDecimal;
+import com.securities.kuku.ledger.domain.exception.UnsupportedInLedgerLogModeException;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -60,7 +63,32 @@ class ReversalServiceTest {
 
     sut =
         new ReversalService(
-            fixedClock, transactionPort, journalEntryPort, balancePort, outboxEventRecorder);
+            fixedClock,
+            transactionPort,
+            journalEntryPort,
+            balancePort,
+            outboxEventRecorder,
+            new LedgerLogModeGuard(false));
+  }
+
+  @Test
+  @DisplayName("원장 로그(WAL) 모드에서는 잔액을 직접 바꾸지 않고 예외를 던진다")
+  void failure_throwsException_whenLedgerLogModeEnabled() {
+    // Given
+    ReversalService walModeSut =
+        new ReversalService(
+            fixedClock,
+            transactionPort,
+            journalEntryPort,
+            balancePort,
+            outboxEventRecorder,
+            new LedgerLogModeGuard(true));
+
+    // When & Then
+    assertThatThrownBy(() -> walModeSut.reverse(createDefaultCommand()))
+        .isInstanceOf(UnsupportedInLedgerLogModeException.class);
+    then(transactionPort).shouldHaveNoInteractions();
+    then(balancePort).shouldHaveNoInteractions();
   }
 
   @Test
@@ -75,7 +103,7 @@ class ReversalServiceTest {
 
     // Then
     ArgumentCaptor<Transaction> txCaptor = ArgumentCaptor.forClass(Transaction.class);
-    then(transactionPort).should().update(txCaptor.capture());
+    then(transactionPort).should().update(txCaptor.capture(), eq(TransactionStatus.POSTED));
     assertThat(txCaptor.getValue().getStatus()).isEqualTo(TransactionStatus.REVERSED);
   }
 
@@ -229,7 +257,7 @@ class ReversalServiceTest {
     then(balancePort).should().updateAll(balanceCaptor.capture());
     Balance restoredBalance = balanceCaptor.getValue().iterator().next();
     // Original deposit of 1000, reverse should withdraw -> 1000 - 1000 = 0
-    assertThat(restoredBalance.getAmount()).isEqualByComparingTo(BigDecimal.ZERO);
+    assertThat(restoredBalance.getAmount()).isEqualByComparingTo(Money.ZERO);
   }
 
   @Test
@@ -324,7 +352,7 @@ class ReversalServiceTest {
             1L,
             ORIGINAL_TX_ID,
             ACCOUNT_ID,
-            new BigDecimal("1000"),
+            Money.of(1000),
             JournalEntry.EntryType.CREDIT,
             FIXED_TIME);
     given(journalEntryPort.findByTransactionId(ORIGINAL_TX_ID)).willReturn(List.of(originalEntry));
@@ -332,7 +360,7 @@ class ReversalServiceTest {
     // Batch load balances - use mutable HashMap
     Balance balance =
         new Balance(
-            ACCOUNT_ID, new BigDecimal("1000"), BigDecimal.ZERO, 1L, ORIGINAL_TX_ID, FIXED_TIME);
+            ACCOUNT_ID, Money.of(1000), Money.ZERO, 1L, ORIGINAL_TX_ID, FIXED_TIME);
     Map<Long, Balance> balanceMap = new HashMap<>();
     balanceMap.put(ACCOUNT_ID, balance);
     given(balancePort.findByAccountIds(anySet())).willReturn(balanceMap);
@@ -1,18 +1,26 @@
 package com.securities.kuku.ledger.application.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.catchThrowable;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
 import com.securities.kuku.ledger.application.port.out.AccountPort;
 import com.securities.kuku.ledger.application.port.out.BalancePort;
 import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
 import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.balance.OptimisticBalanceUpdater;
+import com.securities.kuku.ledger.application.service.idempotency.IdempotencyGuard;
+import com.securities.kuku.ledger.config.IdempotencyProperties;
 import com.securities.kuku.ledger.domain.Account;
 import com.securities.kuku.ledger.domain.AccountType;
 import com.securities.kuku.ledger.domain.Balance;
@@ -21,8 +29,8 @@ import com.securities.kuku.ledger.domain.Transaction;
 import com.securities.kuku.ledger.domain.TransactionStatus;
 import com.securities.kuku.ledger.domain.TransactionType;
 import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.exception.DuplicateTransactionException;
 import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -36,8 +44,10 @@ class WithdrawServiceTest {
 
   private static final Instant FIXED_TIME = Instant.parse("2025-12-09T15:00:00Z");
   private static final Long DEFAULT_ACCOUNT_ID = 1L;
-  private static final BigDecimal DEFAULT_WITHDRAW_AMOUNT = new BigDecimal("500");
-  private static final BigDecimal DEFAULT_INITIAL_BALANCE = new BigDecimal("1000");
+  private static final Money DEFAULT_WITHDRAW_AMOUNT = Money.of(500);
+  private static final Money DEFAULT_INITIAL_BALANCE = Money.of(1000);
+  private static final IdempotencyProperties IDEMPOTENCY_PROPERTIES =
+      new IdempotencyProperties(1_000, 0.01, 100);
   private static final String DEFAULT_BUSINESS_REF_ID = "withdraw-ref-123";
 
   private WithdrawService sut;
@@ -63,10 +73,11 @@ class WithdrawServiceTest {
         new WithdrawService(
             fixedClock,
             accountPort,
-            balancePort,
+            new OptimisticBalanceUpdater(balancePort),
             transactionPort,
             journalEntryPort,
-            outboxEventRecorder);
+            outboxEventRecorder,
+            new IdempotencyGuard(transactionPort, IDEMPOTENCY_PROPERTIES));
   }
 
   @Test
@@ -177,7 +188,8 @@ class WithdrawServiceTest {
     ArgumentCaptor<LedgerPostedEvent> eventCaptor =
         ArgumentCaptor.forClass(LedgerPostedEvent.class);
     then(outboxEventRecorder).should().record(eventCaptor.capture());
-    assertThat(eventCaptor.getValue().amount()).isEqualByComparingTo(DEFAULT_WITHDRAW_AMOUNT);
+    assertThat(eventCaptor.getValue().amount())
+        .isEqualByComparingTo(DEFAULT_WITHDRAW_AMOUNT.toBigDecimal());
   }
 
   @Test
@@ -196,7 +208,7 @@ class WithdrawServiceTest {
     ArgumentCaptor<Balance> balanceCaptor = ArgumentCaptor.forClass(Balance.class);
     then(balancePort).should().update(balanceCaptor.capture());
     assertThat(balanceCaptor.getValue().getAmount())
-        .isEqualByComparingTo(new BigDecimal("500")); // 1000 - 500
+        .isEqualByComparingTo(Money.of(500)); // 1000 - 500
   }
 
   @Test
@@ -257,7 +269,7 @@ class WithdrawServiceTest {
   @DisplayName("잔액이 부족하면 InsufficientBalanceException이 발생한다")
   void throwsException_whenInsufficientBalance() {
     // Given
-    BigDecimal insufficientBalance = new BigDecimal("100");
+    Money insufficientBalance = Money.of(100);
     WithdrawCommand command = createDefaultCommand();
     setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, insufficientBalance);
     given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
@@ -273,7 +285,7 @@ class WithdrawServiceTest {
   @DisplayName("잔액 부족 시 트랜잭션이 저장되지 않는다")
   void doesNotSaveTransaction_whenInsufficientBalance() {
     // Given
-    BigDecimal insufficientBalance = new BigDecimal("100");
+    Money insufficientBalance = Money.of(100);
     WithdrawCommand command = createDefaultCommand();
     setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, insufficientBalance);
     given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
@@ -283,15 +295,14 @@ class WithdrawServiceTest {
     catchThrowable(() -> sut.withdraw(command));
 
     // Then
-    then(transactionPort).should().findByBusinessRefId(DEFAULT_BUSINESS_REF_ID);
-    then(transactionPort).shouldHaveNoMoreInteractions();
+    then(transactionPort).shouldHaveNoInteractions();
   }
 
   @Test
   @DisplayName("잔액 부족 시 잔액이 업데이트되지 않는다")
   void doesNotUpdateBalance_whenInsufficientBalance() {
     // Given
-    BigDecimal insufficientBalance = new BigDecimal("100");
+    Money insufficientBalance = Money.of(100);
     WithdrawCommand command = createDefaultCommand();
     setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, insufficientBalance);
     given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
@@ -324,49 +335,39 @@ class WithdrawServiceTest {
   }
 
   @Test
-  @DisplayName("중복 요청 시 트랜잭션이 저장되지 않는다 (멱등성)")
-  void doesNotSaveTransaction_whenDuplicateRequest() {
+  @DisplayName("INSERT 시 businessRefId가 중복되면 예외 없이 무시된다 (멱등성)")
+  void ignoresRequest_whenDuplicateDetectedOnInsert() {
     // Given
     WithdrawCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createWithdraw("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
-
-    // When
-    sut.withdraw(command);
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, DEFAULT_INITIAL_BALANCE);
+    givenDuplicateOnInsert();
 
-    // Then
-    then(transactionPort).should().findByBusinessRefId(DEFAULT_BUSINESS_REF_ID);
-    then(transactionPort).shouldHaveNoMoreInteractions();
+    // When & Then
+    assertThatCode(() -> sut.withdraw(command)).doesNotThrowAnyException();
   }
 
   @Test
-  @DisplayName("중복 요청 시 잔액이 업데이트되지 않는다 (멱등성)")
+  @DisplayName("INSERT 시 businessRefId가 중복되면 잔액이 업데이트되지 않는다 (멱등성)")
   void doesNotUpdateBalance_whenDuplicateRequest() {
     // Given
     WithdrawCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createWithdraw("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, DEFAULT_INITIAL_BALANCE);
+    givenDuplicateOnInsert();
 
     // When
     sut.withdraw(command);
 
     // Then
-    then(balancePort).shouldHaveNoInteractions();
+    then(balancePort).should(never()).update(any());
   }
 
   @Test
-  @DisplayName("중복 요청 시 분개가 저장되지 않는다 (멱등성)")
+  @DisplayName("INSERT 시 businessRefId가 중복되면 분개가 저장되지 않는다 (멱등성)")
   void doesNotSaveJournalEntry_whenDuplicateRequest() {
     // Given
     WithdrawCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createWithdraw("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, DEFAULT_INITIAL_BALANCE);
+    givenDuplicateOnInsert();
 
     // When
     sut.withdraw(command);
@@ -376,14 +377,12 @@ class WithdrawServiceTest {
   }
 
   @Test
-  @DisplayName("중복 요청 시 Outbox 이벤트가 기록되지 않는다 (멱등성)")
+  @DisplayName("INSERT 시 businessRefId가 중복되면 Outbox 이벤트가 기록되지 않는다 (멱등성)")
   void doesNotRecordOutboxEvent_whenDuplicateRequest() {
     // Given
     WithdrawCommand command = createDefaultCommand();
-    Transaction existingTx =
-        Transaction.createWithdraw("Existing", DEFAULT_BUSINESS_REF_ID, FIXED_TIME);
-    given(transactionPort.findByBusinessRefId(DEFAULT_BUSINESS_REF_ID))
-        .willReturn(Optional.of(existingTx));
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, DEFAULT_INITIAL_BALANCE);
+    givenDuplicateOnInsert();
 
     // When
     sut.withdraw(command);
@@ -392,13 +391,43 @@ class WithdrawServiceTest {
     then(outboxEventRecorder).shouldHaveNoInteractions();
   }
 
+  @Test
+  @DisplayName("처음 보는 businessRefId면 사전 조회 없이 저장한다")
+  void skipsLookup_whenBusinessRefIdIsNew() {
+    // Given
+    WithdrawCommand command = createDefaultCommand();
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, DEFAULT_INITIAL_BALANCE);
+
+    // When
+    sut.withdraw(command);
+
+    // Then
+    then(transactionPort).should(never()).findByBusinessRefId(any());
+  }
+
+  @Test
+  @DisplayName("최근 처리한 businessRefId로 재요청하면 DB를 거치지 않고 무시된다 (멱등성)")
+  void ignoresRetry_withoutDatabaseAccess_whenRecentlyPosted() {
+    // Given
+    WithdrawCommand command = createDefaultCommand();
+    setupAccountBalanceAndTransactionMock(DEFAULT_ACCOUNT_ID, DEFAULT_INITIAL_BALANCE);
+    sut.withdraw(command);
+
+    // When
+    sut.withdraw(command);
+
+    // Then
+    then(transactionPort).should(times(1)).save(any());
+    then(transactionPort).should(never()).findByBusinessRefId(any());
+  }
+
   @Test
   @DisplayName("holdAmount를 고려한 가용 잔액이 부족하면 예외가 발생한다")
   void throwsException_whenAvailableBalanceInsufficient() {
     // Given
-    BigDecimal totalAmount = new BigDecimal("1000");
-    BigDecimal holdAmount = new BigDecimal("300");
-    BigDecimal withdrawAmount = new BigDecimal("800");
+    Money totalAmount = Money.of(1000);
+    Money holdAmount = Money.of(300);
+    Money withdrawAmount = Money.of(800);
     WithdrawCommand command =
         createCommand(DEFAULT_ACCOUNT_ID, withdrawAmount, DEFAULT_BUSINESS_REF_ID);
 
@@ -416,14 +445,14 @@ class WithdrawServiceTest {
     return createCommand(DEFAULT_ACCOUNT_ID, DEFAULT_WITHDRAW_AMOUNT, DEFAULT_BUSINESS_REF_ID);
   }
 
-  private WithdrawCommand createCommand(Long accountId, BigDecimal amount, String businessRefId) {
+  private WithdrawCommand createCommand(Long accountId, Money amount, String businessRefId) {
     return WithdrawCommand.of(accountId, amount, "Withdraw", businessRefId);
   }
 
-  private void setupAccountBalanceAndTransactionMock(Long accountId, BigDecimal amount) {
+  private void setupAccountBalanceAndTransactionMock(Long accountId, Money amount) {
     Account account =
         new Account(accountId, 100L, "123-456", "KRW", AccountType.USER_CASH, FIXED_TIME);
-    Balance balance = new Balance(accountId, amount, BigDecimal.ZERO, 0L, 0L, FIXED_TIME);
+    Balance balance = new Balance(accountId, amount, Money.ZERO, 0L, 0L, FIXED_TIME);
 
     given(accountPort.findById(accountId)).willReturn(Optional.of(account));
     given(balancePort.findByAccountId(accountId)).willReturn(Optional.of(balance));
@@ -444,7 +473,7 @@ class WithdrawServiceTest {
   }
 
   private void setupAccountBalanceWithHoldAndTransactionMock(
-      Long accountId, BigDecimal amount, BigDecimal holdAmount) {
+      Long accountId, Money amount, Money holdAmount) {
     Account account =
         new Account(accountId, 100L, "123-456", "KRW", AccountType.USER_CASH, FIXED_TIME);
     Balance balance = new Balance(accountId, amount, holdAmount, 0L, 0L, FIXED_TIME);
@@ -466,4 +495,10 @@ class WithdrawServiceTest {
                   tx.getCreatedAt());
             });
   }
+
+  private void givenDuplicateOnInsert() {
+    willThrow(new DuplicateTransactionException(DEFAULT_BUSINESS_REF_ID, null))
+        .given(transactionPort)
+        .save(any());
+  }
 }
@@ -0,0 +1,170 @@
+package com.securities.kuku.ledger.application.service.archive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.ledger.application.port.in.result.JournalArchiveResult;
+import com.securities.kuku.ledger.application.port.out.JournalArchivePort;
+import com.securities.kuku.ledger.application.port.out.JournalPartitionPort;
+import com.securities.kuku.ledger.application.port.out.JournalPartitionPort.Partition;
+import com.securities.kuku.ledger.config.JournalArchiveProperties;
+import com.securities.kuku.ledger.domain.JournalArchive;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class JournalArchiveServiceTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2026-03-15T03:00:00Z");
+  private static final Instant JAN_2025 = Instant.parse("2025-01-01T00:00:00Z");
+  private static final Instant FEB_2025 = Instant.parse("2025-02-01T00:00:00Z");
+  private static final Instant MAR_2025 = Instant.parse("2025-03-01T00:00:00Z");
+  private static final Instant JUN_2026 = Instant.parse("2026-06-01T00:00:00Z");
+  private static final Instant JUL_2026 = Instant.parse("2026-07-01T00:00:00Z");
+
+  private JournalArchiveService sut;
+
+  private JournalPartitionPort journalPartitionPort;
+  private JournalArchivePort journalArchivePort;
+  private JournalArchivePort.Writer writer;
+
+  @BeforeEach
+  void setUp() {
+    journalPartitionPort = mock(JournalPartitionPort.class);
+    journalArchivePort = mock(JournalArchivePort.class);
+    writer = mock(JournalArchivePort.Writer.class);
+    given(journalArchivePort.openWriter(anyString())).willReturn(writer);
+    given(journalArchivePort.findArchives()).willReturn(List.of());
+
+    Clock clock = Clock.fixed(FIXED_TIME, ZoneId.of("UTC"));
+    JournalArchiveProperties properties =
+        new JournalArchiveProperties(12, 3, Path.of("archive"), 10_000, null);
+    sut = new JournalArchiveService(clock, journalPartitionPort, journalArchivePort, properties);
+  }
+
+  @Test
+  @DisplayName("이번 달부터 futureMonths개월 뒤까지 없는 파티션을 만든다")
+  void archive_addsUpcomingPartitions() {
+    // Given
+    given(journalPartitionPort.findPartitions())
+        .willReturn(
+            List.of(
+                new Partition("p202604", Instant.parse("2026-05-01T00:00:00Z")),
+                new Partition("p_max", null)));
+
+    // When
+    JournalArchiveResult result = sut.archive();
+
+    // Then
+    assertThat(result.createdPartitions()).containsExactly("p202605", "p202606");
+    then(journalPartitionPort).should().addPartition("p202605", JUN_2026);
+    then(journalPartitionPort).should().addPartition("p202606", JUL_2026);
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지난 파티션은 파일로 쓰고 ARCHIVED 표시 후 지운다")
+  void archive_writesMarksAndDropsExpiredPartitions() {
+    // Given
+    given(journalPartitionPort.findPartitions())
+        .willReturn(
+            List.of(
+                new Partition("p202501", FEB_2025),
+                new Partition("p202502", MAR_2025),
+                new Partition("p202606", JUL_2026),
+                new Partition("p_max", null)));
+    given(journalPartitionPort.countRows("p202501")).willReturn(3L);
+    given(writer.finish(FIXED_TIME)).willReturn(written("p202501", 3));
+
+    // When
+    JournalArchiveResult result = sut.archive();
+
+    // Then
+    assertThat(result.horizon()).isEqualTo(MAR_2025);
+    assertThat(result.archivedPartitions()).containsExactly("p202501", "p202502");
+    assertThat(result.archivedRows()).isEqualTo(3);
+
+    InOrder order = inOrder(journalPartitionPort, journalArchivePort, writer);
+    order.verify(journalPartitionPort).forEachRow(any(), any());
+    order.verify(writer).finish(FIXED_TIME);
+    order.verify(journalArchivePort).save(written("p202501", 3).markArchived(FIXED_TIME));
+    order.verify(journalPartitionPort).dropPartition("p202501");
+    // 빈 파티션은 파일 없이 지운다
+    then(journalArchivePort).should().openWriter("p202501");
+    then(journalArchivePort).should(never()).openWriter("p202502");
+    then(journalPartitionPort).should().dropPartition("p202502");
+    then(journalPartitionPort).should(never()).dropPartition("p202606");
+  }
+
+  @Test
+  @DisplayName("ARCHIVED 표시 후 지우기 전에 중단된 파티션은 다시 쓰지 않고 지우기만 한다")
+  void archive_onlyDrops_whenAlreadyArchived() {
+    // Given
+    given(journalPartitionPort.findPartitions())
+        .willReturn(
+            List.of(new Partition("p202501", FEB_2025), new Partition("p202606", JUL_2026)));
+    given(journalArchivePort.findArchives())
+        .willReturn(List.of(written("p202501", 5).markArchived(JAN_2025)));
+
+    // When
+    JournalArchiveResult result = sut.archive();
+
+    // Then
+    assertThat(result.archivedRows()).isEqualTo(5);
+    then(journalArchivePort).should(never()).openWriter(anyString());
+    then(journalPartitionPort).should().dropPartition("p202501");
+  }
+
+  @Test
+  @DisplayName("쓴 행 수가 파티션 행 수와 다르면 파티션을 지우지 않는다")
+  void archive_keepsPartition_whenRowCountMismatches() {
+    // Given
+    given(journalPartitionPort.findPartitions())
+        .willReturn(
+            List.of(new Partition("p202501", FEB_2025), new Partition("p202606", JUL_2026)));
+    given(journalPartitionPort.countRows("p202501")).willReturn(3L);
+    given(writer.finish(FIXED_TIME)).willReturn(written("p202501", 2));
+
+    // When & Then
+    assertThatThrownBy(() -> sut.archive())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("p202501");
+    then(journalArchivePort).should(never()).save(any());
+    then(journalPartitionPort).should(never()).dropPartition(anyString());
+  }
+
+  @Test
+  @DisplayName("파티션이 없는 테이블이면 예외가 발생한다")
+  void archive_throws_whenNotPartitioned() {
+    // Given
+    given(journalPartitionPort.findPartitions()).willReturn(List.of());
+
+    // When & Then
+    assertThatThrownBy(() -> sut.archive())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("not partitioned");
+  }
+
+  private static JournalArchive written(String partitionName, long rowCount) {
+    return new JournalArchive(
+        partitionName,
+        JAN_2025,
+        FEB_2025,
+        rowCount,
+        "archive/" + partitionName + ".csv.gz",
+        JournalArchive.Status.WRITTEN,
+        FIXED_TIME);
+  }
+}
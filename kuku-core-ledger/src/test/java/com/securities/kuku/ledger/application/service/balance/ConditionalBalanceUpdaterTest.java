@@ -0,0 +1,109 @@
+package com.securities.kuku.ledger.application.service.balance;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalanceDeltaPort;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ConditionalBalanceUpdaterTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-12-09T15:00:00Z");
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Long TRANSACTION_ID = 999L;
+  private static final Money AMOUNT = Money.of(500);
+
+  private ConditionalBalanceUpdater sut;
+
+  private BalanceDeltaPort balanceDeltaPort;
+  private BalancePort balancePort;
+
+  @BeforeEach
+  void setUp() {
+    balanceDeltaPort = mock(BalanceDeltaPort.class);
+    balancePort = mock(BalancePort.class);
+    sut = new ConditionalBalanceUpdater(balanceDeltaPort, balancePort);
+  }
+
+  @Test
+  @DisplayName("출금 사전 확인은 잔액을 조회하지 않는다")
+  void verifyWithdrawable_doesNotReadBalance() {
+    // When
+    sut.verifyWithdrawable(ACCOUNT_ID, AMOUNT);
+
+    // Then
+    then(balancePort).shouldHaveNoInteractions();
+    then(balanceDeltaPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("조건부 차감이 반영되면 잔액을 다시 조회하지 않는다")
+  void withdraw_doesNotReadBalance_whenDecreased() {
+    // Given
+    given(balanceDeltaPort.decreaseIfAvailable(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .willReturn(true);
+
+    // When
+    assertThatCode(() -> sut.withdraw(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .doesNotThrowAnyException();
+
+    // Then
+    then(balancePort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("조건부 차감이 반영되지 않으면 현재 가용 잔액과 함께 InsufficientBalanceException이 발생한다")
+  void withdraw_throwsInsufficientBalance_whenNotDecreased() {
+    // Given
+    given(balanceDeltaPort.decreaseIfAvailable(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .willReturn(false);
+    given(balancePort.findByAccountId(ACCOUNT_ID))
+        .willReturn(
+            Optional.of(
+                new Balance(
+                    ACCOUNT_ID, Money.of(400), Money.ZERO, 3L, 1L, FIXED_TIME)));
+
+    // When & Then
+    assertThatThrownBy(() -> sut.withdraw(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .isInstanceOf(InsufficientBalanceException.class)
+        .hasMessageContaining("Insufficient");
+  }
+
+  @Test
+  @DisplayName("잔액 행이 없으면 출금 시 예외가 발생한다")
+  void withdraw_throwsException_whenBalanceNotFound() {
+    // Given
+    given(balanceDeltaPort.decreaseIfAvailable(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .willReturn(false);
+    given(balancePort.findByAccountId(ACCOUNT_ID)).willReturn(Optional.empty());
+
+    // When & Then
+    assertThatThrownBy(() -> sut.withdraw(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Balance not found");
+  }
+
+  @Test
+  @DisplayName("잔액 행이 없으면 입금 시 예외가 발생한다")
+  void deposit_throwsException_whenBalanceNotFound() {
+    // Given
+    given(balanceDeltaPort.increase(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .willReturn(false);
+
+    // When & Then
+    assertThatThrownBy(() -> sut.deposit(ACCOUNT_ID, AMOUNT, TRANSACTION_ID, FIXED_TIME))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Balance not found");
+  }
+}
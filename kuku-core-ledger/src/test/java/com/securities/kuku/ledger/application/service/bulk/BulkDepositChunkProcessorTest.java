@@ -0,0 +1,278 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult.Status;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.BulkDepositCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.application.service.idempotency.IdempotencyGuard;
+import com.securities.kuku.ledger.config.IdempotencyProperties;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class BulkDepositChunkProcessorTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final String BATCH_ID = "dividend-2025-01";
+  private static final Long ACCOUNT_A = 1L;
+  private static final Long ACCOUNT_B = 2L;
+  private static final Long UNKNOWN_ACCOUNT = 99L;
+  private static final Money INITIAL_BALANCE = Money.of(1000);
+
+  private BulkDepositChunkProcessor sut;
+
+  private BalancePort balancePort;
+  private TransactionPort transactionPort;
+  private JournalEntryPort journalEntryPort;
+  private OutboxEventRecorder outboxEventRecorder;
+  private BulkDepositCheckpointPort checkpointPort;
+
+  @BeforeEach
+  void setUp() {
+    balancePort = mock(BalancePort.class);
+    transactionPort = mock(TransactionPort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    outboxEventRecorder = mock(OutboxEventRecorder.class);
+    checkpointPort = mock(BulkDepositCheckpointPort.class);
+
+    sut =
+        new BulkDepositChunkProcessor(
+            Clock.fixed(FIXED_TIME, ZoneId.of("UTC")),
+            balancePort,
+            transactionPort,
+            journalEntryPort,
+            outboxEventRecorder,
+            new IdempotencyGuard(transactionPort, new IdempotencyProperties(1_000, 0.01, 100)),
+            checkpointPort);
+
+    given(balancePort.findByAccountIds(anySet()))
+        .willReturn(Map.of(ACCOUNT_A, balance(ACCOUNT_A), ACCOUNT_B, balance(ACCOUNT_B)));
+    given(transactionPort.findExistingBusinessRefIds(anyCollection())).willReturn(Set.of());
+    setupSaveAllAssigningIds();
+  }
+
+  @Nested
+  @DisplayName("청크 반영")
+  class ChunkApply {
+
+    @Test
+    @DisplayName("청크의 Transaction과 분개를 각각 한 번의 saveAll로 저장한다")
+    void savesTransactionsAndJournalEntriesInSingleBatch() {
+      // When
+      sut.process(
+          BATCH_ID, 0, List.of(deposit(ACCOUNT_A, "ref-1", "100"), deposit(ACCOUNT_B, "ref-2")));
+
+      // Then
+      ArgumentCaptor<List<Transaction>> transactionCaptor = listCaptor();
+      then(transactionPort).should().saveAll(transactionCaptor.capture());
+      assertThat(transactionCaptor.getValue()).hasSize(2);
+
+      ArgumentCaptor<Collection<JournalEntry>> journalCaptor = collectionCaptor();
+      then(journalEntryPort).should().saveAll(journalCaptor.capture());
+      assertThat(journalCaptor.getValue())
+          .extracting(JournalEntry::getAccountId)
+          .containsExactly(ACCOUNT_A, ACCOUNT_B);
+    }
+
+    @Test
+    @DisplayName("같은 계좌로의 입금은 합산되어 계좌당 하나의 잔액으로 updateAll 된다")
+    void updatesEachBalanceOnceWithSummedAmount() {
+      // When
+      sut.process(
+          BATCH_ID,
+          0,
+          List.of(
+              deposit(ACCOUNT_A, "ref-1", "100"),
+              deposit(ACCOUNT_B, "ref-2"),
+              deposit(ACCOUNT_A, "ref-3", "200")));
+
+      // Then
+      ArgumentCaptor<Collection<Balance>> captor = collectionCaptor();
+      then(balancePort).should().updateAll(captor.capture());
+      assertThat(captor.getValue()).hasSize(2);
+      assertThat(captor.getValue())
+          .filteredOn(balance -> balance.getAccountId().equals(ACCOUNT_A))
+          .singleElement()
+          .satisfies(
+              balance -> {
+                assertThat(balance.getAmount()).isEqualTo(Money.of(1300));
+                assertThat(balance.getLastTransactionId()).isEqualTo(3L);
+              });
+    }
+
+    @Test
+    @DisplayName("Outbox 이벤트를 한 번에 기록한다")
+    void recordsOutboxEventsInSingleBatch() {
+      // When
+      sut.process(
+          BATCH_ID, 0, List.of(deposit(ACCOUNT_A, "ref-1", "100"), deposit(ACCOUNT_B, "ref-2")));
+
+      // Then
+      ArgumentCaptor<List<LedgerPostedEvent>> captor = listCaptor();
+      then(outboxEventRecorder).should().recordAll(captor.capture());
+      assertThat(captor.getValue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("청크를 반영하면 다음 시작 위치를 체크포인트로 기록한다")
+    void savesCheckpointAfterChunk() {
+      // When
+      sut.process(
+          BATCH_ID, 500, List.of(deposit(ACCOUNT_A, "ref-1", "100"), deposit(ACCOUNT_B, "ref-2")));
+
+      // Then
+      then(checkpointPort).should().save(BATCH_ID, 502, FIXED_TIME);
+    }
+  }
+
+  @Nested
+  @DisplayName("건별 결과")
+  class PerItemResult {
+
+    @Test
+    @DisplayName("결과의 index는 입력 스트림에서의 위치이다")
+    void resultIndexIsStreamPosition() {
+      // When
+      List<ItemResult> results =
+          sut.process(
+              BATCH_ID,
+              500,
+              List.of(deposit(ACCOUNT_A, "ref-1", "100"), deposit(ACCOUNT_B, "ref-2")));
+
+      // Then
+      assertThat(results).extracting(ItemResult::index).containsExactly(500, 501);
+    }
+
+    @Test
+    @DisplayName("이미 저장되었거나 청크 안에서 반복된 businessRefId는 중복으로 처리된다 (멱등성)")
+    void marksDuplicates() {
+      // Given
+      given(transactionPort.findExistingBusinessRefIds(anyCollection()))
+          .willReturn(Set.of("ref-1"));
+
+      // When
+      List<ItemResult> results =
+          sut.process(
+              BATCH_ID,
+              0,
+              List.of(
+                  deposit(ACCOUNT_A, "ref-1", "100"),
+                  deposit(ACCOUNT_A, "ref-2", "100"),
+                  deposit(ACCOUNT_B, "ref-2")));
+
+      // Then
+      assertThat(results)
+          .extracting(ItemResult::status)
+          .containsExactly(Status.DUPLICATE, Status.POSTED, Status.DUPLICATE);
+    }
+
+    @Test
+    @DisplayName("잔액이 없는 계좌로의 입금만 거절되고 나머지는 반영된다")
+    void rejectsOnlyDepositToUnknownAccount() {
+      // When
+      List<ItemResult> results =
+          sut.process(
+              BATCH_ID,
+              0,
+              List.of(deposit(UNKNOWN_ACCOUNT, "ref-1", "100"), deposit(ACCOUNT_A, "ref-2")));
+
+      // Then
+      assertThat(results)
+          .extracting(ItemResult::status)
+          .containsExactly(Status.REJECTED, Status.POSTED);
+      assertThat(results.get(0).reason()).isEqualTo("Balance not found: " + UNKNOWN_ACCOUNT);
+    }
+
+    @Test
+    @DisplayName("반영할 요청이 없어도 체크포인트는 전진한다")
+    void advancesCheckpoint_whenNothingPosted() {
+      // Given
+      given(transactionPort.findExistingBusinessRefIds(anyCollection()))
+          .willReturn(Set.of("ref-1"));
+
+      // When
+      sut.process(BATCH_ID, 0, List.of(deposit(ACCOUNT_A, "ref-1", "100")));
+
+      // Then
+      then(transactionPort).should(never()).saveAll(anyList());
+      then(balancePort).should(never()).updateAll(any());
+      then(checkpointPort).should().save(BATCH_ID, 1, FIXED_TIME);
+    }
+  }
+
+  private DepositCommand deposit(Long accountId, String businessRefId, String amount) {
+    return DepositCommand.of(
+        accountId, Money.of(new BigDecimal(amount)), "Dividend", businessRefId);
+  }
+
+  private DepositCommand deposit(Long accountId, String businessRefId) {
+    return deposit(accountId, businessRefId, "50");
+  }
+
+  private Balance balance(Long accountId) {
+    return new Balance(accountId, INITIAL_BALANCE, Money.ZERO, 0L, null, FIXED_TIME);
+  }
+
+  private void setupSaveAllAssigningIds() {
+    AtomicLong sequence = new AtomicLong();
+    given(transactionPort.saveAll(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<Transaction> transactions = invocation.getArgument(0);
+              List<Transaction> saved = new ArrayList<>();
+              for (Transaction tx : transactions) {
+                saved.add(
+                    new Transaction(
+                        sequence.incrementAndGet(),
+                        tx.getType(),
+                        tx.getDescription(),
+                        tx.getBusinessRefId(),
+                        tx.getStatus(),
+                        tx.getReversalOfTransactionId(),
+                        tx.getCreatedAt()));
+              }
+              return saved;
+            });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ArgumentCaptor<List<T>> listCaptor() {
+    return ArgumentCaptor.forClass(List.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ArgumentCaptor<Collection<T>> collectionCaptor() {
+    return ArgumentCaptor.forClass(Collection.class);
+  }
+}
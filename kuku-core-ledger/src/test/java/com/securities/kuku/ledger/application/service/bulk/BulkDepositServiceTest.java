@@ -0,0 +1,133 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BulkDepositResult;
+import com.securities.kuku.ledger.application.port.out.BulkDepositCheckpointPort;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
+import com.securities.kuku.ledger.config.BulkDepositProperties;
+import java.util.List;
+import java.util.OptionalInt;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkDepositServiceTest {
+
+  private static final String BATCH_ID = "dividend-2025-01";
+  private static final int CHUNK_SIZE = 2;
+
+  private BulkDepositService sut;
+
+  private BulkDepositChunkProcessor chunkProcessor;
+  private BulkDepositCheckpointPort checkpointPort;
+
+  @BeforeEach
+  void setUp() {
+    chunkProcessor = mock(BulkDepositChunkProcessor.class);
+    checkpointPort = mock(BulkDepositCheckpointPort.class);
+    sut =
+        new BulkDepositService(
+            chunkProcessor,
+            checkpointPort,
+            new BulkDepositProperties(CHUNK_SIZE),
+            new LedgerLogModeGuard(false));
+
+    given(checkpointPort.findNextIndex(BATCH_ID)).willReturn(OptionalInt.empty());
+    given(chunkProcessor.process(eq(BATCH_ID), anyInt(), anyList()))
+        .willAnswer(
+            invocation -> {
+              int startIndex = invocation.getArgument(1);
+              List<DepositCommand> chunk = invocation.getArgument(2);
+              return IntStream.range(0, chunk.size())
+                  .mapToObj(i -> ItemResult.posted(startIndex + i, chunk.get(i).businessRefId()))
+                  .toList();
+            });
+  }
+
+  @Test
+  @DisplayName("요청을 chunkSize 단위로 나누어 처리하고 건별 결과를 모은다")
+  void processesInChunks() {
+    // When
+    BulkDepositResult result = sut.depositAll(BATCH_ID, deposits(5));
+
+    // Then
+    then(chunkProcessor).should().process(BATCH_ID, 0, List.of(deposit(0), deposit(1)));
+    then(chunkProcessor).should().process(BATCH_ID, 2, List.of(deposit(2), deposit(3)));
+    then(chunkProcessor).should().process(BATCH_ID, 4, List.of(deposit(4)));
+    assertThat(result.items()).extracting(ItemResult::index).containsExactly(0, 1, 2, 3, 4);
+    assertThat(result.nextIndex()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("체크포인트가 있으면 커밋된 요청을 건너뛰고 이어서 처리한다")
+  void resumesFromCheckpoint() {
+    // Given
+    given(checkpointPort.findNextIndex(BATCH_ID)).willReturn(OptionalInt.of(4));
+
+    // When
+    BulkDepositResult result = sut.depositAll(BATCH_ID, deposits(5));
+
+    // Then
+    then(chunkProcessor).should().process(BATCH_ID, 4, List.of(deposit(4)));
+    assertThat(result.resumedFrom()).isEqualTo(4);
+    assertThat(result.items()).extracting(ItemResult::index).containsExactly(4);
+  }
+
+  @Test
+  @DisplayName("이미 끝난 배치를 다시 호출하면 아무것도 처리하지 않는다")
+  void doesNothing_whenBatchAlreadyCompleted() {
+    // Given
+    given(checkpointPort.findNextIndex(BATCH_ID)).willReturn(OptionalInt.of(5));
+
+    // When
+    BulkDepositResult result = sut.depositAll(BATCH_ID, deposits(5));
+
+    // Then
+    then(chunkProcessor).should(never()).process(eq(BATCH_ID), anyInt(), anyList());
+    assertThat(result.items()).isEmpty();
+    assertThat(result.nextIndex()).isEqualTo(5);
+  }
+
+  @Test
+  @DisplayName("청크 처리가 실패하면 이후 청크는 처리하지 않고 예외가 전파된다")
+  void propagatesChunkFailure() {
+    // Given
+    given(chunkProcessor.process(BATCH_ID, 2, List.of(deposit(2), deposit(3))))
+        .willThrow(new IllegalStateException("DB down"));
+
+    // When & Then
+    assertThatThrownBy(() -> sut.depositAll(BATCH_ID, deposits(5)))
+        .isInstanceOf(IllegalStateException.class);
+    then(chunkProcessor).should(never()).process(BATCH_ID, 4, List.of(deposit(4)));
+  }
+
+  @Test
+  @DisplayName("batchId가 비어 있으면 예외가 발생한다")
+  void throwsException_whenBatchIdBlank() {
+    assertThatThrownBy(() -> sut.depositAll(" ", deposits(1)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Batch ID cannot be null or empty");
+  }
+
+  private Stream<DepositCommand> deposits(int count) {
+    return IntStream.range(0, count).mapToObj(this::deposit);
+  }
+
+  private DepositCommand deposit(int index) {
+    return DepositCommand.of((long) index + 1, Money.of(10), "Dividend", "div-" + index);
+  }
+}
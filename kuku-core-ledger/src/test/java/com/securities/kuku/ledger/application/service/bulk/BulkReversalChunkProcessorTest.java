@@ -0,0 +1,297 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anySet;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult.Status;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionStatus;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+class BulkReversalChunkProcessorTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_A = 300L;
+  private static final Long ACCOUNT_B = 100L;
+  private static final Long ACCOUNT_C = 200L;
+  private static final String REASON = "Duplicated dividend run";
+
+  private BulkReversalChunkProcessor sut;
+
+  private TransactionPort transactionPort;
+  private JournalEntryPort journalEntryPort;
+  private BalancePort balancePort;
+  private OutboxEventRecorder outboxEventRecorder;
+
+  @BeforeEach
+  void setUp() {
+    transactionPort = mock(TransactionPort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    balancePort = mock(BalancePort.class);
+    outboxEventRecorder = mock(OutboxEventRecorder.class);
+
+    sut =
+        new BulkReversalChunkProcessor(
+            Clock.fixed(FIXED_TIME, ZoneId.of("UTC")),
+            transactionPort,
+            journalEntryPort,
+            balancePort,
+            outboxEventRecorder);
+
+    // 1, 2: 계좌 A·B에 각각 100 입금 / 3: 계좌 C에 100 입금 / 4: 이미 역분개됨
+    given(transactionPort.findByIds(anySet()))
+        .willReturn(
+            Map.of(
+                1L,
+                transaction(1L, TransactionStatus.POSTED),
+                2L,
+                transaction(2L, TransactionStatus.POSTED),
+                3L,
+                transaction(3L, TransactionStatus.POSTED),
+                4L,
+                transaction(4L, TransactionStatus.REVERSED)));
+    given(journalEntryPort.findByTransactionIds(anyCollection()))
+        .willReturn(
+            List.of(
+                credit(1L, ACCOUNT_A),
+                credit(1L, ACCOUNT_B),
+                credit(2L, ACCOUNT_A),
+                credit(2L, ACCOUNT_B),
+                credit(3L, ACCOUNT_C),
+                credit(4L, ACCOUNT_A)));
+    given(balancePort.findByAccountIds(anySet()))
+        .willReturn(
+            Map.of(
+                ACCOUNT_A,
+                balance(ACCOUNT_A, "1000"),
+                ACCOUNT_B,
+                balance(ACCOUNT_B, "1000"),
+                ACCOUNT_C,
+                balance(ACCOUNT_C, "50")));
+    setupSaveAllAssigningIds();
+  }
+
+  @Nested
+  @DisplayName("청크 반영")
+  class ChunkApply {
+
+    @Test
+    @DisplayName("청크의 분개를 한 번의 쿼리로 조회한다")
+    void loadsJournalEntriesOnce() {
+      // When
+      sut.process(List.of(command(1L), command(2L)));
+
+      // Then
+      then(journalEntryPort).should().findByTransactionIds(anyCollection());
+      then(journalEntryPort).should(never()).findByTransactionId(any());
+    }
+
+    @Test
+    @DisplayName("여러 트랜잭션에 걸친 같은 계좌의 증감은 합산되어 한 번만 갱신된다")
+    void netsBalanceChangesPerAccount() {
+      // When
+      sut.process(List.of(command(1L), command(2L)));
+
+      // Then
+      ArgumentCaptor<Collection<Balance>> captor = collectionCaptor();
+      then(balancePort).should().updateAll(captor.capture());
+      assertThat(captor.getValue())
+          .extracting(Balance::getAmount)
+          .containsExactly(Money.of(800), Money.of(800));
+    }
+
+    @Test
+    @DisplayName("잔액은 계좌 ID 오름차순으로 갱신된다")
+    void updatesBalancesInAscendingAccountIdOrder() {
+      // When
+      sut.process(List.of(command(1L), command(2L)));
+
+      // Then
+      ArgumentCaptor<Collection<Balance>> captor = collectionCaptor();
+      then(balancePort).should().updateAll(captor.capture());
+      assertThat(captor.getValue())
+          .extracting(Balance::getAccountId)
+          .containsExactly(ACCOUNT_B, ACCOUNT_A);
+    }
+
+    @Test
+    @DisplayName("원 트랜잭션을 REVERSED로 바꾸고 반대 분개와 이벤트를 한 번에 저장한다")
+    void savesReversalsInBatch() {
+      // When
+      sut.process(List.of(command(1L), command(2L)));
+
+      // Then
+      ArgumentCaptor<Collection<Transaction>> updatedCaptor = collectionCaptor();
+      then(transactionPort)
+          .should()
+          .updateAll(updatedCaptor.capture(), eq(TransactionStatus.POSTED));
+      assertThat(updatedCaptor.getValue())
+          .extracting(Transaction::getStatus)
+          .containsExactly(TransactionStatus.REVERSED, TransactionStatus.REVERSED);
+
+      ArgumentCaptor<Collection<JournalEntry>> entryCaptor = collectionCaptor();
+      then(journalEntryPort).should().saveAll(entryCaptor.capture());
+      assertThat(entryCaptor.getValue())
+          .extracting(JournalEntry::getEntryType)
+          .containsOnly(JournalEntry.EntryType.DEBIT)
+          .hasSize(4);
+
+      ArgumentCaptor<List<LedgerReversedEvent>> eventCaptor = listCaptor();
+      then(outboxEventRecorder).should().recordAll(eventCaptor.capture());
+      assertThat(eventCaptor.getValue()).hasSize(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("트랜잭션별 결과")
+  class PerTransactionResult {
+
+    @Test
+    @DisplayName("역분개할 수 없는 트랜잭션만 거절되고 나머지는 반영된다")
+    void rejectsOnlyInvalidTransactions() {
+      // When
+      List<ItemResult> results =
+          sut.process(List.of(command(4L), command(3L), command(9L), command(1L)));
+
+      // Then
+      assertThat(results)
+          .extracting(ItemResult::status)
+          .containsExactly(Status.REJECTED, Status.REJECTED, Status.REJECTED, Status.REVERSED);
+      assertThat(results.get(0).reason()).contains("already reversed");
+      assertThat(results.get(1).reason()).contains("Insufficient");
+      assertThat(results.get(2).reason()).isEqualTo("Transaction not found: 9");
+      assertThat(results.get(3).reversalTransactionId()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("거절된 트랜잭션의 계좌는 갱신하지 않는다")
+    void doesNotUpdateRejectedAccounts() {
+      // When
+      sut.process(List.of(command(3L), command(1L)));
+
+      // Then
+      ArgumentCaptor<Collection<Balance>> captor = collectionCaptor();
+      then(balancePort).should().updateAll(captor.capture());
+      assertThat(captor.getValue())
+          .extracting(Balance::getAccountId)
+          .containsExactly(ACCOUNT_B, ACCOUNT_A);
+    }
+
+    @Test
+    @DisplayName("다른 요청이 먼저 역분개하여 상태 변경이 충돌하면 잔액을 갱신하지 않고 예외를 전파한다")
+    void propagatesConflict_whenOriginalAlreadyReversedConcurrently() {
+      // Given
+      willThrow(new ObjectOptimisticLockingFailureException(Transaction.class, 1L))
+          .given(transactionPort)
+          .updateAll(anyCollection(), eq(TransactionStatus.POSTED));
+
+      // When & Then
+      assertThatThrownBy(() -> sut.process(List.of(command(1L))))
+          .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+      then(balancePort).should(never()).updateAll(any());
+      then(outboxEventRecorder).should(never()).recordAll(anyList());
+    }
+
+    @Test
+    @DisplayName("역분개할 트랜잭션이 없으면 아무것도 저장하지 않는다")
+    void savesNothing_whenAllRejected() {
+      // When
+      sut.process(List.of(command(4L)));
+
+      // Then
+      then(transactionPort).should(never()).saveAll(anyList());
+      then(balancePort).should(never()).updateAll(any());
+    }
+  }
+
+  private ReversalCommand command(Long transactionId) {
+    return ReversalCommand.of(transactionId, REASON);
+  }
+
+  private Transaction transaction(Long transactionId, TransactionStatus status) {
+    return new Transaction(
+        transactionId,
+        TransactionType.DEPOSIT,
+        "Dividend",
+        "REF-" + transactionId,
+        status,
+        null,
+        FIXED_TIME);
+  }
+
+  private JournalEntry credit(Long transactionId, Long accountId) {
+    return JournalEntry.createCredit(transactionId, accountId, Money.of(100), FIXED_TIME);
+  }
+
+  private Balance balance(Long accountId, String amount) {
+    return new Balance(
+        accountId, Money.of(new BigDecimal(amount)), Money.ZERO, 0L, null, FIXED_TIME);
+  }
+
+  private void setupSaveAllAssigningIds() {
+    AtomicLong sequence = new AtomicLong(1_000L);
+    given(transactionPort.saveAll(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<Transaction> transactions = invocation.getArgument(0);
+              List<Transaction> saved = new ArrayList<>();
+              for (Transaction tx : transactions) {
+                saved.add(
+                    new Transaction(
+                        sequence.incrementAndGet(),
+                        tx.getType(),
+                        tx.getDescription(),
+                        tx.getBusinessRefId(),
+                        tx.getStatus(),
+                        tx.getReversalOfTransactionId(),
+                        tx.getCreatedAt()));
+              }
+              return saved;
+            });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ArgumentCaptor<List<T>> listCaptor() {
+    return ArgumentCaptor.forClass(List.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ArgumentCaptor<Collection<T>> collectionCaptor() {
+    return ArgumentCaptor.forClass(Collection.class);
+  }
+}
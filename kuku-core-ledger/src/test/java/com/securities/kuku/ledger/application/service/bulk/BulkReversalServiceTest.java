@@ -0,0 +1,51 @@
+package com.securities.kuku.ledger.application.service.bulk;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.securities.kuku.ledger.application.port.in.command.ReversalCommand;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult.ItemResult;
+import com.securities.kuku.ledger.application.port.in.result.BulkReversalResult;
+import com.securities.kuku.ledger.application.service.wal.LedgerLogModeGuard;
+import com.securities.kuku.ledger.config.BulkReversalProperties;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BulkReversalServiceTest {
+
+  @Test
+  @DisplayName("요청을 chunkSize 단위로 나누어 처리하고 결과를 요청 순서대로 모은다")
+  void processesInChunks() {
+    // Given
+    BulkReversalChunkProcessor chunkProcessor = mock(BulkReversalChunkProcessor.class);
+    BulkReversalService sut =
+        new BulkReversalService(
+            chunkProcessor, new BulkReversalProperties(2), new LedgerLogModeGuard(false));
+    given(chunkProcessor.process(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<ReversalCommand> chunk = invocation.getArgument(0);
+              return chunk.stream()
+                  .map(command -> ItemResult.reversed(command.originalTransactionId(), 0L))
+                  .toList();
+            });
+    List<ReversalCommand> commands =
+        LongStream.rangeClosed(1, 5).mapToObj(id -> ReversalCommand.of(id, "Rollback")).toList();
+
+    // When
+    BulkReversalResult result = sut.reverseAll(commands);
+
+    // Then
+    then(chunkProcessor).should().process(commands.subList(0, 2));
+    then(chunkProcessor).should().process(commands.subList(2, 4));
+    then(chunkProcessor).should().process(commands.subList(4, 5));
+    assertThat(result.items())
+        .extracting(ItemResult::originalTransactionId)
+        .containsExactly(1L, 2L, 3L, 4L, 5L);
+  }
+}
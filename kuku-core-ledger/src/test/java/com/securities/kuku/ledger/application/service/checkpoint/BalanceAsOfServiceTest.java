@@ -0,0 +1,88 @@
+package com.securities.kuku.ledger.application.service.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.domain.Account;
+import com.securities.kuku.ledger.domain.AccountType;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import java.time.Instant;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BalanceAsOfServiceTest {
+
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Instant CHECKPOINT_AT = Instant.parse("2025-03-30T15:00:00Z");
+  private static final Instant AS_OF = Instant.parse("2025-03-31T06:30:00Z");
+
+  private BalanceAsOfService sut;
+
+  private AccountPort accountPort;
+  private BalanceCheckpointPort balanceCheckpointPort;
+  private JournalEntryPort journalEntryPort;
+
+  @BeforeEach
+  void setUp() {
+    accountPort = mock(AccountPort.class);
+    balanceCheckpointPort = mock(BalanceCheckpointPort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    sut = new BalanceAsOfService(accountPort, balanceCheckpointPort, journalEntryPort);
+
+    Account account =
+        new Account(ACCOUNT_ID, 100L, "ACC-1", "KRW", AccountType.USER_CASH, CHECKPOINT_AT);
+    given(accountPort.findById(ACCOUNT_ID)).willReturn(Optional.of(account));
+  }
+
+  @Test
+  @DisplayName("가장 가까운 체크포인트에 이후 분개 합계만 더한다")
+  void getBalanceAsOf_replaysTailAfterCheckpoint() {
+    // Given
+    given(balanceCheckpointPort.findLatest(ACCOUNT_ID, AS_OF))
+        .willReturn(
+            Optional.of(
+                new BalanceCheckpoint(
+                    ACCOUNT_ID, CHECKPOINT_AT, Money.of(1000), CHECKPOINT_AT)));
+    given(journalEntryPort.sumSignedAmount(ACCOUNT_ID, CHECKPOINT_AT, AS_OF))
+        .willReturn(Money.of(-250));
+
+    // When
+    Money balance = sut.getBalanceAsOf(ACCOUNT_ID, AS_OF);
+
+    // Then
+    assertThat(balance).isEqualTo(Money.of(750));
+  }
+
+  @Test
+  @DisplayName("체크포인트가 없으면 처음부터 합산한다")
+  void getBalanceAsOf_sumsFromOrigin_whenNoCheckpoint() {
+    // Given
+    given(balanceCheckpointPort.findLatest(ACCOUNT_ID, AS_OF)).willReturn(Optional.empty());
+    given(journalEntryPort.sumSignedAmount(ACCOUNT_ID, Instant.EPOCH, AS_OF))
+        .willReturn(Money.of(400));
+
+    // When
+    Money balance = sut.getBalanceAsOf(ACCOUNT_ID, AS_OF);
+
+    // Then
+    assertThat(balance).isEqualTo(Money.of(400));
+  }
+
+  @Test
+  @DisplayName("존재하지 않는 계좌면 예외가 발생한다")
+  void getBalanceAsOf_throwsException_whenAccountNotFound() {
+    given(accountPort.findById(99L)).willReturn(Optional.empty());
+
+    assertThatThrownBy(() -> sut.getBalanceAsOf(99L, AS_OF))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Account not found");
+  }
+}
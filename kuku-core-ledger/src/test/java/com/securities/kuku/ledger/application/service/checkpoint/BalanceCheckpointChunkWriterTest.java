@@ -0,0 +1,117 @@
+package com.securities.kuku.ledger.application.service.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class BalanceCheckpointChunkWriterTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-02T00:05:00Z");
+  private static final Instant PREVIOUS_CUTOFF = Instant.parse("2024-12-31T15:00:00Z");
+  private static final Instant CUTOFF = Instant.parse("2025-01-01T15:00:00Z");
+
+  private BalanceCheckpointChunkWriter sut;
+
+  private BalanceCheckpointPort balanceCheckpointPort;
+  private JournalEntryPort journalEntryPort;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(FIXED_TIME, ZoneId.of("UTC"));
+    balanceCheckpointPort = mock(BalanceCheckpointPort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    sut = new BalanceCheckpointChunkWriter(clock, balanceCheckpointPort, journalEntryPort);
+  }
+
+  @Test
+  @DisplayName("직전 체크포인트 시각별로 묶어 구간 합계를 구하고, 분개가 있는 계좌만 기록한다")
+  void write_checkpointsOnlyChangedAccounts() {
+    // Given: 1, 2번은 직전 체크포인트가 있고 3번은 체크포인트가 없음. 2번은 구간에 분개 없음
+    List<Long> accountIds = List.of(1L, 2L, 3L);
+    given(balanceCheckpointPort.findLatestByAccountIds(accountIds, CUTOFF))
+        .willReturn(
+            Map.of(
+                1L, checkpoint(1L, PREVIOUS_CUTOFF, "1000"),
+                2L, checkpoint(2L, PREVIOUS_CUTOFF, "500")));
+    given(journalEntryPort.sumSignedAmountByAccountIds(List.of(1L, 2L), PREVIOUS_CUTOFF, CUTOFF))
+        .willReturn(Map.of(1L, Money.of(-200)));
+    given(journalEntryPort.sumSignedAmountByAccountIds(List.of(3L), Instant.EPOCH, CUTOFF))
+        .willReturn(Map.of(3L, Money.of(300)));
+
+    // When
+    int written = sut.write(accountIds, CUTOFF);
+
+    // Then
+    assertThat(written).isEqualTo(2);
+    List<BalanceCheckpoint> saved = captureSaved();
+    assertThat(saved)
+        .extracting(BalanceCheckpoint::getAccountId, BalanceCheckpoint::getCheckpointAt)
+        .containsExactlyInAnyOrder(tuple(1L, CUTOFF), tuple(3L, CUTOFF));
+    assertThat(amountOf(saved, 1L)).isEqualTo(Money.of(800));
+    assertThat(amountOf(saved, 3L)).isEqualTo(Money.of(300));
+  }
+
+  @Test
+  @DisplayName("이미 같은 시각의 체크포인트가 있는 계좌는 합계를 조회하지 않는다")
+  void write_skipsAccountsAlreadyCheckpointed() {
+    // Given
+    List<Long> accountIds = List.of(1L);
+    given(balanceCheckpointPort.findLatestByAccountIds(accountIds, CUTOFF))
+        .willReturn(Map.of(1L, checkpoint(1L, CUTOFF, "1000")));
+
+    // When
+    int written = sut.write(accountIds, CUTOFF);
+
+    // Then
+    assertThat(written).isZero();
+    then(journalEntryPort)
+        .should(never())
+        .sumSignedAmountByAccountIds(anyCollection(), any(), any());
+    assertThat(captureSaved()).isEmpty();
+  }
+
+  private BalanceCheckpoint checkpoint(Long accountId, Instant checkpointAt, String amount) {
+    return new BalanceCheckpoint(
+        accountId, checkpointAt, Money.of(new BigDecimal(amount)), checkpointAt);
+  }
+
+  private List<BalanceCheckpoint> captureSaved() {
+    ArgumentCaptor<Collection<BalanceCheckpoint>> captor = collectionCaptor();
+    then(balanceCheckpointPort).should().saveAll(captor.capture());
+    return List.copyOf(captor.getValue());
+  }
+
+  private static Money amountOf(List<BalanceCheckpoint> checkpoints, Long accountId) {
+    return checkpoints.stream()
+        .filter(checkpoint -> checkpoint.getAccountId().equals(accountId))
+        .findFirst()
+        .orElseThrow()
+        .getAmount();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<Collection<BalanceCheckpoint>> collectionCaptor() {
+    return ArgumentCaptor.forClass(Collection.class);
+  }
+}
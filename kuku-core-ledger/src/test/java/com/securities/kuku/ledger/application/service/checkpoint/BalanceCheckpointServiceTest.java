@@ -0,0 +1,94 @@
+package com.securities.kuku.ledger.application.service.checkpoint;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.ledger.application.port.in.result.BalanceCheckpointResult;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.config.BalanceCheckpointProperties;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BalanceCheckpointServiceTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T15:05:00Z");
+  private static final Instant CUTOFF = Instant.parse("2025-01-01T15:00:00Z");
+
+  private BalanceCheckpointService sut;
+
+  private AccountPort accountPort;
+  private BalanceCheckpointChunkWriter chunkWriter;
+
+  @BeforeEach
+  void setUp() {
+    Clock clock = Clock.fixed(FIXED_TIME, ZoneId.of("UTC"));
+    accountPort = mock(AccountPort.class);
+    chunkWriter = mock(BalanceCheckpointChunkWriter.class);
+    BalanceCheckpointProperties properties =
+        new BalanceCheckpointProperties(
+            2, 2, Duration.ofMinutes(1), ZoneId.of("Asia/Seoul"), null);
+    sut = new BalanceCheckpointService(clock, accountPort, chunkWriter, properties);
+  }
+
+  @Test
+  @DisplayName("계좌를 ID 순으로 청크씩 읽어 모두 기록하고 결과를 합산한다")
+  void createCheckpoints_processesAllChunks() {
+    // Given
+    given(accountPort.findIdsAfter(Long.MIN_VALUE, 2)).willReturn(List.of(1L, 2L));
+    given(accountPort.findIdsAfter(2L, 2)).willReturn(List.of(3L, 4L));
+    given(accountPort.findIdsAfter(4L, 2)).willReturn(List.of(5L));
+    given(accountPort.findIdsAfter(5L, 2)).willReturn(List.of());
+    given(chunkWriter.write(List.of(1L, 2L), CUTOFF)).willReturn(2);
+    given(chunkWriter.write(List.of(3L, 4L), CUTOFF)).willReturn(0);
+    given(chunkWriter.write(List.of(5L), CUTOFF)).willReturn(1);
+
+    // When
+    BalanceCheckpointResult result = sut.createCheckpoints(CUTOFF);
+
+    // Then
+    assertThat(result.scannedAccounts()).isEqualTo(5);
+    assertThat(result.checkpointedAccounts()).isEqualTo(3);
+    assertThat(result.failedChunks()).isZero();
+  }
+
+  @Test
+  @DisplayName("실패한 청크는 건너뛰고 나머지 청크를 계속 처리한다")
+  void createCheckpoints_continuesAfterFailedChunk() {
+    // Given
+    given(accountPort.findIdsAfter(Long.MIN_VALUE, 2)).willReturn(List.of(1L, 2L));
+    given(accountPort.findIdsAfter(2L, 2)).willReturn(List.of(3L));
+    given(accountPort.findIdsAfter(3L, 2)).willReturn(List.of());
+    given(chunkWriter.write(List.of(1L, 2L), CUTOFF))
+        .willThrow(new IllegalStateException("DB down"));
+    given(chunkWriter.write(List.of(3L), CUTOFF)).willReturn(1);
+
+    // When
+    BalanceCheckpointResult result = sut.createCheckpoints(CUTOFF);
+
+    // Then
+    assertThat(result.checkpointedAccounts()).isEqualTo(1);
+    assertThat(result.failedChunks()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("체크포인트 시각이 settleDelay보다 최근이면 예외가 발생한다")
+  void createCheckpoints_throwsException_whenCutoffTooRecent() {
+    assertThatThrownBy(() -> sut.createCheckpoints(FIXED_TIME.minusSeconds(30)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("in the past");
+
+    then(chunkWriter).should(never()).write(anyList(), any());
+  }
+}
@@ -0,0 +1,260 @@
+package com.securities.kuku.ledger.application.service.groupcommit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.domain.Account;
+import com.securities.kuku.ledger.domain.AccountType;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class PostingBatchProcessorTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Money INITIAL_BALANCE = Money.of(1000);
+
+  private PostingBatchProcessor sut;
+
+  private AccountPort accountPort;
+  private BalancePort balancePort;
+  private TransactionPort transactionPort;
+  private JournalEntryPort journalEntryPort;
+  private OutboxEventRecorder outboxEventRecorder;
+
+  @BeforeEach
+  void setUp() {
+    accountPort = mock(AccountPort.class);
+    balancePort = mock(BalancePort.class);
+    transactionPort = mock(TransactionPort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    outboxEventRecorder = mock(OutboxEventRecorder.class);
+
+    sut =
+        new PostingBatchProcessor(
+            Clock.fixed(FIXED_TIME, ZoneId.of("UTC")),
+            accountPort,
+            balancePort,
+            transactionPort,
+            journalEntryPort,
+            outboxEventRecorder);
+
+    setupAccountAndBalance();
+    given(transactionPort.findExistingBusinessRefIds(anyCollection())).willReturn(Set.of());
+    setupSaveAllAssigningIds();
+  }
+
+  @Nested
+  @DisplayName("배치 반영")
+  class BatchApply {
+
+    @Test
+    @DisplayName("여러 요청의 Transaction을 한 번의 saveAll로 저장한다")
+    void savesTransactionsInSingleBatch() {
+      sut.process(ACCOUNT_ID, List.of(deposit("ref-1", "100"), deposit("ref-2", "200")));
+
+      ArgumentCaptor<List<Transaction>> captor = listCaptor();
+      then(transactionPort).should().saveAll(captor.capture());
+      assertThat(captor.getValue()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("여러 요청의 분개를 한 번의 saveAll로 저장한다")
+    void savesJournalEntriesInSingleBatch() {
+      sut.process(ACCOUNT_ID, List.of(deposit("ref-1", "100"), withdraw("ref-2", "50")));
+
+      ArgumentCaptor<Collection<JournalEntry>> captor = collectionCaptor();
+      then(journalEntryPort).should().saveAll(captor.capture());
+      assertThat(captor.getValue())
+          .extracting(JournalEntry::getEntryType)
+          .containsExactly(JournalEntry.EntryType.CREDIT, JournalEntry.EntryType.DEBIT);
+    }
+
+    @Test
+    @DisplayName("잔액은 모든 요청을 합산한 결과로 한 번만 업데이트된다")
+    void updatesBalanceOnceWithNetAmount() {
+      sut.process(ACCOUNT_ID, List.of(deposit("ref-1", "100"), withdraw("ref-2", "300")));
+
+      ArgumentCaptor<Balance> captor = ArgumentCaptor.forClass(Balance.class);
+      then(balancePort).should().update(captor.capture());
+      assertThat(captor.getValue().getAmount()).isEqualTo(Money.of(800));
+    }
+
+    @Test
+    @DisplayName("잔액의 마지막 트랜잭션 ID는 배치의 마지막 트랜잭션이다")
+    void updatesBalanceWithLastTransactionId() {
+      sut.process(ACCOUNT_ID, List.of(deposit("ref-1", "100"), deposit("ref-2", "100")));
+
+      ArgumentCaptor<Balance> captor = ArgumentCaptor.forClass(Balance.class);
+      then(balancePort).should().update(captor.capture());
+      assertThat(captor.getValue().getLastTransactionId()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("Outbox 이벤트를 한 번에 기록한다")
+    void recordsOutboxEventsInSingleBatch() {
+      sut.process(ACCOUNT_ID, List.of(deposit("ref-1", "100"), deposit("ref-2", "100")));
+
+      ArgumentCaptor<List<LedgerPostedEvent>> captor = eventListCaptor();
+      then(outboxEventRecorder).should().recordAll(captor.capture());
+      assertThat(captor.getValue()).hasSize(2);
+    }
+  }
+
+  @Nested
+  @DisplayName("건별 결과")
+  class PerPostingResult {
+
+    @Test
+    @DisplayName("잔액이 부족한 요청만 거절되고 나머지는 반영된다")
+    void rejectsOnlyInsufficientPosting() {
+      List<PostingResult> results =
+          sut.process(
+              ACCOUNT_ID,
+              List.of(withdraw("ref-1", "800"), withdraw("ref-2", "800"), deposit("ref-3", "1")));
+
+      assertThat(results)
+          .extracting(PostingResult::status)
+          .containsExactly(
+              PostingResult.Status.POSTED,
+              PostingResult.Status.REJECTED,
+              PostingResult.Status.POSTED);
+    }
+
+    @Test
+    @DisplayName("거절된 요청에는 InsufficientBalanceException이 담긴다")
+    void rejectedPostingCarriesInsufficientBalanceException() {
+      List<PostingResult> results = sut.process(ACCOUNT_ID, List.of(withdraw("ref-1", "2000")));
+
+      assertThat(results.get(0).failure()).isInstanceOf(InsufficientBalanceException.class);
+    }
+
+    @Test
+    @DisplayName("이미 저장된 businessRefId는 중복으로 처리된다 (멱등성)")
+    void marksAlreadyPersistedBusinessRefIdAsDuplicate() {
+      given(transactionPort.findExistingBusinessRefIds(anyCollection()))
+          .willReturn(Set.of("ref-1"));
+
+      List<PostingResult> results =
+          sut.process(ACCOUNT_ID, List.of(deposit("ref-1", "100"), deposit("ref-2", "100")));
+
+      assertThat(results)
+          .extracting(PostingResult::status)
+          .containsExactly(PostingResult.Status.DUPLICATE, PostingResult.Status.POSTED);
+    }
+
+    @Test
+    @DisplayName("같은 배치 안에서 반복된 businessRefId는 한 번만 반영된다 (멱등성)")
+    void appliesRepeatedBusinessRefIdOnce() {
+      List<PostingResult> results =
+          sut.process(ACCOUNT_ID, List.of(deposit("ref-1", "100"), deposit("ref-1", "100")));
+
+      assertThat(results)
+          .extracting(PostingResult::status)
+          .containsExactly(PostingResult.Status.POSTED, PostingResult.Status.DUPLICATE);
+    }
+
+    @Test
+    @DisplayName("반영할 요청이 없으면 아무것도 저장하지 않는다")
+    void savesNothing_whenAllPostingsRejected() {
+      sut.process(ACCOUNT_ID, List.of(withdraw("ref-1", "2000")));
+
+      then(balancePort).should(never()).update(any());
+    }
+  }
+
+  private LedgerPosting deposit(String businessRefId, String amount) {
+    return new LedgerPosting(
+        ACCOUNT_ID,
+        TransactionType.DEPOSIT,
+        Money.of(new BigDecimal(amount)),
+        "Deposit",
+        businessRefId);
+  }
+
+  private LedgerPosting withdraw(String businessRefId, String amount) {
+    return new LedgerPosting(
+        ACCOUNT_ID,
+        TransactionType.WITHDRAWAL,
+        Money.of(new BigDecimal(amount)),
+        "Withdraw",
+        businessRefId);
+  }
+
+  private void setupAccountAndBalance() {
+    Account account =
+        new Account(ACCOUNT_ID, 100L, "123-456", "KRW", AccountType.USER_CASH, FIXED_TIME);
+    Balance balance =
+        new Balance(ACCOUNT_ID, INITIAL_BALANCE, Money.ZERO, 0L, null, FIXED_TIME);
+    given(accountPort.findById(ACCOUNT_ID)).willReturn(Optional.of(account));
+    given(balancePort.findByAccountId(ACCOUNT_ID)).willReturn(Optional.of(balance));
+  }
+
+  private void setupSaveAllAssigningIds() {
+    AtomicLong sequence = new AtomicLong();
+    given(transactionPort.saveAll(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<Transaction> transactions = invocation.getArgument(0);
+              List<Transaction> saved = new ArrayList<>();
+              for (Transaction tx : transactions) {
+                saved.add(
+                    new Transaction(
+                        sequence.incrementAndGet(),
+                        tx.getType(),
+                        tx.getDescription(),
+                        tx.getBusinessRefId(),
+                        tx.getStatus(),
+                        tx.getReversalOfTransactionId(),
+                        tx.getCreatedAt()));
+              }
+              return saved;
+            });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<List<Transaction>> listCaptor() {
+    return ArgumentCaptor.forClass(List.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<List<LedgerPostedEvent>> eventListCaptor() {
+    return ArgumentCaptor.forClass(List.class);
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<Collection<JournalEntry>> collectionCaptor() {
+    return ArgumentCaptor.forClass(Collection.class);
+  }
+}
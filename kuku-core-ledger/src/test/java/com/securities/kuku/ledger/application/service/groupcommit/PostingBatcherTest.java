@@ -0,0 +1,136 @@
+package com.securities.kuku.ledger.application.service.groupcommit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.config.GroupCommitProperties;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner.ExecutionResult;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class PostingBatcherTest {
+
+  private static final Long ACCOUNT_ID = 1L;
+  private static final int MAX_BATCH_SIZE = 8;
+
+  private PostingBatcher sut;
+  private PostingBatchProcessor postingBatchProcessor;
+
+  @BeforeEach
+  void setUp() {
+    postingBatchProcessor = mock(PostingBatchProcessor.class);
+    sut =
+        new PostingBatcher(
+            postingBatchProcessor,
+            new GroupCommitProperties(true, MAX_BATCH_SIZE, Duration.ofMillis(1)));
+  }
+
+  @Test
+  @DisplayName("동시에 제출된 모든 요청은 정확히 한 번씩 처리된다")
+  void processesEveryPostingExactlyOnce() {
+    List<LedgerPosting> processed = new CopyOnWriteArrayList<>();
+    given(postingBatchProcessor.process(eq(ACCOUNT_ID), anyList()))
+        .willAnswer(
+            invocation -> {
+              List<LedgerPosting> batch = invocation.getArgument(1);
+              processed.addAll(batch);
+              return Collections.nCopies(batch.size(), PostingResult.posted());
+            });
+    AtomicInteger sequence = new AtomicInteger();
+
+    ExecutionResult result =
+        ConcurrencyRunner.run(20, () -> sut.submit(deposit("ref-" + sequence.incrementAndGet())));
+
+    result.assertNoUnexpectedExceptions();
+    assertThat(processed).extracting(LedgerPosting::businessRefId).doesNotHaveDuplicates();
+  }
+
+  @Test
+  @DisplayName("한 번에 처리되는 요청 수는 maxBatchSize를 넘지 않는다")
+  void neverExceedsMaxBatchSize() {
+    List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    given(postingBatchProcessor.process(eq(ACCOUNT_ID), anyList()))
+        .willAnswer(
+            invocation -> {
+              List<LedgerPosting> batch = invocation.getArgument(1);
+              batchSizes.add(batch.size());
+              return Collections.nCopies(batch.size(), PostingResult.posted());
+            });
+    AtomicInteger sequence = new AtomicInteger();
+
+    ConcurrencyRunner.run(30, () -> sut.submit(deposit("ref-" + sequence.incrementAndGet())))
+        .assertNoUnexpectedExceptions();
+
+    assertThat(batchSizes).allSatisfy(size -> assertThat(size).isLessThanOrEqualTo(MAX_BATCH_SIZE));
+  }
+
+  @Test
+  @DisplayName("대기열이 비워지고 다시 만들어져도 한 계좌의 배치는 동시에 처리되지 않는다")
+  void neverProcessesSameAccountConcurrently() {
+    AtomicInteger inFlight = new AtomicInteger();
+    AtomicInteger maxInFlight = new AtomicInteger();
+    given(postingBatchProcessor.process(eq(ACCOUNT_ID), anyList()))
+        .willAnswer(
+            invocation -> {
+              maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+              Thread.sleep(1);
+              inFlight.decrementAndGet();
+              List<LedgerPosting> batch = invocation.getArgument(1);
+              return Collections.nCopies(batch.size(), PostingResult.posted());
+            });
+    AtomicInteger sequence = new AtomicInteger();
+
+    // 스레드마다 요청을 이어서 보내 대기열이 비워지고 닫힌 뒤 다시 만들어지게 합니다.
+    ConcurrencyRunner.run(
+            16,
+            () -> {
+              for (int i = 0; i < 20; i++) {
+                sut.submit(deposit("ref-" + sequence.incrementAndGet()));
+              }
+            })
+        .assertNoUnexpectedExceptions();
+
+    assertThat(maxInFlight.get()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("거절된 요청의 예외는 해당 요청자에게 그대로 전달된다")
+  void rethrowsRejectionToCaller() {
+    InsufficientBalanceException rejection =
+        new InsufficientBalanceException(ACCOUNT_ID, Money.of(10), Money.ZERO);
+    given(postingBatchProcessor.process(eq(ACCOUNT_ID), anyList()))
+        .willReturn(List.of(PostingResult.rejected(rejection)));
+
+    assertThatThrownBy(() -> sut.submit(deposit("ref-1"))).isSameAs(rejection);
+  }
+
+  @Test
+  @DisplayName("배치 전체가 실패하면 배치에 포함된 요청자 모두에게 예외가 전달된다")
+  void propagatesBatchFailureToCaller() {
+    given(postingBatchProcessor.process(eq(ACCOUNT_ID), anyList()))
+        .willThrow(new IllegalArgumentException("Account not found: " + ACCOUNT_ID));
+
+    assertThatThrownBy(() -> sut.submit(deposit("ref-1")))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Account not found");
+  }
+
+  private LedgerPosting deposit(String businessRefId) {
+    return new LedgerPosting(
+        ACCOUNT_ID, TransactionType.DEPOSIT, Money.of(1), "Deposit", businessRefId);
+  }
+}
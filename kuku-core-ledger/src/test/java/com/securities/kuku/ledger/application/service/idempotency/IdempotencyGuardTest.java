@@ -0,0 +1,129 @@
+package com.securities.kuku.ledger.application.service.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.config.IdempotencyProperties;
+import com.securities.kuku.ledger.domain.Transaction;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class IdempotencyGuardTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-12-09T15:00:00Z");
+  private static final String BUSINESS_REF_ID = "ref-123";
+
+  private IdempotencyGuard sut;
+
+  private TransactionPort transactionPort;
+
+  @BeforeEach
+  void setUp() {
+    transactionPort = mock(TransactionPort.class);
+    sut = new IdempotencyGuard(transactionPort, new IdempotencyProperties(1_000, 0.01, 2));
+  }
+
+  @Test
+  @DisplayName("처음 보는 키는 DB 조회 없이 중복이 아니라고 판단한다")
+  void unseenKey_isNotDuplicate_withoutLookup() {
+    // When
+    boolean duplicate = sut.isDuplicate(BUSINESS_REF_ID);
+
+    // Then
+    assertThat(duplicate).isFalse();
+    then(transactionPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("최근 처리한 키는 DB 조회 없이 중복으로 판단한다")
+  void recentlyPostedKey_isDuplicate_withoutLookup() {
+    // Given
+    sut.markPosted(BUSINESS_REF_ID);
+
+    // When
+    boolean duplicate = sut.isDuplicate(BUSINESS_REF_ID);
+
+    // Then
+    assertThat(duplicate).isTrue();
+    then(transactionPort).shouldHaveNoInteractions();
+  }
+
+  @Test
+  @DisplayName("최근 키 목록에서 밀려난 키는 Bloom 필터에 남아 있으므로 DB에서 확인한다")
+  void evictedKey_isCheckedAgainstDatabase() {
+    // Given
+    sut.markPosted(BUSINESS_REF_ID);
+    sut.markPosted("ref-456");
+    sut.markPosted("ref-789");
+    given(transactionPort.findByBusinessRefId(BUSINESS_REF_ID))
+        .willReturn(
+            Optional.of(Transaction.createDeposit("Existing", BUSINESS_REF_ID, FIXED_TIME)));
+
+    // When
+    boolean duplicate = sut.isDuplicate(BUSINESS_REF_ID);
+
+    // Then
+    assertThat(duplicate).isTrue();
+    then(transactionPort).should().findByBusinessRefId(BUSINESS_REF_ID);
+  }
+
+  @Test
+  @DisplayName("DB에서 중복으로 확인된 키는 다시 조회하지 않는다")
+  void duplicateConfirmedByDatabase_isRemembered() {
+    // Given
+    sut.markPosted(BUSINESS_REF_ID);
+    sut.markPosted("ref-456");
+    sut.markPosted("ref-789");
+    given(transactionPort.findByBusinessRefId(BUSINESS_REF_ID))
+        .willReturn(
+            Optional.of(Transaction.createDeposit("Existing", BUSINESS_REF_ID, FIXED_TIME)));
+
+    // When
+    IntStream.range(0, 10).forEach(i -> sut.isDuplicate(BUSINESS_REF_ID));
+
+    // Then
+    then(transactionPort).should(times(1)).findByBusinessRefId(BUSINESS_REF_ID);
+  }
+
+  @Test
+  @DisplayName("INSERT 시 확인된 중복 키는 DB 조회 없이 중복으로 판단한다")
+  void duplicateMarkedOnInsert_isDuplicate_withoutLookup() {
+    // Given
+    sut.markDuplicate(BUSINESS_REF_ID);
+
+    // When
+    boolean duplicate = sut.isDuplicate(BUSINESS_REF_ID);
+
+    // Then
+    assertThat(duplicate).isTrue();
+    then(transactionPort).should(never()).findByBusinessRefId(any());
+  }
+
+  @Test
+  @DisplayName("필터가 가득 차 세대가 바뀌어도 직전 세대의 키는 기억한다")
+  void previousGeneration_isStillChecked() {
+    // Given: 용량(1,000)을 넘겨 세대 교체 유도
+    sut.markPosted(BUSINESS_REF_ID);
+    IntStream.range(0, 1_000).forEach(i -> sut.markPosted("filler-" + i));
+    given(transactionPort.findByBusinessRefId(BUSINESS_REF_ID))
+        .willReturn(
+            Optional.of(Transaction.createDeposit("Existing", BUSINESS_REF_ID, FIXED_TIME)));
+
+    // When
+    boolean duplicate = sut.isDuplicate(BUSINESS_REF_ID);
+
+    // Then
+    assertThat(duplicate).isTrue();
+    then(transactionPort).should().findByBusinessRefId(BUSINESS_REF_ID);
+  }
+}
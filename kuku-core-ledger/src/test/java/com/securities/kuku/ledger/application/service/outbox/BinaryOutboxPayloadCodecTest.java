@@ -0,0 +1,126 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.event.LedgerPostedEvent;
+import com.securities.kuku.ledger.domain.event.LedgerReversedEvent;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Arrays;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class BinaryOutboxPayloadCodecTest {
+
+  private static final Instant OCCURRED_AT = Instant.parse("2025-01-01T00:00:00.123456789Z");
+
+  private final BinaryOutboxPayloadCodec sut = new BinaryOutboxPayloadCodec();
+
+  @Nested
+  @DisplayName("LEDGER_POSTED")
+  class Posted {
+
+    @Test
+    @DisplayName("고정 길이로 인코딩하고 되돌려도 값이 같다")
+    void roundTrip() {
+      LedgerPostedEvent event =
+          LedgerPostedEvent.of(
+              Long.MAX_VALUE,
+              42L,
+              new BigDecimal("-1234.5678"),
+              TransactionType.WITHDRAWAL,
+              OCCURRED_AT);
+
+      byte[] payload = sut.encode(event);
+      LedgerPostedEvent decoded =
+          (LedgerPostedEvent) sut.decode(LedgerPostedEvent.EVENT_TYPE, payload);
+
+      assertThat(payload).hasSize(BinaryOutboxPayloadCodec.POSTED_SIZE);
+      assertThat(decoded.transactionId()).isEqualTo(Long.MAX_VALUE);
+      assertThat(decoded.accountId()).isEqualTo(42L);
+      assertThat(decoded.amount()).isEqualByComparingTo("-1234.5678");
+      assertThat(decoded.transactionType()).isEqualTo(TransactionType.WITHDRAWAL);
+      assertThat(decoded.occurredAt()).isEqualTo(OCCURRED_AT);
+    }
+
+    @Test
+    @DisplayName("소수 4자리를 넘는 금액은 반올림하지 않고 예외가 발생한다")
+    void throwsException_whenAmountHasMoreThanFourDecimals() {
+      LedgerPostedEvent event =
+          LedgerPostedEvent.of(
+              1L, 1L, new BigDecimal("0.00001"), TransactionType.DEPOSIT, OCCURRED_AT);
+
+      assertThatThrownBy(() -> sut.encode(event)).isInstanceOf(ArithmeticException.class);
+    }
+  }
+
+  @Nested
+  @DisplayName("LEDGER_REVERSED")
+  class Reversed {
+
+    @Test
+    @DisplayName("사유를 UTF-8로 담아 인코딩하고 되돌려도 값이 같다")
+    void roundTrip() {
+      LedgerReversedEvent event = LedgerReversedEvent.of(200L, 100L, "입금 오류 정정", OCCURRED_AT);
+
+      assertThat(sut.decode(LedgerReversedEvent.EVENT_TYPE, sut.encode(event))).isEqualTo(event);
+    }
+  }
+
+  @Nested
+  @DisplayName("형식 검증")
+  class Validation {
+
+    private final byte[] posted =
+        sut.encode(
+            LedgerPostedEvent.of(
+                1L, 1L, BigDecimal.ONE, TransactionType.DEPOSIT, OCCURRED_AT));
+
+    @Test
+    @DisplayName("모르는 버전이면 예외가 발생한다")
+    void throwsException_whenUnknownVersion() {
+      byte[] payload = posted.clone();
+      payload[0] = 99;
+
+      assertThatThrownBy(() -> sut.decode(LedgerPostedEvent.EVENT_TYPE, payload))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageContaining("version");
+    }
+
+    @Test
+    @DisplayName("행의 이벤트 타입과 payload 타입이 다르면 예외가 발생한다")
+    void throwsException_whenEventTypeMismatch() {
+      assertThatThrownBy(() -> sut.decode(LedgerReversedEvent.EVENT_TYPE, posted))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("잘린 payload는 예외가 발생한다")
+    void throwsException_whenTruncated() {
+      byte[] truncated = Arrays.copyOf(posted, posted.length - 1);
+
+      assertThatThrownBy(() -> sut.decode(LedgerPostedEvent.EVENT_TYPE, truncated))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("저장된 payload가 가리키는 TransactionType ordinal이 바뀌지 않는다")
+    void transactionTypeOrdinalsArePinned() {
+      // 상수를 끝이 아닌 곳에 추가하거나 순서를 바꾸면 이미 저장된 이벤트를 다른 타입으로 읽습니다.
+      assertThat(TransactionType.values())
+          .containsExactly(
+              TransactionType.DEPOSIT,
+              TransactionType.WITHDRAWAL,
+              TransactionType.REVERSAL,
+              TransactionType.ORDER_BLOCKED,
+              TransactionType.ORDER_RELEASED,
+              TransactionType.TRADE,
+              TransactionType.FEE,
+              TransactionType.INTEREST,
+              TransactionType.CORRECTION);
+    }
+  }
+}
@@ -0,0 +1,271 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.securities.kuku.ledger.application.port.out.OutboxEventPort;
+import com.securities.kuku.ledger.application.port.out.OutboxPublishPort;
+import com.securities.kuku.ledger.config.OutboxRelayProperties;
+import com.securities.kuku.ledger.domain.OutboxEvent;
+import com.securities.kuku.ledger.domain.OutboxEventStatus;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class OutboxRelayBatchProcessorTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final int BATCH_SIZE = 10;
+  private static final Duration POLL_INTERVAL = Duration.ofSeconds(1);
+  private static final Duration MAX_BACKOFF = Duration.ofSeconds(10);
+  private static final List<Integer> PARTITIONS = List.of(0, 1);
+
+  private OutboxEventPort outboxEventPort;
+  private OutboxPublishPort outboxPublishPort;
+  private MeterRegistry meterRegistry;
+  private MutableClock clock;
+  private OutboxRelayBatchProcessor sut;
+
+  @BeforeEach
+  void setUp() {
+    outboxEventPort = mock(OutboxEventPort.class);
+    outboxPublishPort = mock(OutboxPublishPort.class);
+    meterRegistry = new SimpleMeterRegistry();
+    clock = new MutableClock(FIXED_TIME);
+    OutboxRelayProperties properties =
+        new OutboxRelayProperties(true, 4, BATCH_SIZE, POLL_INTERVAL, MAX_BACKOFF);
+    sut =
+        new OutboxRelayBatchProcessor(
+            outboxEventPort, outboxPublishPort, properties, clock, meterRegistry);
+  }
+
+  @Test
+  @DisplayName("가져온 이벤트를 순서대로 발행하고 UPDATE 한 번으로 PROCESSED 처리한다")
+  void publishesClaimedEventsAndMarksThemProcessedAtOnce() {
+    OutboxEvent first = event(1L, 0);
+    OutboxEvent second = event(2L, 0);
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE))
+        .willReturn(List.of(first, second));
+
+    int relayed = sut.relay(PARTITIONS);
+
+    assertThat(relayed).isEqualTo(2);
+    InOrder inOrder = inOrder(outboxPublishPort);
+    inOrder.verify(outboxPublishPort).publish(first);
+    inOrder.verify(outboxPublishPort).publish(second);
+    then(outboxEventPort).should().markAsProcessed(List.of(1L, 2L), FIXED_TIME);
+    assertThat(count("published")).isEqualTo(2.0);
+  }
+
+  @Test
+  @DisplayName("발행에 실패하면 같은 파티션의 뒤 이벤트는 발행하지 않고 다른 파티션은 계속 발행한다")
+  void holdsPartitionOfFailedEventAndContinuesOthers() {
+    OutboxEvent failing = event(1L, 0, 0);
+    OutboxEvent otherPartition = event(2L, 1, 0);
+    OutboxEvent samePartition = event(3L, 0, 0);
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE))
+        .willReturn(List.of(failing, otherPartition, samePartition));
+    willThrow(new IllegalStateException("broker down")).given(outboxPublishPort).publish(failing);
+
+    int relayed = sut.relay(PARTITIONS);
+
+    assertThat(relayed).isEqualTo(1);
+    then(outboxPublishPort).should(never()).publish(samePartition);
+    then(outboxEventPort).should().markForRetry(1L, 1);
+    then(outboxEventPort).should().markAsProcessed(List.of(2L), FIXED_TIME);
+    then(outboxEventPort).should(never()).markAsFailed(anyLong(), anyInt());
+    assertThat(count("retry")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("다시 시도할 수 있는 실패는 횟수와 관계없이 FAILED로 넘기지 않고 파티션을 막아 둔다")
+  void keepsPartitionBlockedRegardlessOfRetryCount() {
+    OutboxEvent failing = event(1L, 100);
+    OutboxEvent next = event(2L, 0);
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE))
+        .willReturn(List.of(failing, next));
+    willThrow(new IllegalStateException("broker down")).given(outboxPublishPort).publish(failing);
+
+    int relayed = sut.relay(PARTITIONS);
+
+    assertThat(relayed).isZero();
+    then(outboxPublishPort).should(never()).publish(next);
+    then(outboxEventPort).should().markForRetry(1L, 101);
+    then(outboxEventPort).should(never()).markAsFailed(anyLong(), anyInt());
+  }
+
+  @Test
+  @DisplayName("막힌 파티션은 실패 횟수에 따라 늘어난 간격이 지나야 다시 가져온다")
+  void retriesBlockedPartitionAfterBackoff() {
+    OutboxEvent failing = event(1L, 2);
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE))
+        .willReturn(List.of(failing));
+    willThrow(new IllegalStateException("broker down")).given(outboxPublishPort).publish(failing);
+    sut.relay(PARTITIONS);
+
+    // 세 번째 실패: 1s * 2^2 = 4s
+    clock.advance(Duration.ofSeconds(3));
+    sut.relay(PARTITIONS);
+    then(outboxEventPort).should().claimPendingEvents(List.of(1), BATCH_SIZE);
+
+    clock.advance(Duration.ofSeconds(1));
+    sut.relay(PARTITIONS);
+    then(outboxEventPort).should(times(2)).claimPendingEvents(PARTITIONS, BATCH_SIZE);
+  }
+
+  @Test
+  @DisplayName("재시도 간격은 maxBackoff를 넘지 않는다")
+  void capsBackoffAtMaxBackoff() {
+    OutboxEvent failing = event(1L, 0, 40);
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE))
+        .willReturn(List.of(failing));
+    willThrow(new IllegalStateException("broker down")).given(outboxPublishPort).publish(failing);
+    sut.relay(PARTITIONS);
+
+    clock.advance(MAX_BACKOFF);
+    sut.relay(PARTITIONS);
+
+    then(outboxEventPort).should(times(2)).claimPendingEvents(PARTITIONS, BATCH_SIZE);
+  }
+
+  @Test
+  @DisplayName("payload를 읽을 수 없는 이벤트는 FAILED로 남기고 같은 파티션의 뒤 이벤트를 발행한다")
+  void marksUndecodableEventFailedAndContinuesPartition() {
+    OutboxEvent undecodable = event(1L, 0);
+    OutboxEvent next = event(2L, 0);
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE))
+        .willReturn(List.of(undecodable, next));
+    willThrow(new IllegalArgumentException("Unknown outbox payload codec: xml"))
+        .given(outboxPublishPort)
+        .publish(undecodable);
+
+    int relayed = sut.relay(PARTITIONS);
+
+    assertThat(relayed).isEqualTo(2);
+    then(outboxEventPort).should().markAsFailed(1L, 1);
+    then(outboxEventPort).should(never()).markForRetry(anyLong(), anyInt());
+    then(outboxEventPort).should().markAsProcessed(List.of(2L), FIXED_TIME);
+    assertThat(count("failed")).isEqualTo(1.0);
+  }
+
+  @Test
+  @DisplayName("가져온 이벤트가 없으면 0을 돌려주고 발행하지 않는다")
+  void returnsZeroWhenNothingClaimed() {
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE)).willReturn(List.of());
+
+    assertThat(sut.relay(PARTITIONS)).isZero();
+    then(outboxPublishPort).should(never()).publish(any());
+  }
+
+  @Test
+  @DisplayName("저장부터 발행까지 걸린 시간을 경로별로 기록한다")
+  void recordsPublishLatencyPerPath() {
+    OutboxEvent event =
+        OutboxEvent.restore(
+            1L,
+            "TRANSACTION",
+            101L,
+            0,
+            "LEDGER_POSTED",
+            "json",
+            "{}".getBytes(StandardCharsets.UTF_8),
+            OutboxEventStatus.PENDING,
+            0,
+            FIXED_TIME.minusMillis(5),
+            null);
+    given(outboxEventPort.claimPendingEvents(PARTITIONS, BATCH_SIZE)).willReturn(List.of(event));
+
+    sut.relayCommitted(PARTITIONS);
+
+    Timer fastPath =
+        meterRegistry
+            .get(OutboxRelayBatchProcessor.PUBLISH_LATENCY)
+            .tag("path", "fast_path")
+            .timer();
+    assertThat(fastPath.count()).isEqualTo(1);
+    assertThat(fastPath.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(5.0);
+    assertThat(
+            meterRegistry
+                .get(OutboxRelayBatchProcessor.PUBLISH_LATENCY)
+                .tag("path", "poller")
+                .timer()
+                .count())
+        .isZero();
+  }
+
+  private double count(String result) {
+    return meterRegistry
+        .get(OutboxRelayBatchProcessor.EVENTS)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private static OutboxEvent event(Long id, int retryCount) {
+    return event(id, 0, retryCount);
+  }
+
+  private static OutboxEvent event(Long id, int partitionNo, int retryCount) {
+    return OutboxEvent.restore(
+        id,
+        "TRANSACTION",
+        100L + id,
+        partitionNo,
+        "LEDGER_POSTED",
+        "json",
+        "{}".getBytes(StandardCharsets.UTF_8),
+        OutboxEventStatus.PENDING,
+        retryCount,
+        FIXED_TIME,
+        null);
+  }
+
+  private static final class MutableClock extends Clock {
+
+    private Instant now;
+
+    private MutableClock(Instant now) {
+      this.now = now;
+    }
+
+    void advance(Duration duration) {
+      now = now.plus(duration);
+    }
+
+    @Override
+    public ZoneId getZone() {
+      return ZoneOffset.UTC;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+      return this;
+    }
+
+    @Override
+    public Instant instant() {
+      return now;
+    }
+  }
+}
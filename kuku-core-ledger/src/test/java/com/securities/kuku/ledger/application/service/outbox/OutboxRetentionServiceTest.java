@@ -0,0 +1,163 @@
+package com.securities.kuku.ledger.application.service.outbox;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.ledger.application.port.in.result.OutboxRetentionResult;
+import com.securities.kuku.ledger.application.port.out.OutboxRetentionPort;
+import com.securities.kuku.ledger.application.port.out.OutboxRetentionPort.Partition;
+import com.securities.kuku.ledger.config.OutboxRetentionProperties;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+class OutboxRetentionServiceTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2026-03-15T03:00:00Z");
+  private static final Instant MAR_07 = Instant.parse("2026-03-07T00:00:00Z");
+  private static final Instant MAR_08 = Instant.parse("2026-03-08T00:00:00Z");
+  private static final Instant MAR_09 = Instant.parse("2026-03-09T00:00:00Z");
+  private static final Instant MAR_17 = Instant.parse("2026-03-17T00:00:00Z");
+  private static final Instant MAR_18 = Instant.parse("2026-03-18T00:00:00Z");
+  private static final Instant MAR_19 = Instant.parse("2026-03-19T00:00:00Z");
+
+  private OutboxRetentionService sut;
+
+  private OutboxRetentionPort outboxRetentionPort;
+
+  @BeforeEach
+  void setUp() {
+    outboxRetentionPort = mock(OutboxRetentionPort.class);
+
+    Clock clock = Clock.fixed(FIXED_TIME, ZoneId.of("UTC"));
+    OutboxRetentionProperties properties = new OutboxRetentionProperties(7, 3, null);
+    sut = new OutboxRetentionService(clock, outboxRetentionPort, properties);
+  }
+
+  @Test
+  @DisplayName("오늘부터 futureDays일 뒤까지 없는 파티션을 만든다")
+  void rotate_addsUpcomingPartitions() {
+    // Given
+    given(outboxRetentionPort.findPartitions())
+        .willReturn(List.of(new Partition("p20260316", MAR_17), new Partition("p_max", null)));
+
+    // When
+    OutboxRetentionResult result = sut.rotate();
+
+    // Then
+    assertThat(result.createdPartitions()).containsExactly("p20260317", "p20260318");
+    then(outboxRetentionPort).should().addPartition("p20260317", MAR_18);
+    then(outboxRetentionPort).should().addPartition("p20260318", MAR_19);
+  }
+
+  @Test
+  @DisplayName("처음 실행하면 오늘 파티션부터 만든다")
+  void rotate_startsFromToday_whenOnlyMaxPartition() {
+    // Given
+    given(outboxRetentionPort.findPartitions()).willReturn(List.of(new Partition("p_max", null)));
+
+    // When
+    OutboxRetentionResult result = sut.rotate();
+
+    // Then
+    assertThat(result.createdPartitions())
+        .containsExactly("p20260315", "p20260316", "p20260317", "p20260318");
+    assertThat(result.droppedPartitions()).isEmpty();
+  }
+
+  @Test
+  @DisplayName("보관 기간이 지났고 모든 이벤트가 발행된 파티션만 지운다")
+  void rotate_dropsExpiredProcessedPartitions() {
+    // Given
+    given(outboxRetentionPort.findPartitions())
+        .willReturn(
+            List.of(
+                new Partition("p20260306", MAR_07),
+                new Partition("p20260307", MAR_08),
+                new Partition("p20260308", MAR_09),
+                new Partition("p20260318", MAR_19),
+                new Partition("p_max", null)));
+
+    // When
+    OutboxRetentionResult result = sut.rotate();
+
+    // Then
+    assertThat(result.horizon()).isEqualTo(MAR_08);
+    assertThat(result.droppedPartitions()).containsExactly("p20260306", "p20260307");
+    then(outboxRetentionPort).should().dropPartition("p20260306");
+    then(outboxRetentionPort).should().dropPartition("p20260307");
+    then(outboxRetentionPort).should(never()).dropPartition("p20260308");
+    then(outboxRetentionPort).should(never()).countPending("p20260308");
+  }
+
+  @Test
+  @DisplayName("PENDING 이벤트가 남은 파티션은 지우지 않고 다음 파티션을 계속 처리한다")
+  void rotate_keepsPartition_whenUnprocessedEventsRemain() {
+    // Given
+    given(outboxRetentionPort.findPartitions())
+        .willReturn(
+            List.of(
+                new Partition("p20260306", MAR_07),
+                new Partition("p20260307", MAR_08),
+                new Partition("p20260318", MAR_19)));
+    given(outboxRetentionPort.countPending("p20260306")).willReturn(2L);
+
+    // When
+    OutboxRetentionResult result = sut.rotate();
+
+    // Then
+    assertThat(result.retainedPartitions()).containsExactly("p20260306");
+    assertThat(result.droppedPartitions()).containsExactly("p20260307");
+    then(outboxRetentionPort).should(never()).dropPartition("p20260306");
+    then(outboxRetentionPort).should(never()).copyFailedToDeadLetter(eq("p20260306"), any());
+  }
+
+  @Test
+  @DisplayName("FAILED 이벤트는 dead letter 테이블로 복사한 뒤 파티션을 지운다")
+  void rotate_copiesFailedEventsToDeadLetterBeforeDropping() {
+    // Given
+    given(outboxRetentionPort.findPartitions())
+        .willReturn(
+            List.of(
+                new Partition("p20260306", MAR_07),
+                new Partition("p20260307", MAR_08),
+                new Partition("p20260318", MAR_19)));
+    given(outboxRetentionPort.copyFailedToDeadLetter("p20260306", FIXED_TIME)).willReturn(3L);
+
+    // When
+    OutboxRetentionResult result = sut.rotate();
+
+    // Then
+    assertThat(result.droppedPartitions()).containsExactly("p20260306", "p20260307");
+    assertThat(result.deadLetteredEvents()).isEqualTo(3L);
+    InOrder inOrder = inOrder(outboxRetentionPort);
+    inOrder.verify(outboxRetentionPort).copyFailedToDeadLetter("p20260306", FIXED_TIME);
+    inOrder.verify(outboxRetentionPort).dropPartition("p20260306");
+  }
+
+  @Test
+  @DisplayName("파티션이 없는 테이블이면 예외가 발생한다")
+  void rotate_throws_whenNotPartitioned() {
+    // Given
+    given(outboxRetentionPort.findPartitions()).willReturn(List.of());
+
+    // When & Then
+    assertThatThrownBy(() -> sut.rotate())
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("not partitioned");
+    then(outboxRetentionPort).should(never()).dropPartition(anyString());
+  }
+}
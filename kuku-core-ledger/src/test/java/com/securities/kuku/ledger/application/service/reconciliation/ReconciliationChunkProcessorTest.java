@@ -0,0 +1,146 @@
+package com.securities.kuku.ledger.application.service.reconciliation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalanceCheckpointPort;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.ReconciliationPort;
+import com.securities.kuku.ledger.config.ReconciliationProperties;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.BalanceCheckpoint;
+import com.securities.kuku.ledger.domain.ReconciliationMismatch;
+import com.securities.kuku.ledger.domain.ReconciliationPartition;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class ReconciliationChunkProcessorTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-02T01:30:00Z");
+  private static final Instant CHECKPOINT_AT = Instant.parse("2025-01-01T15:00:00Z");
+  private static final Instant END_OF_TIME = ReconciliationChunkProcessor.END_OF_TIME;
+  private static final ReconciliationPartition PROGRESSED =
+      new ReconciliationPartition("run-1", 0, 3L, 100L, false);
+
+  private BalancePort balancePort;
+  private BalanceCheckpointPort balanceCheckpointPort;
+  private JournalEntryPort journalEntryPort;
+  private ReconciliationPort reconciliationPort;
+
+  @BeforeEach
+  void setUp() {
+    balancePort = mock(BalancePort.class);
+    balanceCheckpointPort = mock(BalanceCheckpointPort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    reconciliationPort = mock(ReconciliationPort.class);
+  }
+
+  private ReconciliationChunkProcessor processor(boolean useCheckpoints) {
+    return new ReconciliationChunkProcessor(
+        Clock.fixed(FIXED_TIME, ZoneId.of("UTC")),
+        balancePort,
+        balanceCheckpointPort,
+        journalEntryPort,
+        reconciliationPort,
+        new ReconciliationProperties(16, 4, 1000, useCheckpoints, null));
+  }
+
+  @Test
+  @DisplayName("체크포인트와 이후 분개 합계가 잔액과 다른 계좌를 마지막 트랜잭션 ID와 함께 기록한다")
+  void process_recordsMismatchWithLastTransactionId() {
+    // Given: 1번은 체크포인트 1000 + 이후 -100 = 900 (일치), 2번은 분개 500인데 잔액 600 (불일치)
+    List<Long> accountIds = List.of(1L, 2L);
+    given(balancePort.findByAccountIds(Set.of(1L, 2L)))
+        .willReturn(Map.of(1L, balance(1L, "900", 11L), 2L, balance(2L, "600", 22L)));
+    given(balanceCheckpointPort.findLatestByAccountIds(accountIds, END_OF_TIME))
+        .willReturn(
+            Map.of(
+                1L,
+                new BalanceCheckpoint(1L, CHECKPOINT_AT, Money.of(1000), CHECKPOINT_AT)));
+    given(journalEntryPort.sumSignedAmountByAccountIds(List.of(1L), CHECKPOINT_AT, END_OF_TIME))
+        .willReturn(Map.of(1L, Money.of(-100)));
+    given(journalEntryPort.sumSignedAmountByAccountIds(List.of(2L), Instant.EPOCH, END_OF_TIME))
+        .willReturn(Map.of(2L, Money.of(500)));
+
+    // When
+    int found = processor(true).process(accountIds, PROGRESSED);
+
+    // Then
+    assertThat(found).isEqualTo(1);
+    List<ReconciliationMismatch> mismatches = captureMismatches();
+    assertThat(mismatches).hasSize(1);
+    ReconciliationMismatch mismatch = mismatches.get(0);
+    assertThat(mismatch.accountId()).isEqualTo(2L);
+    assertThat(mismatch.lastTransactionId()).isEqualTo(22L);
+    assertThat(mismatch.difference()).isEqualTo(Money.of(100));
+    then(reconciliationPort).should().savePartition(PROGRESSED, FIXED_TIME);
+  }
+
+  @Test
+  @DisplayName("체크포인트를 쓰지 않으면 모든 분개를 처음부터 합산한다")
+  void process_replaysFullJournal_whenCheckpointsDisabled() {
+    // Given
+    List<Long> accountIds = List.of(1L);
+    given(balancePort.findByAccountIds(Set.of(1L)))
+        .willReturn(Map.of(1L, balance(1L, "900", 11L)));
+    given(journalEntryPort.sumSignedAmountByAccountIds(accountIds, Instant.EPOCH, END_OF_TIME))
+        .willReturn(Map.of(1L, Money.of(900)));
+
+    // When
+    int found = processor(false).process(accountIds, PROGRESSED);
+
+    // Then
+    assertThat(found).isZero();
+    then(balanceCheckpointPort).should(never()).findLatestByAccountIds(any(), any());
+  }
+
+  @Test
+  @DisplayName("분개도 잔액 행도 없는 계좌는 일치로 본다")
+  void process_treatsMissingBalanceAndJournalAsZero() {
+    // Given
+    List<Long> accountIds = List.of(1L);
+    given(balancePort.findByAccountIds(Set.of(1L))).willReturn(Map.of());
+    given(balanceCheckpointPort.findLatestByAccountIds(accountIds, END_OF_TIME))
+        .willReturn(Map.of());
+    given(journalEntryPort.sumSignedAmountByAccountIds(accountIds, Instant.EPOCH, END_OF_TIME))
+        .willReturn(Map.of());
+
+    // When
+    int found = processor(true).process(accountIds, PROGRESSED);
+
+    // Then
+    assertThat(found).isZero();
+  }
+
+  private Balance balance(Long accountId, String amount, Long lastTransactionId) {
+    return new Balance(
+        accountId, Money.of(new BigDecimal(amount)), Money.ZERO, 0L, lastTransactionId, FIXED_TIME);
+  }
+
+  private List<ReconciliationMismatch> captureMismatches() {
+    ArgumentCaptor<Collection<ReconciliationMismatch>> captor = collectionCaptor();
+    then(reconciliationPort).should().saveMismatches(captor.capture());
+    return List.copyOf(captor.getValue());
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<Collection<ReconciliationMismatch>> collectionCaptor() {
+    return ArgumentCaptor.forClass(Collection.class);
+  }
+}
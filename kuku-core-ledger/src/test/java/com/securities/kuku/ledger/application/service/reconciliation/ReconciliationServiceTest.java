@@ -0,0 +1,154 @@
+package com.securities.kuku.ledger.application.service.reconciliation;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.ledger.application.port.in.result.ReconciliationResult;
+import com.securities.kuku.ledger.application.port.out.AccountPort;
+import com.securities.kuku.ledger.application.port.out.ReconciliationPort;
+import com.securities.kuku.ledger.config.ReconciliationProperties;
+import com.securities.kuku.ledger.domain.ReconciliationPartition;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.OptionalLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class ReconciliationServiceTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-02T01:30:00Z");
+  private static final String RUN_ID = "run-1";
+
+  private ReconciliationService sut;
+
+  private AccountPort accountPort;
+  private ReconciliationPort reconciliationPort;
+  private ReconciliationChunkProcessor chunkProcessor;
+
+  @BeforeEach
+  void setUp() {
+    accountPort = mock(AccountPort.class);
+    reconciliationPort = mock(ReconciliationPort.class);
+    chunkProcessor = mock(ReconciliationChunkProcessor.class);
+    sut =
+        new ReconciliationService(
+            Clock.fixed(FIXED_TIME, ZoneId.of("UTC")),
+            accountPort,
+            reconciliationPort,
+            chunkProcessor,
+            new ReconciliationProperties(2, 2, 2, true, null));
+  }
+
+  @Nested
+  @DisplayName("구간 분할")
+  class Split {
+
+    @Test
+    @DisplayName("ID 공간을 빈틈없이 연속 구간으로 나눈다")
+    void split_coversWholeRange() {
+      List<ReconciliationPartition> partitions = ReconciliationService.split(RUN_ID, 1, 10, 3);
+
+      assertThat(partitions)
+          .extracting(ReconciliationPartition::lastAccountId, ReconciliationPartition::toAccountId)
+          .containsExactly(tuple(0L, 4L), tuple(4L, 8L), tuple(8L, 10L));
+    }
+
+    @Test
+    @DisplayName("계좌가 하나면 구간도 하나다")
+    void split_singleAccount() {
+      List<ReconciliationPartition> partitions = ReconciliationService.split(RUN_ID, 5, 5, 16);
+
+      assertThat(partitions).containsExactly(ReconciliationPartition.of(RUN_ID, 0, 5, 5));
+    }
+  }
+
+  @Test
+  @DisplayName("새 실행은 구간을 만들고 구간마다 청크 단위로 끝까지 대사한다")
+  void reconcile_newRun_processesAllPartitions() {
+    // Given: 계좌 1~4 → 구간 [1,2], [3,4], 청크 크기 2
+    given(reconciliationPort.findPartitions(RUN_ID)).willReturn(List.of());
+    given(accountPort.findMinId()).willReturn(OptionalLong.of(1L));
+    given(accountPort.findMaxId()).willReturn(OptionalLong.of(4L));
+    given(accountPort.findIdsBetween(0L, 2L, 2)).willReturn(List.of(1L, 2L));
+    given(accountPort.findIdsBetween(2L, 2L, 2)).willReturn(List.of());
+    given(accountPort.findIdsBetween(2L, 4L, 2)).willReturn(List.of(3L));
+    given(chunkProcessor.process(List.of(3L), new ReconciliationPartition(RUN_ID, 1, 3L, 4L, true)))
+        .willReturn(1);
+
+    // When
+    ReconciliationResult result = sut.reconcile(RUN_ID);
+
+    // Then
+    assertThat(result.partitions()).isEqualTo(2);
+    assertThat(result.checkedAccounts()).isEqualTo(3);
+    assertThat(result.mismatches()).isEqualTo(1);
+    assertThat(result.isClean()).isFalse();
+    then(reconciliationPort).should().createPartitions(anyList(), any());
+    then(chunkProcessor)
+        .should()
+        .process(List.of(1L, 2L), new ReconciliationPartition(RUN_ID, 0, 2L, 2L, false));
+    then(chunkProcessor)
+        .should()
+        .process(List.of(), new ReconciliationPartition(RUN_ID, 0, 2L, 2L, true));
+  }
+
+  @Test
+  @DisplayName("이어서 실행하면 완료된 구간은 건너뛰고 저장된 위치부터 대사한다")
+  void reconcile_resume_continuesFromCheckpoint() {
+    // Given
+    given(reconciliationPort.findPartitions(RUN_ID))
+        .willReturn(
+            List.of(
+                new ReconciliationPartition(RUN_ID, 0, 2L, 2L, true),
+                new ReconciliationPartition(RUN_ID, 1, 3L, 4L, false)));
+    given(accountPort.findIdsBetween(3L, 4L, 2)).willReturn(List.of(4L));
+
+    // When
+    ReconciliationResult result = sut.reconcile(RUN_ID);
+
+    // Then
+    assertThat(result.checkedAccounts()).isEqualTo(1);
+    assertThat(result.isClean()).isTrue();
+    then(reconciliationPort).should(never()).createPartitions(anyList(), any());
+    then(accountPort).should(never()).findIdsBetween(2L, 2L, 2);
+  }
+
+  @Test
+  @DisplayName("구간 하나가 실패해도 나머지 구간은 끝까지 대사한다")
+  void reconcile_countsFailedPartition() {
+    // Given
+    given(reconciliationPort.findPartitions(RUN_ID))
+        .willReturn(
+            List.of(
+                new ReconciliationPartition(RUN_ID, 0, 0L, 2L, false),
+                new ReconciliationPartition(RUN_ID, 1, 2L, 4L, false)));
+    given(accountPort.findIdsBetween(0L, 2L, 2)).willThrow(new IllegalStateException("DB down"));
+    given(accountPort.findIdsBetween(2L, 4L, 2)).willReturn(List.of(3L));
+
+    // When
+    ReconciliationResult result = sut.reconcile(RUN_ID);
+
+    // Then
+    assertThat(result.failedPartitions()).isEqualTo(1);
+    assertThat(result.checkedAccounts()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("실행 ID가 비어 있으면 예외가 발생한다")
+  void reconcile_throwsException_whenRunIdBlank() {
+    assertThatThrownBy(() -> sut.reconcile(" "))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("Run ID");
+  }
+}
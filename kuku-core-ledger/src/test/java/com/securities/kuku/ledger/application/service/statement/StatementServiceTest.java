@@ -0,0 +1,155 @@
+package com.securities.kuku.ledger.application.service.statement;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.result.StatementLine;
+import com.securities.kuku.ledger.application.port.in.result.StatementPage;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.JournalEntry;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class StatementServiceTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_ID = 1L;
+
+  private StatementService sut;
+
+  private BalancePort balancePort;
+  private JournalEntryPort journalEntryPort;
+
+  // 최신순: +100(id 3), -30(id 2), +500(id 1) → 현재 잔액 570
+  private final JournalEntry newest = entry(3L, JournalEntry.EntryType.CREDIT, "100", 2);
+  private final JournalEntry middle = entry(2L, JournalEntry.EntryType.DEBIT, "30", 1);
+  private final JournalEntry oldest = entry(1L, JournalEntry.EntryType.CREDIT, "500", 0);
+
+  @BeforeEach
+  void setUp() {
+    balancePort = mock(BalancePort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    sut = new StatementService(balancePort, journalEntryPort);
+
+    given(balancePort.findByAccountId(ACCOUNT_ID))
+        .willReturn(
+            Optional.of(
+                new Balance(
+                    ACCOUNT_ID, Money.of(570), Money.ZERO, 0L, 3L, FIXED_TIME)));
+  }
+
+  @Nested
+  @DisplayName("페이지 조회")
+  class GetStatement {
+
+    @Test
+    @DisplayName("첫 페이지는 현재 잔액에서 거꾸로 누적 잔액을 계산한다")
+    void firstPage_computesRunningBalanceFromCurrentBalance() {
+      // Given
+      given(journalEntryPort.findLatestByAccountId(ACCOUNT_ID, 3))
+          .willReturn(List.of(newest, middle));
+
+      // When
+      StatementPage page = sut.getStatement(ACCOUNT_ID, null, 2);
+
+      // Then
+      assertThat(page.lines())
+          .extracting(StatementLine::balanceAfter)
+          .containsExactly(Money.of(570), Money.of(470));
+      assertThat(page.hasNext()).isFalse();
+    }
+
+    @Test
+    @DisplayName("다음 페이지는 커서 위치부터 조회하고 커서의 잔액에서 누적을 이어간다")
+    void nextPage_continuesFromCursor() {
+      // Given
+      given(journalEntryPort.findLatestByAccountId(ACCOUNT_ID, 3))
+          .willReturn(List.of(newest, middle, oldest));
+      StatementPage first = sut.getStatement(ACCOUNT_ID, null, 2);
+      given(
+              journalEntryPort.findByAccountIdBefore(
+                  ACCOUNT_ID, middle.getCreatedAt(), middle.getId(), 3))
+          .willReturn(List.of(oldest));
+
+      // When
+      StatementPage second = sut.getStatement(ACCOUNT_ID, first.nextCursor(), 2);
+
+      // Then
+      assertThat(first.hasNext()).isTrue();
+      assertThat(second.lines()).extracting(StatementLine::journalEntryId).containsExactly(1L);
+      assertThat(second.lines().get(0).balanceAfter()).isEqualTo(Money.of(500));
+      assertThat(second.hasNext()).isFalse();
+      then(balancePort).should().findByAccountId(ACCOUNT_ID);
+    }
+
+    @Test
+    @DisplayName("다른 계좌에서 발급한 커서는 거부한다")
+    void rejectsCursorOfAnotherAccount() {
+      // Given
+      String cursor = new StatementCursor(2L, FIXED_TIME, 10L, Money.ZERO).encode();
+
+      // When & Then
+      assertThatThrownBy(() -> sut.getStatement(ACCOUNT_ID, cursor, 2))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Invalid statement cursor");
+    }
+
+    @Test
+    @DisplayName("손상된 커서는 거부한다")
+    void rejectsMalformedCursor() {
+      assertThatThrownBy(() -> sut.getStatement(ACCOUNT_ID, "not-a-cursor", 2))
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessage("Invalid statement cursor");
+    }
+
+    @Test
+    @DisplayName("페이지 크기가 범위를 벗어나면 예외가 발생한다")
+    void rejectsPageSizeOutOfRange() {
+      int size = StatementService.MAX_PAGE_SIZE + 1;
+
+      assertThatThrownBy(() -> sut.getStatement(ACCOUNT_ID, null, size))
+          .isInstanceOf(IllegalArgumentException.class);
+    }
+  }
+
+  @Test
+  @DisplayName("내보내기는 모든 분개를 최신순으로 누적 잔액과 함께 전달한다")
+  void export_streamsAllLinesWithRunningBalance() {
+    // Given
+    given(journalEntryPort.streamByAccountId(ACCOUNT_ID))
+        .willReturn(List.of(newest, middle, oldest).stream());
+    List<StatementLine> lines = new ArrayList<>();
+
+    // When
+    sut.exportStatement(ACCOUNT_ID, lines::add);
+
+    // Then
+    assertThat(lines)
+        .extracting(StatementLine::balanceAfter)
+        .containsExactly(Money.of(570), Money.of(470), Money.of(500));
+  }
+
+  private static JournalEntry entry(
+      Long id, JournalEntry.EntryType entryType, String amount, int secondsAfter) {
+    return new JournalEntry(
+        id,
+        100L + id,
+        ACCOUNT_ID,
+        Money.of(new BigDecimal(amount)),
+        entryType,
+        FIXED_TIME.plusSeconds(secondsAfter));
+  }
+}
@@ -0,0 +1,183 @@
+package com.securities.kuku.ledger.application.service.wal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.port.out.JournalEntryPort;
+import com.securities.kuku.ledger.application.port.out.TransactionPort;
+import com.securities.kuku.ledger.application.service.OutboxEventRecorder;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import com.securities.kuku.ledger.domain.Transaction;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+class LedgerLogBatchApplierTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_A = 1L;
+  private static final Long ACCOUNT_B = 2L;
+
+  private LedgerLogBatchApplier sut;
+
+  private BalancePort balancePort;
+  private TransactionPort transactionPort;
+  private JournalEntryPort journalEntryPort;
+  private OutboxEventRecorder outboxEventRecorder;
+  private PendingBalanceOverlay pendingBalanceOverlay;
+
+  @BeforeEach
+  void setUp() {
+    balancePort = mock(BalancePort.class);
+    transactionPort = mock(TransactionPort.class);
+    journalEntryPort = mock(JournalEntryPort.class);
+    outboxEventRecorder = mock(OutboxEventRecorder.class);
+    pendingBalanceOverlay = mock(PendingBalanceOverlay.class);
+
+    sut =
+        new LedgerLogBatchApplier(
+            balancePort,
+            transactionPort,
+            journalEntryPort,
+            outboxEventRecorder,
+            pendingBalanceOverlay);
+
+    given(transactionPort.findExistingBusinessRefIds(anyCollection())).willReturn(Set.of());
+    given(balancePort.findByAccountIds(Set.of(ACCOUNT_A, ACCOUNT_B)))
+        .willReturn(Map.of(ACCOUNT_A, balance(ACCOUNT_A, 3L), ACCOUNT_B, balance(ACCOUNT_B, 7L)));
+    setupSaveAllAssigningIds();
+  }
+
+  @Test
+  @DisplayName("여러 계좌의 기록을 한 번에 저장하고 계좌별 최종 잔액을 한 번에 갱신한다")
+  void appliesRecordsOfManyAccountsInOneBatch() {
+    int applied =
+        sut.apply(
+            List.of(
+                record(1L, ACCOUNT_A, TransactionType.DEPOSIT, "100", "ref-1"),
+                record(2L, ACCOUNT_B, TransactionType.WITHDRAWAL, "300", "ref-2"),
+                record(3L, ACCOUNT_A, TransactionType.WITHDRAWAL, "50", "ref-3")));
+
+    ArgumentCaptor<Collection<Balance>> balances = collectionCaptor();
+    then(balancePort).should().updateAll(balances.capture());
+    assertThat(applied).isEqualTo(3);
+    assertThat(balances.getValue())
+        .extracting(Balance::getAccountId, Balance::getAmount)
+        .containsExactlyInAnyOrder(
+            tuple(ACCOUNT_A, Money.of(1050)), tuple(ACCOUNT_B, Money.of(700)));
+    then(journalEntryPort).should().saveAll(anyList());
+    then(outboxEventRecorder).should().recordAll(anyList());
+  }
+
+  @Test
+  @DisplayName("반영한 기록에 커밋 후 잔액 version(읽은 version + 1)을 표시한다")
+  void marksAppliedRecordsWithNextBalanceVersion() {
+    sut.apply(
+        List.of(
+            record(1L, ACCOUNT_A, TransactionType.DEPOSIT, "100", "ref-1"),
+            record(2L, ACCOUNT_B, TransactionType.DEPOSIT, "100", "ref-2")));
+
+    then(pendingBalanceOverlay).should().markApplying("ref-1", 4L);
+    then(pendingBalanceOverlay).should().markApplying("ref-2", 8L);
+  }
+
+  @Test
+  @DisplayName("이미 반영된 businessRefId는 건너뛰어, 재기동 후 다시 반영해도 중복되지 않는다")
+  void skipsAlreadyAppliedRecords() {
+    given(transactionPort.findExistingBusinessRefIds(anyCollection()))
+        .willReturn(Set.of("ref-1", "ref-2"));
+
+    int applied =
+        sut.apply(
+            List.of(
+                record(1L, ACCOUNT_A, TransactionType.DEPOSIT, "100", "ref-1"),
+                record(2L, ACCOUNT_B, TransactionType.DEPOSIT, "100", "ref-2")));
+
+    assertThat(applied).isZero();
+    then(transactionPort).should(never()).saveAll(anyList());
+    then(balancePort).should(never()).updateAll(anyCollection());
+    then(pendingBalanceOverlay).should(never()).markApplying(anyString(), anyLong());
+  }
+
+  @Test
+  @DisplayName("가용 잔액을 넘는 출금 기록은 반영하지 않고 예외를 던진다")
+  void throwsWhenWithdrawalExceedsAvailableBalance() {
+    given(balancePort.findByAccountIds(Set.of(ACCOUNT_A)))
+        .willReturn(Map.of(ACCOUNT_A, balance(ACCOUNT_A, 3L)));
+
+    assertThatThrownBy(
+            () ->
+                sut.apply(
+                    List.of(record(1L, ACCOUNT_A, TransactionType.WITHDRAWAL, "1500", "ref-1"))))
+        .isInstanceOf(InsufficientBalanceException.class);
+
+    then(balancePort).should(never()).updateAll(anyCollection());
+    then(pendingBalanceOverlay).should(never()).markApplying(anyString(), anyLong());
+  }
+
+  private LedgerLogRecord record(
+      long sequence, Long accountId, TransactionType type, String amount, String businessRefId) {
+    return new LedgerLogRecord(
+        sequence,
+        accountId,
+        type,
+        Money.of(new BigDecimal(amount)),
+        null,
+        businessRefId,
+        FIXED_TIME);
+  }
+
+  private Balance balance(Long accountId, long version) {
+    return new Balance(accountId, Money.of(1000), Money.ZERO, version, null, FIXED_TIME);
+  }
+
+  private void setupSaveAllAssigningIds() {
+    AtomicLong sequence = new AtomicLong();
+    given(transactionPort.saveAll(anyList()))
+        .willAnswer(
+            invocation -> {
+              List<Transaction> transactions = invocation.getArgument(0);
+              List<Transaction> saved = new ArrayList<>();
+              for (Transaction tx : transactions) {
+                saved.add(
+                    new Transaction(
+                        sequence.incrementAndGet(),
+                        tx.getType(),
+                        tx.getDescription(),
+                        tx.getBusinessRefId(),
+                        tx.getStatus(),
+                        tx.getReversalOfTransactionId(),
+                        tx.getCreatedAt()));
+              }
+              return saved;
+            });
+  }
+
+  @SuppressWarnings("unchecked")
+  private static ArgumentCaptor<Collection<Balance>> collectionCaptor() {
+    return ArgumentCaptor.forClass(Collection.class);
+  }
+}
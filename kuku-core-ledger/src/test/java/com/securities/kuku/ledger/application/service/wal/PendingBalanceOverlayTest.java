@@ -0,0 +1,167 @@
+package com.securities.kuku.ledger.application.service.wal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.domain.Balance;
+import com.securities.kuku.ledger.domain.LedgerLogRecord;
+import com.securities.kuku.ledger.domain.TransactionType;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.UnaryOperator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class PendingBalanceOverlayTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Long ACCOUNT_ID = 1L;
+  private static final long LOADED_VERSION = 3L;
+
+  private PendingBalanceOverlay sut;
+
+  private BalancePort balancePort;
+  private final AtomicLong sequence = new AtomicLong();
+  private final UnaryOperator<LedgerLogRecord> ledgerLog =
+      record -> record.withSequence(sequence.incrementAndGet());
+
+  @BeforeEach
+  void setUp() {
+    balancePort = mock(BalancePort.class);
+    sut = new PendingBalanceOverlay(balancePort);
+    givenBalance("1000", LOADED_VERSION);
+  }
+
+  @Nested
+  @DisplayName("현재 잔액")
+  class CurrentBalance {
+
+    @Test
+    @DisplayName("DB에 반영되지 않은 입출금을 DB 잔액에 더한다")
+    void addsPendingPostingsToStoredBalance() {
+      sut.append(deposit("ref-1", "300"), ledgerLog);
+      sut.append(withdraw("ref-2", "100"), ledgerLog);
+
+      assertThat(sut.currentBalance(ACCOUNT_ID).getAmount()).isEqualTo(Money.of(1200));
+    }
+
+    @Test
+    @DisplayName("반영 커밋으로 잔액 version이 표시한 값에 이르면 그 기록은 다시 더하지 않는다")
+    void excludesPostingsIncludedInStoredVersion() {
+      sut.append(deposit("ref-1", "300"), ledgerLog);
+      sut.markApplying("ref-1", LOADED_VERSION + 1);
+
+      Money beforeCommit = sut.currentBalance(ACCOUNT_ID).getAmount();
+      givenBalance("1300", LOADED_VERSION + 1);
+      Money afterCommit = sut.currentBalance(ACCOUNT_ID).getAmount();
+
+      assertThat(beforeCommit).isEqualTo(Money.of(1300));
+      assertThat(afterCommit).isEqualTo(Money.of(1300));
+    }
+
+    @Test
+    @DisplayName("반영이 롤백되어 표시를 지우면 다시 대기 중으로 더한다")
+    void countsPostingAgainAfterRollback() {
+      LedgerLogRecord record = sut.append(deposit("ref-1", "300"), ledgerLog);
+      sut.markApplying("ref-1", LOADED_VERSION);
+
+      sut.clearApplying(List.of(record));
+
+      assertThat(sut.currentBalance(ACCOUNT_ID).getAmount()).isEqualTo(Money.of(1300));
+    }
+  }
+
+  @Nested
+  @DisplayName("기록")
+  class Append {
+
+    @Test
+    @DisplayName("대기 중인 출금까지 빼고 가용 잔액이 모자라면 로그에 기록하지 않고 거절한다")
+    void rejectsWithdrawalBeyondPendingBalance() {
+      sut.append(withdraw("ref-1", "800"), ledgerLog);
+
+      assertThatThrownBy(() -> sut.append(withdraw("ref-2", "300"), ledgerLog))
+          .isInstanceOf(InsufficientBalanceException.class);
+      assertThat(sut.currentBalance(ACCOUNT_ID).getAmount()).isEqualTo(Money.of(200));
+    }
+
+    @Test
+    @DisplayName("같은 businessRefId가 대기 중이면 기록하지 않고 null을 반환한다")
+    void returnsNullForPendingDuplicate() {
+      sut.append(deposit("ref-1", "300"), ledgerLog);
+
+      LedgerLogRecord duplicate = sut.append(deposit("ref-1", "300"), record -> record);
+
+      assertThat(duplicate).isNull();
+      assertThat(sut.currentBalance(ACCOUNT_ID).getAmount()).isEqualTo(Money.of(1300));
+    }
+
+    @Test
+    @DisplayName("로그 기록에 실패하면 대기 목록에 남기지 않는다")
+    void removesPostingWhenAppendFails() {
+      assertThatThrownBy(
+              () ->
+                  sut.append(
+                      deposit("ref-1", "300"),
+                      record -> {
+                        throw new IllegalStateException("Ledger log is not open");
+                      }))
+          .isInstanceOf(IllegalStateException.class);
+
+      assertThat(sut.currentBalance(ACCOUNT_ID).getAmount()).isEqualTo(Money.of(1000));
+    }
+
+    @Test
+    @DisplayName("반영이 끝난 기록을 빼면 DB 잔액만 남는다")
+    void removeAll_dropsAppliedPostings() {
+      LedgerLogRecord record = sut.append(deposit("ref-1", "300"), ledgerLog);
+
+      sut.removeAll(List.of(record));
+
+      assertThat(sut.currentBalance(ACCOUNT_ID).getAmount()).isEqualTo(Money.of(1000));
+    }
+  }
+
+  private void givenBalance(String amount, long version) {
+    given(balancePort.findByAccountId(ACCOUNT_ID))
+        .willReturn(
+            Optional.of(
+                new Balance(
+                    ACCOUNT_ID,
+                    Money.of(new BigDecimal(amount)),
+                    Money.ZERO,
+                    version,
+                    null,
+                    FIXED_TIME)));
+  }
+
+  private LedgerLogRecord deposit(String businessRefId, String amount) {
+    return LedgerLogRecord.of(
+        ACCOUNT_ID,
+        TransactionType.DEPOSIT,
+        Money.of(new BigDecimal(amount)),
+        null,
+        businessRefId,
+        FIXED_TIME);
+  }
+
+  private LedgerLogRecord withdraw(String businessRefId, String amount) {
+    return LedgerLogRecord.of(
+        ACCOUNT_ID,
+        TransactionType.WITHDRAWAL,
+        Money.of(new BigDecimal(amount)),
+        null,
+        businessRefId,
+        FIXED_TIME);
+  }
+}
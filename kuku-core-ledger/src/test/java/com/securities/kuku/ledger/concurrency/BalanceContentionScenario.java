@@ -0,0 +1,88 @@
+package com.securities.kuku.ledger.concurrency;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import com.securities.kuku.ledger.application.service.WithdrawService;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner.ExecutionResult;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import com.securities.kuku.ledger.test.support.RetryCounter;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+/**
+ * 잔액 갱신 방식({@code ledger.balance.update-mode})별 경합 비교를 위한 공통 시나리오.
+ *
+ * <p>같은 계좌에 동시 출금을 몰아 넣고 성공/실패 건수, Optimistic Lock 충돌 횟수, 소요 시간을 기록합니다. 방식별 기대 결과는 하위 클래스가 검증합니다.
+ */
+abstract class BalanceContentionScenario {
+
+  private static final Logger log = LoggerFactory.getLogger(BalanceContentionScenario.class);
+
+  @Autowired private WithdrawService withdrawService;
+
+  @Autowired protected LedgerTestFixture fixture;
+
+  @Autowired private RetryCounter retryCounter;
+
+  protected Long accountId;
+
+  @BeforeEach
+  void resetRetryCounter() {
+    retryCounter.reset();
+  }
+
+  @AfterEach
+  void tearDown() {
+    fixture.cleanup(accountId);
+  }
+
+  protected ContentionResult withdrawConcurrently(
+      int threadCount, Money initialBalance, Money withdrawAmount) {
+    accountId = fixture.createAccountWithBalance(initialBalance);
+
+    long startedAt = System.nanoTime();
+    ExecutionResult result =
+        ConcurrencyRunner.run(
+            threadCount,
+            () -> {
+              long threadId = Thread.currentThread().threadId();
+              String businessRefId = fixture.generateBusinessRefId(accountId, threadId);
+              withdrawService.withdraw(
+                  WithdrawCommand.of(accountId, withdrawAmount, "Contention", businessRefId));
+            },
+            InsufficientBalanceException.class,
+            ObjectOptimisticLockingFailureException.class);
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+    ContentionResult contention =
+        new ContentionResult(result, retryCounter.getLockConflicts(), elapsed);
+    log.info(
+        "[{}] threads={}, success={}, insufficient={}, lockFailed={}, conflicts={}, elapsed={}ms",
+        getClass().getSimpleName(),
+        threadCount,
+        result.getSuccessCount(),
+        contention.insufficientCount(),
+        contention.lockFailureCount(),
+        contention.lockConflicts(),
+        elapsed.toMillis());
+    return contention;
+  }
+
+  protected record ContentionResult(ExecutionResult result, long lockConflicts, Duration elapsed) {
+
+    int insufficientCount() {
+      return result.getExpectedFailureCountFor(InsufficientBalanceException.class);
+    }
+
+    int lockFailureCount() {
+      return result.getExpectedFailureCountFor(ObjectOptimisticLockingFailureException.class);
+    }
+  }
+}
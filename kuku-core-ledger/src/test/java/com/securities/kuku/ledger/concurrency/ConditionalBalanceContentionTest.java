@@ -0,0 +1,53 @@
+package com.securities.kuku.ledger.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import com.securities.kuku.ledger.test.support.RetryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@code conditional} 모드의 경합 테스트. 같은 시나리오에서 {@link OptimisticBalanceContentionTest}와 달리 재시도 없이 모든
+ * 요청이 잔액 기준으로만 성공/실패해야 합니다.
+ */
+@SpringBootTest(properties = "ledger.balance.update-mode=conditional")
+@ActiveProfiles("test")
+@Import({LedgerTestFixture.class, RetryCounter.class})
+class ConditionalBalanceContentionTest extends BalanceContentionScenario {
+
+  @Test
+  @DisplayName("50개 스레드가 동시에 10원씩 출금하면 재시도 없이 모두 성공한다")
+  void 동시_소액_출금() {
+    Money withdrawAmount = Money.of(10);
+
+    ContentionResult contention = withdrawConcurrently(50, Money.of(500), withdrawAmount);
+
+    contention.result().assertNoUnexpectedExceptions();
+    assertThat(contention.result().getSuccessCount()).isEqualTo(50);
+    assertThat(contention.lockFailureCount()).isZero();
+    assertThat(contention.lockConflicts()).isZero();
+    fixture.assertBalance(accountId, Money.ZERO);
+    fixture.assertLedgerConsistency(accountId, 50, withdrawAmount);
+  }
+
+  @Test
+  @DisplayName("20개 스레드가 동시에 전액 출금하면 하나만 성공하고 나머지는 재시도 없이 잔액 부족으로 실패한다")
+  void 동시_전액_출금() {
+    Money withdrawAmount = Money.of(1000);
+
+    ContentionResult contention = withdrawConcurrently(20, withdrawAmount, withdrawAmount);
+
+    contention.result().assertNoUnexpectedExceptions();
+    assertThat(contention.result().getSuccessCount()).isEqualTo(1);
+    assertThat(contention.insufficientCount()).isEqualTo(19);
+    assertThat(contention.lockFailureCount()).isZero();
+    assertThat(contention.lockConflicts()).isZero();
+    fixture.assertBalance(accountId, Money.ZERO);
+    fixture.assertLedgerConsistency(accountId, 1, withdrawAmount);
+  }
+}
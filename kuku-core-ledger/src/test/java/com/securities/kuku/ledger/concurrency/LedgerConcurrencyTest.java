@@ -2,15 +2,16 @@ package com.securities.kuku.ledger.concurrency;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
 import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
 import com.securities.kuku.ledger.application.service.DepositService;
 import com.securities.kuku.ledger.application.service.WithdrawService;
 import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
-import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
 import com.securities.kuku.ledger.test.support.ConcurrencyRunner.ExecutionResult;
+import com.securities.kuku.ledger.test.support.ConcurrencyRunner;
 import com.securities.kuku.ledger.test.support.LedgerTestFixture;
-import java.math.BigDecimal;
 import java.util.concurrent.atomic.AtomicInteger;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.DisplayName;
@@ -49,8 +50,8 @@ class LedgerConcurrencyTest {
     @DisplayName("10개 스레드가 동시에 100원씩 입금하면 데이터 정합성이 유지되어야 한다")
     void 동시_입금시_정합성_유지() {
       // Given: 잔액 0원 계좌 생성
-      BigDecimal initialBalance = BigDecimal.ZERO;
-      BigDecimal depositAmount = new BigDecimal("100");
+      Money initialBalance = Money.ZERO;
+      Money depositAmount = Money.of(100);
       int threadCount = 10;
       accountId = fixture.createAccountWithBalance(initialBalance);
 
@@ -76,7 +77,7 @@ class LedgerConcurrencyTest {
           .isEqualTo(threadCount);
 
       // 성공 횟수만큼 잔액이 증가했는지 확인 (핵심 정합성 검증)
-      BigDecimal expectedBalance = depositAmount.multiply(new BigDecimal(result.getSuccessCount()));
+      Money expectedBalance = depositAmount.times(Quantity.of(result.getSuccessCount()));
       fixture.assertBalance(accountId, expectedBalance);
 
       // 원장 정합성 검증: CREDIT 합계 = 성공 횟수 × 100
@@ -92,8 +93,8 @@ class LedgerConcurrencyTest {
     @DisplayName("5개 입금 + 5개 출금 동시 실행 시 데이터 정합성이 유지되어야 한다")
     void 동시_입출금_혼합시_정합성_유지() {
       // Given: 잔액 5000원 계좌 생성
-      BigDecimal initialBalance = new BigDecimal("5000");
-      BigDecimal txAmount = new BigDecimal("100");
+      Money initialBalance = Money.of(5000);
+      Money txAmount = Money.of(100);
       int depositThreads = 5;
       int withdrawThreads = 5;
       accountId = fixture.createAccountWithBalance(initialBalance);
@@ -129,9 +130,9 @@ class LedgerConcurrencyTest {
 
       // 최종 잔액 = 초기 잔액 + (CREDIT 합계) - (DEBIT 합계)
       // 원장에 기록된 금액으로 정합성 검증
-      BigDecimal creditTotal = fixture.getCreditTotal(accountId);
-      BigDecimal debitTotal = fixture.getDebitTotal(accountId);
-      BigDecimal expectedBalance = initialBalance.add(creditTotal).subtract(debitTotal);
+      Money creditTotal = fixture.getCreditTotal(accountId);
+      Money debitTotal = fixture.getDebitTotal(accountId);
+      Money expectedBalance = initialBalance.plus(creditTotal).minus(debitTotal);
 
       fixture.assertBalance(accountId, expectedBalance);
     }
@@ -145,8 +146,8 @@ class LedgerConcurrencyTest {
     @DisplayName("20개 스레드가 각각 1원씩 출금할 때 모든 성공한 업데이트가 반영되어야 한다")
     void 연속_업데이트_모두_반영() {
       // Given: 잔액 10000원 계좌 생성
-      BigDecimal initialBalance = new BigDecimal("10000");
-      BigDecimal withdrawAmount = new BigDecimal("1");
+      Money initialBalance = Money.of(10000);
+      Money withdrawAmount = Money.of(1);
       int threadCount = 20;
       accountId = fixture.createAccountWithBalance(initialBalance);
 
@@ -172,12 +173,12 @@ class LedgerConcurrencyTest {
 
       // Lost Update가 없다면:
       // 최종 잔액 = 초기 잔액 - (성공 횟수 × 1원)
-      BigDecimal expectedBalance =
-          initialBalance.subtract(withdrawAmount.multiply(new BigDecimal(successCount)));
+      Money expectedBalance =
+          initialBalance.minus(withdrawAmount.times(Quantity.of(successCount)));
       fixture.assertBalance(accountId, expectedBalance);
 
       // JournalEntry DEBIT 합계 = 성공 횟수 × 1원
-      BigDecimal expectedDebitTotal = withdrawAmount.multiply(new BigDecimal(successCount));
+      Money expectedDebitTotal = withdrawAmount.times(Quantity.of(successCount));
       fixture.assertDebitTotal(accountId, expectedDebitTotal);
 
       // 원장 정합성 전체 검증
@@ -0,0 +1,52 @@
+package com.securities.kuku.ledger.concurrency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import com.securities.kuku.ledger.test.support.RetryCounter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * {@code optimistic} 모드의 경합 기준선. 충돌은 재시도로 흡수되거나 실패로 끝나므로 정합성만 검증합니다.
+ *
+ * @see ConditionalBalanceContentionTest
+ */
+@SpringBootTest(properties = "ledger.balance.update-mode=optimistic")
+@ActiveProfiles("test")
+@Import({LedgerTestFixture.class, RetryCounter.class})
+class OptimisticBalanceContentionTest extends BalanceContentionScenario {
+
+  @Test
+  @DisplayName("50개 스레드가 동시에 10원씩 출금하면 성공 건수만큼만 잔액이 차감된다")
+  void 동시_소액_출금() {
+    Money withdrawAmount = Money.of(10);
+
+    ContentionResult contention = withdrawConcurrently(50, Money.of(500), withdrawAmount);
+
+    contention.result().assertNoUnexpectedExceptions();
+    int successCount = contention.result().getSuccessCount();
+    fixture.assertBalance(
+        accountId,
+        Money.of(500).minus(withdrawAmount.times(Quantity.of(successCount))));
+    fixture.assertLedgerConsistency(accountId, successCount, withdrawAmount);
+  }
+
+  @Test
+  @DisplayName("20개 스레드가 동시에 전액 출금하면 하나만 성공한다")
+  void 동시_전액_출금() {
+    Money withdrawAmount = Money.of(1000);
+
+    ContentionResult contention = withdrawConcurrently(20, withdrawAmount, withdrawAmount);
+
+    contention.result().assertNoUnexpectedExceptions();
+    assertThat(contention.result().getSuccessCount()).isEqualTo(1);
+    fixture.assertBalance(accountId, Money.ZERO);
+    fixture.assertLedgerConsistency(accountId, 1, withdrawAmount);
+  }
+}
@@ -0,0 +1,56 @@
+package com.securities.kuku.ledger.config;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+class LedgerLogConfigTest {
+
+  @Test
+  @DisplayName("WAL 모드와 Group Commit을 함께 켜면 기동을 거절한다")
+  void rejectsGroupCommitWithLedgerLog() {
+    assertThatThrownBy(() -> new LedgerLogConfig(ledgerLog(true), groupCommit(true), striping()))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("ledger.group-commit.enabled");
+  }
+
+  @Test
+  @DisplayName("WAL 모드에서 잔액 분산 계좌를 지정하면 기동을 거절한다")
+  void rejectsBalanceStripingWithLedgerLog() {
+    assertThatThrownBy(
+            () -> new LedgerLogConfig(ledgerLog(true), groupCommit(false), striping(Map.of(1L, 4))))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessageContaining("ledger.balance.striping.accounts");
+  }
+
+  @Test
+  @DisplayName("WAL 모드가 꺼져 있으면 다른 모드 설정을 검사하지 않는다")
+  void allowsOtherModesWhenLedgerLogDisabled() {
+    assertThatCode(
+            () -> new LedgerLogConfig(ledgerLog(false), groupCommit(true), striping(Map.of(1L, 4))))
+        .doesNotThrowAnyException();
+  }
+
+  private LedgerLogProperties ledgerLog(boolean enabled) {
+    return new LedgerLogProperties(
+        enabled, "wal/ledger", DataSize.ofMegabytes(64), 1000, Duration.ofMillis(10), 100000);
+  }
+
+  private GroupCommitProperties groupCommit(boolean enabled) {
+    return new GroupCommitProperties(enabled, 64, Duration.ofNanos(200_000));
+  }
+
+  private BalanceStripingProperties striping() {
+    return striping(Map.of());
+  }
+
+  private BalanceStripingProperties striping(Map<Long, Integer> accounts) {
+    return new BalanceStripingProperties(
+        accounts, BalanceStripingProperties.SlotSelection.ROUND_ROBIN, null);
+  }
+}
@@ -0,0 +1,56 @@
+package com.securities.kuku.ledger.domain;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.securities.kuku.common.money.Money;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BalanceCheckpointTest {
+
+  private static final Instant FIXED_TIME = Instant.parse("2025-01-01T03:00:00Z");
+  private static final Instant CUTOFF = Instant.parse("2025-01-01T15:00:00Z");
+
+  @Test
+  @DisplayName("기준점은 잔액 0, EPOCH 시각이다")
+  void origin_startsFromZeroAtEpoch() {
+    BalanceCheckpoint origin = BalanceCheckpoint.origin(1L);
+
+    assertThat(origin.getAmount()).isEqualTo(Money.ZERO);
+    assertThat(origin.getCheckpointAt()).isEqualTo(Instant.EPOCH);
+  }
+
+  @Test
+  @DisplayName("다음 체크포인트는 구간 합계를 더한 잔액이다")
+  void advance_addsDelta() {
+    BalanceCheckpoint checkpoint =
+        new BalanceCheckpoint(1L, FIXED_TIME, Money.of(1000), FIXED_TIME);
+
+    BalanceCheckpoint next = checkpoint.advance(CUTOFF, Money.of(-300), CUTOFF);
+
+    assertThat(next.getAccountId()).isEqualTo(1L);
+    assertThat(next.getCheckpointAt()).isEqualTo(CUTOFF);
+    assertThat(next.getAmount()).isEqualTo(Money.of(700));
+  }
+
+  @Test
+  @DisplayName("다음 체크포인트 시각이 현재 체크포인트보다 뒤가 아니면 예외가 발생한다")
+  void advance_throwsException_whenNotAfter() {
+    BalanceCheckpoint checkpoint =
+        new BalanceCheckpoint(1L, CUTOFF, Money.of(1000), CUTOFF);
+
+    assertThatThrownBy(() -> checkpoint.advance(CUTOFF, Money.of(1), CUTOFF))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("after");
+  }
+
+  @Test
+  @DisplayName("체크포인트 시각이 없으면 예외가 발생한다")
+  void create_throwsException_whenCheckpointAtIsNull() {
+    assertThatThrownBy(() -> new BalanceCheckpoint(1L, null, Money.ZERO, FIXED_TIME))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageContaining("CheckpointAt");
+  }
+}
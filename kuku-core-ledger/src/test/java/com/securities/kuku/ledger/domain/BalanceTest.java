@@ -3,7 +3,7 @@ package com.securities.kuku.ledger.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,7 +14,7 @@ class BalanceTest {
   @DisplayName("계좌 ID가 없으면 예외가 발생한다")
   void createBalance_throwsException_whenAccountIdIsNull() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
-    assertThatThrownBy(() -> new Balance(null, BigDecimal.ZERO, BigDecimal.ZERO, 1L, 1L, fixedTime))
+    assertThatThrownBy(() -> new Balance(null, Money.ZERO, Money.ZERO, 1L, 1L, fixedTime))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Account ID");
   }
@@ -23,7 +23,7 @@ class BalanceTest {
   @DisplayName("금액이 없으면 예외가 발생한다")
   void createBalance_throwsException_whenAmountIsNull() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
-    assertThatThrownBy(() -> new Balance(1L, null, BigDecimal.ZERO, 1L, 1L, fixedTime))
+    assertThatThrownBy(() -> new Balance(1L, null, Money.ZERO, 1L, 1L, fixedTime))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Amount");
   }
@@ -32,7 +32,7 @@ class BalanceTest {
   @DisplayName("홀드 금액이 없으면 예외가 발생한다")
   void createBalance_throwsException_whenHoldAmountIsNull() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
-    assertThatThrownBy(() -> new Balance(1L, BigDecimal.ZERO, null, 1L, 1L, fixedTime))
+    assertThatThrownBy(() -> new Balance(1L, Money.ZERO, null, 1L, 1L, fixedTime))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("HoldAmount");
   }
@@ -42,7 +42,7 @@ class BalanceTest {
   void createBalance_throwsException_whenHoldAmountIsNegative() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     assertThatThrownBy(
-            () -> new Balance(1L, BigDecimal.ZERO, BigDecimal.valueOf(-100), 1L, 1L, fixedTime))
+            () -> new Balance(1L, Money.ZERO, Money.of(-100), 1L, 1L, fixedTime))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("HoldAmount");
   }
@@ -52,12 +52,12 @@ class BalanceTest {
   void createBalance_success() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     Balance balance =
-        new Balance(1L, BigDecimal.valueOf(5000), BigDecimal.valueOf(1000), 1L, 100L, fixedTime);
+        new Balance(1L, Money.of(5000), Money.of(1000), 1L, 100L, fixedTime);
 
     assertThat(balance.getAccountId()).isEqualTo(1L);
-    assertThat(balance.getAmount()).isEqualTo(BigDecimal.valueOf(5000));
-    assertThat(balance.getHoldAmount()).isEqualTo(BigDecimal.valueOf(1000));
-    assertThat(balance.getAvailableAmount()).isEqualTo(BigDecimal.valueOf(4000));
+    assertThat(balance.getAmount()).isEqualTo(Money.of(5000));
+    assertThat(balance.getHoldAmount()).isEqualTo(Money.of(1000));
+    assertThat(balance.getAvailableAmount()).isEqualTo(Money.of(4000));
     assertThat(balance.getUpdatedAt()).isEqualTo(fixedTime);
   }
 
@@ -66,18 +66,18 @@ class BalanceTest {
   void deposit_ShouldIncreaseAmountAndUpdateTimestamp() {
     // Given
     Long accountId = 1L;
-    BigDecimal initialAmount = new BigDecimal("1000");
+    Money initialAmount = Money.of(1000);
     Instant initialTime = Instant.parse("2025-01-01T03:00:00Z");
-    Balance balance = new Balance(accountId, initialAmount, BigDecimal.ZERO, 1L, 100L, initialTime);
+    Balance balance = new Balance(accountId, initialAmount, Money.ZERO, 1L, 100L, initialTime);
 
-    BigDecimal depositAmount = new BigDecimal("500");
+    Money depositAmount = Money.of(500);
     Long transactionId = 200L;
     Instant now = Instant.parse("2025-12-25T01:00:00Z");
 
     Balance updatedBalance = balance.deposit(depositAmount, transactionId, now);
 
     // Then
-    assertThat(updatedBalance.getAmount()).isEqualByComparingTo(new BigDecimal("1500"));
+    assertThat(updatedBalance.getAmount()).isEqualByComparingTo(Money.of(1500));
     assertThat(updatedBalance.getLastTransactionId()).isEqualTo(transactionId);
     assertThat(updatedBalance.getUpdatedAt()).isEqualTo(now);
   }
@@ -87,15 +87,15 @@ class BalanceTest {
   void getAvailableAmount_ShouldReturnCorrectValue() {
     // Given
     Long accountId = 1L;
-    BigDecimal amount = new BigDecimal("1000");
-    BigDecimal holdAmount = new BigDecimal("300");
+    Money amount = Money.of(1000);
+    Money holdAmount = Money.of(300);
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     Balance balance = new Balance(accountId, amount, holdAmount, 1L, 100L, fixedTime);
 
     // When
-    BigDecimal availableAmount = balance.getAvailableAmount();
+    Money availableAmount = balance.getAvailableAmount();
 
     // Then
-    assertThat(availableAmount).isEqualByComparingTo(new BigDecimal("700"));
+    assertThat(availableAmount).isEqualByComparingTo(Money.of(700));
   }
 }
@@ -3,7 +3,7 @@ package com.securities.kuku.ledger.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -17,7 +17,7 @@ class JournalEntryTest {
     assertThatThrownBy(
             () ->
                 new JournalEntry(
-                    1L, 1L, 1L, BigDecimal.ZERO, JournalEntry.EntryType.DEBIT, fixedTime))
+                    1L, 1L, 1L, Money.ZERO, JournalEntry.EntryType.DEBIT, fixedTime))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("Amount must be positive");
   }
@@ -26,7 +26,7 @@ class JournalEntryTest {
   @DisplayName("생성 일시가 없으면 예외가 발생한다")
   void createJournalEntry_throwsException_whenCreatedAtIsNull() {
     assertThatThrownBy(
-            () -> new JournalEntry(1L, 1L, 1L, BigDecimal.TEN, JournalEntry.EntryType.DEBIT, null))
+            () -> new JournalEntry(1L, 1L, 1L, Money.of(10), JournalEntry.EntryType.DEBIT, null))
         .isInstanceOf(IllegalArgumentException.class)
         .hasMessageContaining("CreatedAt");
   }
@@ -37,12 +37,12 @@ class JournalEntryTest {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     JournalEntry entry =
         new JournalEntry(
-            1L, 10L, 100L, BigDecimal.valueOf(1000), JournalEntry.EntryType.CREDIT, fixedTime);
+            1L, 10L, 100L, Money.of(1000), JournalEntry.EntryType.CREDIT, fixedTime);
 
     assertThat(entry.getId()).isEqualTo(1L);
     assertThat(entry.getTransactionId()).isEqualTo(10L);
     assertThat(entry.getAccountId()).isEqualTo(100L);
-    assertThat(entry.getAmount()).isEqualTo(BigDecimal.valueOf(1000));
+    assertThat(entry.getAmount()).isEqualTo(Money.of(1000));
     assertThat(entry.getEntryType()).isEqualTo(JournalEntry.EntryType.CREDIT);
     assertThat(entry.getCreatedAt()).isEqualTo(fixedTime);
   }
@@ -52,13 +52,13 @@ class JournalEntryTest {
   void applyReverseTo_withdrawsFromBalance_whenCreditEntry() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     JournalEntry creditEntry =
-        JournalEntry.createCredit(1L, 100L, BigDecimal.valueOf(500), fixedTime);
+        JournalEntry.createCredit(1L, 100L, Money.of(500), fixedTime);
     Balance balance =
-        new Balance(100L, BigDecimal.valueOf(1000), BigDecimal.ZERO, 1L, 1L, fixedTime);
+        new Balance(100L, Money.of(1000), Money.ZERO, 1L, 1L, fixedTime);
 
     Balance result = creditEntry.applyReverseTo(balance, 2L, fixedTime);
 
-    assertThat(result.getAmount()).isEqualTo(BigDecimal.valueOf(500));
+    assertThat(result.getAmount()).isEqualTo(Money.of(500));
   }
 
   @Test
@@ -66,13 +66,13 @@ class JournalEntryTest {
   void applyReverseTo_depositsToBalance_whenDebitEntry() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     JournalEntry debitEntry =
-        JournalEntry.createDebit(1L, 100L, BigDecimal.valueOf(300), fixedTime);
+        JournalEntry.createDebit(1L, 100L, Money.of(300), fixedTime);
     Balance balance =
-        new Balance(100L, BigDecimal.valueOf(1000), BigDecimal.ZERO, 1L, 1L, fixedTime);
+        new Balance(100L, Money.of(1000), Money.ZERO, 1L, 1L, fixedTime);
 
     Balance result = debitEntry.applyReverseTo(balance, 2L, fixedTime);
 
-    assertThat(result.getAmount()).isEqualTo(BigDecimal.valueOf(1300));
+    assertThat(result.getAmount()).isEqualTo(Money.of(1300));
   }
 
   @Test
@@ -80,13 +80,13 @@ class JournalEntryTest {
   void createOpposite_createsDebit_whenCreditEntry() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     JournalEntry creditEntry =
-        JournalEntry.createCredit(1L, 100L, BigDecimal.valueOf(500), fixedTime);
+        JournalEntry.createCredit(1L, 100L, Money.of(500), fixedTime);
 
     JournalEntry opposite = creditEntry.createOpposite(2L, fixedTime);
 
     assertThat(opposite.getEntryType()).isEqualTo(JournalEntry.EntryType.DEBIT);
     assertThat(opposite.getAccountId()).isEqualTo(100L);
-    assertThat(opposite.getAmount()).isEqualTo(BigDecimal.valueOf(500));
+    assertThat(opposite.getAmount()).isEqualTo(Money.of(500));
     assertThat(opposite.getTransactionId()).isEqualTo(2L);
   }
 
@@ -95,13 +95,26 @@ class JournalEntryTest {
   void createOpposite_createsCredit_whenDebitEntry() {
     Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
     JournalEntry debitEntry =
-        JournalEntry.createDebit(1L, 100L, BigDecimal.valueOf(300), fixedTime);
+        JournalEntry.createDebit(1L, 100L, Money.of(300), fixedTime);
 
     JournalEntry opposite = debitEntry.createOpposite(2L, fixedTime);
 
     assertThat(opposite.getEntryType()).isEqualTo(JournalEntry.EntryType.CREDIT);
     assertThat(opposite.getAccountId()).isEqualTo(100L);
-    assertThat(opposite.getAmount()).isEqualTo(BigDecimal.valueOf(300));
+    assertThat(opposite.getAmount()).isEqualTo(Money.of(300));
     assertThat(opposite.getTransactionId()).isEqualTo(2L);
   }
+
+  @Test
+  @DisplayName("CREDIT 분개는 양수, DEBIT 분개는 음수의 부호 있는 금액을 갖는다")
+  void signedAmount_followsEntryType() {
+    Instant fixedTime = Instant.parse("2025-01-01T03:00:00Z");
+    JournalEntry creditEntry =
+        JournalEntry.createCredit(1L, 100L, Money.of(500), fixedTime);
+    JournalEntry debitEntry =
+        JournalEntry.createDebit(1L, 100L, Money.of(300), fixedTime);
+
+    assertThat(creditEntry.signedAmount()).isEqualTo(Money.of(500));
+    assertThat(debitEntry.signedAmount()).isEqualTo(Money.of(-300));
+  }
 }
@@ -3,6 +3,7 @@ package com.securities.kuku.ledger.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.domain.exception.InvalidTransactionStateException;
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -373,7 +374,7 @@ class TransactionTest {
   class CreateJournalEntry {
 
     private static final Long ACCOUNT_ID = 100L;
-    private static final BigDecimal AMOUNT = new BigDecimal("1000");
+    private static final Money AMOUNT = Money.of(1000);
 
     @Test
     @DisplayName("DEPOSIT 트랜잭션은 CREDIT JournalEntry를 생성한다")
@@ -448,7 +449,7 @@ class TransactionTest {
               null,
               FIXED_TIME);
       Long accountId = 1L;
-      BigDecimal amount = new BigDecimal("1000");
+      Money amount = Money.of(1000);
 
       // When
       var event = deposit.toPostedEvent(accountId, amount, TransactionType.DEPOSIT);
@@ -475,7 +476,7 @@ class TransactionTest {
               null,
               FIXED_TIME);
       Long accountId = 2L;
-      BigDecimal amount = new BigDecimal("500");
+      Money amount = Money.of(500);
 
       // When
       var event = withdrawal.toPostedEvent(accountId, amount, TransactionType.WITHDRAWAL);
@@ -502,7 +503,7 @@ class TransactionTest {
               customTime);
 
       // When
-      var event = tx.toPostedEvent(10L, new BigDecimal("100"), TransactionType.DEPOSIT);
+      var event = tx.toPostedEvent(10L, Money.of(100), TransactionType.DEPOSIT);
 
       // Then - 내부 상태가 정확히 전달되는지 검증
       assertThat(event.transactionId()).isEqualTo(999L);
@@ -562,5 +563,27 @@ class TransactionTest {
       assertThat(event.occurredAt()).isEqualTo(reversalTime);
       assertThat(event.reversalTransactionId()).isEqualTo(500L);
     }
+
+    @Test
+    @DisplayName("역분개 이벤트는 원 트랜잭션 ID를 순서 키로 써 원 트랜잭션 이벤트 뒤에 발행된다")
+    void usesOriginalTransactionIdAsOrderingKey() {
+      // Given
+      Transaction reversal =
+          new Transaction(
+              500L,
+              TransactionType.REVERSAL,
+              "역분개",
+              "reversal-200",
+              TransactionStatus.POSTED,
+              200L,
+              FIXED_TIME);
+
+      // When
+      var event = reversal.toReversedEvent(200L, "시스템 오류");
+
+      // Then
+      assertThat(event.aggregateId()).isEqualTo(500L);
+      assertThat(event.orderingKey()).isEqualTo(200L);
+    }
   }
 }
@@ -3,7 +3,7 @@ package com.securities.kuku.ledger.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -23,32 +23,32 @@ class TransactionTypeTest {
     @DisplayName("DEPOSIT은 잔액을 증가시킨다")
     void deposit_increasesBalance() {
       Balance balance =
-          new Balance(ACCOUNT_ID, new BigDecimal("1000"), BigDecimal.ZERO, 0L, null, FIXED_TIME);
-      BigDecimal amount = new BigDecimal("500");
+          new Balance(ACCOUNT_ID, Money.of(1000), Money.ZERO, 0L, null, FIXED_TIME);
+      Money amount = Money.of(500);
 
       Balance newBalance = TransactionType.DEPOSIT.applyTo(balance, amount, TX_ID, FIXED_TIME);
 
-      assertThat(newBalance.getAmount()).isEqualByComparingTo(new BigDecimal("1500"));
+      assertThat(newBalance.getAmount()).isEqualByComparingTo(Money.of(1500));
     }
 
     @Test
     @DisplayName("WITHDRAWAL은 잔액을 감소시킨다")
     void withdrawal_decreasesBalance() {
       Balance balance =
-          new Balance(ACCOUNT_ID, new BigDecimal("1000"), BigDecimal.ZERO, 0L, null, FIXED_TIME);
-      BigDecimal amount = new BigDecimal("300");
+          new Balance(ACCOUNT_ID, Money.of(1000), Money.ZERO, 0L, null, FIXED_TIME);
+      Money amount = Money.of(300);
 
       Balance newBalance = TransactionType.WITHDRAWAL.applyTo(balance, amount, TX_ID, FIXED_TIME);
 
-      assertThat(newBalance.getAmount()).isEqualByComparingTo(new BigDecimal("700"));
+      assertThat(newBalance.getAmount()).isEqualByComparingTo(Money.of(700));
     }
 
     @Test
     @DisplayName("지원하지 않는 타입은 예외를 발생시킨다")
     void unsupportedType_throwsException() {
       Balance balance =
-          new Balance(ACCOUNT_ID, new BigDecimal("1000"), BigDecimal.ZERO, 0L, null, FIXED_TIME);
-      BigDecimal amount = new BigDecimal("100");
+          new Balance(ACCOUNT_ID, Money.of(1000), Money.ZERO, 0L, null, FIXED_TIME);
+      Money amount = Money.of(100);
 
       assertThatThrownBy(() -> TransactionType.REVERSAL.applyTo(balance, amount, TX_ID, FIXED_TIME))
           .isInstanceOf(IllegalArgumentException.class)
@@ -0,0 +1,72 @@
+package com.securities.kuku.ledger.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.securities.kuku.ledger.metrics.HotAccountTracker.HotAccount;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class HotAccountTrackerTest {
+
+  @Test
+  @DisplayName("용량 안에서는 계좌별 충돌 횟수를 정확히 센다")
+  void countsExactly_withinCapacity() {
+    // Given
+    HotAccountTracker sut = new HotAccountTracker(4);
+
+    // When
+    record(sut, 1L, 5);
+    record(sut, 2L, 3);
+    record(sut, 3L, 1);
+
+    // Then
+    assertThat(sut.top(2)).containsExactly(new HotAccount(1L, 5, 0), new HotAccount(2L, 3, 0));
+  }
+
+  @Test
+  @DisplayName("용량을 넘는 계좌가 들어와도 빈도가 높은 계좌는 상위에 남는다")
+  void keepsHeavyHitters_whenCapacityExceeded() {
+    // Given
+    HotAccountTracker sut = new HotAccountTracker(3);
+    record(sut, 1L, 100);
+    record(sut, 2L, 50);
+
+    // When: 한 번씩만 충돌한 계좌 1000개
+    LongStream.rangeClosed(1_000, 1_999).forEach(sut::record);
+
+    // Then
+    List<HotAccount> top = sut.top(2);
+    assertThat(top).extracting(HotAccount::accountId).containsExactly(1L, 2L);
+    assertThat(top.get(0).count()).isEqualTo(100);
+  }
+
+  @Test
+  @DisplayName("자리를 빼앗아 들어온 계좌는 빼앗은 카운터 값을 오차로 기록한다")
+  void recordsError_whenEvicting() {
+    // Given
+    HotAccountTracker sut = new HotAccountTracker(1);
+    record(sut, 1L, 3);
+
+    // When
+    sut.record(2L);
+
+    // Then
+    assertThat(sut.top(1)).containsExactly(new HotAccount(2L, 4, 3));
+  }
+
+  @Test
+  @DisplayName("용량이 0 이하이면 생성할 수 없다")
+  void throwsException_whenCapacityNotPositive() {
+    assertThatThrownBy(() -> new HotAccountTracker(0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private void record(HotAccountTracker sut, Long accountId, int times) {
+    for (int i = 0; i < times; i++) {
+      sut.record(accountId);
+    }
+  }
+}
@@ -0,0 +1,154 @@
+package com.securities.kuku.ledger.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.securities.kuku.ledger.application.port.out.BalanceConflictException;
+import com.securities.kuku.ledger.metrics.HotAccountTracker.HotAccount;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.aopalliance.intercept.MethodInvocation;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.interceptor.MethodInvocationRetryCallback;
+import org.springframework.retry.support.RetryTemplate;
+
+class RetryMetricsListenerTest {
+
+  private static final String USE_CASE = "deposit";
+  private static final Long ACCOUNT_ID = 1L;
+
+  private MeterRegistry meterRegistry;
+  private HotAccountTracker hotAccountTracker;
+  private RetryTemplate retryTemplate;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    hotAccountTracker = new HotAccountTracker(16);
+    retryTemplate =
+        RetryTemplate.builder()
+            .maxAttempts(3)
+            .retryOn(ObjectOptimisticLockingFailureException.class)
+            .noBackoff()
+            .withListener(new RetryMetricsListener(meterRegistry, hotAccountTracker))
+            .build();
+  }
+
+  @Test
+  @DisplayName("충돌 후 재시도로 성공하면 시도 횟수와 충돌 계좌를 기록한다")
+  void recordsAttemptsAndHotAccount_whenRetrySucceeds() {
+    // When
+    retryTemplate.execute(conflictingTimes(1));
+
+    // Then
+    DistributionSummary attempts = summary(RetryMetricsListener.ATTEMPTS);
+    assertThat(attempts.count()).isEqualTo(1);
+    assertThat(attempts.totalAmount()).isEqualTo(2);
+    assertThat(counter(RetryMetricsListener.LOCK_CONFLICTS)).isEqualTo(1);
+    assertThat(meterRegistry.find(RetryMetricsListener.RETRIES_EXHAUSTED).counter()).isNull();
+    assertThat(
+            meterRegistry
+                .get(RetryMetricsListener.LATENCY)
+                .tag("use_case", USE_CASE)
+                .tag("outcome", "success")
+                .timer()
+                .count())
+        .isEqualTo(1);
+    assertThat(hotAccountTracker.top(1)).containsExactly(new HotAccount(ACCOUNT_ID, 1, 0));
+  }
+
+  @Test
+  @DisplayName("재시도를 모두 소진하면 소진 카운터를 올린다")
+  void countsExhaustion_whenAllAttemptsConflict() {
+    // When & Then
+    assertThatThrownBy(() -> retryTemplate.execute(conflictingTimes(3)))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+
+    assertThat(summary(RetryMetricsListener.ATTEMPTS).totalAmount()).isEqualTo(3);
+    assertThat(counter(RetryMetricsListener.LOCK_CONFLICTS)).isEqualTo(3);
+    assertThat(counter(RetryMetricsListener.RETRIES_EXHAUSTED)).isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get(RetryMetricsListener.LATENCY)
+                .tag("outcome", "failure")
+                .timer()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("재시도 대상이 아닌 예외는 한 번의 시도로 기록하고 소진으로 세지 않는다")
+  void recordsSingleAttempt_whenNonRetryableException() {
+    // When & Then
+    assertThatThrownBy(() -> retryTemplate.execute(throwing(new IllegalStateException("rejected"))))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(summary(RetryMetricsListener.ATTEMPTS).totalAmount()).isEqualTo(1);
+    assertThat(meterRegistry.find(RetryMetricsListener.LOCK_CONFLICTS).counter()).isNull();
+    assertThat(meterRegistry.find(RetryMetricsListener.RETRIES_EXHAUSTED).counter()).isNull();
+    assertThat(hotAccountTracker.top(1)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("잔액이 아닌 행의 충돌은 충돌 횟수만 세고 핫 계좌로 기록하지 않는다")
+  void doesNotRecordHotAccount_whenConflictIsNotOnBalance() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    retryTemplate.execute(
+        callback(
+            () -> {
+              if (calls.getAndIncrement() == 0) {
+                throw new ObjectOptimisticLockingFailureException("Transaction", ACCOUNT_ID);
+              }
+            }));
+
+    // Then
+    assertThat(counter(RetryMetricsListener.LOCK_CONFLICTS)).isEqualTo(1);
+    assertThat(hotAccountTracker.top(1)).isEmpty();
+  }
+
+  /** 처음 {@code conflicts}번은 잔액 충돌을 던지고 그 다음 시도에서 성공하는 콜백. */
+  private MethodInvocationRetryCallback<Void, RuntimeException> conflictingTimes(int conflicts) {
+    AtomicInteger calls = new AtomicInteger();
+    return callback(
+        () -> {
+          if (calls.getAndIncrement() < conflicts) {
+            throw new BalanceConflictException(ACCOUNT_ID);
+          }
+        });
+  }
+
+  private MethodInvocationRetryCallback<Void, RuntimeException> throwing(RuntimeException e) {
+    return callback(
+        () -> {
+          throw e;
+        });
+  }
+
+  private MethodInvocationRetryCallback<Void, RuntimeException> callback(Runnable body) {
+    return new MethodInvocationRetryCallback<>(mock(MethodInvocation.class), USE_CASE) {
+      @Override
+      public Void doWithRetry(RetryContext context) {
+        body.run();
+        return null;
+      }
+    };
+  }
+
+  private DistributionSummary summary(String name) {
+    return meterRegistry.get(name).tag("use_case", USE_CASE).summary();
+  }
+
+  private double counter(String name) {
+    return meterRegistry.get(name).tag("use_case", USE_CASE).counter().count();
+  }
+}
@@ -5,6 +5,7 @@ import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
 import com.securities.kuku.ledger.application.port.out.AccountPort;
 import com.securities.kuku.ledger.application.port.out.BalancePort;
@@ -17,7 +18,6 @@ import com.securities.kuku.ledger.domain.Balance;
 import com.securities.kuku.ledger.domain.Transaction;
 import com.securities.kuku.ledger.domain.TransactionStatus;
 import com.securities.kuku.ledger.domain.TransactionType;
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.util.Optional;
@@ -49,12 +49,12 @@ public class RetryIntegrationTest {
     Long accountId = 1L;
     Instant fixedTime = Instant.parse("2025-01-01T00:00:00Z");
     DepositCommand command =
-        new DepositCommand(accountId, BigDecimal.TEN, "Test deposit", "ref-retry-001");
+        new DepositCommand(accountId, Money.of(10), "Test deposit", "ref-retry-001");
 
     Account mockAccount =
         new Account(accountId, 1L, "ACC-001", "KRW", AccountType.USER_SECURITIES, fixedTime);
     Balance mockBalance =
-        new Balance(accountId, BigDecimal.ZERO, BigDecimal.ZERO, 1L, null, fixedTime);
+        new Balance(accountId, Money.ZERO, Money.ZERO, 1L, null, fixedTime);
 
     when(transactionPort.findByBusinessRefId("ref-retry-001")).thenReturn(Optional.empty());
     when(accountPort.findById(accountId)).thenReturn(Optional.of(mockAccount));
@@ -0,0 +1,93 @@
+package com.securities.kuku.ledger.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.securities.kuku.ledger.application.port.out.BalanceConflictException;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.backoff.NoBackOffPolicy;
+import org.springframework.retry.support.RetryTemplate;
+
+class BudgetedRetryPolicyTest {
+
+  private static final Long ACCOUNT_ID = 1L;
+
+  private ContentionController contention;
+  private RetryTemplate retryTemplate;
+
+  @BeforeEach
+  void setUp() {
+    contention = mock(ContentionController.class);
+    retryTemplate = new RetryTemplate();
+    retryTemplate.setRetryPolicy(new BudgetedRetryPolicy(3, contention));
+    retryTemplate.setBackOffPolicy(new NoBackOffPolicy());
+  }
+
+  @Test
+  @DisplayName("재시도마다 예산 토큰을 한 번만 꺼낸다")
+  void acquiresBudgetOncePerRetry() {
+    // Given
+    given(contention.tryAcquireRetry(ACCOUNT_ID)).willReturn(true);
+    AtomicInteger calls = new AtomicInteger();
+
+    // When
+    retryTemplate.execute(conflictingTimes(2, calls));
+
+    // Then
+    assertThat(calls).hasValue(3);
+    then(contention).should(times(2)).tryAcquireRetry(ACCOUNT_ID);
+  }
+
+  @Test
+  @DisplayName("예산이 없으면 남은 시도 횟수와 관계없이 재시도하지 않는다")
+  void stopsRetrying_whenBudgetRejected() {
+    // Given
+    given(contention.tryAcquireRetry(any())).willReturn(false);
+    AtomicInteger calls = new AtomicInteger();
+
+    // When & Then
+    assertThatThrownBy(() -> retryTemplate.execute(conflictingTimes(2, calls)))
+        .isInstanceOf(ObjectOptimisticLockingFailureException.class);
+    assertThat(calls).hasValue(1);
+  }
+
+  @Test
+  @DisplayName("Optimistic Lock 충돌이 아닌 예외는 재시도하지 않는다")
+  void doesNotRetry_nonConflictException() {
+    // Given
+    AtomicInteger calls = new AtomicInteger();
+
+    // When & Then
+    assertThatThrownBy(
+            () ->
+                retryTemplate.execute(
+                    context -> {
+                      calls.incrementAndGet();
+                      throw new IllegalStateException("rejected");
+                    }))
+        .isInstanceOf(IllegalStateException.class);
+    assertThat(calls).hasValue(1);
+    then(contention).shouldHaveNoInteractions();
+  }
+
+  private RetryCallback<Void, RuntimeException> conflictingTimes(
+      int conflicts, AtomicInteger calls) {
+    return context -> {
+      context.setAttribute(BudgetedRetryPolicy.ACCOUNT_ID, ACCOUNT_ID);
+      if (calls.incrementAndGet() <= conflicts) {
+        throw new BalanceConflictException(ACCOUNT_ID);
+      }
+      return null;
+    };
+  }
+}
@@ -0,0 +1,144 @@
+package com.securities.kuku.ledger.retry;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.ledger.config.LedgerRetryProperties;
+import com.securities.kuku.ledger.config.LedgerRetryProperties.Policy;
+import com.securities.kuku.ledger.retry.ContentionController.Admission;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ContentionControllerTest {
+
+  private static final Long ACCOUNT_ID = 1L;
+  private static final Long OTHER_ACCOUNT_ID = 2L;
+
+  private static final LedgerRetryProperties PROPERTIES =
+      new LedgerRetryProperties(
+          Policy.ADAPTIVE,
+          3,
+          Duration.ofMillis(100),
+          2.0,
+          Duration.ofSeconds(1),
+          Duration.ofMillis(5),
+          Duration.ofMillis(200),
+          2,
+          3,
+          0.5,
+          4,
+          Duration.ofSeconds(1),
+          Duration.ofSeconds(5),
+          Duration.ofMillis(10));
+
+  private AtomicLong nanoTime;
+  private ContentionController sut;
+
+  @BeforeEach
+  void setUp() {
+    nanoTime = new AtomicLong();
+    sut = new ContentionController(PROPERTIES, nanoTime::get);
+  }
+
+  @Test
+  @DisplayName("계좌 재시도 예산을 다 쓰면 재시도를 거절하고, 시간이 지나면 다시 채운다")
+  void rejectsRetry_whenAccountBudgetExhausted_thenRefills() {
+    // Given
+    assertThat(sut.tryAcquireRetry(ACCOUNT_ID)).isTrue();
+    assertThat(sut.tryAcquireRetry(ACCOUNT_ID)).isTrue();
+
+    // When & Then
+    assertThat(sut.tryAcquireRetry(ACCOUNT_ID)).isFalse();
+
+    advance(Duration.ofMillis(500));
+    assertThat(sut.tryAcquireRetry(ACCOUNT_ID)).isTrue();
+  }
+
+  @Test
+  @DisplayName("프로세스 재시도 예산은 모든 계좌가 함께 쓴다")
+  void rejectsRetry_whenProcessBudgetExhausted() {
+    // Given
+    sut.tryAcquireRetry(ACCOUNT_ID);
+    sut.tryAcquireRetry(ACCOUNT_ID);
+    sut.tryAcquireRetry(OTHER_ACCOUNT_ID);
+
+    // When & Then
+    assertThat(sut.tryAcquireRetry(OTHER_ACCOUNT_ID)).isFalse();
+  }
+
+  @Test
+  @DisplayName("표본이 충분하고 충돌률이 임계값을 넘으면 cool-down 동안 과열 계좌로 본다")
+  void marksAccountHot_whenConflictRateExceedsThreshold() {
+    // Given: 시도 4건 중 충돌 2건 (50%)
+    recordAttempts(ACCOUNT_ID, 4);
+    sut.recordConflict(ACCOUNT_ID);
+    assertThat(sut.isHot(ACCOUNT_ID)).isFalse();
+
+    // When
+    sut.recordConflict(ACCOUNT_ID);
+
+    // Then
+    assertThat(sut.isHot(ACCOUNT_ID)).isTrue();
+    assertThat(sut.isHot(OTHER_ACCOUNT_ID)).isFalse();
+    advance(Duration.ofSeconds(5));
+    assertThat(sut.isHot(ACCOUNT_ID)).isFalse();
+  }
+
+  @Test
+  @DisplayName("표본이 부족하면 충돌률이 높아도 과열로 보지 않는다")
+  void doesNotMarkHot_whenSamplesInsufficient() {
+    // Given
+    recordAttempts(ACCOUNT_ID, 2);
+
+    // When
+    sut.recordConflict(ACCOUNT_ID);
+    sut.recordConflict(ACCOUNT_ID);
+
+    // Then
+    assertThat(sut.isHot(ACCOUNT_ID)).isFalse();
+  }
+
+  @Test
+  @DisplayName("과열 계좌는 앞선 요청이 끝날 때까지 다음 요청을 들여보내지 않는다")
+  void admitsOneAtATime_whenAccountHot() throws InterruptedException {
+    // Given
+    recordAttempts(ACCOUNT_ID, 4);
+    sut.recordConflict(ACCOUNT_ID);
+    sut.recordConflict(ACCOUNT_ID);
+
+    // When
+    Admission first = sut.admit(ACCOUNT_ID);
+    long waitStartedAt = System.nanoTime();
+    Admission second = sut.admit(ACCOUNT_ID);
+
+    // Then: 두 번째 요청은 admissionTimeout 만큼 기다린 뒤 직렬 입장 없이 진행한다
+    assertThat(System.nanoTime() - waitStartedAt)
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(10));
+    assertThat(second).isSameAs(Admission.NONE);
+
+    first.close();
+    try (Admission third = sut.admit(ACCOUNT_ID)) {
+      assertThat(third).isNotSameAs(Admission.NONE);
+    }
+  }
+
+  @Test
+  @DisplayName("과열되지 않은 계좌는 기다리지 않고 들어간다")
+  void admitsImmediately_whenAccountNotHot() throws InterruptedException {
+    assertThat(sut.admit(ACCOUNT_ID)).isSameAs(Admission.NONE);
+    assertThat(sut.admit(null)).isSameAs(Admission.NONE);
+  }
+
+  private void recordAttempts(Long accountId, int count) {
+    for (int i = 0; i < count; i++) {
+      sut.recordAttempt(accountId);
+    }
+  }
+
+  private void advance(Duration duration) {
+    nanoTime.addAndGet(duration.toNanos());
+  }
+}
@@ -0,0 +1,137 @@
+package com.securities.kuku.ledger.stress;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.ledger.application.port.out.BalancePort;
+import com.securities.kuku.ledger.application.service.DepositService;
+import com.securities.kuku.ledger.application.service.WithdrawService;
+import com.securities.kuku.ledger.stress.StressScenario.ThreadMode;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import com.securities.kuku.ledger.test.support.RetryCounter;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+/**
+ * 목표.md의 동시성 목표(정합성, TPS, P99, 재시도 횟수)를 수치로 확인하는 스트레스 테스트.
+ *
+ * <p>일반 {@code test}에서는 제외되며 {@code ./gradlew :kuku-core-ledger:stressTest}로 실행합니다. 결과는 로그와 {@code
+ * build/reports/stress/}에 남고, 잔액 갱신 방식과 재시도 정책은 {@code -Pstress.update-mode=conditional}, {@code
+ * -Pstress.retry-policy=adaptive}처럼 바꿔 비교합니다.
+ */
+@Tag("stress")
+@SpringBootTest(
+    properties = {
+      "spring.jpa.show-sql=false",
+      "spring.jpa.properties.hibernate.format_sql=false",
+      "ledger.balance.update-mode=${stress.update-mode:optimistic}",
+      "ledger.retry.policy=${stress.retry-policy:fixed}"
+    })
+@ActiveProfiles("test")
+@Import({LedgerTestFixture.class, RetryCounter.class})
+class LedgerStressTest {
+
+  private static final Logger log = LoggerFactory.getLogger(LedgerStressTest.class);
+  private static final Path REPORT_DIR = Path.of("build", "reports", "stress");
+
+  @Autowired private DepositService depositService;
+  @Autowired private WithdrawService withdrawService;
+  @Autowired private BalancePort balancePort;
+  @Autowired private LedgerTestFixture fixture;
+  @Autowired private RetryCounter retryCounter;
+
+  private StressRunner runner;
+  private final List<Long> accountIds = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    runner = new StressRunner(depositService, withdrawService, fixture, retryCounter);
+  }
+
+  @AfterEach
+  void tearDown() {
+    accountIds.forEach(fixture::cleanup);
+    accountIds.clear();
+  }
+
+  @ParameterizedTest
+  @EnumSource(ThreadMode.class)
+  @DisplayName("잔액 100만원에 1000명이 동시에 100만원을 출금하면 정확히 1건만 성공한다")
+  void thousandBuyersOneBalance(ThreadMode threadMode) throws Exception {
+    // Given
+    StressScenario scenario = StressScenario.thousandBuyersOneBalance(threadMode);
+
+    // When
+    StressResult result = run(scenario);
+
+    // Then
+    assertThat(result.unexpectedExceptions()).isEmpty();
+    assertThat(result.successCount()).isEqualTo(1);
+    assertThat(result.successCount() + result.insufficientCount() + result.lockFailureCount())
+        .isEqualTo(scenario.requests());
+    assertInvariants(scenario);
+  }
+
+  @Test
+  @DisplayName("stress.* 프로퍼티로 지정한 시나리오를 실행하고 원장 정합성을 검증한다")
+  void configuredScenario() throws Exception {
+    // Given
+    StressScenario scenario = StressScenario.fromSystemProperties();
+
+    // When
+    StressResult result = run(scenario);
+
+    // Then
+    assertThat(result.unexpectedExceptions()).isEmpty();
+    assertInvariants(scenario);
+  }
+
+  private StressResult run(StressScenario scenario) throws InterruptedException, IOException {
+    for (int i = 0; i < scenario.accounts(); i++) {
+      accountIds.add(fixture.createAccountWithBalance(scenario.initialBalance()));
+    }
+
+    StressResult result = runner.run(scenario, accountIds);
+
+    String report = result.format();
+    log.info("\n{}", report);
+    Files.createDirectories(REPORT_DIR);
+    Files.writeString(REPORT_DIR.resolve(scenario.name() + ".txt"), report);
+    return result;
+  }
+
+  /** 모든 계좌에서 잔액이 음수가 아니고, 초기 잔액 + CREDIT 합계 - DEBIT 합계가 잔액과 같아야 합니다. */
+  private void assertInvariants(StressScenario scenario) {
+    for (Long accountId : accountIds) {
+      Money balance = balancePort.findByAccountId(accountId).orElseThrow().getAmount();
+      Money journalBalance =
+          scenario
+              .initialBalance()
+              .plus(fixture.getCreditTotal(accountId))
+              .minus(fixture.getDebitTotal(accountId));
+
+      assertThat(balance.isNegative())
+          .as("balance of account %d is negative", accountId)
+          .isFalse();
+      assertThat(balance)
+          .as("journal sum of account %d", accountId)
+          .isEqualByComparingTo(journalBalance);
+    }
+  }
+}
@@ -0,0 +1,68 @@
+package com.securities.kuku.ledger.stress;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.HdrHistogram.Histogram;
+
+/**
+ * 스트레스 실행 결과.
+ *
+ * @param scenario 실행한 시나리오
+ * @param elapsed 첫 요청 시작부터 마지막 요청 종료까지의 시간
+ * @param latencies 요청별 지연 시간 (µs)
+ * @param successCount 성공 건수
+ * @param insufficientCount 잔액 부족으로 거절된 건수
+ * @param lockFailureCount 재시도를 모두 소진한 Optimistic Lock 실패 건수
+ * @param lockConflicts 재시도로 흡수된 충돌까지 포함한 Optimistic Lock 충돌 횟수
+ * @param unexpectedExceptions 그 밖의 예외
+ */
+record StressResult(
+    StressScenario scenario,
+    Duration elapsed,
+    Histogram latencies,
+    int successCount,
+    int insufficientCount,
+    int lockFailureCount,
+    long lockConflicts,
+    List<Throwable> unexpectedExceptions) {
+
+  double throughput() {
+    return scenario.requests() / Math.max(elapsed.toNanos() / 1e9, 1e-9);
+  }
+
+  String format() {
+    return String.format(
+        """
+        == %s ==
+        threads=%s, concurrency=%d, requests=%d, accounts=%d, hotRatio=%.2f, withdrawRatio=%.2f
+        elapsed=%dms, throughput=%.1f req/s
+        success=%d, insufficient=%d, lockFailed=%d, unexpected=%d, lockConflicts=%d
+        latency(ms) p50=%.2f p90=%.2f p99=%.2f p99.9=%.2f max=%.2f
+        """,
+        scenario.name(),
+        scenario.threadMode(),
+        scenario.concurrency(),
+        scenario.requests(),
+        scenario.accounts(),
+        scenario.hotRatio(),
+        scenario.withdrawRatio(),
+        elapsed.toMillis(),
+        throughput(),
+        successCount,
+        insufficientCount,
+        lockFailureCount,
+        unexpectedExceptions.size(),
+        lockConflicts,
+        percentileMillis(50),
+        percentileMillis(90),
+        percentileMillis(99),
+        percentileMillis(99.9),
+        latencies.getMaxValue() / (double) TimeUnit.MILLISECONDS.toMicros(1));
+  }
+
+  private double percentileMillis(double percentile) {
+    return latencies.getValueAtPercentile(percentile)
+        / (double) TimeUnit.MILLISECONDS.toMicros(1);
+  }
+}
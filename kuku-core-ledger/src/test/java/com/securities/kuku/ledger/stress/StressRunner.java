@@ -0,0 +1,144 @@
+package com.securities.kuku.ledger.stress;
+
+import com.securities.kuku.ledger.application.port.in.command.DepositCommand;
+import com.securities.kuku.ledger.application.port.in.command.WithdrawCommand;
+import com.securities.kuku.ledger.application.service.DepositService;
+import com.securities.kuku.ledger.application.service.WithdrawService;
+import com.securities.kuku.ledger.domain.exception.InsufficientBalanceException;
+import com.securities.kuku.ledger.stress.StressScenario.ThreadMode;
+import com.securities.kuku.ledger.test.support.LedgerTestFixture;
+import com.securities.kuku.ledger.test.support.RetryCounter;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * 시나리오대로 입금/출금 요청을 동시에 실행하고 지연 시간과 결과를 수집합니다.
+ *
+ * <p>{@link com.securities.kuku.ledger.test.support.ConcurrencyRunner}는 스레드당 작업 1건을 가정하지만, 여기서는 워커가
+ * 공유 카운터에서 요청을 꺼내 처리하므로 동시성 수준과 전체 요청 수를 따로 정할 수 있습니다.
+ */
+class StressRunner {
+
+  private static final long TIMEOUT_MINUTES = 10;
+  private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(1);
+
+  private final DepositService depositService;
+  private final WithdrawService withdrawService;
+  private final LedgerTestFixture fixture;
+  private final RetryCounter retryCounter;
+
+  StressRunner(
+      DepositService depositService,
+      WithdrawService withdrawService,
+      LedgerTestFixture fixture,
+      RetryCounter retryCounter) {
+    this.depositService = depositService;
+    this.withdrawService = withdrawService;
+    this.fixture = fixture;
+    this.retryCounter = retryCounter;
+  }
+
+  StressResult run(StressScenario scenario, List<Long> accountIds) throws InterruptedException {
+    Histogram latencies = new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3);
+    AtomicInteger nextRequest = new AtomicInteger();
+    AtomicInteger successCount = new AtomicInteger();
+    AtomicInteger insufficientCount = new AtomicInteger();
+    AtomicInteger lockFailureCount = new AtomicInteger();
+    List<Throwable> unexpectedExceptions = Collections.synchronizedList(new ArrayList<>());
+    CountDownLatch startLatch = new CountDownLatch(1);
+    CountDownLatch doneLatch = new CountDownLatch(scenario.concurrency());
+    retryCounter.reset();
+
+    long startedAt;
+    try (ExecutorService executor = newExecutor(scenario)) {
+      for (int worker = 0; worker < scenario.concurrency(); worker++) {
+        executor.submit(
+            () -> {
+              try {
+                startLatch.await();
+                int request;
+                while ((request = nextRequest.getAndIncrement()) < scenario.requests()) {
+                  long requestStartedAt = System.nanoTime();
+                  try {
+                    execute(scenario, accountIds, request);
+                    successCount.incrementAndGet();
+                  } catch (InsufficientBalanceException e) {
+                    insufficientCount.incrementAndGet();
+                  } catch (OptimisticLockingFailureException e) {
+                    lockFailureCount.incrementAndGet();
+                  } catch (RuntimeException e) {
+                    unexpectedExceptions.add(e);
+                  }
+                  latencies.recordValue(
+                      Math.min(
+                          TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - requestStartedAt),
+                          HIGHEST_TRACKABLE_MICROS));
+                }
+              } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                unexpectedExceptions.add(e);
+              } finally {
+                doneLatch.countDown();
+              }
+            });
+      }
+
+      startedAt = System.nanoTime();
+      startLatch.countDown();
+      if (!doneLatch.await(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+        executor.shutdownNow();
+        throw new AssertionError(
+            "Stress scenario did not complete within " + TIMEOUT_MINUTES + " minutes");
+      }
+    }
+    Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+
+    return new StressResult(
+        scenario,
+        elapsed,
+        latencies,
+        successCount.get(),
+        insufficientCount.get(),
+        lockFailureCount.get(),
+        retryCounter.getLockConflicts(),
+        List.copyOf(unexpectedExceptions));
+  }
+
+  private void execute(StressScenario scenario, List<Long> accountIds, int request) {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Long accountId = pickAccount(scenario, accountIds, random);
+    String businessRefId = fixture.generateBusinessRefId(accountId, request);
+    if (random.nextDouble() < scenario.withdrawRatio()) {
+      withdrawService.withdraw(
+          WithdrawCommand.of(accountId, scenario.amount(), "Stress", businessRefId));
+    } else {
+      depositService.deposit(
+          DepositCommand.of(accountId, scenario.amount(), "Stress", businessRefId));
+    }
+  }
+
+  private Long pickAccount(
+      StressScenario scenario, List<Long> accountIds, ThreadLocalRandom random) {
+    if (accountIds.size() == 1 || random.nextDouble() < scenario.hotRatio()) {
+      return accountIds.get(0);
+    }
+    return accountIds.get(1 + random.nextInt(accountIds.size() - 1));
+  }
+
+  private ExecutorService newExecutor(StressScenario scenario) {
+    return scenario.threadMode() == ThreadMode.VIRTUAL
+        ? Executors.newVirtualThreadPerTaskExecutor()
+        : Executors.newFixedThreadPool(scenario.concurrency());
+  }
+}
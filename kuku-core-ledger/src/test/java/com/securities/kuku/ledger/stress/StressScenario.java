@@ -0,0 +1,80 @@
+package com.securities.kuku.ledger.stress;
+
+import com.securities.kuku.common.money.Money;
+import java.math.BigDecimal;
+
+/**
+ * 스트레스 테스트 시나리오.
+ *
+ * <p>{@code ./gradlew :kuku-core-ledger:stressTest -Pstress.requests=5000}처럼 Gradle 프로퍼티로 넘긴
+ * {@code stress.*} 값은 시스템 프로퍼티로 전달되어 {@link #fromSystemProperties()}에서 읽힙니다.
+ *
+ * @param name 리포트 파일 이름에 쓰이는 시나리오 이름
+ * @param concurrency 동시에 요청을 보내는 워커 수
+ * @param requests 전체 요청 수
+ * @param accounts 대상 계좌 수. 0번 계좌가 핫 계좌입니다.
+ * @param hotRatio 핫 계좌로 가는 요청 비율 (0.0 ~ 1.0). 1.0이면 모든 요청이 한 잔액을 두고 경합합니다.
+ * @param withdrawRatio 출금 요청 비율 (0.0 ~ 1.0). 나머지는 입금입니다.
+ * @param threadMode 워커 스레드 종류
+ * @param initialBalance 계좌별 초기 잔액
+ * @param amount 요청 1건의 금액
+ */
+record StressScenario(
+    String name,
+    int concurrency,
+    int requests,
+    int accounts,
+    double hotRatio,
+    double withdrawRatio,
+    ThreadMode threadMode,
+    Money initialBalance,
+    Money amount) {
+
+  private static final String PREFIX = "stress.";
+
+  enum ThreadMode {
+    PLATFORM,
+    VIRTUAL
+  }
+
+  StressScenario {
+    if (concurrency < 1 || requests < 1 || accounts < 1) {
+      throw new IllegalArgumentException("concurrency, requests and accounts must be positive");
+    }
+    if (hotRatio < 0 || hotRatio > 1 || withdrawRatio < 0 || withdrawRatio > 1) {
+      throw new IllegalArgumentException("hotRatio and withdrawRatio must be between 0 and 1");
+    }
+  }
+
+  /** 목표.md의 "잔액 100만원, 1000명 동시 100만원 매수" 시나리오. 정확히 1건만 성공해야 합니다. */
+  static StressScenario thousandBuyersOneBalance(ThreadMode threadMode) {
+    Money balance = Money.of(1_000_000);
+    return new StressScenario(
+        "thousand-buyers-" + threadMode.name().toLowerCase(),
+        1000,
+        1000,
+        1,
+        1.0,
+        1.0,
+        threadMode,
+        balance,
+        balance);
+  }
+
+  static StressScenario fromSystemProperties() {
+    return new StressScenario(
+        property("name", "custom"),
+        Integer.parseInt(property("concurrency", "100")),
+        Integer.parseInt(property("requests", "2000")),
+        Integer.parseInt(property("accounts", "10")),
+        Double.parseDouble(property("hot-ratio", "0.5")),
+        Double.parseDouble(property("withdraw-ratio", "0.5")),
+        ThreadMode.valueOf(property("thread-mode", "PLATFORM").toUpperCase()),
+        Money.of(new BigDecimal(property("initial-balance", "1000000"))),
+        Money.of(new BigDecimal(property("amount", "1000"))));
+  }
+
+  private static String property(String key, String defaultValue) {
+    return System.getProperty(PREFIX + key, defaultValue);
+  }
+}
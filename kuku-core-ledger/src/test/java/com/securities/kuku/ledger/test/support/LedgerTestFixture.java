@@ -2,6 +2,8 @@ package com.securities.kuku.ledger.test.support;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.ledger.adapter.out.persistence.entity.AccountJpaEntity;
 import com.securities.kuku.ledger.adapter.out.persistence.entity.BalanceJpaEntity;
 import com.securities.kuku.ledger.domain.AccountType;
@@ -41,18 +43,24 @@ public class LedgerTestFixture {
 
   /** 테스트용 계좌와 잔액을 생성합니다. */
   @Transactional
-  public Long createAccountWithBalance(BigDecimal amount) {
+  public Long createAccountWithBalance(Money amount) {
     // Long.MIN_VALUE 방어: Math.abs(Long.MIN_VALUE) == Long.MIN_VALUE (여전히 음수)
     // 비트마스크로 MSB를 0으로 만들어 항상 양수 보장
     Long accountId = UUID.randomUUID().getMostSignificantBits() & Long.MAX_VALUE;
+    return createAccountWithBalance(accountId, amount);
+  }
 
+  /** 지정한 ID로 테스트용 계좌와 잔액을 생성합니다. 설정에 계좌 ID가 필요한 테스트(잔액 분산 등)에서 사용합니다. */
+  @Transactional
+  public Long createAccountWithBalance(Long accountId, Money amount) {
     AccountJpaEntity account =
         new AccountJpaEntity(
             accountId, 100L, "ACC-" + accountId, "KRW", AccountType.USER_CASH, FIXED_TIME);
     entityManager.persist(account);
 
     BalanceJpaEntity balance =
-        new BalanceJpaEntity(accountId, amount, BigDecimal.ZERO, null, null, FIXED_TIME);
+        new BalanceJpaEntity(
+            accountId, amount.toBigDecimal(), BigDecimal.ZERO, null, null, FIXED_TIME);
     entityManager.persist(balance);
 
     entityManager.flush();
@@ -87,6 +95,14 @@ public class LedgerTestFixture {
             .setParameter("accountId", accountId)
             .executeUpdate();
 
+    // 슬롯 행은 기동 시 만들어지므로 지우지 않고 금액만 되돌립니다.
+    entityManager
+        .createQuery(
+            "UPDATE BalanceSlotJpaEntity s SET s.amount = 0, s.lastTransactionId = NULL"
+                + " WHERE s.accountId = :accountId")
+        .setParameter("accountId", accountId)
+        .executeUpdate();
+
     int deletedAccounts =
         entityManager
             .createQuery("DELETE FROM AccountJpaEntity a WHERE a.id = :accountId")
@@ -102,10 +118,10 @@ public class LedgerTestFixture {
         deletedAccounts);
   }
 
-  public void assertBalance(Long accountId, BigDecimal expectedAmount) {
+  public void assertBalance(Long accountId, Money expectedAmount) {
     BalanceJpaEntity balance = entityManager.find(BalanceJpaEntity.class, accountId);
     assertThat(balance).isNotNull();
-    assertThat(balance.getAmount()).isEqualByComparingTo(expectedAmount);
+    assertThat(Money.of(balance.getAmount())).isEqualTo(expectedAmount);
   }
 
   /**
@@ -116,7 +132,7 @@ public class LedgerTestFixture {
    * @param amountPerTx 건당 금액 (항상 양수, DEBIT/CREDIT 구분 없이 절대값)
    */
   public void assertLedgerConsistency(
-      Long accountId, int expectedSuccessCount, BigDecimal amountPerTx) {
+      Long accountId, int expectedSuccessCount, Money amountPerTx) {
     String refPattern = String.format("Tx-%s-%d-%%", testRunId, accountId);
 
     // 1. Transaction 개수 검증
@@ -150,7 +166,7 @@ public class LedgerTestFixture {
 
     // 3. JournalEntry 총액 검증 (Financial Integrity)
     // 성공 횟수 * 건당 금액 = DB에 기록된 총 금액 합계
-    BigDecimal expectedTotalAmount = amountPerTx.multiply(new BigDecimal(expectedSuccessCount));
+    Money expectedTotalAmount = amountPerTx.times(Quantity.of(expectedSuccessCount));
 
     BigDecimal actualTotalAmount =
         entityManager
@@ -160,9 +176,9 @@ public class LedgerTestFixture {
             .setParameter("accountId", accountId)
             .getSingleResult();
 
-    assertThat(actualTotalAmount)
+    assertThat(Money.of(actualTotalAmount))
         .as("Total Journal amount should match verification")
-        .isEqualByComparingTo(expectedTotalAmount);
+        .isEqualTo(expectedTotalAmount);
   }
 
   /**
@@ -171,7 +187,7 @@ public class LedgerTestFixture {
    * @param accountId 검증 대상 계좌 ID
    * @param expectedTotal 기대되는 DEBIT 합계 (항상 양수)
    */
-  public void assertDebitTotal(Long accountId, BigDecimal expectedTotal) {
+  public void assertDebitTotal(Long accountId, Money expectedTotal) {
     BigDecimal debitSum =
         entityManager
             .createQuery(
@@ -181,9 +197,9 @@ public class LedgerTestFixture {
             .setParameter("accountId", accountId)
             .getSingleResult();
 
-    assertThat(debitSum)
+    assertThat(Money.of(debitSum))
         .as("DEBIT total for account %d should match expected", accountId)
-        .isEqualByComparingTo(expectedTotal);
+        .isEqualTo(expectedTotal);
   }
 
   /**
@@ -192,7 +208,7 @@ public class LedgerTestFixture {
    * @param accountId 검증 대상 계좌 ID
    * @param expectedTotal 기대되는 CREDIT 합계 (항상 양수)
    */
-  public void assertCreditTotal(Long accountId, BigDecimal expectedTotal) {
+  public void assertCreditTotal(Long accountId, Money expectedTotal) {
     BigDecimal creditSum =
         entityManager
             .createQuery(
@@ -202,9 +218,9 @@ public class LedgerTestFixture {
             .setParameter("accountId", accountId)
             .getSingleResult();
 
-    assertThat(creditSum)
+    assertThat(Money.of(creditSum))
         .as("CREDIT total for account %d should match expected", accountId)
-        .isEqualByComparingTo(expectedTotal);
+        .isEqualTo(expectedTotal);
   }
 
   /**
@@ -213,14 +229,15 @@ public class LedgerTestFixture {
    * @param accountId 조회 대상 계좌 ID
    * @return DEBIT 합계 (없으면 0)
    */
-  public BigDecimal getDebitTotal(Long accountId) {
-    return entityManager
-        .createQuery(
-            "SELECT COALESCE(SUM(e.amount), 0) FROM JournalEntryJpaEntity e "
-                + "WHERE e.accountId = :accountId AND e.entryType = 'DEBIT'",
-            BigDecimal.class)
-        .setParameter("accountId", accountId)
-        .getSingleResult();
+  public Money getDebitTotal(Long accountId) {
+    return Money.of(
+        entityManager
+            .createQuery(
+                "SELECT COALESCE(SUM(e.amount), 0) FROM JournalEntryJpaEntity e "
+                    + "WHERE e.accountId = :accountId AND e.entryType = 'DEBIT'",
+                BigDecimal.class)
+            .setParameter("accountId", accountId)
+            .getSingleResult());
   }
 
   /**
@@ -229,13 +246,14 @@ public class LedgerTestFixture {
    * @param accountId 조회 대상 계좌 ID
    * @return CREDIT 합계 (없으면 0)
    */
-  public BigDecimal getCreditTotal(Long accountId) {
-    return entityManager
-        .createQuery(
-            "SELECT COALESCE(SUM(e.amount), 0) FROM JournalEntryJpaEntity e "
-                + "WHERE e.accountId = :accountId AND e.entryType = 'CREDIT'",
-            BigDecimal.class)
-        .setParameter("accountId", accountId)
-        .getSingleResult();
+  public Money getCreditTotal(Long accountId) {
+    return Money.of(
+        entityManager
+            .createQuery(
+                "SELECT COALESCE(SUM(e.amount), 0) FROM JournalEntryJpaEntity e "
+                    + "WHERE e.accountId = :accountId AND e.entryType = 'CREDIT'",
+                BigDecimal.class)
+            .setParameter("accountId", accountId)
+            .getSingleResult());
   }
 }
@@ -0,0 +1,37 @@
+package com.securities.kuku.ledger.test.support;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.retry.RetryCallback;
+import org.springframework.retry.RetryContext;
+import org.springframework.retry.RetryListener;
+
+/**
+ * {@code @Retryable} 메서드에서 발생한 Optimistic Lock 충돌 횟수를 세는 RetryListener.
+ *
+ * <p>재시도로 흡수된 충돌까지 포함하므로 호출자에게 드러나지 않는 경합 비용을 확인할 수 있습니다. 빈으로 등록하면 Spring Retry가 전역 리스너로
+ * 사용합니다.
+ *
+ * <p>주의: @Component가 아닌 @Import로 빈을 등록합니다. (테스트 전용 클래스)
+ */
+public class RetryCounter implements RetryListener {
+
+  private final AtomicLong lockConflicts = new AtomicLong();
+
+  @Override
+  public <T, E extends Throwable> void onError(
+      RetryContext context, RetryCallback<T, E> callback, Throwable throwable) {
+    // 잔액 부족처럼 재시도 대상이 아닌 예외도 onError로 전달되므로 걸러냅니다.
+    if (throwable instanceof OptimisticLockingFailureException) {
+      lockConflicts.incrementAndGet();
+    }
+  }
+
+  public long getLockConflicts() {
+    return lockConflicts.get();
+  }
+
+  public void reset() {
+    lockConflicts.set(0);
+  }
+}
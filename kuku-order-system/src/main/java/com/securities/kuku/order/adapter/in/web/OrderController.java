@@ -1,5 +1,7 @@
 package com.securities.kuku.order.adapter.in.web;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.adapter.in.web.dto.OrderResponse;
 import com.securities.kuku.order.adapter.in.web.dto.PlaceOrderRequest;
 import com.securities.kuku.order.application.port.in.CancelOrderUseCase;
@@ -63,10 +65,10 @@ public class OrderController {
     return PlaceOrderCommand.of(
         request.accountId(),
         request.symbol(),
-        request.quantity(),
+        Quantity.of(request.quantity()),
         side,
         orderType,
-        request.price(),
+        request.price() != null ? Money.of(request.price()) : null,
         request.businessRefId());
   }
 
@@ -23,14 +23,23 @@ public record OrderResponse(
         order.getId(),
         order.getAccountId(),
         order.getSymbol(),
-        order.getQuantity(),
+        toWire(order.getQuantity().toBigDecimal()),
         order.getSide().name(),
         order.getOrderType().name(),
-        order.getPrice(),
+        order.getPrice() != null ? toWire(order.getPrice().toBigDecimal()) : null,
         order.getStatus().name(),
         order.getRejectionReason() != null ? order.getRejectionReason().name() : null,
         order.getBusinessRefId(),
         order.getCreatedAt(),
         order.getUpdatedAt());
   }
+
+  /**
+   * Money/Quantity는 항상 소수 4자리({@code 10.0000})로 바뀌므로, 요청에 받은 값 그대로({@code 10}) 응답하도록 뒤쪽 0을 걷어냅니다.
+   * 지수 표기({@code 1E+2})가 되지 않게 scale은 0 아래로 내리지 않습니다.
+   */
+  private static BigDecimal toWire(BigDecimal value) {
+    BigDecimal stripped = value.stripTrailingZeros();
+    return stripped.scale() < 0 ? stripped.setScale(0) : stripped;
+  }
 }
@@ -1,5 +1,6 @@
 package com.securities.kuku.order.adapter.in.web.dto;
 
+import jakarta.validation.constraints.Digits;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Positive;
@@ -8,9 +9,12 @@ import java.math.BigDecimal;
 public record PlaceOrderRequest(
     @NotNull(message = "accountId is required") Long accountId,
     @NotBlank(message = "symbol is required") String symbol,
-    @NotNull(message = "quantity is required") @Positive(message = "quantity must be positive")
+    @NotNull(message = "quantity is required")
+        @Positive(message = "quantity must be positive")
+        @Digits(integer = 14, fraction = 4, message = "quantity must have at most 4 decimal places")
         BigDecimal quantity,
     @NotBlank(message = "side is required") String side,
     @NotBlank(message = "orderType is required") String orderType,
-    BigDecimal price,
+    @Digits(integer = 14, fraction = 4, message = "price must have at most 4 decimal places")
+        BigDecimal price,
     String businessRefId) {}
@@ -1,16 +1,17 @@
 package com.securities.kuku.order.application.port.in.command;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.domain.OrderSide;
 import com.securities.kuku.order.domain.OrderType;
-import java.math.BigDecimal;
 
 public record PlaceOrderCommand(
     Long accountId,
     String symbol,
-    BigDecimal quantity,
+    Quantity quantity,
     OrderSide side,
     OrderType orderType,
-    BigDecimal price,
+    Money price,
     String businessRefId) {
 
   public PlaceOrderCommand {
@@ -20,7 +21,7 @@ public record PlaceOrderCommand(
     if (symbol == null || symbol.isBlank()) {
       throw new IllegalArgumentException("Symbol cannot be null or blank");
     }
-    if (quantity == null || quantity.compareTo(BigDecimal.ZERO) <= 0) {
+    if (quantity == null || !quantity.isPositive()) {
       throw new IllegalArgumentException("Quantity must be greater than zero");
     }
     if (side == null) {
@@ -34,10 +35,10 @@ public record PlaceOrderCommand(
   public static PlaceOrderCommand of(
       Long accountId,
       String symbol,
-      BigDecimal quantity,
+      Quantity quantity,
       OrderSide side,
       OrderType orderType,
-      BigDecimal price,
+      Money price,
       String businessRefId) {
     return new PlaceOrderCommand(
         accountId, symbol, quantity, side, orderType, price, businessRefId);
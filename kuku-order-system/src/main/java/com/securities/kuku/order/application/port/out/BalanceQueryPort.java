@@ -1,8 +1,8 @@
 package com.securities.kuku.order.application.port.out;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Money;
 import java.util.Optional;
 
 public interface BalanceQueryPort {
-  Optional<BigDecimal> getAvailableBalance(Long accountId);
+  Optional<Money> getAvailableBalance(Long accountId);
 }
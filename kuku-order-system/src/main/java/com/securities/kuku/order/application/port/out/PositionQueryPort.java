@@ -1,7 +1,7 @@
 package com.securities.kuku.order.application.port.out;
 
-import java.math.BigDecimal;
+import com.securities.kuku.common.money.Quantity;
 
 public interface PositionQueryPort {
-  BigDecimal getHoldingQuantity(Long accountId, String symbol);
+  Quantity getHoldingQuantity(Long accountId, String symbol);
 }
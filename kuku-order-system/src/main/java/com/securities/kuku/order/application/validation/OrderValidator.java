@@ -1,10 +1,11 @@
 package com.securities.kuku.order.application.validation;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.application.port.out.BalanceQueryPort;
 import com.securities.kuku.order.application.port.out.PositionQueryPort;
 import com.securities.kuku.order.domain.Order;
 import com.securities.kuku.order.domain.RejectionReason;
-import java.math.BigDecimal;
 import java.util.Optional;
 import org.springframework.stereotype.Component;
 
@@ -36,11 +37,18 @@ public class OrderValidator {
   }
 
   private Optional<RejectionReason> validateBuyOrder(Order order) {
-    BigDecimal requiredAmount = calculateRequiredAmount(order);
-    BigDecimal availableBalance =
-        balanceQueryPort.getAvailableBalance(order.getAccountId()).orElse(BigDecimal.ZERO);
+    Money requiredAmount;
+    try {
+      requiredAmount = calculateRequiredAmount(order);
+    } catch (ArithmeticException e) {
+      // 단가와 수량은 각각 요청 범위 안이어도 곱이 Money 범위를 넘을 수 있습니다.
+      // 그만한 예수금은 있을 수 없으므로 500 대신 예수금 부족으로 거절합니다.
+      return Optional.of(RejectionReason.INSUFFICIENT_BALANCE);
+    }
+    Money availableBalance =
+        balanceQueryPort.getAvailableBalance(order.getAccountId()).orElse(Money.ZERO);
 
-    if (availableBalance.compareTo(requiredAmount) < 0) {
+    if (availableBalance.isLessThan(requiredAmount)) {
       return Optional.of(RejectionReason.INSUFFICIENT_BALANCE);
     }
 
@@ -48,22 +56,22 @@ public class OrderValidator {
   }
 
   private Optional<RejectionReason> validateSellOrder(Order order) {
-    BigDecimal holdingQuantity =
+    Quantity holdingQuantity =
         positionQueryPort.getHoldingQuantity(order.getAccountId(), order.getSymbol());
 
-    if (holdingQuantity.compareTo(order.getQuantity()) < 0) {
+    if (holdingQuantity.isLessThan(order.getQuantity())) {
       return Optional.of(RejectionReason.INSUFFICIENT_QUANTITY);
     }
 
     return Optional.empty();
   }
 
-  private BigDecimal calculateRequiredAmount(Order order) {
+  private Money calculateRequiredAmount(Order order) {
     if (order.getPrice() == null) {
       // 시장가 매수 주문의 경우 가격 정보가 없으면 필요 금액을 산출할 수 없습니다.
       // Week 7에서 시세 조회 기능이 연동될 때까지 가격 없는 매수 주문은 처리할 수 없습니다.
       throw new IllegalArgumentException("Price is required to calculate amount for a buy order.");
     }
-    return order.getQuantity().multiply(order.getPrice());
+    return order.getPrice().times(order.getQuantity());
   }
 }
@@ -1,7 +1,8 @@
 package com.securities.kuku.order.domain;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.domain.exception.InvalidOrderStateException;
-import java.math.BigDecimal;
 import java.time.Instant;
 import lombok.Getter;
 
@@ -11,15 +12,15 @@ public class Order {
   private final Long id;
   private final Long accountId;
   private final String symbol;
-  private final BigDecimal quantity;
+  private final Quantity quantity;
   private final OrderSide side;
   private final OrderType orderType;
-  private final BigDecimal price;
+  private final Money price;
   private final OrderStatus status;
   private final RejectionReason rejectionReason;
   private final String businessRefId;
-  private final BigDecimal executedPrice;
-  private final BigDecimal executedQuantity;
+  private final Money executedPrice;
+  private final Quantity executedQuantity;
   private final Instant createdAt;
   private final Instant updatedAt;
 
@@ -27,15 +28,15 @@ public class Order {
       Long id,
       Long accountId,
       String symbol,
-      BigDecimal quantity,
+      Quantity quantity,
       OrderSide side,
       OrderType orderType,
-      BigDecimal price,
+      Money price,
       OrderStatus status,
       RejectionReason rejectionReason,
       String businessRefId,
-      BigDecimal executedPrice,
-      BigDecimal executedQuantity,
+      Money executedPrice,
+      Quantity executedQuantity,
       Instant createdAt,
       Instant updatedAt) {
 
@@ -45,7 +46,7 @@ public class Order {
     if (symbol == null || symbol.isBlank()) {
       throw new IllegalArgumentException("Symbol cannot be null or blank");
     }
-    if (quantity == null || quantity.compareTo(BigDecimal.ZERO) <= 0) {
+    if (quantity == null || !quantity.isPositive()) {
       throw new IllegalArgumentException("Quantity must be greater than zero");
     }
     if (side == null) {
@@ -86,10 +87,10 @@ public class Order {
   public static Order create(
       Long accountId,
       String symbol,
-      BigDecimal quantity,
+      Quantity quantity,
       OrderSide side,
       OrderType orderType,
-      BigDecimal price,
+      Money price,
       String businessRefId,
       Instant now) {
 
@@ -141,14 +142,14 @@ public class Order {
         now);
   }
 
-  public Order fill(BigDecimal executedPrice, BigDecimal executedQuantity, Instant now) {
+  public Order fill(Money executedPrice, Quantity executedQuantity, Instant now) {
     if (!this.status.canTransitionTo(OrderStatus.FILLED)) {
       throw new InvalidOrderStateException("Cannot fill order in " + this.status + " status");
     }
-    if (executedPrice == null || executedPrice.compareTo(BigDecimal.ZERO) <= 0) {
+    if (executedPrice == null || !executedPrice.isPositive()) {
       throw new IllegalArgumentException("ExecutedPrice must be greater than zero");
     }
-    if (executedQuantity == null || executedQuantity.compareTo(BigDecimal.ZERO) <= 0) {
+    if (executedQuantity == null || !executedQuantity.isPositive()) {
       throw new IllegalArgumentException("ExecutedQuantity must be greater than zero");
     }
     return new Order(
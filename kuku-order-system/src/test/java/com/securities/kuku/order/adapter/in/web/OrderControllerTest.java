@@ -2,14 +2,18 @@ package com.securities.kuku.order.adapter.in.web;
 
 import static com.securities.kuku.common.exception.CommonErrorCode.VALIDATION_FAILED;
 import static com.securities.kuku.order.domain.exception.OrderErrorCode.*;
+import static org.hamcrest.Matchers.containsString;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.adapter.in.web.dto.PlaceOrderRequest;
 import com.securities.kuku.order.application.port.in.CancelOrderUseCase;
 import com.securities.kuku.order.application.port.in.GetOrderUseCase;
@@ -57,10 +61,10 @@ class OrderControllerTest {
         id,
         1L,
         "AAPL",
-        new BigDecimal("10"),
+        Quantity.of(10),
         OrderSide.BUY,
         OrderType.MARKET,
-        new BigDecimal("150.00"),
+        Money.of(150),
         status,
         rejectionReason,
         "ref-001",
@@ -251,6 +255,37 @@ class OrderControllerTest {
           .andExpect(jsonPath("$.symbol").value("AAPL"));
     }
 
+    @Test
+    @DisplayName("수량과 가격은 소수 4자리로 채우지 않고 요청 값 그대로의 숫자로 응답한다")
+    void success_writesQuantityAndPriceWithoutPaddedScale() throws Exception {
+      // Given
+      Long orderId = 1L;
+      Order order =
+          new Order(
+              orderId,
+              1L,
+              "AAPL",
+              Quantity.of(new BigDecimal("2.5")),
+              OrderSide.BUY,
+              OrderType.MARKET,
+              Money.of(100),
+              OrderStatus.VALIDATED,
+              null,
+              "ref-001",
+              null,
+              null,
+              FIXED_TIME,
+              FIXED_TIME);
+      given(getOrderUseCase.getOrder(orderId)).willReturn(Optional.of(order));
+
+      // When & Then
+      mockMvc
+          .perform(get("/api/v1/orders/{orderId}", orderId))
+          .andExpect(status().isOk())
+          .andExpect(content().string(containsString("\"quantity\":2.5,")))
+          .andExpect(content().string(containsString("\"price\":100,")));
+    }
+
     @Test
     @DisplayName("존재하지 않는 주문 조회 시 404 Not Found를 반환한다")
     void failure_returns404_whenOrderNotExists() throws Exception {
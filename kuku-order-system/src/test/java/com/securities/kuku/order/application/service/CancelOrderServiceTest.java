@@ -5,6 +5,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.application.port.out.OrderPort;
 import com.securities.kuku.order.domain.Order;
 import com.securities.kuku.order.domain.OrderSide;
@@ -12,7 +14,6 @@ import com.securities.kuku.order.domain.OrderStatus;
 import com.securities.kuku.order.domain.OrderType;
 import com.securities.kuku.order.domain.exception.InvalidOrderStateException;
 import com.securities.kuku.order.domain.exception.OrderNotFoundException;
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -45,10 +46,10 @@ class CancelOrderServiceTest {
         id,
         1L,
         "AAPL",
-        new BigDecimal("10"),
+        Quantity.of(10),
         OrderSide.BUY,
         OrderType.MARKET,
-        new BigDecimal("150.00"),
+        Money.of(150),
         status,
         null,
         "ref-001",
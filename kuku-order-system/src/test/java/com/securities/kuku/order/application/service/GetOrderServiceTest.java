@@ -3,12 +3,13 @@ package com.securities.kuku.order.application.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.application.port.out.OrderPort;
 import com.securities.kuku.order.domain.Order;
 import com.securities.kuku.order.domain.OrderSide;
 import com.securities.kuku.order.domain.OrderStatus;
 import com.securities.kuku.order.domain.OrderType;
-import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -47,10 +48,10 @@ class GetOrderServiceTest {
               orderId,
               1L,
               "AAPL",
-              new BigDecimal("10"),
+              Quantity.of(10),
               OrderSide.BUY,
               OrderType.MARKET,
-              new BigDecimal("150.00"),
+              Money.of(150),
               OrderStatus.VALIDATED,
               null,
               "ref-001",
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.application.port.in.command.PlaceOrderCommand;
 import com.securities.kuku.order.application.port.out.OrderPort;
 import com.securities.kuku.order.application.validation.OrderValidator;
@@ -12,7 +14,6 @@ import com.securities.kuku.order.domain.OrderSide;
 import com.securities.kuku.order.domain.OrderStatus;
 import com.securities.kuku.order.domain.OrderType;
 import com.securities.kuku.order.domain.RejectionReason;
-import java.math.BigDecimal;
 import java.time.Clock;
 import java.time.Instant;
 import java.time.ZoneId;
@@ -103,10 +104,10 @@ class PlaceOrderServiceTest {
       return PlaceOrderCommand.of(
           1L,
           "AAPL",
-          new BigDecimal("10"),
+          Quantity.of(10),
           OrderSide.BUY,
           OrderType.MARKET,
-          new BigDecimal("150.00"),
+          Money.of(150),
           "ref-001");
     }
   }
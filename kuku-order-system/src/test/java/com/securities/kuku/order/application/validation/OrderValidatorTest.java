@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.application.port.out.BalanceQueryPort;
 import com.securities.kuku.order.application.port.out.PositionQueryPort;
 import com.securities.kuku.order.domain.Order;
@@ -40,7 +42,7 @@ class OrderValidatorTest {
     validator = new OrderValidator(balanceQueryPort, positionQueryPort, marketHoursPolicy);
   }
 
-  private Order createBuyOrder(BigDecimal quantity, BigDecimal price) {
+  private Order createBuyOrder(Quantity quantity, Money price) {
     return Order.create(
         ACCOUNT_ID,
         SYMBOL,
@@ -52,7 +54,7 @@ class OrderValidatorTest {
         FIXED_TIME);
   }
 
-  private Order createSellOrder(BigDecimal quantity) {
+  private Order createSellOrder(Quantity quantity) {
     return Order.create(
         ACCOUNT_ID,
         SYMBOL,
@@ -72,10 +74,10 @@ class OrderValidatorTest {
     @DisplayName("예수금 부족 시 INSUFFICIENT_BALANCE 반환")
     void returnsInsufficientBalance_whenBalanceIsNotEnough() {
       // Given
-      Order order = createBuyOrder(BigDecimal.TEN, new BigDecimal("5000")); // 10주 x 5000원 = 50,000원
+      Order order = createBuyOrder(Quantity.of(10), Money.of(5000)); // 10주 x 5000원 = 50,000원
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
       given(balanceQueryPort.getAvailableBalance(ACCOUNT_ID))
-          .willReturn(Optional.of(new BigDecimal("10000"))); // 10,000원
+          .willReturn(Optional.of(Money.of(10000))); // 10,000원
 
       // When
       Optional<RejectionReason> result = validator.validate(order);
@@ -88,10 +90,10 @@ class OrderValidatorTest {
     @DisplayName("예수금 충분 시 검증 통과")
     void passesValidation_whenBalanceIsSufficient() {
       // Given
-      Order order = createBuyOrder(BigDecimal.TEN, new BigDecimal("5000")); // 10주 x 5000원 = 50,000원
+      Order order = createBuyOrder(Quantity.of(10), Money.of(5000)); // 10주 x 5000원 = 50,000원
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
       given(balanceQueryPort.getAvailableBalance(ACCOUNT_ID))
-          .willReturn(Optional.of(new BigDecimal("100000"))); // 100,000원
+          .willReturn(Optional.of(Money.of(100000))); // 100,000원
 
       // When
       Optional<RejectionReason> result = validator.validate(order);
@@ -104,7 +106,7 @@ class OrderValidatorTest {
     @DisplayName("계좌 잔액이 없을 때(Optional.empty) INSUFFICIENT_BALANCE 반환")
     void returnsInsufficientBalance_whenAccountNotFound() {
       // Given
-      Order order = createBuyOrder(BigDecimal.TEN, new BigDecimal("5000"));
+      Order order = createBuyOrder(Quantity.of(10), Money.of(5000));
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
       given(balanceQueryPort.getAvailableBalance(ACCOUNT_ID)).willReturn(Optional.empty());
 
@@ -115,11 +117,27 @@ class OrderValidatorTest {
       assertThat(result).contains(RejectionReason.INSUFFICIENT_BALANCE);
     }
 
+    @Test
+    @DisplayName("주문 금액이 Money 범위를 넘으면 예외 대신 INSUFFICIENT_BALANCE 반환")
+    void returnsInsufficientBalance_whenRequiredAmountOverflows() {
+      // Given: 요청이 허용하는 최대 단가 x 최대 수량
+      Money maxPrice = Money.of(new BigDecimal("99999999999999.9999"));
+      Quantity maxQuantity = Quantity.of(new BigDecimal("99999999999999.9999"));
+      Order order = createBuyOrder(maxQuantity, maxPrice);
+      given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
+
+      // When
+      Optional<RejectionReason> result = validator.validate(order);
+
+      // Then
+      assertThat(result).contains(RejectionReason.INSUFFICIENT_BALANCE);
+    }
+
     @Test
     @DisplayName("매수 주문 시 가격이 null이면 예외 발생")
     void throwsException_whenPriceIsNullForBuyOrder() {
       // Given
-      Order order = createBuyOrder(BigDecimal.TEN, null); // price = null
+      Order order = createBuyOrder(Quantity.of(10), null); // price = null
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
 
       // When & Then
@@ -137,10 +155,10 @@ class OrderValidatorTest {
     @DisplayName("보유 수량 부족 시 INSUFFICIENT_QUANTITY 반환")
     void returnsInsufficientQuantity_whenPositionIsNotEnough() {
       // Given
-      Order order = createSellOrder(BigDecimal.TEN); // 10주 매도
+      Order order = createSellOrder(Quantity.of(10)); // 10주 매도
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
       given(positionQueryPort.getHoldingQuantity(ACCOUNT_ID, SYMBOL))
-          .willReturn(new BigDecimal("5")); // 5주 보유
+          .willReturn(Quantity.of(5)); // 5주 보유
 
       // When
       Optional<RejectionReason> result = validator.validate(order);
@@ -153,10 +171,10 @@ class OrderValidatorTest {
     @DisplayName("보유 수량 충분 시 검증 통과")
     void passesValidation_whenPositionIsSufficient() {
       // Given
-      Order order = createSellOrder(BigDecimal.TEN); // 10주 매도
+      Order order = createSellOrder(Quantity.of(10)); // 10주 매도
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
       given(positionQueryPort.getHoldingQuantity(ACCOUNT_ID, SYMBOL))
-          .willReturn(new BigDecimal("100")); // 100주 보유
+          .willReturn(Quantity.of(100)); // 100주 보유
 
       // When
       Optional<RejectionReason> result = validator.validate(order);
@@ -169,9 +187,9 @@ class OrderValidatorTest {
     @DisplayName("보유 수량이 0일 때 INSUFFICIENT_QUANTITY 반환")
     void returnsInsufficientQuantity_whenPositionIsZero() {
       // Given
-      Order order = createSellOrder(BigDecimal.TEN);
+      Order order = createSellOrder(Quantity.of(10));
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(true);
-      given(positionQueryPort.getHoldingQuantity(ACCOUNT_ID, SYMBOL)).willReturn(BigDecimal.ZERO);
+      given(positionQueryPort.getHoldingQuantity(ACCOUNT_ID, SYMBOL)).willReturn(Quantity.ZERO);
 
       // When
       Optional<RejectionReason> result = validator.validate(order);
@@ -189,7 +207,7 @@ class OrderValidatorTest {
     @DisplayName("장 마감 시 MARKET_CLOSED 반환")
     void returnsMarketClosed_whenMarketIsClosed() {
       // Given
-      Order order = createBuyOrder(BigDecimal.ONE, new BigDecimal("1000"));
+      Order order = createBuyOrder(Quantity.of(1), Money.of(1000));
       given(marketHoursPolicy.isMarketOpen(FIXED_TIME)).willReturn(false);
 
       // When
@@ -3,8 +3,9 @@ package com.securities.kuku.order.domain;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
+import com.securities.kuku.common.money.Money;
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.domain.exception.InvalidOrderStateException;
-import java.math.BigDecimal;
 import java.time.Instant;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -18,8 +19,8 @@ class OrderTest {
   private static final Instant UPDATED_TIME = Instant.parse("2025-01-01T03:01:00Z");
   private static final Long ACCOUNT_ID = 100L;
   private static final String SYMBOL = "005930";
-  private static final BigDecimal QUANTITY = new BigDecimal("10");
-  private static final BigDecimal PRICE = new BigDecimal("70000");
+  private static final Quantity QUANTITY = Quantity.of(10);
+  private static final Money PRICE = Money.of(70000);
 
   private Order createOrder(OrderStatus status) {
     return new Order(
@@ -129,7 +130,7 @@ class OrderTest {
                       1L,
                       ACCOUNT_ID,
                       SYMBOL,
-                      BigDecimal.ZERO,
+                      Quantity.ZERO,
                       OrderSide.BUY,
                       OrderType.MARKET,
                       PRICE,
@@ -352,8 +353,8 @@ class OrderTest {
   @DisplayName("fill() 메서드")
   class Fill {
 
-    private static final BigDecimal EXECUTED_PRICE = new BigDecimal("70100");
-    private static final BigDecimal EXECUTED_QUANTITY = new BigDecimal("10");
+    private static final Money EXECUTED_PRICE = Money.of(70100);
+    private static final Quantity EXECUTED_QUANTITY = Quantity.of(10);
 
     @Test
     @DisplayName("VALIDATED 상태에서 FILLED로 전환")
@@ -374,7 +375,7 @@ class OrderTest {
     void throwsException_whenExecutedPriceIsZeroOrNegative() {
       Order validated = createOrder(OrderStatus.VALIDATED);
 
-      assertThatThrownBy(() -> validated.fill(BigDecimal.ZERO, EXECUTED_QUANTITY, UPDATED_TIME))
+      assertThatThrownBy(() -> validated.fill(Money.ZERO, EXECUTED_QUANTITY, UPDATED_TIME))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessageContaining("ExecutedPrice");
     }
@@ -384,7 +385,7 @@ class OrderTest {
     void throwsException_whenExecutedQuantityIsZeroOrNegative() {
       Order validated = createOrder(OrderStatus.VALIDATED);
 
-      assertThatThrownBy(() -> validated.fill(EXECUTED_PRICE, BigDecimal.ZERO, UPDATED_TIME))
+      assertThatThrownBy(() -> validated.fill(EXECUTED_PRICE, Quantity.ZERO, UPDATED_TIME))
           .isInstanceOf(IllegalArgumentException.class)
           .hasMessageContaining("ExecutedQuantity");
     }
@@ -1,7 +1,7 @@
 package com.securities.kuku.order.fixture;
 
+import com.securities.kuku.common.money.Money;
 import com.securities.kuku.order.application.port.out.BalanceQueryPort;
-import java.math.BigDecimal;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -13,15 +13,15 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class MockBalanceQueryAdapter implements BalanceQueryPort {
 
-  private static final BigDecimal DEFAULT_BALANCE = new BigDecimal("1000000");
-  private final Map<Long, BigDecimal> balances = new ConcurrentHashMap<>();
+  private static final Money DEFAULT_BALANCE = Money.of(1_000_000);
+  private final Map<Long, Money> balances = new ConcurrentHashMap<>();
 
   @Override
-  public Optional<BigDecimal> getAvailableBalance(Long accountId) {
+  public Optional<Money> getAvailableBalance(Long accountId) {
     return Optional.of(balances.getOrDefault(accountId, DEFAULT_BALANCE));
   }
 
-  public void setBalance(Long accountId, BigDecimal balance) {
+  public void setBalance(Long accountId, Money balance) {
     balances.put(accountId, balance);
   }
 
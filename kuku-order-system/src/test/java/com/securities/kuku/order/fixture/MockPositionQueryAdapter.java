@@ -1,7 +1,7 @@
 package com.securities.kuku.order.fixture;
 
+import com.securities.kuku.common.money.Quantity;
 import com.securities.kuku.order.application.port.out.PositionQueryPort;
-import java.math.BigDecimal;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -12,16 +12,16 @@ import java.util.concurrent.ConcurrentHashMap;
  */
 public class MockPositionQueryAdapter implements PositionQueryPort {
 
-  private static final BigDecimal DEFAULT_HOLDING_QUANTITY = new BigDecimal("100");
-  private final Map<String, BigDecimal> positions = new ConcurrentHashMap<>();
+  private static final Quantity DEFAULT_HOLDING_QUANTITY = Quantity.of(100);
+  private final Map<String, Quantity> positions = new ConcurrentHashMap<>();
 
   @Override
-  public BigDecimal getHoldingQuantity(Long accountId, String symbol) {
+  public Quantity getHoldingQuantity(Long accountId, String symbol) {
     String key = accountId + ":" + symbol;
     return positions.getOrDefault(key, DEFAULT_HOLDING_QUANTITY);
   }
 
-  public void setPosition(Long accountId, String symbol, BigDecimal quantity) {
+  public void setPosition(Long accountId, String symbol, Quantity quantity) {
     String key = accountId + ":" + symbol;
     positions.put(key, quantity);
   }